@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.ArtifactRequestMessageImpl;
+import de.fraunhofer.iais.eis.ids.jsonld.Serializer;
+import de.fraunhofer.ids.messaging.handler.message.MessagePayloadInputstream;
+import io.dataspaceconnector.common.net.SelfLinkHelper;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.service.message.handler.dto.StreamingBodyResponse;
+import io.dataspaceconnector.service.message.handler.type.ArtifactRequestHandler;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures an artifact request end to end: the artifactRequestHandler route including
+ * validation, data retrieval from the database and encoding of the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArtifactRequestBenchmark {
+
+    /**
+     * The size of the artifact's data in bytes.
+     */
+    @Param({"1024", "1048576"})
+    private int size;
+
+    /**
+     * The handler under test.
+     */
+    private ArtifactRequestHandler handler;
+
+    /**
+     * The request.
+     */
+    private ArtifactRequestMessageImpl message;
+
+    /**
+     * Serializer for the response header.
+     */
+    private final Serializer serializer = new Serializer();
+
+    /**
+     * Mapper required by the payload.
+     */
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Creates an artifact with local data and the request for it.
+     *
+     * @param state The running connector.
+     */
+    @Setup(Level.Trial)
+    public void setup(final ConnectorState state) {
+        state.bindRequest();
+        handler = state.getBean(ArtifactRequestHandler.class);
+
+        final var desc = new ArtifactDesc();
+        desc.setTitle("Benchmark");
+        desc.setValue("x".repeat(size));
+        final var artifact = state.getBean(ArtifactService.class).create(desc);
+        final var artifactId = state.getBean(SelfLinkHelper.class).getSelfLink(artifact);
+
+        message = (ArtifactRequestMessageImpl) IdsFixtures.artifactRequest(artifactId);
+    }
+
+    /**
+     * Handles the request and reads the whole response payload.
+     *
+     * @param blackhole Consumes the payload.
+     * @throws IOException if the response cannot be read.
+     */
+    @Benchmark
+    public void handleMessage(final Blackhole blackhole) throws IOException {
+        final var payload = new MessagePayloadInputstream(
+                new ByteArrayInputStream(new byte[0]), mapper);
+        final var response = handler.handleMessage(message, payload, Optional.empty());
+        if (!(response instanceof StreamingBodyResponse)) {
+            throw new IllegalStateException("Artifact request has been rejected.");
+        }
+
+        final var parts = response.createMultipartMap(serializer);
+        blackhole.consume(parts.get("header"));
+
+        @SuppressWarnings("unchecked")
+        final var body = (HttpEntity<InputStreamResource>) parts.get("payload");
+        try (var stream = body.getBody().getInputStream()) {
+            final var buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                blackhole.consume(read);
+            }
+            blackhole.consume(buffer);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import io.dataspaceconnector.ConnectorApplication;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.contract.ContractDesc;
+import io.dataspaceconnector.model.representation.RepresentationDesc;
+import io.dataspaceconnector.model.resource.OfferedResourceDesc;
+import io.dataspaceconnector.model.rule.ContractRuleDesc;
+import io.dataspaceconnector.service.resource.relation.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.service.resource.relation.ContractRuleLinker;
+import io.dataspaceconnector.service.resource.relation.OfferedResourceContractLinker;
+import io.dataspaceconnector.service.resource.relation.OfferedResourceRepresentationLinker;
+import io.dataspaceconnector.service.resource.relation.RepresentationArtifactLinker;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import io.dataspaceconnector.service.resource.type.ContractService;
+import io.dataspaceconnector.service.resource.type.OfferedResourceService;
+import io.dataspaceconnector.service.resource.type.RepresentationService;
+import io.dataspaceconnector.service.resource.type.RuleService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Runs the connector with the test configuration and an in-memory H2 database. Started once per
+ * fork and shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class ConnectorState {
+
+    /**
+     * A rule as created through the API.
+     */
+    static final String RULE = "{\n"
+            + "  \"@type\" : \"ids:Permission\",\n"
+            + "  \"@id\" : \"https://w3id.org/idsa/autogen/permission/"
+            + "ae138d4f-f01d-4358-89a7-73e7c560f3de\",\n"
+            + "  \"ids:description\" : [ {\n"
+            + "    \"@value\" : \"provide-access\",\n"
+            + "    \"@type\" : \"http://www.w3.org/2001/XMLSchema#string\"\n"
+            + "  } ],\n"
+            + "  \"ids:action\" : [ {\n"
+            + "    \"@id\" : \"idsc:USE\"\n"
+            + "  } ],\n"
+            + "  \"ids:title\" : [ {\n"
+            + "    \"@value\" : \"Example Usage Policy\",\n"
+            + "    \"@type\" : \"http://www.w3.org/2001/XMLSchema#string\"\n"
+            + "  } ]\n"
+            + "}";
+
+    /**
+     * The running application.
+     */
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Starts the application. Policy negotiation is disabled so that artifact requests do not
+     * need an agreement.
+     */
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ConnectorApplication.class)
+                .properties("server.port=0",
+                        "policy.negotiation=false",
+                        "spring.main.banner-mode=off")
+                .run();
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Get a bean of the running application.
+     *
+     * @param type The bean type.
+     * @param <T>  The bean type.
+     * @return The bean.
+     */
+    public <T> T getBean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Get a bean of a generic type of the running application.
+     *
+     * @param type The bean type.
+     * @param <T>  The bean type.
+     * @return The bean.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getBean(final ResolvableType type) {
+        return (T) context.getBeanProvider(type).getObject();
+    }
+
+    /**
+     * Binds a request to the calling thread, which is required to build self links. Must be
+     * called by every benchmark thread.
+     */
+    public void bindRequest() {
+        final var request = new MockHttpServletRequest();
+        request.setScheme("https");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    /**
+     * Runs an action in a read-only transaction, like the connector does when building
+     * descriptions.
+     *
+     * @param action The action.
+     * @param <T>    The result type.
+     * @return The result of the action.
+     */
+    public <T> T inTransaction(final Supplier<T> action) {
+        final var template = new TransactionTemplate(getBean(PlatformTransactionManager.class));
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+
+    /**
+     * Creates a catalog with offered resources. Each resource has one representation with one
+     * artifact and one contract with one rule.
+     *
+     * @param resources The number of resources.
+     * @param data      The data of the artifacts.
+     * @return The catalog.
+     */
+    public Catalog createCatalog(final int resources, final String data) {
+        final var catalog = getBean(CatalogService.class).create(new CatalogDesc());
+
+        final var resourceIds = new HashSet<UUID>();
+        for (int i = 0; i < resources; i++) {
+            final var resourceDesc = new OfferedResourceDesc();
+            resourceDesc.setTitle("Resource " + i);
+            final var resourceId = getBean(OfferedResourceService.class).create(resourceDesc)
+                    .getId();
+
+            final var artifactDesc = new ArtifactDesc();
+            artifactDesc.setTitle("Artifact " + i);
+            artifactDesc.setValue(data);
+            final var artifactId = getBean(ArtifactService.class).create(artifactDesc).getId();
+            final var representationId = getBean(RepresentationService.class)
+                    .create(new RepresentationDesc()).getId();
+            getBean(RepresentationArtifactLinker.class).add(representationId, Set.of(artifactId));
+            getBean(OfferedResourceRepresentationLinker.class)
+                    .add(resourceId, Set.of(representationId));
+
+            final var ruleDesc = new ContractRuleDesc();
+            ruleDesc.setValue(RULE);
+            final var ruleId = getBean(RuleService.class).create(ruleDesc).getId();
+            final var contractId = getBean(ContractService.class).create(new ContractDesc())
+                    .getId();
+            getBean(ContractRuleLinker.class).add(contractId, Set.of(ruleId));
+            getBean(OfferedResourceContractLinker.class).add(resourceId, Set.of(contractId));
+
+            resourceIds.add(resourceId);
+        }
+
+        getBean(CatalogOfferedResourceLinker.class).add(catalog.getId(), resourceIds);
+        return catalog;
+    }
+}
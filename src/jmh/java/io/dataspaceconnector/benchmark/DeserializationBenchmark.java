@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.Message;
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the deserialization of the ids objects that are parsed on every message exchange.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DeserializationBenchmark {
+
+    /**
+     * The service under test.
+     */
+    private DeserializationService service;
+
+    /**
+     * A serialized contract agreement.
+     */
+    private String agreement;
+
+    /**
+     * A serialized rule.
+     */
+    private String rule;
+
+    /**
+     * A serialized message.
+     */
+    private String message;
+
+    /**
+     * Serializes the inputs once.
+     *
+     * @param state The running connector.
+     */
+    @Setup(Level.Trial)
+    public void setup(final ConnectorState state) {
+        service = state.getBean(DeserializationService.class);
+        agreement = IdsFixtures.agreementAsRdf();
+        rule = ConnectorState.RULE;
+        message = IdsFixtures.messageAsRdf();
+    }
+
+    /**
+     * Parses a contract agreement.
+     *
+     * @return The agreement.
+     */
+    @Benchmark
+    public ContractAgreement contractAgreement() {
+        return service.getContractAgreement(agreement);
+    }
+
+    /**
+     * Parses a rule.
+     *
+     * @return The rule.
+     */
+    @Benchmark
+    public Rule rule() {
+        return service.getRule(rule);
+    }
+
+    /**
+     * Parses a message header.
+     *
+     * @return The message.
+     */
+    @Benchmark
+    public Message message() {
+        return service.getMessage(message);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import de.fraunhofer.iais.eis.Resource;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mapping of catalogs and offered resources to ids objects, which dominates the
+ * cost of description requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdsBuilderBenchmark {
+
+    /**
+     * The number of offered resources in the catalog.
+     */
+    @Param({"1", "10", "100"})
+    private int resources;
+
+    /**
+     * The running connector.
+     */
+    private ConnectorState state;
+
+    /**
+     * The catalog builder.
+     */
+    private IdsCatalogBuilder catalogBuilder;
+
+    /**
+     * The resource builder.
+     */
+    private IdsResourceBuilder<OfferedResource> resourceBuilder;
+
+    /**
+     * The catalog.
+     */
+    private Catalog catalog;
+
+    /**
+     * Creates the catalog.
+     *
+     * @param connector The running connector.
+     */
+    @Setup(Level.Trial)
+    public void setup(final ConnectorState connector) {
+        state = connector;
+        state.bindRequest();
+        catalogBuilder = state.getBean(IdsCatalogBuilder.class);
+        resourceBuilder = state.getBean(ResolvableType.forClassWithGenerics(
+                IdsResourceBuilder.class, OfferedResource.class));
+        catalog = state.createCatalog(resources, "data");
+    }
+
+    /**
+     * Builds the ids catalog as it is included in the self-description.
+     *
+     * @return The ids catalog.
+     */
+    @Benchmark
+    public ResourceCatalog catalog() {
+        return state.inTransaction(() -> catalogBuilder.create(load(), 0));
+    }
+
+    /**
+     * Builds every offered resource of the catalog on its own.
+     *
+     * @return The ids resources.
+     */
+    @Benchmark
+    public List<Resource> offeredResources() {
+        return state.inTransaction(() -> {
+            final var result = new ArrayList<Resource>();
+            for (final var resource : load().getOfferedResources()) {
+                result.add(resourceBuilder.create(resource));
+            }
+            return result;
+        });
+    }
+
+    private Catalog load() {
+        return state.getBean(CatalogService.class).get(catalog.getId());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.Message;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+
+import java.net.URI;
+
+/**
+ * Builds the ids objects used as benchmark inputs. All ids are fixed so that runs are
+ * comparable.
+ */
+final class IdsFixtures {
+
+    /**
+     * The id of the requesting connector.
+     */
+    static final URI CONSUMER = URI.create("https://consumer.example.com");
+
+    /**
+     * The id of the providing connector.
+     */
+    static final URI PROVIDER = URI.create("https://localhost:8080");
+
+    /**
+     * The id of the agreement.
+     */
+    static final URI AGREEMENT = URI.create(
+            "https://localhost:8080/api/agreements/9d5ad9fe-6b4e-4b8b-a8d6-5b5c0bf2d7a4");
+
+    private IdsFixtures() {
+        // not used
+    }
+
+    /**
+     * Build a contract agreement with an interval restricted permission.
+     *
+     * @return The agreement.
+     */
+    static ContractAgreement agreement() {
+        return new ContractAgreementBuilder(AGREEMENT)
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._contractEnd_(IdsMessageUtils.getGregorianNow())
+                ._consumer_(CONSUMER)
+                ._provider_(PROVIDER)
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._action_(Util.asList(Action.USE))
+                        ._constraint_(Util.asList(new ConstraintBuilder()
+                                ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                ._operator_(BinaryOperator.AFTER)
+                                ._rightOperand_(new RdfResource("2020-07-11T00:00:00Z",
+                                        URI.create("xsd:dateTimeStamp")))
+                                .build(), new ConstraintBuilder()
+                                ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                ._operator_(BinaryOperator.BEFORE)
+                                ._rightOperand_(new RdfResource("2030-07-11T00:00:00Z",
+                                        URI.create("xsd:dateTimeStamp")))
+                                .build()))
+                        ._target_(URI.create("https://localhost:8080/api/artifacts/"
+                                + "0d1a8b5a-3f4c-4a2e-9b9e-4c1d5d2f3e6a"))
+                        .build()))
+                .build();
+    }
+
+    /**
+     * Serialize {@link #agreement()}.
+     *
+     * @return The agreement as json-ld.
+     */
+    static String agreementAsRdf() {
+        return RdfConverter.toRdf(agreement());
+    }
+
+    /**
+     * Build an artifact request.
+     *
+     * @param artifact The requested artifact.
+     * @return The message.
+     */
+    static Message artifactRequest(final URI artifact) {
+        return new ArtifactRequestMessageBuilder()
+                ._senderAgent_(CONSUMER)
+                ._issuerConnector_(CONSUMER)
+                ._recipientConnector_(Util.asList(PROVIDER))
+                ._securityToken_(new DynamicAttributeTokenBuilder()
+                        ._tokenFormat_(TokenFormat.OTHER)
+                        ._tokenValue_("")
+                        .build())
+                ._modelVersion_("4.2.7")
+                ._issued_(IdsMessageUtils.getGregorianNow())
+                ._requestedArtifact_(artifact)
+                ._transferContract_(AGREEMENT)
+                .build();
+    }
+
+    /**
+     * Serialize an artifact request.
+     *
+     * @return The message as json-ld.
+     */
+    static String messageAsRdf() {
+        return RdfConverter.toRdf(artifactRequest(URI.create(
+                "https://localhost:8080/api/artifacts/0d1a8b5a-3f4c-4a2e-9b9e-4c1d5d2f3e6a")));
+    }
+}
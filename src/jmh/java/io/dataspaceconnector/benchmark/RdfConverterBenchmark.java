@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import de.fraunhofer.iais.eis.BaseConnector;
+import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of the self-description.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RdfConverterBenchmark {
+
+    /**
+     * The number of offered resources.
+     */
+    @Param({"1", "10", "100"})
+    private int resources;
+
+    /**
+     * The connector with its catalogs.
+     */
+    private BaseConnector connector;
+
+    /**
+     * Creates the offered resources and builds the connector once.
+     *
+     * @param state The running connector.
+     */
+    @Setup(Level.Trial)
+    public void setup(final ConnectorState state) {
+        state.bindRequest();
+        state.createCatalog(resources, "data");
+        connector = state.inTransaction(() -> state.getBean(ConnectorService.class)
+                .getConnectorWithOfferedResources());
+    }
+
+    /**
+     * Serializes the connector.
+     *
+     * @return The json-ld.
+     */
+    @Benchmark
+    public String toRdf() {
+        return RdfConverter.toRdf(connector);
+    }
+}
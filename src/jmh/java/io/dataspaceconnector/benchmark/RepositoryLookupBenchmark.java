@@ -0,0 +1,255 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import io.dataspaceconnector.model.agreement.AgreementDesc;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.broker.Broker;
+import io.dataspaceconnector.model.broker.BrokerDesc;
+import io.dataspaceconnector.model.broker.BrokerFactory;
+import io.dataspaceconnector.model.subscription.Subscription;
+import io.dataspaceconnector.model.subscription.SubscriptionDesc;
+import io.dataspaceconnector.model.subscription.SubscriptionFactory;
+import io.dataspaceconnector.repository.ArtifactRepository;
+import io.dataspaceconnector.repository.BrokerRepository;
+import io.dataspaceconnector.repository.SubscriptionRepository;
+import io.dataspaceconnector.service.resource.relation.AgreementArtifactLinker;
+import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups by remote id, bootstrap id, agreement, subscription target and broker
+ * location at realistic table sizes. The test configuration runs on H2 without the migrations. To
+ * measure the indexes, run against PostgreSQL with the migrations applied, see the build docs.
+ * That the lookups use the indexes is checked by
+ * {@code io.dataspaceconnector.repository.SecondaryIndexesIT}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryLookupBenchmark {
+
+    /**
+     * The number of artifacts, subscriptions and brokers.
+     */
+    @Param({"10000"})
+    private int rows;
+
+    /**
+     * The number of artifacts per agreement.
+     */
+    private static final int ARTIFACTS_PER_AGREEMENT = 10;
+
+    /**
+     * The number of rows saved per transaction.
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * The artifact repository.
+     */
+    private ArtifactRepository artifactRepository;
+
+    /**
+     * The subscription repository.
+     */
+    private SubscriptionRepository subscriptionRepository;
+
+    /**
+     * The broker repository.
+     */
+    private BrokerRepository brokerRepository;
+
+    /**
+     * The remote id looked up.
+     */
+    private URI remoteId;
+
+    /**
+     * The bootstrap id looked up.
+     */
+    private URI bootstrapId;
+
+    /**
+     * The agreement looked up.
+     */
+    private UUID agreementId;
+
+    /**
+     * The subscription target looked up.
+     */
+    private URI target;
+
+    /**
+     * The broker location looked up.
+     */
+    private URI location;
+
+    /**
+     * Fills the tables. The values are unique per run, so that repeated runs against the same
+     * database do not interfere.
+     *
+     * @param connector The running connector.
+     */
+    @Setup(Level.Trial)
+    public void setup(final ConnectorState connector) {
+        connector.bindRequest();
+        artifactRepository = connector.getBean(ArtifactRepository.class);
+        subscriptionRepository = connector.getBean(SubscriptionRepository.class);
+        brokerRepository = connector.getBean(BrokerRepository.class);
+
+        final var run = "https://" + UUID.randomUUID() + ".com";
+        createArtifactsAndAgreements(connector, run);
+        createSubscriptions(connector, run);
+        createBrokers(run);
+
+        final var lookup = rows / 2;
+        remoteId = URI.create(run + "/remote/" + lookup);
+        bootstrapId = URI.create(run + "/bootstrap/" + lookup);
+        target = URI.create(run + "/target/" + lookup);
+        location = URI.create(run + "/broker/" + lookup);
+    }
+
+    /**
+     * Finds an entity by its remote id.
+     *
+     * @return The id of the artifact.
+     */
+    @Benchmark
+    public Optional<UUID> identifyByRemoteId() {
+        return artifactRepository.identifyByRemoteId(remoteId);
+    }
+
+    /**
+     * Finds the artifacts with a bootstrap id.
+     *
+     * @return The artifacts.
+     */
+    @Benchmark
+    public List<Artifact> findAllByBootstrapId() {
+        return artifactRepository.findAllByBootstrapId(bootstrapId);
+    }
+
+    /**
+     * Finds the artifacts of an agreement.
+     *
+     * @return The artifacts.
+     */
+    @Benchmark
+    public List<Artifact> findAllByAgreement() {
+        return artifactRepository.findAllByAgreement(agreementId);
+    }
+
+    /**
+     * Finds the subscriptions of a target.
+     *
+     * @return The subscriptions.
+     */
+    @Benchmark
+    public List<Subscription> findAllByTarget() {
+        return subscriptionRepository.findAllByTarget(target);
+    }
+
+    /**
+     * Finds a broker by its location.
+     *
+     * @return The id of the broker.
+     */
+    @Benchmark
+    public Optional<UUID> findByLocation() {
+        return brokerRepository.findByLocation(location);
+    }
+
+    private void createArtifactsAndAgreements(final ConnectorState connector, final String run) {
+        final var artifactService = connector.getBean(ArtifactService.class);
+        final var agreementService = connector.getBean(AgreementService.class);
+        final var linker = connector.getBean(AgreementArtifactLinker.class);
+
+        var artifacts = new HashSet<UUID>();
+        for (int i = 0; i < rows; i++) {
+            final var desc = new ArtifactDesc();
+            desc.setRemoteId(URI.create(run + "/remote/" + i));
+            desc.setBootstrapId(URI.create(run + "/bootstrap/" + i));
+            desc.setValue("data");
+            artifacts.add(artifactService.create(desc).getId());
+
+            if (artifacts.size() == ARTIFACTS_PER_AGREEMENT) {
+                final var agreement = agreementService.create(new AgreementDesc()).getId();
+                linker.add(agreement, artifacts);
+                if (i >= rows / 2 && agreementId == null) {
+                    agreementId = agreement;
+                }
+                artifacts = new HashSet<>();
+            }
+        }
+    }
+
+    private void createSubscriptions(final ConnectorState connector, final String run) {
+        final var factory = connector.getBean(SubscriptionFactory.class);
+        final var chunk = new ArrayList<Subscription>(CHUNK_SIZE);
+        for (int i = 0; i < rows; i++) {
+            final var desc = new SubscriptionDesc();
+            desc.setTarget(URI.create(run + "/target/" + i));
+            desc.setLocation(URI.create(run + "/location"));
+            desc.setSubscriber(URI.create(run + "/subscriber/" + i % 100));
+            chunk.add(factory.create(desc));
+            if (chunk.size() == CHUNK_SIZE) {
+                subscriptionRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        subscriptionRepository.saveAll(chunk);
+    }
+
+    private void createBrokers(final String run) {
+        final var factory = new BrokerFactory();
+        final var chunk = new ArrayList<Broker>(CHUNK_SIZE);
+        for (int i = 0; i < rows; i++) {
+            final var desc = new BrokerDesc();
+            desc.setLocation(URI.create(run + "/broker/" + i));
+            chunk.add(factory.create(desc));
+            if (chunk.size() == CHUNK_SIZE) {
+                brokerRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        brokerRepository.saveAll(chunk);
+    }
+}
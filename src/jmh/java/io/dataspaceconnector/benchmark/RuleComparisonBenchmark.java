@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.benchmark;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the comparison of rule lists as done when a contract request is matched against the
+ * offers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RuleComparisonBenchmark {
+
+    /**
+     * The number of rules per list.
+     */
+    @Param({"1", "10", "50"})
+    private int rules;
+
+    /**
+     * The offered rules.
+     */
+    private List<Rule> offered;
+
+    /**
+     * Equal rules, deserialized separately so that no instance is shared.
+     */
+    private List<Rule> requested;
+
+    /**
+     * Deserializes both lists.
+     *
+     * @param state The running connector.
+     */
+    @Setup(Level.Trial)
+    public void setup(final ConnectorState state) {
+        final var service = state.getBean(DeserializationService.class);
+        offered = parse(service);
+        requested = parse(service);
+    }
+
+    private List<Rule> parse(final DeserializationService service) {
+        final var result = new ArrayList<Rule>(rules);
+        for (int i = 0; i < rules; i++) {
+            result.add(service.getRule(ConnectorState.RULE));
+        }
+        return result;
+    }
+
+    /**
+     * Compares two equal lists, which requires comparing every rule.
+     *
+     * @return True if the lists are equal.
+     */
+    @Benchmark
+    public boolean compareRules() {
+        return RuleUtils.compareRules(offered, requested);
+    }
+}
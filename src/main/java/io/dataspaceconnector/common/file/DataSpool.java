@@ -0,0 +1,316 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Buffers a data stream with bounded heap usage. Data up to a configurable threshold is kept in
+ * memory, everything beyond is spilled into a temporary file. The buffered data can be read any
+ * number of times until the spool is closed, which releases the temporary file.
+ */
+@Log4j2
+public final class DataSpool implements Closeable {
+
+    /**
+     * The default amount of bytes kept in memory before spilling to disk (1 MiB).
+     */
+    public static final long DEFAULT_THRESHOLD = 1024 * 1024;
+
+    /**
+     * The size of the buffer used for copying data.
+     */
+    public static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Prefix of the temporary files.
+     */
+    private static final String FILE_PREFIX = "dsc-spool-";
+
+    /**
+     * The in-memory data. Null if the data has been spilled to disk.
+     */
+    private final byte[] memory;
+
+    /**
+     * The temporary file. Null if the data is kept in memory.
+     */
+    @Getter
+    private final Path file;
+
+    /**
+     * The number of buffered bytes.
+     */
+    @Getter
+    private final long size;
+
+    /**
+     * The CRC32C checksum of the buffered bytes.
+     */
+    @Getter
+    private final long checkSum;
+
+    private DataSpool(final byte[] memory, final Path file, final long size,
+                      final long checkSum) {
+        this.memory = memory;
+        this.file = file;
+        this.size = size;
+        this.checkSum = checkSum;
+    }
+
+    /**
+     * Consume the stream completely and buffer its content. The stream is closed afterwards.
+     *
+     * @param data      The data.
+     * @param threshold The maximum number of bytes held in memory.
+     * @return The spool holding the data.
+     * @throws IOException if the data cannot be read or the temporary file cannot be written.
+     */
+    public static DataSpool of(@NonNull final InputStream data, final long threshold)
+            throws IOException {
+        final var checksum = new CRC32C();
+        final var buffer = new byte[BUFFER_SIZE];
+        final var memory = new ByteArrayOutputStream();
+
+        try (data) {
+            long size = 0;
+            int read;
+            while ((read = data.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+                size += read;
+                if (size > threshold) {
+                    return spill(data, memory, buffer, read, size, checksum);
+                }
+                memory.write(buffer, 0, read);
+            }
+
+            return new DataSpool(memory.toByteArray(), null, size, checksum.getValue());
+        }
+    }
+
+    /**
+     * Let a writer produce the data and buffer everything it writes. Used for sources that push
+     * their data into a stream instead of providing one to read from.
+     *
+     * @param writer    The producer of the data.
+     * @param threshold The maximum number of bytes held in memory.
+     * @return The spool holding the data.
+     * @throws IOException if the writer fails or the temporary file cannot be written.
+     */
+    public static DataSpool ofWriter(@NonNull final DataWriter writer, final long threshold)
+            throws IOException {
+        final var target = new SpoolOutputStream(threshold);
+        try {
+            writer.writeTo(target);
+            return target.toSpool();
+        } catch (IOException | RuntimeException exception) {
+            target.discard();
+            throw exception;
+        }
+    }
+
+    private static DataSpool spill(final InputStream data, final ByteArrayOutputStream memory,
+                                   final byte[] buffer, final int pending, final long consumed,
+                                   final CRC32C checksum) throws IOException {
+        final var file = Files.createTempFile(FILE_PREFIX, ".tmp");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            memory.writeTo(out);
+            out.write(buffer, 0, pending);
+
+            long size = consumed;
+            int read;
+            while ((read = data.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                size += read;
+            }
+
+            return new DataSpool(null, file, size, checksum.getValue());
+        } catch (IOException exception) {
+            Files.deleteIfExists(file);
+            throw exception;
+        }
+    }
+
+    /**
+     * Checks whether the data is held in memory.
+     *
+     * @return True if no temporary file has been created.
+     */
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    /**
+     * Opens a new stream on the buffered data. The spool stays open when the stream is closed.
+     *
+     * @return The data.
+     * @throws IOException if the temporary file cannot be opened.
+     */
+    public InputStream openStream() throws IOException {
+        return isInMemory() ? new ByteArrayInputStream(memory) : Files.newInputStream(file);
+    }
+
+    /**
+     * Opens a new stream on the buffered data and hands the ownership of the spool to it. Closing
+     * the stream closes the spool.
+     *
+     * @return The data.
+     * @throws IOException if the temporary file cannot be opened.
+     */
+    public InputStream toInputStream() throws IOException {
+        final var spool = this;
+        return new FilterInputStream(openStream()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    spool.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Removes the temporary file, if any.
+     */
+    @Override
+    public void close() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to remove spool file. [file=({}), exception=({})]",
+                            file, exception.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Produces data by writing it into a stream.
+     */
+    @FunctionalInterface
+    public interface DataWriter {
+        /**
+         * Write the data.
+         *
+         * @param target The stream the data is written to.
+         * @throws IOException if the data cannot be written.
+         */
+        void writeTo(OutputStream target) throws IOException;
+    }
+
+    /**
+     * Collects written bytes in memory and moves them into a temporary file once the threshold
+     * is exceeded.
+     */
+    private static final class SpoolOutputStream extends OutputStream {
+
+        /**
+         * The maximum number of bytes held in memory.
+         */
+        private final long threshold;
+
+        /**
+         * The checksum of the written bytes.
+         */
+        private final CRC32C checksum = new CRC32C();
+
+        /**
+         * The in-memory data. Null once the data has been spilled to disk.
+         */
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+
+        /**
+         * The temporary file. Null while the data is kept in memory.
+         */
+        private Path file;
+
+        /**
+         * The stream into the temporary file.
+         */
+        private OutputStream fileOut;
+
+        /**
+         * The number of written bytes.
+         */
+        private long size;
+
+        SpoolOutputStream(final long limit) {
+            this.threshold = limit;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            checksum.update(b, off, len);
+            size += len;
+            if (fileOut == null && size > threshold) {
+                file = Files.createTempFile(FILE_PREFIX, ".tmp");
+                fileOut = Files.newOutputStream(file);
+                memory.writeTo(fileOut);
+                memory = null;
+            }
+
+            if (fileOut != null) {
+                fileOut.write(b, off, len);
+            } else {
+                memory.write(b, off, len);
+            }
+        }
+
+        DataSpool toSpool() throws IOException {
+            if (fileOut != null) {
+                fileOut.close();
+                return new DataSpool(null, file, size, checksum.getValue());
+            }
+
+            return new DataSpool(memory.toByteArray(), null, size, checksum.getValue());
+        }
+
+        void discard() throws IOException {
+            if (file != null) {
+                try {
+                    if (fileOut != null) {
+                        fileOut.close();
+                    }
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -20,7 +20,6 @@ import de.fraunhofer.iais.eis.BaseConnectorImpl;
 import de.fraunhofer.iais.eis.ConfigurationModelImpl;
 import de.fraunhofer.iais.eis.DynamicAttributeToken;
 import de.fraunhofer.iais.eis.Resource;
-import de.fraunhofer.iais.eis.ResourceCatalog;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
 import de.fraunhofer.ids.messaging.core.config.ConfigContainer;
 import de.fraunhofer.ids.messaging.core.config.ConfigUpdateException;
@@ -30,12 +29,11 @@ import de.fraunhofer.ids.messaging.core.daps.DapsConnectionException;
 import de.fraunhofer.ids.messaging.core.daps.DapsEmptyResponseException;
 import de.fraunhofer.ids.messaging.core.daps.DapsTokenProvider;
 import io.dataspaceconnector.common.ids.mapping.FromIdsObjectMapper;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.model.configuration.ConnectorStatus;
 import io.dataspaceconnector.model.configuration.DeployMode;
 import io.dataspaceconnector.model.resource.OfferedResource;
-import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
-import io.dataspaceconnector.service.resource.type.CatalogService;
 import io.dataspaceconnector.service.resource.type.OfferedResourceService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -46,9 +44,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * This service offers different methods related to the connector configuration, like e.g. getting
@@ -70,14 +66,9 @@ public class ConnectorService {
     private final @NonNull DapsTokenProvider tokenProvider;
 
     /**
-     * Service for persisted catalogs.
+     * The cached self-description.
      */
-    private final @NonNull CatalogService catalogService;
-
-    /**
-     * Service for ids views.
-     */
-    private final @NonNull IdsCatalogBuilder catalogBuilder;
+    private final @NonNull SelfDescriptionCache selfDescriptionCache;
 
     /**
      * Service for ids resources.
@@ -157,8 +148,11 @@ public class ConnectorService {
      * @return The connector's DAT.
      */
     public DynamicAttributeToken getCurrentDat() {
+        final var sample = MetricUtils.start();
+        DynamicAttributeToken token = null;
         try {
-            return tokenProvider.getDAT();
+            token = tokenProvider.getDAT();
+            return token;
         } catch (ConnectorMissingCertExtensionException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Connector certificate is missing aki/ski extensions."
@@ -173,6 +167,8 @@ public class ConnectorService {
             if (log.isWarnEnabled()) {
                 log.warn("Received empty response from DAPS. [exception=({})]", e.getMessage());
             }
+        } finally {
+            MetricUtils.stop(sample, MetricUtils.DAPS_TOKEN, token != null);
         }
 
         return null;
@@ -186,14 +182,25 @@ public class ConnectorService {
     public BaseConnector getConnectorWithOfferedResources() throws ConstraintViolationException {
         // Get a local copy of the current connector.
         final var connector = configContainer.getConnector();
-        final var catalogs = getAllCatalogsWithOfferedResources();
 
         // Create a connector with a list of offered resources.
         final var connectorImpl = (BaseConnectorImpl) connector;
-        connectorImpl.setResourceCatalog(catalogs);
+        connectorImpl.setResourceCatalog(selfDescriptionCache.getCatalogs(connectorImpl));
         return connectorImpl;
     }
 
+    /**
+     * Get the serialized self-description with all offered resources. The description is only
+     * rebuilt if the connector or one of its offered resources has changed.
+     *
+     * @return The self-description.
+     */
+    public SelfDescription getSelfDescription() throws ConstraintViolationException {
+        // Get a local copy of the current connector.
+        final var connector = (BaseConnectorImpl) configContainer.getConnector();
+        return selfDescriptionCache.getSelfDescription(connector);
+    }
+
     /**
      * Build a base connector object without resources.
      *
@@ -232,19 +239,6 @@ public class ConnectorService {
         }
     }
 
-    /**
-     * Get all catalogs with offered resources.
-     *
-     * @return List of resource catalogs.
-     */
-    private List<ResourceCatalog> getAllCatalogsWithOfferedResources() {
-        return catalogService.getAll(Pageable.unpaged())
-                .stream()
-                .map(x -> catalogBuilder.create(x, 0))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-    }
-
     /**
      * Get offered resource by its id.
      *
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * A serialized connector self-description together with its entity tag.
+ */
+@Getter
+@AllArgsConstructor
+public final class SelfDescription {
+
+    /**
+     * The self-description as JSON-LD.
+     */
+    private final @NonNull String rdf;
+
+    /**
+     * The quoted entity tag identifying the content of the self-description.
+     */
+    private final @NonNull String eTag;
+}
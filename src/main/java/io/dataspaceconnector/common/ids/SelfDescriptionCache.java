@@ -0,0 +1,328 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids;
+
+import de.fraunhofer.iais.eis.BaseConnectorImpl;
+import de.fraunhofer.iais.eis.ContractOffer;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import de.fraunhofer.iais.eis.util.ConstraintViolationException;
+import io.dataspaceconnector.common.exception.UUIDFormatException;
+import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+import io.dataspaceconnector.common.util.UUIDUtils;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.service.resource.base.BaseEntityService;
+import io.dataspaceconnector.service.resource.base.EntityChangeListener;
+import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the connector self-description with all offered resources. Every catalog is kept as a
+ * separate fragment together with the ids of all entities it has been built from. A change of
+ * an entity drops only the fragments containing it, so that only these catalogs are rebuilt on
+ * the next request. As long as nothing changes, the serialized description is served as is.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class SelfDescriptionCache implements EntityChangeListener, SmartInitializingSingleton {
+
+    /**
+     * Service for persisted catalogs.
+     */
+    private final @NonNull CatalogService catalogService;
+
+    /**
+     * Service for ids catalogs.
+     */
+    private final @NonNull IdsCatalogBuilder catalogBuilder;
+
+    /**
+     * The entity services reporting their changes.
+     */
+    private final @NonNull ObjectProvider<BaseEntityService<?, ?>> entityServices;
+
+    /**
+     * The ids catalogs by catalog id.
+     */
+    private final Map<UUID, Fragment> fragments = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every change affecting the self-description.
+     */
+    private final AtomicLong revision = new AtomicLong();
+
+    /**
+     * The last assembled self-description.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Registers the cache at all entity services. Done after all singletons have been created
+     * since some of the services depend on the connector service.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        entityServices.forEach(service -> service.addChangeListener(this));
+    }
+
+    /**
+     * Get the ids catalogs with all offered resources.
+     *
+     * @param connector The current connector.
+     * @return The ids catalogs.
+     * @throws ConstraintViolationException if a catalog could not be built.
+     */
+    public List<ResourceCatalog> getCatalogs(final BaseConnectorImpl connector)
+            throws ConstraintViolationException {
+        return get(connector).catalogs;
+    }
+
+    /**
+     * Get the serialized self-description with all offered resources.
+     *
+     * @param connector The current connector.
+     * @return The self-description.
+     * @throws ConstraintViolationException if a catalog could not be built.
+     */
+    public SelfDescription getSelfDescription(final BaseConnectorImpl connector)
+            throws ConstraintViolationException {
+        return get(connector).description;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPersisted(final Entity entity) {
+        final var entityId = entity.getId();
+        if (entity instanceof Catalog) {
+            // The list of catalogs may have changed as well.
+            invalidateAfterCommit(() -> {
+                fragments.remove(entityId);
+                revision.incrementAndGet();
+            });
+        } else {
+            invalidateAfterCommit(() -> invalidate(entityId));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDeleted(final UUID entityId) {
+        invalidateAfterCommit(() -> {
+            if (fragments.remove(entityId) != null) {
+                revision.incrementAndGet();
+            } else {
+                invalidate(entityId);
+            }
+        });
+    }
+
+    private void invalidate(final UUID entityId) {
+        if (fragments.values().removeIf(x -> x.entities.contains(entityId))) {
+            revision.incrementAndGet();
+        }
+    }
+
+    private static void invalidateAfterCommit(final Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Rebuilds running before the commit may still have read the old state.
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidation.run();
+                        }
+                    });
+        }
+    }
+
+    private Snapshot get(final BaseConnectorImpl connector) throws ConstraintViolationException {
+        final var current = snapshot;
+        if (current != null && current.connector == connector
+                && current.revision == revision.get()) {
+            return current;
+        }
+
+        return rebuild(connector);
+    }
+
+    private synchronized Snapshot rebuild(final BaseConnectorImpl connector)
+            throws ConstraintViolationException {
+        final var start = revision.get();
+        final var current = snapshot;
+        if (current != null && current.connector == connector && current.revision == start) {
+            // Rebuilt by another thread in the meantime.
+            return current;
+        }
+
+        final var built = new ArrayList<UUID>();
+        final var catalogs = new ArrayList<ResourceCatalog>();
+        for (final var catalog : catalogService.getAll(Pageable.unpaged())) {
+            final var key = catalog.getId();
+            var fragment = key == null ? null : fragments.get(key);
+            if (fragment == null) {
+                fragment = Fragment.of(catalogBuilder.create(catalog, 0));
+                if (key != null) {
+                    fragments.put(key, fragment);
+                    built.add(key);
+                }
+            }
+
+            if (fragment.catalog != null) {
+                catalogs.add(fragment.catalog);
+            }
+        }
+
+        connector.setResourceCatalog(catalogs);
+        final var rdf = RdfConverter.toRdf(connector);
+        final var eTag = "\"" + DigestUtils.md5DigestAsHex(rdf.getBytes(StandardCharsets.UTF_8))
+                + "\"";
+        final var result = new Snapshot(start, connector, Collections.unmodifiableList(catalogs),
+                new SelfDescription(rdf, eTag));
+
+        if (revision.get() == start) {
+            snapshot = result;
+        } else {
+            // Changed while building, the new fragments may already be outdated.
+            built.forEach(fragments::remove);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Rebuilt self-description. [catalogs=({}), rebuilt=({})]",
+                    catalogs.size(), built.size());
+        }
+
+        return result;
+    }
+
+    /**
+     * An ids catalog and the ids of all entities it contains.
+     */
+    @AllArgsConstructor
+    private static final class Fragment {
+        /**
+         * The ids catalog. Null if the builder did not create one.
+         */
+        private final ResourceCatalog catalog;
+
+        /**
+         * The ids of all entities contained in the catalog.
+         */
+        private final Set<UUID> entities;
+
+        private static Fragment of(final ResourceCatalog catalog) {
+            final var entities = new HashSet<UUID>();
+            if (catalog != null && catalog.getOfferedResource() != null) {
+                for (final var resource : catalog.getOfferedResource()) {
+                    add(entities, resource.getId());
+                    if (resource.getRepresentation() != null) {
+                        for (final var representation : resource.getRepresentation()) {
+                            add(entities, representation.getId());
+                            if (representation.getInstance() != null) {
+                                representation.getInstance()
+                                        .forEach(x -> add(entities, x.getId()));
+                            }
+                        }
+                    }
+                    if (resource.getContractOffer() != null) {
+                        resource.getContractOffer().forEach(x -> addContract(entities, x));
+                    }
+                }
+            }
+
+            return new Fragment(catalog, entities);
+        }
+
+        private static void addContract(final Set<UUID> entities, final ContractOffer contract) {
+            add(entities, contract.getId());
+            if (contract.getPermission() != null) {
+                contract.getPermission().forEach(x -> add(entities, x.getId()));
+            }
+            if (contract.getProhibition() != null) {
+                contract.getProhibition().forEach(x -> add(entities, x.getId()));
+            }
+            if (contract.getObligation() != null) {
+                contract.getObligation().forEach(x -> add(entities, x.getId()));
+            }
+        }
+
+        private static void add(final Set<UUID> entities, final URI id) {
+            if (id == null) {
+                return;
+            }
+
+            try {
+                entities.add(UUIDUtils.uuidFromUri(id));
+            } catch (UUIDFormatException ignored) {
+                // Not a self link, cannot be changed through the entity services.
+            }
+        }
+    }
+
+    /**
+     * An assembled self-description and the state it has been built from.
+     */
+    @AllArgsConstructor
+    private static final class Snapshot {
+        /**
+         * The revision the self-description has been built at.
+         */
+        private final long revision;
+
+        /**
+         * The connector the self-description has been built for.
+         */
+        private final BaseConnectorImpl connector;
+
+        /**
+         * The ids catalogs.
+         */
+        private final List<ResourceCatalog> catalogs;
+
+        /**
+         * The serialized self-description.
+         */
+        private final SelfDescription description;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.dataspaceconnector.common.util.MetricUtils;
+import io.dataspaceconnector.model.clearinghouse.LogItem;
+import io.dataspaceconnector.repository.LogItemRepository;
+import io.dataspaceconnector.service.message.builder.type.LogMessageService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Durable outbox for clearing house log items. Items are persisted on the request path, in a
+ * transaction of their own, and delivered in batches by a background task, which retries failed
+ * deliveries with exponential backoff. Items are delivered in the order they have been queued.
+ */
+@EnableScheduling
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class ClearingHouseOutbox implements MeterBinder {
+
+    /**
+     * The upper bound of the delay between two delivery attempts of an item.
+     */
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    /**
+     * The persisted log items.
+     */
+    private final @NonNull LogItemRepository repository;
+
+    /**
+     * Service for ids log messages.
+     */
+    private final @NonNull LogMessageService logMessageSvc;
+
+    /**
+     * The transaction manager used for writing items independent of the caller's transaction.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * The maximum number of queued items. Further items are dropped.
+     */
+    @Value("${clearing.house.outbox.capacity:10000}")
+    private long capacity;
+
+    /**
+     * The maximum number of items delivered per run.
+     */
+    @Value("${clearing.house.outbox.batch.size:100}")
+    private int batchSize;
+
+    /**
+     * The delay before the first retry of a failed item in milliseconds.
+     */
+    @Value("${clearing.house.outbox.backoff:5000}")
+    private long backoff;
+
+    /**
+     * The number of delivery attempts before an item is dropped.
+     */
+    @Value("${clearing.house.outbox.max.attempts:10}")
+    private int maxAttempts;
+
+    /**
+     * The number of queued items. Counted once on start, then maintained by enqueue and drain.
+     */
+    private final AtomicLong depth = new AtomicLong();
+
+    /**
+     * The age of the oldest queued item in milliseconds.
+     */
+    private final AtomicLong lag = new AtomicLong();
+
+    /**
+     * The number of items that have been dropped.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Count the items left from a previous run.
+     */
+    @PostConstruct
+    public void init() {
+        depth.set(repository.count());
+    }
+
+    /**
+     * Queue an item for delivery. The item is committed in a new transaction, so that it is kept
+     * if the caller's transaction is rolled back, e.g. for a rejected request.
+     *
+     * @param recipient The clearing house endpoint.
+     * @param logItem   The item that should be logged.
+     * @throws org.springframework.dao.DataAccessException if the item cannot be stored.
+     * @throws org.springframework.transaction.TransactionException if the item cannot be
+     *                                                               committed.
+     */
+    public void enqueue(final URI recipient, final Object logItem) {
+        if (depth.get() >= capacity) {
+            dropped.incrementAndGet();
+            if (log.isWarnEnabled()) {
+                log.warn("Clearing house outbox is full, dropping log item. [recipient=({})]",
+                        recipient);
+            }
+            return;
+        }
+
+        final var template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.executeWithoutResult(status -> repository
+                .saveAndFlush(new LogItem(recipient.toString(), logItem.toString())));
+        depth.incrementAndGet();
+    }
+
+    /**
+     * Periodically delivers the due items.
+     */
+    @Scheduled(fixedDelayString = "${clearing.house.outbox.delay:5000}")
+    public void schedule() {
+        if (depth.get() == 0) {
+            // Nothing queued since the last run.
+            return;
+        }
+
+        try {
+            drain();
+            refreshLag();
+        } catch (RuntimeException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to drain clearing house outbox. [exception=({})]",
+                        exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delivers one batch of due items. The batch is aborted on the first failure to not flood an
+     * unavailable clearing house. Removed items are subtracted from the depth instead of counting
+     * the queue again, so that items queued in the meantime are not lost.
+     */
+    void drain() {
+        final var now = ZonedDateTime.now();
+        final var items = repository.findByNextAttemptLessThanEqualOrderByIdAsc(now,
+                PageRequest.of(0, batchSize));
+
+        final var done = new ArrayList<Long>();
+        try {
+            for (final var item : items) {
+                if (!deliver(item, now)) {
+                    break;
+                }
+                done.add(item.getId());
+            }
+        } finally {
+            if (!done.isEmpty()) {
+                repository.deleteAllByIdInBatch(done);
+                depth.addAndGet(-done.size());
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Drained clearing house outbox. [delivered=({}), due=({})]", done.size(),
+                    items.size());
+        }
+    }
+
+    private boolean deliver(final LogItem item, final ZonedDateTime now) {
+        final var sample = MetricUtils.start();
+        try {
+            logMessageSvc.sendMessage(URI.create(item.getRecipient()), item.getPayload());
+            MetricUtils.stop(sample, MetricUtils.CLEARING_HOUSE, true, "operation", "log");
+            return true;
+        } catch (RuntimeException exception) {
+            MetricUtils.stop(sample, MetricUtils.CLEARING_HOUSE, false, "operation", "log");
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to deliver clearing house log item. [recipient=({}), "
+                        + "exception=({})]", item.getRecipient(), exception.getMessage());
+            }
+            if (item.getAttempts() + 1 >= maxAttempts) {
+                dropped.incrementAndGet();
+                if (log.isWarnEnabled()) {
+                    log.warn("Dropping clearing house log item after {} attempts. "
+                            + "[recipient=({})]", maxAttempts, item.getRecipient());
+                }
+                repository.delete(item);
+                depth.decrementAndGet();
+            } else {
+                item.retryAt(now.plus(getBackoff(item.getAttempts())));
+                repository.saveAndFlush(item);
+            }
+            return false;
+        }
+    }
+
+    private Duration getBackoff(final int attempts) {
+        // Doubles with every attempt, the shift is capped to prevent an overflow.
+        final var delay = Duration.ofMillis(backoff).multipliedBy(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void refreshLag() {
+        final var oldest = repository.findOldestCreationDate();
+        lag.set(oldest == null ? 0
+                : Math.max(0, Duration.between(oldest, ZonedDateTime.now()).toMillis()));
+    }
+
+    /**
+     * Get the number of queued items.
+     *
+     * @return The number of items, zero if unknown.
+     */
+    public long getDepth() {
+        return Math.max(0, depth.get());
+    }
+
+    /**
+     * Get the age of the oldest queued item.
+     *
+     * @return The age in milliseconds.
+     */
+    public long getLag() {
+        return lag.get();
+    }
+
+    /**
+     * Get the number of items that have been dropped because the outbox was full or their
+     * delivery failed too often.
+     *
+     * @return The number of dropped items.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("dsc.clearinghouse.outbox.depth", this, ClearingHouseOutbox::getDepth)
+                .description("Number of log items waiting for delivery to the clearing house.")
+                .register(registry);
+        TimeGauge.builder("dsc.clearinghouse.outbox.lag", this, TimeUnit.MILLISECONDS,
+                        ClearingHouseOutbox::getLag)
+                .description("Age of the oldest log item waiting for delivery.")
+                .register(registry);
+        Gauge.builder("dsc.clearinghouse.outbox.dropped", this, ClearingHouseOutbox::getDropped)
+                .description("Number of log items that have been dropped.")
+                .register(registry);
+    }
+}
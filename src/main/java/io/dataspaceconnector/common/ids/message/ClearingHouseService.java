@@ -24,19 +24,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.ContractAgreement;
 import de.fraunhofer.iais.eis.Message;
 import io.dataspaceconnector.common.exception.MessageResponseException;
-import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.UUIDFormatException;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.common.util.UUIDUtils;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.message.ProcessCreationMessageDesc;
-import io.dataspaceconnector.service.message.builder.type.LogMessageService;
 import io.dataspaceconnector.service.message.builder.type.ProcessCreationRequestService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import net.minidev.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
@@ -65,9 +66,9 @@ public class ClearingHouseService {
     private final @NonNull ConnectorConfig connectorConfig;
 
     /**
-     * Service for ids log messages.
+     * Outbox delivering the log items asynchronously.
      */
-    private final @NonNull LogMessageService logMessageSvc;
+    private final @NonNull ClearingHouseOutbox outbox;
 
     /**
      * Service for ids request messages.
@@ -80,7 +81,8 @@ public class ClearingHouseService {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
-     * Send contract agreement to clearing house.
+     * Send contract agreement to clearing house. The item is queued and delivered
+     * asynchronously. Failing to queue the item is logged, it never fails the caller.
      *
      * @param agreementId The agreement's id.
      * @param logItem   The item that should be logged.
@@ -88,12 +90,20 @@ public class ClearingHouseService {
     public void sendToClearingHouse(final URI agreementId, final Object logItem) {
         if (isClearingHouseEnabled()) {
             final var url = buildDestination(agreementId);
-            logMessageSvc.sendMessage(url, logItem);
+            try {
+                outbox.enqueue(url, logItem);
+            } catch (DataAccessException | TransactionException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to log item to clearing house. [exception=({})]",
+                            exception.getMessage());
+                }
+            }
         }
     }
 
     /**
-     * Creates a LogMessage with the IDS message as payload, then sends to the Clearing House.
+     * Creates a LogMessage with the IDS message as payload, then queues it for the Clearing
+     * House.
      *
      * @param idsMessage the message that should be logged.
      */
@@ -103,8 +113,9 @@ public class ClearingHouseService {
                 final var transferContractId =
                                     UUIDUtils.uuidFromUri(idsMessage.getTransferContract());
                 final var url = buildDestination(URI.create(transferContractId.toString()));
-                logMessageSvc.sendMessage(url, idsMessage.toRdf());
-            } catch (UUIDFormatException | PolicyExecutionException exception) {
+                outbox.enqueue(url, idsMessage.toRdf());
+            } catch (UUIDFormatException | DataAccessException
+                    | TransactionException exception) {
                 if (log.isWarnEnabled()) {
                     log.warn("Failed to log message to clearing house. [exception=({})]",
                             exception.getMessage());
@@ -134,10 +145,18 @@ public class ClearingHouseService {
             final var payload = buildProcessCreationPayload(providerFingerprint,
                     consumerFingerprint);
 
-            final var response = requestService.send(new ProcessCreationMessageDesc(url),
-                    objectMapper.writeValueAsString(payload));
+            final var sample = MetricUtils.start();
+            var success = false;
+            try {
+                final var response = requestService.send(new ProcessCreationMessageDesc(url),
+                        objectMapper.writeValueAsString(payload));
+                success = requestService.isValidResponseType(response);
+            } finally {
+                MetricUtils.stop(sample, MetricUtils.CLEARING_HOUSE, success,
+                        "operation", "process_creation");
+            }
 
-            if (!requestService.isValidResponseType(response)) {
+            if (!success) {
                 throw new MessageResponseException("Received unexpected response message type from"
                         + " the Clearing House.");
             }
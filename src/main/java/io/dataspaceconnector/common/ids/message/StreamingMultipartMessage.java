@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.dataspaceconnector.common.exception.MessageResponseException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Headers;
+import okhttp3.MultipartReader;
+import okhttp3.Response;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * An ids multipart message read from an http response. Only the header part is read into
+ * memory. The payload part is left in the response body and handed out as a stream, so large
+ * payloads do not have to be buffered. Closing the payload or the message releases the
+ * connection.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StreamingMultipartMessage implements Closeable {
+
+    /**
+     * The name of the header part.
+     */
+    private static final String HEADER = "header";
+
+    /**
+     * The name of the payload part.
+     */
+    private static final String PAYLOAD = "payload";
+
+    /**
+     * Matches the name parameter of a content disposition.
+     */
+    private static final Pattern NAME = Pattern.compile("(?:^|;)\\s*name=\"?([^\";]*)\"?");
+
+    /**
+     * The header part.
+     */
+    @Getter
+    private final String header;
+
+    /**
+     * The payload part, as sent by the recipient. Empty if the message has no payload.
+     */
+    @Getter
+    private final InputStream payload;
+
+    /**
+     * Releases the multipart reader and the connection.
+     */
+    private final Closeable resources;
+
+    /**
+     * Reads the parts of a multipart response up to the start of the payload. The header part
+     * has to precede the payload part.
+     *
+     * @param response The http response. Closed if reading fails.
+     * @return The message.
+     * @throws IOException              if the response cannot be read.
+     * @throws MessageResponseException if the response is not a valid ids multipart message.
+     */
+    public static StreamingMultipartMessage read(final Response response) throws IOException {
+        final var body = response.body();
+        if (body == null) {
+            response.close();
+            throw new MessageResponseException("The response has no body.");
+        }
+
+        try {
+            final var reader = new MultipartReader(body);
+            final Closeable resources = () -> {
+                try (response) {
+                    reader.close();
+                }
+            };
+
+            String header = null;
+            MultipartReader.Part part;
+            while ((part = reader.nextPart()) != null) {
+                final var name = getName(part.headers());
+                if (HEADER.equals(name)) {
+                    header = part.body().readUtf8();
+                } else if (PAYLOAD.equals(name)) {
+                    if (header == null) {
+                        throw new MessageResponseException("Missing header before payload.");
+                    }
+                    return new StreamingMultipartMessage(header,
+                            new ReleasingInputStream(part.body().inputStream(), resources),
+                            resources);
+                }
+            }
+
+            if (header == null) {
+                throw new MessageResponseException("Missing header part.");
+            }
+            resources.close();
+            return new StreamingMultipartMessage(header, InputStream.nullInputStream(),
+                    resources);
+        } catch (IOException | RuntimeException exception) {
+            response.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Read the complete payload as a string. Only meant for small payloads, e.g. of rejection
+     * messages.
+     *
+     * @return The payload.
+     * @throws IOException if the payload cannot be read.
+     */
+    public String readPayload() throws IOException {
+        try (payload) {
+            return new String(payload.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Releases the connection without reading the rest of the payload.
+     *
+     * @throws IOException if the connection cannot be released.
+     */
+    @Override
+    public void close() throws IOException {
+        resources.close();
+    }
+
+    private static String getName(final Headers headers) {
+        final var disposition = headers.get("Content-Disposition");
+        if (disposition != null) {
+            final var matcher = NAME.matcher(disposition);
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Payload stream that releases the connection when it is closed.
+     */
+    private static final class ReleasingInputStream extends FilterInputStream {
+
+        /**
+         * Releases the multipart reader and the connection.
+         */
+        private final Closeable resources;
+
+        /**
+         * Constructs a ReleasingInputStream.
+         *
+         * @param in        The payload.
+         * @param resources The resources to release.
+         */
+        ReleasingInputStream(final InputStream in, final Closeable resources) {
+            super(in);
+            this.resources = resources;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (resources) {
+                super.close();
+            }
+        }
+    }
+}
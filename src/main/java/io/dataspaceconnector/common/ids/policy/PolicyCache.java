@@ -0,0 +1,275 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.policy;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.rule.ContractRule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of deserialized agreements and rules. Entries are identified by the id of the
+ * entity and validated against its modification date, so that a modified entity is never served
+ * from the cache. Returned objects are shared and must not be modified.
+ */
+@Log4j2
+@Component
+public class PolicyCache implements MeterBinder {
+
+    /**
+     * The default maximum number of cached objects.
+     */
+    private static final int DEFAULT_SIZE = 1000;
+
+    /**
+     * Service for ids deserialization.
+     */
+    private final DeserializationService deserializationService;
+
+    /**
+     * The maximum number of cached objects.
+     */
+    private final int maxSize;
+
+    /**
+     * The cached objects in least-recently-used order.
+     */
+    private final Map<UUID, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Number of requests served from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of requests that required deserialization.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Incremented whenever a cached object is invalidated.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructs a PolicyCache with the default size.
+     *
+     * @param deserializer Service for ids deserialization.
+     */
+    public PolicyCache(final @NonNull DeserializationService deserializer) {
+        this(deserializer, DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a PolicyCache.
+     *
+     * @param deserializer Service for ids deserialization.
+     * @param size         The maximum number of cached objects.
+     */
+    @Autowired
+    public PolicyCache(final @NonNull DeserializationService deserializer,
+                       @Value("${policy.cache.size:" + DEFAULT_SIZE + "}") final int size) {
+        this.deserializationService = deserializer;
+        this.maxSize = size;
+    }
+
+    /**
+     * Get the deserialized ids contract agreement of an agreement.
+     *
+     * @param agreement The agreement.
+     * @return The ids contract agreement.
+     * @throws IllegalArgumentException if deserialization fails.
+     */
+    public ContractAgreement getContractAgreement(final Agreement agreement)
+            throws IllegalArgumentException {
+        return get(agreement, agreement.getValue(), ContractAgreement.class,
+                deserializationService::getContractAgreement);
+    }
+
+    /**
+     * Get the deserialized ids rule of a contract rule.
+     *
+     * @param rule The contract rule.
+     * @return The ids rule.
+     * @throws IllegalArgumentException if deserialization fails.
+     */
+    public Rule getRule(final ContractRule rule) throws IllegalArgumentException {
+        return get(rule, rule.getValue(), Rule.class, deserializationService::getRule);
+    }
+
+    /**
+     * Remove the cached object of an entity.
+     *
+     * @param entityId The id of the entity.
+     */
+    public void evict(final UUID entityId) {
+        if (entityId != null) {
+            synchronized (entries) {
+                entries.remove(entityId);
+            }
+            generation.incrementAndGet();
+        }
+    }
+
+    /**
+     * Remove all cached objects.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Get the current generation of the cache. The value changes whenever an agreement or rule
+     * has been invalidated, so that derived data can detect that it is outdated.
+     *
+     * @return The generation.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Get the number of requests served from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of requests that required deserialization.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of cached objects.
+     *
+     * @return The cache size.
+     */
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("dsc.policy.cache.hits", this, PolicyCache::getHits)
+                .description("Number of policies served from the cache.")
+                .register(registry);
+        FunctionCounter.builder("dsc.policy.cache.misses", this, PolicyCache::getMisses)
+                .description("Number of policies that had to be deserialized.")
+                .register(registry);
+        Gauge.builder("dsc.policy.cache.size", this, PolicyCache::getSize)
+                .description("Number of cached policies.")
+                .register(registry);
+    }
+
+    private <T> T get(final Entity entity, final String value, final Class<T> type,
+                      final Function<String, T> deserializer) {
+        final var entityId = entity.getId();
+        if (entityId == null) {
+            // Not persisted yet, nothing to identify the entry with.
+            return deserializer.apply(value);
+        }
+
+        final var modified = entity.getModificationDate();
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(entityId);
+        }
+
+        if (entry != null && entry.matches(modified, type)) {
+            hits.increment();
+            return type.cast(entry.getObject());
+        }
+
+        misses.increment();
+        final var object = deserializer.apply(value);
+        synchronized (entries) {
+            entries.put(entityId, new CacheEntry(modified, object));
+            final var iterator = entries.keySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Cached deserialized policy. [entityId=({}), hits=({}), misses=({})]",
+                    entityId, hits.sum(), misses.sum());
+        }
+
+        return object;
+    }
+
+    /**
+     * A cached object together with the modification date of its entity.
+     */
+    @RequiredArgsConstructor
+    private static final class CacheEntry {
+
+        /**
+         * The modification date of the entity at the time of deserialization.
+         */
+        private final ZonedDateTime modificationDate;
+
+        /**
+         * The deserialized object.
+         */
+        private final @NonNull Object object;
+
+        private Object getObject() {
+            return object;
+        }
+
+        private boolean matches(final ZonedDateTime modified, final Class<?> type) {
+            return Objects.equals(modificationDate, modified) && type.isInstance(object);
+        }
+    }
+}
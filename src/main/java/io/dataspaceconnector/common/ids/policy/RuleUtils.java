@@ -148,6 +148,30 @@ public final class RuleUtils {
         return false;
     }
 
+    /**
+     * Gets the date at which a rule's post duties require the data to be deleted. Uses the same
+     * duty as {@link #checkRuleForPostDuties(Rule)}.
+     *
+     * @param rule The ids rule.
+     * @return The deletion date or null if the rule has no deletion duty.
+     * @throws DateTimeParseException If the date could not be parsed.
+     */
+    public static ZonedDateTime getPostDutyDeletionDate(final Rule rule)
+            throws DateTimeParseException {
+        if (rule instanceof Permission) {
+            final var postDuties = ((Permission) rule).getPostDuty();
+            if (postDuties != null) {
+                for (final var duty : postDuties) {
+                    if (duty.getAction().contains(Action.DELETE)) {
+                        return getDate(duty);
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Checks if the specified duration since resource creation or the specified maximum date for
      * resource access has already been exceeded.
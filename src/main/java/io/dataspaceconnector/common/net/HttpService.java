@@ -28,9 +28,12 @@ import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -130,8 +133,7 @@ public class HttpService implements DataRetrievalService {
 
         final var targetUrl = urlBuilder.build();
 
-        final var body = RequestBody.create(data.readAllBytes(),
-                MediaType.get("application/octet-stream"));
+        final var body = new StreamingRequestBody(data);
 
         final var requestBuilder = new Request.Builder().url(targetUrl).post(body);
 
@@ -141,7 +143,7 @@ public class HttpService implements DataRetrievalService {
 
         final var response = httpSvc.send(requestBuilder.build());
 
-        final var output = new HttpResponse(response.code(), getBody(response));
+        final var output = new HttpResponse(response.code(), readBody(response));
         response.close();
 
         return output;
@@ -186,13 +188,10 @@ public class HttpService implements DataRetrievalService {
             response = httpSvc.getWithHeaders(targetUri, headerCopy);
         }
 
-        final var output = new HttpResponse(response.code(), getBody(response));
-        response.close();
-
-        return output;
+        return new HttpResponse(response.code(), streamBody(response));
     }
 
-    private InputStream getBody(final okhttp3.Response response) throws IOException {
+    private InputStream readBody(final okhttp3.Response response) throws IOException {
         final var body = response.body();
         if (body != null) {
             final var tmp = body.bytes();
@@ -203,6 +202,62 @@ public class HttpService implements DataRetrievalService {
         return InputStream.nullInputStream();
     }
 
+    /**
+     * Returns the response body without buffering it. The underlying connection is released once
+     * the returned stream is closed.
+     *
+     * @param response The response.
+     * @return The response body.
+     */
+    private InputStream streamBody(final okhttp3.Response response) {
+        final var body = response.body();
+        if (body == null) {
+            response.close();
+            return InputStream.nullInputStream();
+        }
+
+        return new FilterInputStream(body.byteStream()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    response.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Request body that is written directly from a stream instead of a byte array. As the stream
+     * can only be consumed once, the body must not be retransmitted.
+     */
+    @RequiredArgsConstructor
+    private static final class StreamingRequestBody extends RequestBody {
+
+        /**
+         * The data.
+         */
+        private final @NonNull InputStream data;
+
+        @Override
+        public MediaType contentType() {
+            return MediaType.get("application/octet-stream");
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        @Override
+        public void writeTo(final BufferedSink sink) throws IOException {
+            try (var source = Okio.source(data)) {
+                sink.writeAll(source);
+            }
+        }
+    }
+
     /**
      * Perform a get request.
      *
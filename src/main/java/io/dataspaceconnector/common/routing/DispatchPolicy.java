@@ -0,0 +1,32 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.routing;
+
+/**
+ * Defines how a dispatch to several routes reacts to a failing route.
+ */
+public enum DispatchPolicy {
+
+    /**
+     * Abort the dispatch on the first failed or timed out route.
+     */
+    FAIL_FAST,
+
+    /**
+     * Wait for all routes and report the failed ones.
+     */
+    BEST_EFFORT
+}
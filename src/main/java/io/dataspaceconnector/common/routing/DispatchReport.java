@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.routing;
+
+import lombok.ToString;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a dispatch to several routes.
+ */
+@ToString
+public final class DispatchReport {
+
+    /**
+     * The routes that completed successfully.
+     */
+    private final List<URI> succeeded = new ArrayList<>();
+
+    /**
+     * The routes that failed or timed out, with the reason.
+     */
+    private final Map<URI, String> failed = new LinkedHashMap<>();
+
+    /**
+     * Record a successful route.
+     *
+     * @param routeId The route.
+     */
+    void succeeded(final URI routeId) {
+        succeeded.add(routeId);
+    }
+
+    /**
+     * Record a failed route.
+     *
+     * @param routeId The route.
+     * @param reason  The reason.
+     */
+    void failed(final URI routeId, final String reason) {
+        failed.put(routeId, reason);
+    }
+
+    /**
+     * Get the routes that completed successfully.
+     *
+     * @return The route ids.
+     */
+    public List<URI> getSucceeded() {
+        return Collections.unmodifiableList(succeeded);
+    }
+
+    /**
+     * Get the routes that failed or timed out.
+     *
+     * @return The reason by route id.
+     */
+    public Map<URI, String> getFailed() {
+        return Collections.unmodifiableMap(failed);
+    }
+
+    /**
+     * Checks whether any route failed.
+     *
+     * @return True if at least one route failed.
+     */
+    public boolean hasFailures() {
+        return !failed.isEmpty();
+    }
+}
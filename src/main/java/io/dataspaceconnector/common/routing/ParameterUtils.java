@@ -135,6 +135,21 @@ public final class ParameterUtils {
      */
     public static final String SUBSCRIPTION_DESC_PARAM = "subscriptionDesc";
 
+    /**
+     * Name of the parameter containing the size of the spooled payload.
+     */
+    public static final String PAYLOAD_SIZE_PARAM = "payloadSize";
+
+    /**
+     * Name of the parameter containing the checksum of the spooled payload.
+     */
+    public static final String PAYLOAD_CHECKSUM_PARAM = "payloadChecksum";
+
+    /**
+     * Name of the parameter marking that the spooled payload is taken over by the caller.
+     */
+    public static final String RETAIN_PAYLOAD_PARAM = "retainPayload";
+
     /**
      * Inserts the specified recipient into the URI used to make IDSCP2 client calls.
      *
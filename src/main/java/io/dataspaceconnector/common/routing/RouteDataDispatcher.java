@@ -16,6 +16,7 @@
 package io.dataspaceconnector.common.routing;
 
 import io.dataspaceconnector.common.exception.DataDispatchException;
+import io.dataspaceconnector.common.file.DataSpool;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.util.UUIDUtils;
 import lombok.NonNull;
@@ -25,11 +26,26 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Dispatches data via Camel routes.
@@ -49,6 +65,187 @@ public class RouteDataDispatcher {
      */
     private final @NonNull CamelContext context;
 
+    /**
+     * The maximum number of routes executed at the same time.
+     */
+    @Value("${data.dispatch.parallelism:4}")
+    private int parallelism = 4;
+
+    /**
+     * The time in milliseconds a route may run before it is cancelled.
+     */
+    @Value("${data.dispatch.timeout:60000}")
+    private long timeout = 60_000;
+
+    /**
+     * How a dispatch to several routes reacts to a failing route.
+     */
+    @Value("${data.dispatch.policy:FAIL_FAST}")
+    private DispatchPolicy policy = DispatchPolicy.FAIL_FAST;
+
+    /**
+     * The threads executing the routes. Created on first use.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Stops the route threads.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Dispatches data via several routes in parallel. Every route reads the spool on its own, so
+     * the data is held once regardless of the number of routes. A route that runs longer than
+     * the configured timeout is cancelled. This method returns only after all routes stopped, so
+     * the caller may release the spool afterwards.
+     *
+     * @param routeIds the route IDs.
+     * @param spool the data.
+     * @return the outcome of every route.
+     * @throws DataDispatchException if a route fails and the policy is
+     *                               {@link DispatchPolicy#FAIL_FAST}.
+     */
+    public DispatchReport send(final List<URI> routeIds, final DataSpool spool)
+            throws DataDispatchException {
+        final var report = new DispatchReport();
+        final var completion = new ExecutorCompletionService<Void>(getExecutor());
+        final var pending = new LinkedHashMap<Future<Void>, RouteTask>();
+        final var tasks = new ArrayList<RouteTask>(routeIds.size());
+        for (final var routeId : routeIds) {
+            final var task = new RouteTask(routeId);
+            tasks.add(task);
+            pending.put(completion.submit(() -> {
+                if (!task.begin()) {
+                    return null;
+                }
+
+                try {
+                    send(routeId, new SpooledStreamCache(spool));
+                } finally {
+                    task.end();
+                }
+                return null;
+            }), task);
+        }
+
+        try {
+            while (!pending.isEmpty()) {
+                final var done = completion.poll(getWaitTime(pending.values()),
+                        TimeUnit.NANOSECONDS);
+                if (done != null) {
+                    complete(done, pending.remove(done), report);
+                }
+                cancelExpired(pending, report);
+
+                if (policy == DispatchPolicy.FAIL_FAST && report.hasFailures()) {
+                    throw new DataDispatchException("Failed to dispatch data. "
+                            + report.getFailed());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataDispatchException("Interrupted while dispatching data.");
+        } finally {
+            pending.keySet().forEach(future -> future.cancel(true));
+            awaitStopped(tasks);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Dispatched data. [report=({})]", report);
+        }
+
+        return report;
+    }
+
+    private static void complete(final Future<Void> future, final RouteTask task,
+                                 final DispatchReport report) throws InterruptedException {
+        if (task == null) {
+            // Already cancelled and reported.
+            return;
+        }
+
+        try {
+            future.get();
+            report.succeeded(task.routeId);
+        } catch (ExecutionException e) {
+            report.failed(task.routeId, describe(e.getCause()));
+        }
+    }
+
+    /**
+     * Waits until cancelled routes stopped reading the spool. Routes that have not been started
+     * yet are not started anymore.
+     *
+     * @param tasks the route executions.
+     */
+    private static void awaitStopped(final List<RouteTask> tasks) {
+        try {
+            for (final var task : tasks) {
+                task.awaitEnd();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (log.isWarnEnabled()) {
+                log.warn("Interrupted while waiting for cancelled routes to stop.");
+            }
+        }
+    }
+
+    private static String describe(final Throwable throwable) {
+        if (throwable == null) {
+            return "Unknown error.";
+        }
+
+        final var message = throwable.getMessage();
+        return message == null ? throwable.getClass().getSimpleName() : message;
+    }
+
+    private void cancelExpired(final Map<Future<Void>, RouteTask> pending,
+                               final DispatchReport report) {
+        final var limit = TimeUnit.MILLISECONDS.toNanos(timeout);
+        final var now = System.nanoTime();
+        final var iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            final var task = entry.getValue();
+            if (task.started != 0 && now - task.started >= limit) {
+                entry.getKey().cancel(true);
+                iterator.remove();
+                report.failed(task.routeId, "Timed out after " + timeout + " ms.");
+            }
+        }
+    }
+
+    private long getWaitTime(final Collection<RouteTask> tasks) {
+        final var limit = TimeUnit.MILLISECONDS.toNanos(timeout);
+        final var now = System.nanoTime();
+        var wait = limit;
+        for (final var task : tasks) {
+            if (task.started != 0) {
+                wait = Math.min(wait, limit - (now - task.started));
+            }
+        }
+        return Math.max(0, wait);
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final var counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+                final var thread = new Thread(runnable,
+                        "route-dispatch-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
     /**
      * Dispatches data via the specified route. The route will be triggered once with the data
      * as the initial input.
@@ -60,7 +257,7 @@ public class RouteDataDispatcher {
      */
     public void send(final URI routeId, final byte[] bytes) throws IOException,
             DataDispatchException {
-        send(routeId, bytes, null);
+        send(routeId, new ByteArrayInputStream(bytes), null);
     }
 
     /**
@@ -76,7 +273,36 @@ public class RouteDataDispatcher {
      */
     public void send(final URI routeId, final byte[] bytes, final QueryInput queryInput)
             throws IOException, DataDispatchException {
-        final var data = new String(bytes, StandardCharsets.UTF_8);
+        send(routeId, new ByteArrayInputStream(bytes), queryInput);
+    }
+
+    /**
+     * Dispatches data via the specified route. The data is passed to the route as a stream and
+     * is neither copied nor decoded.
+     *
+     * @param routeId the route ID.
+     * @param data the data.
+     * @throws IOException if the data cannot be read.
+     * @throws DataDispatchException if an error occurs during route execution.
+     */
+    public void send(final URI routeId, final InputStream data) throws IOException,
+            DataDispatchException {
+        send(routeId, data, null);
+    }
+
+    /**
+     * Dispatches data via the specified route. The data is passed to the route as a stream and
+     * is neither copied nor decoded. The headers from a {@link QueryInput} are used for the
+     * request to the backend.
+     *
+     * @param routeId the route ID.
+     * @param data the data.
+     * @param queryInput the query input for the backend.
+     * @throws IOException if the data cannot be read.
+     * @throws DataDispatchException if an error occurs during route execution.
+     */
+    public void send(final URI routeId, final InputStream data, final QueryInput queryInput)
+            throws IOException, DataDispatchException {
         final var routeUuid = UUIDUtils.uuidFromUri(routeId);
         final var camelDirect = "direct:" + routeUuid;
 
@@ -97,8 +323,69 @@ public class RouteDataDispatcher {
                 log.debug("Failed to dispatch data. [exception=({})]", e.getMessage(), e);
             }
 
-            throw new DataDispatchException("Failed to dispatch data." + e.getMessage());
+            throw new DataDispatchException("Failed to dispatch data. " + describe(e));
         }
     }
 
+    /**
+     * A route execution of a parallel dispatch.
+     */
+    @RequiredArgsConstructor
+    private static final class RouteTask {
+
+        /**
+         * The route.
+         */
+        private final URI routeId;
+
+        /**
+         * The time the route has been started at, zero while it is queued.
+         */
+        private volatile long started;
+
+        /**
+         * Whether the route is executed. Guarded by this task.
+         */
+        private boolean running;
+
+        /**
+         * Whether the route may not be started anymore. Guarded by this task.
+         */
+        private boolean closed;
+
+        /**
+         * Marks the route as started.
+         *
+         * @return false if the dispatch is over and the route must not be started.
+         */
+        private synchronized boolean begin() {
+            if (closed) {
+                return false;
+            }
+
+            running = true;
+            started = System.nanoTime();
+            return true;
+        }
+
+        /**
+         * Marks the route as stopped.
+         */
+        private synchronized void end() {
+            running = false;
+            notifyAll();
+        }
+
+        /**
+         * Prevents the route from being started and waits until it stopped.
+         *
+         * @throws InterruptedException if interrupted while waiting.
+         */
+        private synchronized void awaitEnd() throws InterruptedException {
+            closed = true;
+            while (running) {
+                wait();
+            }
+        }
+    }
 }
@@ -19,6 +19,7 @@ import io.dataspaceconnector.common.routing.dataretrieval.DataRetrievalService;
 import io.dataspaceconnector.common.routing.dataretrieval.Response;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.NotImplemented;
+import io.dataspaceconnector.common.file.DataSpool;
 import io.dataspaceconnector.common.net.HttpAuthentication;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.util.UUIDUtils;
@@ -27,13 +28,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -54,6 +57,12 @@ public class RouteDataRetriever implements DataRetrievalService {
      */
     private final @NonNull CamelContext context;
 
+    /**
+     * The maximum number of bytes held in memory.
+     */
+    @Value("${data.spool.threshold:1048576}")
+    private long spoolThreshold = DataSpool.DEFAULT_THRESHOLD;
+
     /**
      * Retrieves and returns the data using a Camel route. The route to use is identified by the
      * access URL, which should be the ID of a route.
@@ -68,7 +77,9 @@ public class RouteDataRetriever implements DataRetrievalService {
             final var camelDirect = "direct:" + routeId;
 
             final var result = template.send(camelDirect,
-                    ExchangeBuilder.anExchange(context).build());
+                    ExchangeBuilder.anExchange(context)
+                            .withProperty(ParameterUtils.RETAIN_PAYLOAD_PARAM, true)
+                            .build());
 
             if (result.getException() != null) {
                 throw result.getException();
@@ -76,9 +87,7 @@ public class RouteDataRetriever implements DataRetrievalService {
                 throw result.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
             }
 
-            final var data = result.getIn().getBody(String.class);
-            return new RouteResponse(new ByteArrayInputStream(
-                    data.getBytes(StandardCharsets.UTF_8)));
+            return new RouteResponse(getData(result.getIn()));
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
                 log.debug("Failed to retrieve data. [exception=({})]", e.getMessage(), e);
@@ -88,6 +97,27 @@ public class RouteDataRetriever implements DataRetrievalService {
 
     }
 
+    /**
+     * Takes over the body of the route. A spool left by the route is handed to the caller,
+     * any other body is spooled before the exchange releases it.
+     *
+     * @param message The final message of the route.
+     * @return The data. Closing it releases the spool.
+     * @throws IOException if the body cannot be read.
+     */
+    private InputStream getData(final Message message) throws IOException {
+        final var body = message.getBody();
+        if (body instanceof SpooledStreamCache) {
+            return ((SpooledStreamCache) body).getSpool().toInputStream();
+        }
+
+        final var data = message.getBody(InputStream.class);
+        if (data == null) {
+            return InputStream.nullInputStream();
+        }
+        return DataSpool.of(data, spoolThreshold).toInputStream();
+    }
+
     /**
      * Retrieves the data using authentication. Will throw a {@link NotImplemented}, as all
      * required authentication information is already present in the route.
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.routing;
+
+import io.dataspaceconnector.common.file.DataSpool;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Exposes a {@link DataSpool} as a Camel {@link StreamCache}, so that route steps can read the
+ * payload repeatedly without it being copied into a string. Closing the stream does not close
+ * the spool, its owner has to do that.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public final class SpooledStreamCache extends InputStream implements StreamCache {
+
+    /**
+     * The buffered payload.
+     */
+    @Getter
+    private final @NonNull DataSpool spool;
+
+    /**
+     * The stream currently read from. Opened on first read.
+     */
+    private InputStream current;
+
+    /**
+     * The number of bytes read from the current stream.
+     */
+    private long position;
+
+    private InputStream current() throws IOException {
+        if (current == null) {
+            current = spool.openStream();
+        }
+        return current;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        final var value = current().read();
+        if (value != -1) {
+            position++;
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final var read = current().read(buffer, offset, length);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException {
+        return current().available();
+    }
+
+    /**
+     * Releases the current stream. The next read starts at the beginning.
+     *
+     * @throws IOException if the stream cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            try {
+                current.close();
+            } finally {
+                current = null;
+                position = 0;
+            }
+        }
+    }
+
+    /**
+     * Rewinds to the beginning of the payload.
+     */
+    @Override
+    public void reset() {
+        try {
+            close();
+        } catch (IOException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to close spooled stream. [exception=({})]",
+                        exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(final OutputStream out) throws IOException {
+        try (var data = spool.openStream()) {
+            data.transferTo(out);
+        }
+    }
+
+    /**
+     * Creates an independent reader on the same spool.
+     *
+     * @param exchange The exchange.
+     * @return The copy.
+     */
+    @Override
+    public StreamCache copy(final Exchange exchange) {
+        return new SpooledStreamCache(spool);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean inMemory() {
+        return spool.isInMemory();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long length() {
+        return spool.getSize();
+    }
+
+    /**
+     * Get the number of bytes read since the last reset.
+     *
+     * @return The position.
+     */
+    public long position() {
+        return position;
+    }
+}
@@ -16,7 +16,6 @@
 package io.dataspaceconnector.common.usagecontrol;
 
 import io.dataspaceconnector.model.artifact.Artifact;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
@@ -25,7 +24,6 @@ import java.net.URI;
 /**
  * A DTO for information required to decide if data provision should be allowed.
  */
-@AllArgsConstructor
 @Data
 @RequiredArgsConstructor
 public class AccessVerificationInput {
@@ -39,4 +37,21 @@ public class AccessVerificationInput {
      * The artifact.
      */
     private Artifact artifact;
+
+    /**
+     * The maximum number of accesses allowed by the verified policies, null if unlimited. Set
+     * during verification and enforced when the access is counted.
+     */
+    private Integer maxAccess;
+
+    /**
+     * Constructs an AccessVerificationInput.
+     *
+     * @param agreementId The id of the transfer contract (agreement).
+     * @param artifact    The artifact.
+     */
+    public AccessVerificationInput(final URI agreementId, final Artifact artifact) {
+        this.agreementId = agreementId;
+        this.artifact = artifact;
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.io.input.CountingInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records the connector's timers and distribution summaries. Meters are registered at the global
+ * registry, which Spring Boot attaches every configured registry (e.g. Prometheus) to. All timers
+ * publish percentile histograms, so latency quantiles can be aggregated across instances.
+ */
+public final class MetricUtils {
+
+    /**
+     * Time taken to process an incoming ids message in its Camel route.
+     */
+    public static final String MESSAGE_HANDLING = "dsc.ids.message.handling";
+
+    /**
+     * Time taken to validate a rule of a policy pattern.
+     */
+    public static final String POLICY_VALIDATION = "dsc.policy.validation";
+
+    /**
+     * Time until a data source responded.
+     */
+    public static final String DATA_RETRIEVAL = "dsc.data.retrieval";
+
+    /**
+     * Bytes transferred per artifact data transfer.
+     */
+    public static final String DATA_TRANSFER = "dsc.data.transfer";
+
+    /**
+     * Time taken to acquire a DAT.
+     */
+    public static final String DAPS_TOKEN = "dsc.daps.token";
+
+    /**
+     * Time taken by requests to the clearing house.
+     */
+    public static final String CLEARING_HOUSE = "dsc.clearinghouse.request";
+
+    /**
+     * Time taken by requests to a broker.
+     */
+    public static final String BROKER = "dsc.broker.request";
+
+    /**
+     * Data transfer direction for data handed out by the connector.
+     */
+    public static final String SERVED = "served";
+
+    /**
+     * Data transfer direction for data stored by the connector.
+     */
+    public static final String STORED = "stored";
+
+    /**
+     * Default constructor.
+     */
+    private MetricUtils() {
+        // This constructor is intentionally empty. Nothing to do here.
+    }
+
+    /**
+     * Start timing an operation.
+     *
+     * @return The sample to be passed to {@link #stop(Timer.Sample, String, boolean, String...)}.
+     */
+    public static Timer.Sample start() {
+        return Timer.start(Metrics.globalRegistry);
+    }
+
+    /**
+     * Stop timing an operation and record it at the timer with the given name and tags. The
+     * outcome is added as tag.
+     *
+     * @param sample  The sample returned by {@link #start()}.
+     * @param name    The name of the timer.
+     * @param success True if the operation succeeded.
+     * @param tags    Additional tags as key value pairs.
+     */
+    public static void stop(final Timer.Sample sample, final String name, final boolean success,
+                            final String... tags) {
+        sample.stop(Timer.builder(name)
+                .tags(tags)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry));
+    }
+
+    /**
+     * Record the size of a data transfer.
+     *
+     * @param direction The direction, {@link #SERVED} or {@link #STORED}.
+     * @param bytes     The number of bytes transferred.
+     */
+    public static void recordTransfer(final String direction, final long bytes) {
+        DistributionSummary.builder(DATA_TRANSFER)
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * Wrap a stream to record the number of bytes read from it as data transfer once the stream
+     * has been closed.
+     *
+     * @param data      The data.
+     * @param direction The direction, {@link #SERVED} or {@link #STORED}.
+     * @return The wrapped stream.
+     */
+    public static InputStream countTransfer(final InputStream data, final String direction) {
+        final var closed = new AtomicBoolean();
+        return new CountingInputStream(data) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (!closed.getAndSet(true)) {
+                        recordTransfer(direction, getByteCount());
+                    }
+                }
+            }
+        };
+    }
+}
@@ -47,6 +47,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -81,19 +82,29 @@ public class MainController {
     }
 
     /**
-     * Gets connector self-description with all resources.
+     * Gets connector self-description with all resources. Responds with 304 if the description
+     * matches the entity tag sent by the client.
      *
+     * @param request The web request.
      * @return Self-description or error response.
      */
     @GetMapping(value = "/api/connector", produces = ContentType.JSON_LD)
     @Operation(summary = "Get the private IDS self-description.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK),
+            @ApiResponse(responseCode = ResponseCode.NOT_MODIFIED,
+                    description = ResponseDescription.NOT_MODIFIED),
             @ApiResponse(responseCode = ResponseCode.INTERNAL_SERVER_ERROR,
                     description = ResponseDescription.INTERNAL_SERVER_ERROR)})
     @ResponseBody
-    public ResponseEntity<Object> getPrivateSelfDescription() {
-        return ResponseEntity.ok(connectorService.getConnectorWithOfferedResources().toRdf());
+    public ResponseEntity<Object> getPrivateSelfDescription(final WebRequest request) {
+        final var description = connectorService.getSelfDescription();
+        if (request.checkNotModified(description.getETag())) {
+            // The status and headers have been set by the request.
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(description.getETag()).body(description.getRdf());
     }
 
     /**
@@ -36,6 +36,7 @@ import io.dataspaceconnector.service.ArtifactDataDownloader;
 import io.dataspaceconnector.service.ContractNegotiator;
 import io.dataspaceconnector.service.EntityUpdateService;
 import io.dataspaceconnector.service.MetadataDownloader;
+import io.dataspaceconnector.service.download.DownloadJobService;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -66,6 +67,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
 /**
  * This controller provides the endpoint for sending a contract request message and starting the
  * metadata and data exchange.
@@ -105,6 +108,11 @@ public class ContractRequestMessageController {
      */
     private final @NonNull ArtifactDataDownloader artifactDataDownloader;
 
+    /**
+     * Runs the downloads of asynchronous contract requests.
+     */
+    private final @NonNull DownloadJobService downloadJobSvc;
+
     /**
      * Template for triggering Camel routes.
      */
@@ -128,6 +136,8 @@ public class ContractRequestMessageController {
      * @param artifacts List of requested artifacts by IDs.
      * @param download  download data directly after successful contract and description request.
      * @param ruleList  List of rules that should be used within a contract request.
+     * @param async     Download metadata and data in the background instead of waiting for it.
+     *                  Not supported with IDSCPv2.
      * @return The response entity.
      */
     @PostMapping("/contract")
@@ -135,6 +145,7 @@ public class ContractRequestMessageController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ok"),
             @ApiResponse(responseCode = "201", description = "Created"),
+            @ApiResponse(responseCode = "202", description = "Accepted"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "400", description = "Bad request"),
             @ApiResponse(responseCode = "417", description = "Expectation failed"),
@@ -153,7 +164,10 @@ public class ContractRequestMessageController {
                     + "download data of an artifact.")
             @RequestParam("download") final boolean download,
             @Parameter(description = "List of ids rules with an artifact id as target.")
-            @RequestBody final List<Rule> ruleList) {
+            @RequestBody final List<Rule> ruleList,
+            @Parameter(description = "Indicates whether metadata and data should be downloaded "
+                    + "in the background.")
+            @RequestParam(value = "async", defaultValue = "false") final boolean async) {
         if (connectorConfig.isIdscpEnabled()) {
             UUID agreementId;
             final var result = template.send("direct:contractRequestSender",
@@ -192,6 +206,12 @@ public class ContractRequestMessageController {
                 // Initiate contract negotiation.
                 final var agreementId = negotiator.negotiate(recipient, ruleList);
 
+                if (async) {
+                    final var job = downloadJobSvc.start(recipient, resources, artifacts,
+                            download, agreementId);
+                    return respondWithAcceptedDownload(agreementId, job.getId());
+                }
+
                 // Download metadata.
                 downloadMetadata(recipient, resources, artifacts, download, agreementId);
 
@@ -243,6 +263,17 @@ public class ContractRequestMessageController {
         return new ResponseEntity<>(entity, headers, HttpStatus.CREATED);
     }
 
+    private ResponseEntity<Object> respondWithAcceptedDownload(final UUID agreementId,
+                                                               final UUID jobId) {
+        final var entity = agreementAsm.toModel(agreementService.get(agreementId));
+
+        final var headers = new HttpHeaders();
+        headers.setLocation(linkTo(DownloadJobController.class).slash(jobId).toUri());
+        headers.setContentType(MediaType.valueOf(ContentType.HAL));
+
+        return new ResponseEntity<>(entity, headers, HttpStatus.ACCEPTED);
+    }
+
     @SuppressWarnings("unchecked")
     private static ResponseEntity<Object> toObjectResponse(final ResponseEntity<?> response) {
         return (ResponseEntity<Object>) response;
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.message.ids;
+
+import io.dataspaceconnector.controller.message.tag.MessageDescription;
+import io.dataspaceconnector.controller.message.tag.MessageName;
+import io.dataspaceconnector.service.download.DownloadJob;
+import io.dataspaceconnector.service.download.DownloadJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * This controller provides the endpoints for tracking and retrying the downloads that have been
+ * started asynchronously by a contract request.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/ids/downloads")
+@Tag(name = MessageName.MESSAGES, description = MessageDescription.MESSAGES)
+public class DownloadJobController {
+
+    /**
+     * Service for running downloads in the background.
+     */
+    private final @NonNull DownloadJobService downloadJobSvc;
+
+    /**
+     * Get the progress of a download.
+     *
+     * @param jobId The id of the download.
+     * @return The download.
+     */
+    @GetMapping("{id}")
+    @Operation(summary = "Get the progress of a download started by a contract request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    public ResponseEntity<DownloadJob> getDownload(
+            @Parameter(description = "The id of the download.", required = true)
+            @PathVariable(name = "id") final UUID jobId) {
+        return ResponseEntity.ok(downloadJobSvc.get(jobId));
+    }
+
+    /**
+     * Retry the items of a download that have not been transferred yet.
+     *
+     * @param jobId The id of the download.
+     * @return The download.
+     */
+    @PostMapping("{id}/retry")
+    @Operation(summary = "Retry the failed items of a download started by a contract request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Not found"),
+            @ApiResponse(responseCode = "409", description = "Conflict")})
+    public ResponseEntity<DownloadJob> retryDownload(
+            @Parameter(description = "The id of the download.", required = true)
+            @PathVariable(name = "id") final UUID jobId) {
+        final var status = downloadJobSvc.retry(jobId) ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(downloadJobSvc.get(jobId));
+    }
+}
@@ -17,9 +17,11 @@ package io.dataspaceconnector.controller.resource.type;
 
 import de.fraunhofer.ids.messaging.protocol.UnexpectedResponseException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.file.DataSpool;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.net.ContentType;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.common.util.ValidationUtils;
 import io.dataspaceconnector.config.BasePath;
 import io.dataspaceconnector.controller.resource.base.BaseResourceNotificationController;
@@ -32,6 +34,8 @@ import io.dataspaceconnector.controller.util.ResponseCode;
 import io.dataspaceconnector.controller.util.ResponseDescription;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.route.Route;
 import io.dataspaceconnector.service.ArtifactRetriever;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
@@ -40,10 +44,14 @@ import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
@@ -61,7 +69,6 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -134,6 +141,12 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         headers.remove("authorization");
         headers.remove("host");
 
+        // Range and conditional requests on locally stored data are answered by the connector
+        // itself and must not reach a backend.
+        final var artifact = findArtifact(artifactId);
+        final var local = isServedLocally(artifact, routeIds);
+        final var conditions = local ? RequestConditions.takeFrom(headers) : RequestConditions.NONE;
+
         final var queryInput = new QueryInput();
         queryInput.setParams(params);
         queryInput.setHeaders(headers);
@@ -149,6 +162,15 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
             queryInput.setOptional(optional);
         }
 
+        if (local && agreementUri == null && artifactSvc.isServedFromStorage(artifactId)) {
+            // The stored data is returned as is, so its size and checksum answer conditional and
+            // range requests before the data is read and the access is counted.
+            final var response = answerWithoutData(artifactId, artifact, conditions);
+            if (response != null) {
+                return response;
+            }
+        }
+
         /*
             If no agreement information has been passed the connector needs
             to check if the data access is restricted by the usage control.
@@ -159,7 +181,7 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
                 : artifactSvc.getData(accessVerifier, dataReceiver, artifactId,
                 new RetrievalInformation(agreementUri, download, queryInput), routeIds);
 
-        return returnData(artifactId, data);
+        return returnData(artifactId, artifact, local, data, conditions);
     }
 
     /**
@@ -185,40 +207,172 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
             UnexpectedResponseException,
             io.dataspaceconnector.common.exception.UnexpectedResponseException {
         ValidationUtils.validateQueryInput(queryInput);
+        final var artifact = findArtifact(artifactId);
         final var data =
                 artifactSvc.getData(accessVerifier, dataReceiver, artifactId, queryInput, routeIds);
-        return returnData(artifactId, data);
+        return returnData(artifactId, artifact, isServedLocally(artifact, routeIds), data,
+                RequestConditions.NONE);
     }
 
+    /**
+     * Builds the response for the data of an artifact. For locally stored data, the size and
+     * checksum of the artifact are used to answer conditional and range requests without
+     * streaming the full data.
+     *
+     * @param artifactId The artifact id.
+     * @param artifact   The artifact, null if unknown.
+     * @param local      Whether the data is the locally stored data of the artifact.
+     * @param data       The data.
+     * @param conditions The range and conditional headers of the request.
+     * @return The response.
+     * @throws IOException if the data cannot be skipped to the requested range.
+     */
     private ResponseEntity<StreamingResponseBody> returnData(
-            final UUID artifactId, final InputStream data) {
-        final StreamingResponseBody body = outputStream -> {
-            final int blockSize = 1024;
-            int numBytesToWrite;
-            var buffer = new byte[blockSize];
-            while ((numBytesToWrite = data.read(buffer, 0, buffer.length)) != -1) {
-                outputStream.write(buffer, 0, numBytesToWrite);
-            }
+            final UUID artifactId, final Artifact artifact, final boolean local,
+            final InputStream data, final RequestConditions conditions) throws IOException {
+        final var outputHeader = new HttpHeaders();
+        outputHeader.set("Content-Disposition", "attachment;filename=" + artifactId.toString());
+        final var type = getMediaTypeOfArtifact(artifact);
 
+        if (!local) {
+            return ResponseEntity.ok()
+                    .headers(outputHeader)
+                    .contentType(type)
+                    .body(toBody(data, Long.MAX_VALUE));
+        }
+
+        final var response = answerWithoutData(artifactId, artifact, conditions);
+        if (response != null) {
             data.close();
-        };
+            return response;
+        }
 
-        final var outputHeader = new HttpHeaders();
-        outputHeader.set("Content-Disposition", "attachment;filename=" + artifactId.toString());
+        final var length = artifact.getByteSize();
+        final var etag = getETag(artifact);
+        outputHeader.setETag(etag);
+        outputHeader.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        final var range = conditions.getRange(etag);
+        if (range != null) {
+            // Unsatisfiable ranges have been answered above.
+            final var start = range.getRangeStart(length);
+            final var end = range.getRangeEnd(length);
+            try {
+                data.skipNBytes(start);
+            } catch (IOException exception) {
+                data.close();
+                throw exception;
+            }
+
+            outputHeader.set(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + end + "/" + length);
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(outputHeader)
+                    .contentType(type)
+                    .contentLength(end - start + 1)
+                    .body(toBody(data, end - start + 1));
+        }
 
-        final var type = getMediaTypeOfArtifact(artifactId);
         return ResponseEntity.ok()
                 .headers(outputHeader)
                 .contentType(type)
-                .body(body);
+                .contentLength(length)
+                .body(toBody(data, length));
     }
 
-    private MediaType getMediaTypeOfArtifact(final UUID artifactId) {
+    /**
+     * Answers the requests that can be answered from the size and checksum of the locally stored
+     * data alone: a conditional request for an unmodified copy and a request for a range that
+     * cannot be satisfied.
+     *
+     * @param artifactId The artifact id.
+     * @param artifact   The artifact.
+     * @param conditions The range and conditional headers of the request.
+     * @return The response, null if the data has to be returned.
+     */
+    private static ResponseEntity<StreamingResponseBody> answerWithoutData(
+            final UUID artifactId, final Artifact artifact, final RequestConditions conditions) {
+        final var length = artifact.getByteSize();
+        final var etag = getETag(artifact);
+        final var outputHeader = new HttpHeaders();
+        outputHeader.set("Content-Disposition", "attachment;filename=" + artifactId.toString());
+        outputHeader.setETag(etag);
+        outputHeader.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (conditions.matchesNoneOf(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(outputHeader).build();
+        }
+
+        final var range = conditions.getRange(etag);
+        if (range != null && !isSatisfiable(range, length)) {
+            outputHeader.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .headers(outputHeader).build();
+        }
+
+        return null;
+    }
+
+    private static boolean isSatisfiable(final HttpRange range, final long length) {
+        try {
+            return range.getRangeStart(length) <= range.getRangeEnd(length);
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    private static StreamingResponseBody toBody(final InputStream data, final long limit) {
+        return outputStream -> {
+            try (data) {
+                var remaining = limit;
+                int numBytesToWrite;
+                final var buffer = new byte[DataSpool.BUFFER_SIZE];
+                while (remaining > 0 && (numBytesToWrite = data.read(buffer, 0,
+                        (int) Math.min(buffer.length, remaining))) != -1) {
+                    outputStream.write(buffer, 0, numBytesToWrite);
+                    remaining -= numBytesToWrite;
+                }
+                MetricUtils.recordTransfer(MetricUtils.SERVED, limit - remaining);
+            }
+        };
+    }
+
+    private Artifact findArtifact(final UUID artifactId) {
+        try {
+            return getService().get(artifactId);
+        } catch (ResourceNotFoundException e) {
+            // The data request will fail on its own.
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the returned data will be the locally stored data of the artifact, so that
+     * its size and checksum describe the response. Data dispatched via routes may have been
+     * downloaded without being stored and is therefore excluded.
+     *
+     * @param artifact The artifact, null if unknown.
+     * @param routeIds The routes the data should be sent to.
+     * @return True if the data is served from the local database.
+     */
+    private static boolean isServedLocally(final Artifact artifact, final List<URI> routeIds) {
+        return artifact instanceof ArtifactImpl
+                && ((ArtifactImpl) artifact).getData() instanceof LocalData
+                && (routeIds == null || routeIds.isEmpty());
+    }
+
+    private static String getETag(final Artifact artifact) {
+        return "\"" + Long.toHexString(artifact.getByteSize()) + "-"
+                + Long.toHexString(artifact.getCheckSum()) + "\"";
+    }
+
+    private MediaType getMediaTypeOfArtifact(final Artifact artifact) {
         // Get type to set the correct content type.
         // NOTE: Assume that an artifact has only one representation.
         try {
-            final var artifact = getService().get(artifactId);
-            if (artifact.getRepresentations().isEmpty()
+            if (artifact == null
+                    || artifact.getRepresentations() == null
+                    || artifact.getRepresentations().isEmpty()
                     || artifact.getRepresentations().get(0) == null
                     || artifact.getRepresentations().get(0).getMediaType() == null) {
                 if (log.isDebugEnabled()) {
@@ -228,7 +382,7 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
                 final var mediaType = artifact.getRepresentations().get(0).getMediaType();
                 return MediaType.parseMediaType(mediaType);
             }
-        } catch (ResourceNotFoundException | InvalidMediaTypeException e) {
+        } catch (InvalidMediaTypeException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Could not resolve media type. Return data as stream. [exception=({})]",
                         e.getMessage());
@@ -238,7 +392,105 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     }
 
     /**
-     * Replace the data of an artifact.
+     * The range and conditional headers of a data request.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class RequestConditions {
+
+        /**
+         * Conditions of a request without range or conditional headers.
+         */
+        private static final RequestConditions NONE = new RequestConditions(null, null, null);
+
+        /**
+         * The value of the Range header.
+         */
+        private final String range;
+
+        /**
+         * The value of the If-None-Match header.
+         */
+        private final String ifNoneMatch;
+
+        /**
+         * The value of the If-Range header.
+         */
+        private final String ifRange;
+
+        /**
+         * Removes the range and conditional headers from the request headers.
+         *
+         * @param headers The request headers.
+         * @return The removed conditions.
+         */
+        static RequestConditions takeFrom(final Map<String, String> headers) {
+            return new RequestConditions(remove(headers, HttpHeaders.RANGE),
+                    remove(headers, HttpHeaders.IF_NONE_MATCH),
+                    remove(headers, HttpHeaders.IF_RANGE));
+        }
+
+        private static String remove(final Map<String, String> headers, final String name) {
+            String value = null;
+            final var iterator = headers.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final var header = iterator.next();
+                if (name.equalsIgnoreCase(header.getKey())) {
+                    value = header.getValue();
+                    iterator.remove();
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Checks whether the If-None-Match header matches the current entity tag. Uses the weak
+         * comparison as required for If-None-Match.
+         *
+         * @param etag The entity tag of the data.
+         * @return True if the client's copy is up to date.
+         */
+        boolean matchesNoneOf(final String etag) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+
+            for (final var tag : ifNoneMatch.split(",")) {
+                final var value = tag.trim();
+                if ("*".equals(value) || etag.equals(value.startsWith("W/")
+                        ? value.substring(2) : value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Get the requested range. Multiple ranges, malformed ranges and ranges with an outdated
+         * If-Range validator are ignored and the full data is returned instead.
+         *
+         * @param etag The entity tag of the data.
+         * @return The single requested range or null.
+         */
+        HttpRange getRange(final String etag) {
+            if (range == null || (ifRange != null && !etag.equals(ifRange.trim()))) {
+                return null;
+            }
+
+            try {
+                final var ranges = HttpRange.parseRanges(range);
+                return ranges.size() == 1 ? ranges.get(0) : null;
+            } catch (IllegalArgumentException exception) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Ignoring malformed range. [range=({})]", range);
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Replace the data of an artifact. The request body is streamed to the storage, so the size
+     * of the upload is not bound by the available heap.
      *
      * @param artifactId  The artifact whose data should be replaced.
      * @param inputStream The new data.
@@ -249,8 +501,11 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK)
     public ResponseEntity<Void> putData(
             @Valid @PathVariable(name = "id") final UUID artifactId,
-            @RequestBody final byte[] inputStream) throws IOException {
-        artifactSvc.setData(artifactId, new ByteArrayInputStream(inputStream));
+            @RequestBody final InputStreamResource inputStream) throws IOException {
+        try (var data = inputStream.getInputStream()) {
+            // The stored copy is not returned to the client, release its spool right away.
+            artifactSvc.setData(artifactId, data).close();
+        }
 
         // Notify subscribers on update event.
         subscriberNotificationSvc.notifyOnUpdate(getService().get(artifactId));
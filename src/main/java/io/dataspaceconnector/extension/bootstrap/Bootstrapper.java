@@ -17,18 +17,7 @@ package io.dataspaceconnector.extension.bootstrap;
 
 import de.fraunhofer.iais.eis.Resource;
 import de.fraunhofer.iais.eis.ResourceCatalog;
-import de.fraunhofer.ids.messaging.common.DeserializeException;
-import de.fraunhofer.ids.messaging.common.SerializeException;
 import de.fraunhofer.ids.messaging.core.config.ConfigUpdateException;
-import de.fraunhofer.ids.messaging.core.daps.ClaimsException;
-import de.fraunhofer.ids.messaging.core.daps.DapsTokenManagerException;
-import de.fraunhofer.ids.messaging.protocol.http.SendMessageException;
-import de.fraunhofer.ids.messaging.protocol.http.ShaclValidatorException;
-import de.fraunhofer.ids.messaging.protocol.multipart.UnknownResponseException;
-import de.fraunhofer.ids.messaging.protocol.multipart.parser.MultipartParseException;
-import de.fraunhofer.ids.messaging.requests.exceptions.NoTemplateProvidedException;
-import de.fraunhofer.ids.messaging.requests.exceptions.RejectionException;
-import de.fraunhofer.ids.messaging.requests.exceptions.UnexpectedPayloadException;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.DeserializationService;
@@ -47,16 +36,16 @@ import io.dataspaceconnector.service.resource.type.CatalogService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ApplicationContext;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
 import javax.validation.constraints.NotNull;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -66,14 +55,19 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.dataspaceconnector.extension.bootstrap.util.BootstrapUtils.findFilesByExtension;
 import static io.dataspaceconnector.extension.bootstrap.util.BootstrapUtils.retrieveBootstrapConfig;
@@ -87,7 +81,6 @@ import static io.dataspaceconnector.extension.bootstrap.util.BootstrapUtils.retr
 @Component
 @Log4j2
 @RequiredArgsConstructor
-@Transactional
 public class Bootstrapper {
 
     /**
@@ -105,12 +98,28 @@ public class Bootstrapper {
      */
     private static final String PROPERTIES_EXT = "properties";
 
+    /**
+     * Prefix of the properties that register a resource at a broker.
+     */
+    private static final String BROKER_PREFIX = "broker.register.";
+
     /**
      * Root where search for bootstrapping file starts.
      */
     @Value("${bootstrap.path}")
     private String bootstrapPath;
 
+    /**
+     * The maximum number of files parsed and broker requests sent at the same time.
+     */
+    @Value("${bootstrap.parallelism:4}")
+    private int parallelism = 4;
+
+    /**
+     * Parses the files and sends the broker requests. Created on first use.
+     */
+    private ExecutorService executor;
+
     /**
      * Spring application context. Needed for shutdowns in case of errors.
      */
@@ -136,6 +145,11 @@ public class Bootstrapper {
      */
     private final @NotNull PlatformTransactionManager transactionManager;
 
+    /**
+     * The entity manager.
+     */
+    private final @NotNull EntityManager entityManager;
+
     /**
      * Service for the current connector configuration.
      */
@@ -182,8 +196,8 @@ public class Bootstrapper {
 
         // register resources at broker
         if (!registerAtBroker(properties, idsResources)) {
-            if (log.isInfoEnabled()) {
-                log.info("An error occurred while registering resources at the broker.");
+            if (log.isWarnEnabled()) {
+                log.warn("An error occurred while registering resources at the broker.");
             }
         }
 
@@ -193,69 +207,156 @@ public class Bootstrapper {
     }
 
     /**
-     * Register resources at the broker.
+     * Stops the bootstrapping threads.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Register resources at the broker. The connector is registered at every broker first, then
+     * the resource updates are sent concurrently. Only the requests run on the executor, the
+     * accepted resources are linked to their broker afterwards, one transaction per broker.
      *
      * @param properties Bootstrap properties.
      * @param resources  The ids resources to register.
      * @return true if all resources could be registered.
      */
     private boolean registerAtBroker(final Properties properties,
-                                    final Map<URI, Resource> resources) {
-        final var knownBrokers = new HashSet<String>();
-        // Iterate over all registered resources.
+                                     final Map<URI, Resource> resources) {
+        final var grouped = groupByBroker(properties, resources);
+        if (grouped.isEmpty()) {
+            return false;
+        }
+
+        final var brokers = grouped.get();
+        final var connectorUpdates = new LinkedHashMap<URI, Future<Boolean>>();
+        for (final var broker : brokers.keySet()) {
+            createBroker(broker);
+            connectorUpdates.put(broker, getExecutor().submit(() -> brokerSvc
+                    .checkResponse(brokerSvc.sendConnectorUpdateMessage(broker))));
+        }
+
+        var success = true;
+        final var resourceUpdates = new LinkedHashMap<URI, Future<Boolean>>();
+        for (final var entry : brokers.entrySet()) {
+            final var broker = entry.getKey();
+            if (!await(connectorUpdates.get(broker), broker, null)) {
+                success = false;
+                continue;
+            }
+
+            for (final var resource : entry.getValue()) {
+                resourceUpdates.put(resource.getId(), getExecutor().submit(() -> brokerSvc
+                        .checkResponse(brokerSvc
+                                .sendResourceUpdateMessageWithoutLink(broker, resource))));
+            }
+        }
+
+        for (final var entry : brokers.entrySet()) {
+            final var broker = entry.getKey();
+            final var registered = new ArrayList<Resource>();
+            for (final var resource : entry.getValue()) {
+                final var update = resourceUpdates.get(resource.getId());
+                if (update == null) {
+                    continue;
+                }
+
+                if (await(update, broker, resource.getId())) {
+                    registered.add(resource);
+                } else {
+                    success = false;
+                }
+            }
+
+            if (!registered.isEmpty() && !linkResources(broker, registered)) {
+                success = false;
+            }
+        }
+
+        return success;
+    }
+
+    /**
+     * Link the resources registered at a broker to the broker entity.
+     *
+     * @param broker     The broker.
+     * @param registered The resources accepted by the broker.
+     * @return true if the links could be stored.
+     */
+    private boolean linkResources(final URI broker, final List<Resource> registered) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (final var resource : registered) {
+                    brokerSvc.linkResourceToBroker(broker, resource);
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to link resources to broker. [broker=({}), exception=({})]",
+                        broker, e.getMessage(), e);
+            }
+            return false;
+        }
+    }
+
+    private Optional<Map<URI, List<Resource>>> groupByBroker(final Properties properties,
+                                                             final Map<URI, Resource> resources) {
+        final var brokers = new LinkedHashMap<URI, List<Resource>>();
         for (final var entry : resources.entrySet()) {
-            final var propertyKey = "broker.register." + entry.getKey().toString();
+            final var propertyKey = BROKER_PREFIX + entry.getKey().toString();
             if (properties.containsKey(propertyKey)) {
-                final var brokerUrl = BootstrapUtils.toUrl(properties.getProperty(propertyKey));
-                if (brokerUrl.isEmpty()) {
+                final var broker = toUri(properties.getProperty(propertyKey));
+                if (broker.isEmpty()) {
                     if (log.isDebugEnabled()) {
                         log.debug("Skipping broker due to invalid url. [url=({})]",
                                 properties.getProperty(propertyKey));
                     }
-                    return false;
+                    return Optional.empty();
                 }
 
-                final var broker = brokerUrl.get();
-
-                try {
-                    if (!knownBrokers.contains(broker.toString())) {
-                        knownBrokers.add(broker.toString());
+                brokers.computeIfAbsent(broker.get(), x -> new ArrayList<>())
+                        .add(entry.getValue());
+            }
+        }
 
-                        createBroker(broker);
+        return Optional.of(brokers);
+    }
 
-                        var connectorResponse = brokerSvc
-                                .sendConnectorUpdateMessage(broker.toURI());
-                        if (!brokerSvc.checkResponse(connectorResponse)) {
-                            return false;
-                        }
-                    }
+    private static Optional<URI> toUri(final String url) {
+        final var brokerUrl = BootstrapUtils.toUrl(url);
+        try {
+            return brokerUrl.isPresent() ? Optional.of(brokerUrl.get().toURI()) : Optional.empty();
+        } catch (URISyntaxException e) {
+            return Optional.empty();
+        }
+    }
 
-                    var resourceResponse = brokerSvc
-                            .sendResourceUpdateMessage(broker.toURI(), entry.getValue());
-                    if (!brokerSvc.checkResponse(resourceResponse)) {
-                        return false;
-                    }
-                } catch (MultipartParseException | ClaimsException | DapsTokenManagerException
-                        | IOException | URISyntaxException | NoTemplateProvidedException
-                        | ShaclValidatorException | SendMessageException
-                        | UnexpectedPayloadException | SerializeException
-                        | DeserializeException | RejectionException
-                        | UnknownResponseException e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Could not register resource at broker [resourceId=({}), "
-                                + "broker=({})].", entry.getKey().toString(), broker, e);
-                    }
-                    return false;
-                }
+    private boolean await(final Future<Boolean> request, final URI broker,
+                          final URI resourceId) {
+        try {
+            return Boolean.TRUE.equals(request.get());
+        } catch (ExecutionException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not register at broker. [resourceId=({}), broker=({}), "
+                        + "exception=({})]", resourceId, broker, e.getCause().getMessage(),
+                        e.getCause());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.cancel(true);
         }
-        return true;
+        return false;
     }
 
-    private void createBroker(final URL broker) throws URISyntaxException {
-        if (brokerService.findByLocation(broker.toURI()).isEmpty()) {
+    private void createBroker(final URI broker) {
+        if (brokerService.findByLocation(broker).isEmpty()) {
             final var brokerDesc = new BrokerDesc();
-            brokerDesc.setLocation(broker.toURI());
+            brokerDesc.setLocation(broker);
             brokerDesc.setTitle(broker.toString());
             brokerService.create(brokerDesc);
         }
@@ -298,73 +399,89 @@ public class Bootstrapper {
 
     /**
      * Load a list of JSON-LD files which contain ids catalog entities and
-     * register them at the connector.
+     * register them at the connector. All catalogs are registered in one transaction, so nothing
+     * is registered if one of the files cannot be processed.
      *
      * @param jsonFiles    List of JSON-LD files to load
      * @param properties   additional properties which are required but not
      *                     present in ids representations
-     * @param idsResources (IDS ID, IDS-Resource) map that contains bootstrapped elements
+     * @param idsResources (IDS ID, IDS-Resource) map that collects the resources to
+     *                     register at a broker
      * @return true if all catalogs were loaded successfully or were already
      * registered, false otherwise
      */
     private boolean processIdsFiles(final List<File> jsonFiles, final Properties properties,
                                     final Map<URI, Resource> idsResources) {
-        final var catalogs = deserializeAllCatalogs(jsonFiles);
-        if (catalogs.isEmpty()) {
+        final var template = new TransactionTemplate(transactionManager);
+        final var success = template.execute(status -> {
+            if (registerAllCatalogs(jsonFiles, properties, idsResources)) {
+                return true;
+            }
+
+            status.setRollbackOnly();
             return false;
-        }
+        });
 
-        final var template = new TransactionTemplate(transactionManager);
-        // Iterate over all deserialized catalogs.
-        for (final var catalog : catalogs.get()) {
-            // Check for duplicates. Get all known catalogs for every bootstrap processor to detect
-            // duplicated bootstrap files.
-            final var duplicate = template.execute(x -> isDuplicate(catalog));
-
-            if (duplicate != null && duplicate) {
-                if (log.isInfoEnabled()) {
-                    log.info("Catalog is already registered and will be skipped. "
-                            + "[catalogId=({})]", catalog.getId());
+        return success != null && success;
+    }
+
+    private boolean registerAllCatalogs(final List<File> jsonFiles, final Properties properties,
+                                        final Map<URI, Resource> idsResources) {
+        // Parse a few files ahead of the registration, without holding all catalogs at once.
+        final var window = 2 * Math.max(1, parallelism);
+        final var pending = new ArrayDeque<Future<ResourceCatalog>>();
+        final var files = jsonFiles.iterator();
+        try {
+            while (files.hasNext() || !pending.isEmpty()) {
+                while (files.hasNext() && pending.size() < window) {
+                    final var file = files.next();
+                    pending.add(getExecutor().submit(() -> deserializeCatalog(file)));
                 }
-                continue;
-            }
 
-            if (!registerCatalog(catalog, properties, idsResources)) {
-                return false;
+                final var catalog = pending.remove().get();
+                if (isDuplicate(catalog)) {
+                    if (log.isInfoEnabled()) {
+                        log.info("Catalog is already registered and will be skipped. "
+                                + "[catalogId=({})]", catalog.getId());
+                    }
+                    continue;
+                }
+
+                if (!registerCatalog(catalog, properties, idsResources)) {
+                    return false;
+                }
+
+                // Write the catalog in batches and release it from the persistence context.
+                entityManager.flush();
+                entityManager.clear();
             }
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            pending.forEach(x -> x.cancel(true));
         }
 
         return true;
     }
 
     private boolean isDuplicate(final ResourceCatalog catalog) {
-        for (final var knownCatalog : catalogSvc.getAll(Pageable.unpaged())) {
-            Hibernate.initialize(knownCatalog.getAdditional());
-            if (catalog.getId().equals(knownCatalog.getBootstrapId())) {
-                return true;
-            }
-        }
-
-        return false;
+        // Also detects duplicated files, since the catalogs are flushed once registered.
+        return catalogSvc.existsByBootstrapId(catalog.getId());
     }
 
-    private Optional<Set<ResourceCatalog>> deserializeAllCatalogs(final List<File> jsonFiles) {
-        final var catalogs = new HashSet<ResourceCatalog>();
-
-        // Deserialize all files.
-        for (final var jsonFile : jsonFiles) {
-            try {
-                catalogs.add(deserializationSvc.getResourceCatalog(
-                        Files.readString(jsonFile.toPath())));
-            } catch (IOException e) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Could not deserialize ids catalog file. [path=({})]",
-                            jsonFile.getPath(), e);
-                }
-                return Optional.empty();
+    private ResourceCatalog deserializeCatalog(final File jsonFile) throws IOException {
+        try {
+            return deserializationSvc.getResourceCatalog(Files.readString(jsonFile.toPath()));
+        } catch (IOException | IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not deserialize ids catalog file. [path=({})]",
+                        jsonFile.getPath(), e);
             }
+            throw e;
         }
-        return Optional.of(catalogs);
     }
 
     /**
@@ -372,7 +489,8 @@ public class Bootstrapper {
      *
      * @param catalog      The ids resource catalog entity.
      * @param properties   Additional properties that are missing in ids entity.
-     * @param idsResources (IDS ID, IDS-Resource) Map that contains bootstrapped elements.
+     * @param idsResources (IDS ID, IDS-Resource) Map that collects the resources to register at
+     *                     a broker.
      * @return true if the catalog could be registered, false otherwise.
      */
     @Transactional
@@ -388,7 +506,9 @@ public class Bootstrapper {
                     TemplateUtils.getOfferedResourceTemplate(resource);
             fillResourceTemplate(resourceTemplate, properties, resource);
             offeredResources.add(resourceTemplate);
-            idsResources.put(resource.getId(), resource);
+            if (properties.containsKey(BROKER_PREFIX + resource.getId())) {
+                idsResources.put(resource.getId(), resource);
+            }
         }
         catalogTemplate.setOfferedResources(offeredResources);
 
@@ -482,4 +602,16 @@ public class Bootstrapper {
         return properties.containsKey("resource.download.auto")
                 && properties.getProperty("resource.download.auto").contains(resourceId.toString());
     }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final var counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+                final var thread = new Thread(runnable, "bootstrap-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
 }
@@ -39,7 +39,7 @@ public class HttpTrace {
     /**
      * Time of trace creation.
      */
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-ddTHH:mm:ss.SSSZ")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSZ")
     private ZonedDateTime timestamp;
 
     /**
@@ -53,10 +53,15 @@ public class HttpTrace {
     private String url;
 
     /**
-     * The message body.
+     * The message body. Truncated to the configured limit.
      */
     private String body;
 
+    /**
+     * The size of the message body in bytes. Larger than the body if it has been truncated.
+     */
+    private Long bodySize;
+
     /**
      * The message header.
      */
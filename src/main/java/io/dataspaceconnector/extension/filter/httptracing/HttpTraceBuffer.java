@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the most recent http traces in memory. Once full, the oldest trace is overwritten. Adding
+ * a trace does not lock, so request threads never wait for each other.
+ */
+@Component
+public class HttpTraceBuffer {
+
+    /**
+     * The maximum number of kept traces.
+     */
+    private final int capacity;
+
+    /**
+     * The sequence number of the next trace.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * The kept traces, indexed by their sequence number modulo the capacity.
+     */
+    private final AtomicReferenceArray<Entry> slots;
+
+    /**
+     * Constructs a HttpTraceBuffer.
+     *
+     * @param capacity The maximum number of kept traces.
+     */
+    public HttpTraceBuffer(@Value("${httptrace.buffer.capacity:500}") final int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * Add a trace, replacing the oldest one if the buffer is full.
+     *
+     * @param trace The trace.
+     */
+    public void add(final HttpTrace trace) {
+        final var number = sequence.getAndIncrement();
+        slots.set((int) (number % capacity), new Entry(number, trace));
+    }
+
+    /**
+     * Get the kept traces.
+     *
+     * @return The traces, oldest first.
+     */
+    public List<HttpTrace> getTraces() {
+        final var end = sequence.get();
+        final var start = Math.max(0, end - capacity);
+
+        final var traces = new ArrayList<HttpTrace>((int) (end - start));
+        for (var number = start; number < end; number++) {
+            final var entry = slots.get((int) (number % capacity));
+            // Skip slots that have not been written yet or have been overwritten meanwhile.
+            if (entry != null && entry.number == number) {
+                traces.add(entry.trace);
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * A trace together with its sequence number.
+     */
+    @AllArgsConstructor
+    private static final class Entry {
+        /**
+         * The sequence number.
+         */
+        private final long number;
+
+        /**
+         * The trace.
+         */
+        private final HttpTrace trace;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the most recent http traces.
+ */
+@Component
+@Endpoint(id = "httptraces")
+@RequiredArgsConstructor
+public class HttpTraceEndpoint {
+
+    /**
+     * The recent traces.
+     */
+    private final @NonNull HttpTraceBuffer buffer;
+
+    /**
+     * Get the most recent http traces.
+     *
+     * @return The traces, oldest first.
+     */
+    @ReadOperation
+    public List<HttpTrace> traces() {
+        return buffer.getTraces();
+    }
+}
@@ -36,6 +36,11 @@ public class HttpTraceEventHandler {
      */
     private final @NonNull ApplicationEventPublisher publisher;
 
+    /**
+     * The recent traces exposed via actuator.
+     */
+    private final @NonNull HttpTraceBuffer buffer;
+
     /**
      * Processes raised HttpTraceEvents.
      *
@@ -44,6 +49,7 @@ public class HttpTraceEventHandler {
     @Async
     @EventListener
     public void handleHttpTraceEvent(final HttpTrace trace) {
+        buffer.add(trace);
         if (log.isInfoEnabled()) {
             log.info("{}", trace);
         }
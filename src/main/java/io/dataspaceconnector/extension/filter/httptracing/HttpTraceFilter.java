@@ -16,43 +16,71 @@
 package io.dataspaceconnector.extension.filter.httptracing;
 
 import io.dataspaceconnector.common.util.UUIDUtils;
+import io.dataspaceconnector.extension.filter.httptracing.internal.BodyCapture;
 import io.dataspaceconnector.extension.filter.httptracing.internal.RequestWrapper;
+import io.dataspaceconnector.extension.filter.httptracing.internal.ResponseWrapper;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Use this class to log all incoming and outgoing http traffic.
+ * Use this class to log incoming and outgoing http traffic. Only a configurable share of the
+ * requests is traced, and only the first bytes of each body are kept, so tracing does not buffer
+ * whole transfers. The values of headers carrying credentials are redacted before a trace is
+ * stored.
  */
 @Component
 @Order(1)
 @Log4j2
 @ConditionalOnProperty(name = "httptrace.enabled")
 public final class HttpTraceFilter extends OncePerRequestFilter {
+
+    /**
+     * The value stored instead of a redacted header value.
+     */
+    public static final String REDACTED = "[REDACTED]";
+
     /**
-     * The trace id.
+     * The headers carrying credentials, in lower case.
      */
-    private transient UUID traceId;
+    private static final Set<String> SENSITIVE_HEADERS = Set.of("authorization",
+            "proxy-authorization", "cookie", "set-cookie", "x-api-key", "api-key");
 
     /**
      * The event handler.
      */
     private final transient HttpTraceEventHandler eventHandler;
 
+    /**
+     * The share of requests that are traced, between 0 and 1.
+     */
+    @Value("${httptrace.sampling.rate:1.0}")
+    private transient double samplingRate = 1.0;
+
+    /**
+     * The maximum number of bytes kept of each request and response body.
+     */
+    @Value("${httptrace.body.limit:4096}")
+    private transient int bodyLimit = 4096;
+
     /**
      * The constructor.
      *
@@ -72,21 +100,35 @@ public final class HttpTraceFilter extends OncePerRequestFilter {
                                     final HttpServletResponse response,
                                     final FilterChain filterChain)
             throws ServletException, IOException {
-        final var requestWrapper = new RequestWrapper(request);
-        final var responseWrapper = new ContentCachingResponseWrapper(response);
+        if (!isSampled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        traceId = generateUUID();
-        beforeRequest(requestWrapper);
+        final var requestWrapper = new RequestWrapper(request, bodyLimit);
+        final var responseWrapper = new ResponseWrapper(response, bodyLimit);
+
+        // The trace context lives on the stack, concurrent requests never share it.
+        final var traceId = generateUUID();
+        final var requestTrace = beforeRequest(traceId, requestWrapper);
 
         try {
             filterChain.doFilter(requestWrapper, responseWrapper);
         } finally {
-            afterRequest(responseWrapper);
-            responseWrapper.copyBodyToResponse();
+            // The request body is known once the application has read it.
+            setBody(requestTrace, requestWrapper.getCapture(), requestWrapper.getCharset());
+            eventHandler.sendHttpTraceEvent(requestTrace);
+            afterRequest(traceId, responseWrapper);
+            responseWrapper.flushBuffer();
         }
     }
 
-    private void beforeRequest(final RequestWrapper request) {
+    private boolean isSampled() {
+        return samplingRate >= 1.0
+                || samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    private HttpTrace beforeRequest(final UUID traceId, final RequestWrapper request) {
         final var trace = new HttpTrace();
         trace.setTraceId(traceId);
         trace.setTimestamp(ZonedDateTime.now(ZoneOffset.UTC));
@@ -98,7 +140,7 @@ public final class HttpTraceFilter extends OncePerRequestFilter {
         final var headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
             final var key = headerNames.nextElement();
-            trace.getHeaders().put(key, request.getHeader(key));
+            putHeader(trace.getHeaders(), key, request.getHeader(key));
         }
 
         trace.setParameterMap(new HashMap<>());
@@ -108,46 +150,39 @@ public final class HttpTraceFilter extends OncePerRequestFilter {
             trace.getParameterMap().put(key, request.getHeader(key));
         }
 
-        try {
-            trace.setBody(new String(request.getRequestBody(), request.getCharacterEncoding()));
-        } catch (IOException e) {
-            if (log.isErrorEnabled()) {
-                log.error("Failed to get the request body. [exception=({})]", e.getMessage(), e);
-            }
-        }
-
-        eventHandler.sendHttpTraceEvent(trace);
+        return trace;
     }
 
-    private void afterRequest(final ContentCachingResponseWrapper responseWrapper) {
+    private void afterRequest(final UUID traceId, final ResponseWrapper responseWrapper) {
         final var trace = new HttpTrace();
         trace.setTraceId(traceId);
         trace.setTimestamp(ZonedDateTime.now(ZoneOffset.UTC));
         trace.setStatus(responseWrapper.getStatus());
-        trace.setBody(getResponseAsPayload(responseWrapper));
 
         trace.setHeaders(new HashMap<>());
         for (final var key : responseWrapper.getHeaderNames()) {
-            trace.getHeaders().put(key, responseWrapper.getHeader(key));
+            putHeader(trace.getHeaders(), key, responseWrapper.getHeader(key));
+        }
+
+        if (responseWrapper.getCapture().getSize() > 0) {
+            setBody(trace, responseWrapper.getCapture(), responseWrapper.getCharset());
+        } else {
+            trace.setBody("ERROR");
         }
 
         eventHandler.sendHttpTraceEvent(trace);
     }
 
-    private String getResponseAsPayload(final ContentCachingResponseWrapper wrappedResponse) {
-        var response = "ERROR";
-        if (wrappedResponse.getContentSize() > 0) {
-            try {
-                response = new String(wrappedResponse.getContentAsByteArray(), 0,
-                        wrappedResponse.getContentSize(),
-                        wrappedResponse.getCharacterEncoding());
-            } catch (UnsupportedEncodingException e) {
-                if (log.isErrorEnabled()) {
-                    log.error("Failed to get the response. [exception=({})]", e.getMessage(), e);
-                }
-            }
-        }
+    private static void putHeader(final Map<String, String> headers, final String key,
+                                  final String value) {
+        final var isSensitive = key != null
+                && SENSITIVE_HEADERS.contains(key.toLowerCase(Locale.ROOT));
+        headers.put(key, isSensitive ? REDACTED : value);
+    }
 
-        return response;
+    private static void setBody(final HttpTrace trace, final BodyCapture capture,
+                                final Charset charset) {
+        trace.setBody(capture.toString(charset));
+        trace.setBodySize(capture.getSize());
     }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Keeps a copy of the first bytes of a message body, while counting all bytes that pass. The
+ * copy never grows beyond its limit, so tracing large transfers costs no more memory than
+ * tracing small ones.
+ */
+public final class BodyCapture {
+
+    /**
+     * The maximum number of bytes kept.
+     */
+    private final int limit;
+
+    /**
+     * The kept bytes. Grown on demand up to the limit.
+     */
+    private byte[] buffer = new byte[0];
+
+    /**
+     * The number of kept bytes.
+     */
+    private int count;
+
+    /**
+     * The number of bytes that have passed.
+     */
+    private long size;
+
+    /**
+     * Constructs a BodyCapture.
+     *
+     * @param limit The maximum number of bytes kept.
+     */
+    public BodyCapture(final int limit) {
+        this.limit = Math.max(0, limit);
+    }
+
+    /**
+     * Record a single byte.
+     *
+     * @param value The byte.
+     */
+    public synchronized void write(final int value) {
+        size++;
+        if (count < limit) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) value;
+        }
+    }
+
+    /**
+     * Record a range of bytes.
+     *
+     * @param bytes  The bytes.
+     * @param offset The start of the range.
+     * @param length The length of the range.
+     */
+    public synchronized void write(final byte[] bytes, final int offset, final int length) {
+        size += length;
+        final var kept = Math.min(length, limit - count);
+        if (kept > 0) {
+            ensureCapacity(count + kept);
+            System.arraycopy(bytes, offset, buffer, count, kept);
+            count += kept;
+        }
+    }
+
+    /**
+     * Get the kept bytes.
+     *
+     * @return A copy of the kept bytes.
+     */
+    public synchronized byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Get the kept bytes as text.
+     *
+     * @param charset The charset of the body.
+     * @return The text.
+     */
+    public synchronized String toString(final Charset charset) {
+        return new String(buffer, 0, count, charset);
+    }
+
+    /**
+     * Get the number of bytes that have passed.
+     *
+     * @return The size of the body.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Check whether bytes have been dropped.
+     *
+     * @return True if the body is larger than the limit.
+     */
+    public synchronized boolean isTruncated() {
+        return size > count;
+    }
+
+    private void ensureCapacity(final int required) {
+        if (required > buffer.length) {
+            final var grown = Math.max(required, Math.min(limit, Math.max(64,
+                    buffer.length * 2)));
+            buffer = Arrays.copyOf(buffer, grown);
+        }
+    }
+}
@@ -15,122 +15,163 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing.internal;
 
-import lombok.extern.log4j.Log4j2;
-import org.springframework.util.StreamUtils;
-
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.util.Arrays;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
- * Wraps incoming HTTP requests too read the message payload multiple times.
+ * Wraps incoming HTTP requests to keep a copy of the first bytes of the payload while the
+ * application reads it. The payload itself is not buffered.
  */
-@Log4j2
 public final class RequestWrapper extends HttpServletRequestWrapper {
 
     /**
-     * The original request body.
+     * The copy of the request body.
+     */
+    private final BodyCapture capture;
+
+    /**
+     * The stream handed to the application. Created on first access.
      */
-    private transient byte[] requestBody;
+    private ServletInputStream inputStream;
 
     /**
-     * Whether the original request body has been copied.
+     * The reader handed to the application. Created on first access.
      */
-    private transient boolean isBufferFilled;
+    private BufferedReader reader;
 
     /**
      * Default constructor.
      *
-     * @param request The request to be wrapped
+     * @param request The request to be wrapped.
+     * @param limit   The maximum number of bytes kept of the request body.
      */
-    public RequestWrapper(final HttpServletRequest request) {
+    public RequestWrapper(final HttpServletRequest request, final int limit) {
         super(request);
+        this.capture = new BodyCapture(limit);
     }
 
     /**
-     * Get the request body of the message.
+     * Get the part of the request body the application has read so far, up to the limit.
      *
      * @return The request body.
-     * @throws IOException if the request body could not be read.
      */
-    public byte[] getRequestBody() throws IOException {
-        final var output = isBufferFilled ? requestBody : cloneRequestBody();
-        return Arrays.copyOf(output, output.length);
+    public byte[] getRequestBody() {
+        return capture.toByteArray();
     }
 
-    private byte[] cloneRequestBody() throws IOException {
-        final var inputStream = super.getInputStream();
-        if (inputStream != null) {
-            requestBody = StreamUtils.copyToByteArray(inputStream);
-            isBufferFilled = true;
-        }
-
-        return requestBody;
+    /**
+     * Get the copy of the request body.
+     *
+     * @return The copy.
+     */
+    public BodyCapture getCapture() {
+        return capture;
     }
 
     /**
-     * Get the request body of the message as stream.
+     * Get the request body of the message as stream. The read bytes are copied up to the limit.
      *
      * @return The request body as stream.
      * @throws IOException if the request body could not be read.
      */
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return new CustomServletInputStream(getRequestBody());
+        if (inputStream == null) {
+            final var original = super.getInputStream();
+            inputStream = original == null ? null : new CapturingInputStream(original, capture);
+        }
+        return inputStream;
     }
 
     @Override
-    public BufferedReader getReader() throws UnsupportedEncodingException {
-        final var bais = new ByteArrayInputStream(this.requestBody);
-        return new BufferedReader(new InputStreamReader(bais, this.getCharacterEncoding()));
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+        }
+        return reader;
+    }
+
+    /**
+     * Get the charset of the request.
+     *
+     * @return The charset, UTF-8 if none is set.
+     */
+    public Charset getCharset() {
+        final var encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
     }
 
     /**
-     * Custom input stream returning a clone of the original request.
+     * Input stream copying the read bytes.
      */
-    private static class CustomServletInputStream extends ServletInputStream {
+    private static final class CapturingInputStream extends ServletInputStream {
+
+        /**
+         * The original stream.
+         */
+        private final ServletInputStream delegate;
+
         /**
-         * Copy of the input stream.
+         * The copy of the read bytes.
          */
-        private final transient ByteArrayInputStream buffer;
+        private final BodyCapture capture;
 
         /**
-         * Default constructor.
+         * Constructs a CapturingInputStream.
          *
-         * @param contents The request body.
+         * @param delegate The original stream.
+         * @param capture  The copy of the read bytes.
          */
-        /* default */ CustomServletInputStream(final byte[] contents) {
+        CapturingInputStream(final ServletInputStream delegate, final BodyCapture capture) {
             super();
-            buffer = new ByteArrayInputStream(contents);
+            this.delegate = delegate;
+            this.capture = capture;
         }
 
         @Override
-        public int read() {
-            return buffer.read();
+        public int read() throws IOException {
+            final var value = delegate.read();
+            if (value != -1) {
+                capture.write(value);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length)
+                throws IOException {
+            final var read = delegate.read(bytes, offset, length);
+            if (read > 0) {
+                capture.write(bytes, offset, read);
+            }
+            return read;
         }
 
         @Override
         public boolean isFinished() {
-            return buffer.available() == 0;
+            return delegate.isFinished();
         }
 
         @Override
         public boolean isReady() {
-            return true;
+            return delegate.isReady();
         }
 
         @Override
         public void setReadListener(final ReadListener listener) {
-            if (log.isErrorEnabled()) {
-                log.error("Tried to set read listener.");
-            }
+            delegate.setReadListener(listener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
         }
     }
 }
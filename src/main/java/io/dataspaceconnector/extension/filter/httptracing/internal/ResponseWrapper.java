@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wraps outgoing HTTP responses to keep a copy of the first bytes of the payload while it is
+ * written. Unlike a content caching wrapper, the payload is passed on to the client right away.
+ */
+public final class ResponseWrapper extends HttpServletResponseWrapper {
+
+    /**
+     * The copy of the response body.
+     */
+    private final BodyCapture capture;
+
+    /**
+     * The stream handed to the application. Created on first access.
+     */
+    private ServletOutputStream outputStream;
+
+    /**
+     * The writer handed to the application. Created on first access.
+     */
+    private PrintWriter writer;
+
+    /**
+     * Default constructor.
+     *
+     * @param response The response to be wrapped.
+     * @param limit    The maximum number of bytes kept of the response body.
+     */
+    public ResponseWrapper(final HttpServletResponse response, final int limit) {
+        super(response);
+        this.capture = new BodyCapture(limit);
+    }
+
+    /**
+     * Get the copy of the response body.
+     *
+     * @return The copy.
+     */
+    public BodyCapture getCapture() {
+        return capture;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * Get the charset of the response.
+     *
+     * @return The charset, UTF-8 if none is set.
+     */
+    public Charset getCharset() {
+        final var encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    }
+
+    /**
+     * Output stream copying the written bytes.
+     */
+    private static final class CapturingOutputStream extends ServletOutputStream {
+
+        /**
+         * The original stream.
+         */
+        private final ServletOutputStream delegate;
+
+        /**
+         * The copy of the written bytes.
+         */
+        private final BodyCapture capture;
+
+        /**
+         * Constructs a CapturingOutputStream.
+         *
+         * @param delegate The original stream.
+         * @param capture  The copy of the written bytes.
+         */
+        CapturingOutputStream(final ServletOutputStream delegate, final BodyCapture capture) {
+            super();
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            delegate.write(value);
+            capture.write(value);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length)
+                throws IOException {
+            delegate.write(bytes, offset, length);
+            capture.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
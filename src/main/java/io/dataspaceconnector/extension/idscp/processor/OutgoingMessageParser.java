@@ -19,9 +19,11 @@ import de.fraunhofer.ids.messaging.response.ErrorResponse;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
 import io.dataspaceconnector.service.message.handler.dto.Response;
+import io.dataspaceconnector.service.message.handler.dto.StreamingResponse;
 import org.apache.camel.Message;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -34,12 +36,19 @@ public class OutgoingMessageParser extends Idscp2MappingProcessor {
      * Creates an IDSCPv2 message with header and payload from a {@link Response}.
      *
      * @param in the in-message of the exchange.
+     * @throws IOException if streamed data cannot be read.
      */
     @Override
-    protected void processInternal(final Message in) {
+    protected void processInternal(final Message in) throws IOException {
         final var response = in.getBody(Response.class);
 
-        if (response != null) {
+        if (response instanceof StreamingResponse) {
+            // IDSCPv2 messages are sent as a whole, encode without an intermediate string.
+            in.setHeader(ParameterUtils.IDSCP_HEADER, response.getHeader());
+            try (var data = ((StreamingResponse) response).getEncodedStream()) {
+                in.setBody(data.readAllBytes());
+            }
+        } else if (response != null) {
             in.setHeader(ParameterUtils.IDSCP_HEADER, response.getHeader());
             in.setBody(response.getBody().getBytes(StandardCharsets.UTF_8));
         } else {
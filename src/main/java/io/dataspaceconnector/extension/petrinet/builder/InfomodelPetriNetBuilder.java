@@ -24,7 +24,7 @@ import de.fraunhofer.iais.eis.util.TypedLiteral;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
-import io.dataspaceconnector.extension.petrinet.evaluation.formula.CTLEvaluator;
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.Formula;
 import io.dataspaceconnector.extension.petrinet.model.Arc;
 import io.dataspaceconnector.extension.petrinet.model.ArcImpl;
@@ -84,7 +84,7 @@ public class InfomodelPetriNetBuilder {
         }
 
         final var stepGraph = PetriNetSimulator.buildStepGraph(petriNet);
-        final var paths = PetriNetSimulator.getAllPaths(stepGraph);
+        final var evaluator = new FixpointEvaluator(stepGraph);
         final var formulas = InfomodelPetriNetBuilder.extractPoliciesFromAppRoute(appRoute);
 
         boolean evaluation = true;
@@ -93,13 +93,13 @@ public class InfomodelPetriNetBuilder {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Evaluating formula: %s", formula.writeFormula()));
             }
-            final var result = CTLEvaluator.evaluate(formula, stepGraph.getInitial()
+            final var result = evaluator.evaluate(formula, stepGraph.getInitial()
                     .getNodes()
                     .stream()
                     .filter(node -> node instanceof Place && ((Place) node)
                             .getMarkers() >= 1)
                     .findAny()
-                    .get(), paths);
+                    .get());
 
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Evaluation result: %s", result));
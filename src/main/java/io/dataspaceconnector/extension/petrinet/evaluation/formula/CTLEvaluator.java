@@ -25,6 +25,11 @@ import java.util.List;
 
 /**
  * Evaluate a {@link Formula} on a given {@link Node} for a set of Paths.
+ *
+ * The connector uses {@link FixpointEvaluator}. This class is kept as part of the public API of
+ * the extension and as the path-based reference the labels are tested against. Both only differ
+ * on cycles: for FORALL_UNTIL, the node closing a cycle is not checked here, and FORALL_MODAL
+ * only sees the paths consisting of a single step.
  */
 public final class CTLEvaluator {
     private CTLEvaluator() {
@@ -20,6 +20,7 @@ import io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.Tr
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.NoArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -44,6 +45,14 @@ public class FalseOperator implements StateFormula, TransitionFormula {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return new BitSet();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,466 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.petrinet.evaluation.formula;
+
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeSubExpression;
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.state.StateFormula;
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.ArcSubExpression;
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionFormula;
+import io.dataspaceconnector.extension.petrinet.model.Arc;
+import io.dataspaceconnector.extension.petrinet.model.Node;
+import io.dataspaceconnector.extension.petrinet.model.Place;
+import io.dataspaceconnector.extension.petrinet.model.Transition;
+import io.dataspaceconnector.extension.petrinet.simulator.NetArc;
+import io.dataspaceconnector.extension.petrinet.simulator.StepGraph;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluate {@link Formula}s on the nodes of a PetriNet by labelling all nodes fulfilling a
+ * formula at once. The labels are computed bottom-up over the formula and kept for every
+ * subformula, the until operators are computed as fixpoints. This takes time linear in the
+ * size of the PetriNet for each subformula, while {@link CTLEvaluator} walks all paths for
+ * every node a subformula is evaluated on.
+ *
+ * Paths are the same as in {@link
+ * io.dataspaceconnector.extension.petrinet.simulator.PetriNetSimulator#getAllPaths(StepGraph)}:
+ * a place is followed by the transitions used in the StepGraph, a transition by its places.
+ */
+public final class FixpointEvaluator {
+
+    /**
+     * The default number of nodes from which operands are labelled in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    /**
+     * The nodes of the PetriNet.
+     */
+    private final List<Node> nodes;
+
+    /**
+     * The index of each node by its id.
+     */
+    private final Map<URI, Integer> index;
+
+    /**
+     * All places.
+     */
+    private final BitSet places;
+
+    /**
+     * All transitions.
+     */
+    private final BitSet transitions;
+
+    /**
+     * The nodes following each node in the PetriNet.
+     */
+    private final int[][] next;
+
+    /**
+     * The nodes following each node on a path.
+     */
+    private final int[][] steps;
+
+    /**
+     * The nodes preceding each node on a path.
+     */
+    private final int[][] previous;
+
+    /**
+     * The nodes followed by a node ending all paths, e.g. a transition without places.
+     */
+    private final BitSet deadEnds;
+
+    /**
+     * The nodes not followed by any node on a path.
+     */
+    private final BitSet finals;
+
+    /**
+     * The labels of the formulas evaluated so far.
+     */
+    private final Map<Formula, BitSet> labels = new ConcurrentHashMap<>();
+
+    /**
+     * Whether independent subformulas are labelled in parallel.
+     */
+    private final boolean parallel;
+
+    /**
+     * Creates an evaluator for the initial PetriNet of a StepGraph.
+     *
+     * @param stepGraph the StepGraph of the PetriNet
+     */
+    public FixpointEvaluator(final StepGraph stepGraph) {
+        this(stepGraph, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates an evaluator for the initial PetriNet of a StepGraph.
+     *
+     * @param stepGraph         the StepGraph of the PetriNet
+     * @param parallelThreshold the number of nodes from which operands are labelled in parallel
+     */
+    public FixpointEvaluator(final StepGraph stepGraph, final int parallelThreshold) {
+        this.nodes = new ArrayList<>(stepGraph.getInitial().getNodes());
+        this.index = new HashMap<>();
+        this.places = new BitSet(nodes.size());
+        this.transitions = new BitSet(nodes.size());
+        for (var i = 0; i < nodes.size(); i++) {
+            index.put(nodes.get(i).getID(), i);
+            if (nodes.get(i) instanceof Place) {
+                places.set(i);
+            } else if (nodes.get(i) instanceof Transition) {
+                transitions.set(i);
+            }
+        }
+
+        final var used = stepGraph.getArcs().stream()
+                .map(NetArc::getUsedTransition)
+                .collect(Collectors.toSet());
+
+        this.next = new int[nodes.size()][];
+        this.steps = new int[nodes.size()][];
+        for (var i = 0; i < nodes.size(); i++) {
+            next[i] = toIndices(nodes.get(i), x -> true);
+            if (places.get(i)) {
+                steps[i] = toIndices(nodes.get(i), x -> used.contains(x.getID()));
+            } else if (transitions.get(i)) {
+                steps[i] = next[i];
+            } else {
+                steps[i] = new int[0];
+            }
+        }
+
+        this.previous = invert(steps);
+        this.finals = new BitSet(nodes.size());
+        this.deadEnds = new BitSet(nodes.size());
+        for (var i = 0; i < nodes.size(); i++) {
+            if (steps[i].length == 0) {
+                finals.set(i);
+            }
+        }
+        for (var i = 0; i < nodes.size(); i++) {
+            for (final var step : steps[i]) {
+                if (finals.get(step)) {
+                    deadEnds.set(i);
+                }
+            }
+        }
+
+        this.parallel = nodes.size() >= parallelThreshold;
+    }
+
+    /**
+     * @param formula a {@link Formula} to evaluate
+     * @param node a {@link Node} of the PetriNet
+     * @return result of the evaluation of the formula
+     *      (or false, if formula and node types don't match)
+     * @throws IllegalArgumentException if the node is not part of the PetriNet.
+     */
+    public boolean evaluate(final Formula formula, final Node node) {
+        final var i = index.get(node.getID());
+        if (i == null) {
+            throw new IllegalArgumentException("Node is not part of the PetriNet.");
+        }
+
+        if (formula instanceof StateFormula && node instanceof Place
+                || formula instanceof TransitionFormula && node instanceof Transition) {
+            return label(formula).get(i);
+        }
+
+        //cannot be evaluated
+        return false;
+    }
+
+    /**
+     * Label all nodes fulfilling a formula. The label of every formula is only computed once.
+     *
+     * @param formula a {@link Formula}
+     * @return the indices of the nodes fulfilling the formula, may be modified by the caller
+     */
+    public BitSet label(final Formula formula) {
+        var label = labels.get(formula);
+        if (label == null) {
+            // Not computed inside the map, since subformulas are labelled recursively.
+            label = formula.label(this);
+            labels.putIfAbsent(formula, label);
+        }
+        return (BitSet) label.clone();
+    }
+
+    /**
+     * @return all nodes
+     */
+    public BitSet all() {
+        final var all = new BitSet(nodes.size());
+        all.set(0, nodes.size());
+        return all;
+    }
+
+    /**
+     * @param expression a condition on places
+     * @return all places fulfilling the condition
+     */
+    public BitSet places(final NodeSubExpression expression) {
+        final var label = new BitSet(nodes.size());
+        places.stream()
+                .filter(i -> expression.evaluate((Place) nodes.get(i)))
+                .forEach(label::set);
+        return label;
+    }
+
+    /**
+     * @param expression a condition on transitions
+     * @return all transitions fulfilling the condition
+     */
+    public BitSet transitions(final ArcSubExpression expression) {
+        final var label = new BitSet(nodes.size());
+        transitions.stream()
+                .filter(i -> expression.evaluate((Transition) nodes.get(i)))
+                .forEach(label::set);
+        return label;
+    }
+
+    /**
+     * @param formula a formula
+     * @return all nodes not fulfilling the formula
+     */
+    public BitSet not(final Formula formula) {
+        final var label = label(formula);
+        label.flip(0, nodes.size());
+        return label;
+    }
+
+    /**
+     * @param formula1 a formula
+     * @param formula2 another formula
+     * @return all nodes fulfilling both formulas
+     */
+    public BitSet and(final Formula formula1, final Formula formula2) {
+        final var operands = labelAll(formula1, formula2);
+        operands.get(0).and(operands.get(1));
+        return operands.get(0);
+    }
+
+    /**
+     * @param formula1 a formula
+     * @param formula2 another formula
+     * @return all nodes fulfilling any of the formulas
+     */
+    public BitSet or(final Formula formula1, final Formula formula2) {
+        final var operands = labelAll(formula1, formula2);
+        operands.get(0).or(operands.get(1));
+        return operands.get(0);
+    }
+
+    /**
+     * @param formula a formula on the following nodes
+     * @param type {@link Place} or {@link Transition}
+     * @return all nodes of the type, followed by a node fulfilling the formula in the PetriNet
+     */
+    public BitSet modal(final Formula formula, final Class<? extends Node> type) {
+        final var following = label(formula);
+        final var label = new BitSet(nodes.size());
+        ofType(type).stream()
+                .filter(i -> Arrays.stream(next[i]).anyMatch(following::get))
+                .forEach(label::set);
+        return label;
+    }
+
+    /**
+     * @param following a formula, that must be fulfilled by all nodes two steps ahead
+     * @param between a formula, that must be fulfilled by all nodes in between
+     * @param type {@link Place} or {@link Transition}
+     * @return all nodes of the type, for which both formulas hold on every path
+     */
+    public BitSet forallModal(final Formula following, final Formula between,
+                              final Class<? extends Node> type) {
+        final var operands = labelAll(following, between);
+        final var label = new BitSet(nodes.size());
+        ofType(type).stream()
+                .filter(i -> Arrays.stream(steps[i]).allMatch(step -> operands.get(1).get(step)
+                        && Arrays.stream(steps[step]).allMatch(operands.get(0)::get)))
+                .forEach(label::set);
+        return label;
+    }
+
+    /**
+     * Label the nodes with a path on which every second node fulfills formula1, until one
+     * fulfills formula2. As on the paths, the node itself is only checked, if a path ends after
+     * the next node.
+     *
+     * @param formula1 a formula that must hold until formula2 holds
+     * @param formula2 a formula that must hold eventually
+     * @param type {@link Place} or {@link Transition}
+     * @return all nodes of the type, for which such a path exists
+     */
+    public BitSet existUntil(final Formula formula1, final Formula formula2,
+                             final Class<? extends Node> type) {
+        final var operands = labelAll(formula1, formula2);
+        final var label = reaching(operands.get(1), operands.get(0));
+
+        final var endingHere = (BitSet) deadEnds.clone();
+        endingHere.and(operands.get(1));
+        label.or(endingHere);
+        label.and(ofType(type));
+        return label;
+    }
+
+    /**
+     * Label the nodes for which every second node on every path fulfills formula1, until one
+     * fulfills formula2. As on the paths, a path ending without formula2 being fulfilled violates
+     * the formula, a circle without formula2 being fulfilled does not.
+     *
+     * @param formula1 a formula that must hold until formula2 holds
+     * @param formula2 a formula that must hold eventually
+     * @param type {@link Place} or {@link Transition}
+     * @return all nodes of the type, for which the formula holds on all paths
+     */
+    public BitSet forallUntil(final Formula formula1, final Formula formula2,
+                              final Class<? extends Node> type) {
+        final var operands = labelAll(formula1, formula2);
+        final var fulfilled = operands.get(1);
+
+        // Nodes violating the formula: neither formula holds, or formula2 does not hold where
+        // a path ends.
+        final var violating = operands.get(0);
+        violating.flip(0, nodes.size());
+        violating.or(finals);
+        violating.or(deadEnds);
+        violating.andNot(fulfilled);
+        violating.and(ofType(type));
+
+        final var continuing = ofType(type);
+        continuing.andNot(fulfilled);
+
+        final var label = reaching(violating, continuing);
+        final var endingHere = (BitSet) deadEnds.clone();
+        endingHere.andNot(fulfilled);
+        label.or(endingHere);
+        label.flip(0, nodes.size());
+        label.and(ofType(type));
+        return label;
+    }
+
+    /**
+     * Backward search for the nodes reaching a target in two steps, directly or over nodes
+     * passing on the search. Each node is visited once.
+     *
+     * @param targets the nodes to reach
+     * @param passing the nodes that may be passed on the way
+     * @return the nodes reaching a target
+     */
+    private BitSet reaching(final BitSet targets, final BitSet passing) {
+        final var reached = new BitSet(nodes.size());
+        final var visited = new BitSet(nodes.size());
+        final var queue = new ArrayDeque<Integer>();
+        targets.stream().forEach(queue::add);
+
+        while (!queue.isEmpty()) {
+            for (final var between : previous[queue.remove()]) {
+                if (visited.get(between)) {
+                    continue;
+                }
+                visited.set(between);
+
+                for (final var node : previous[between]) {
+                    if (!reached.get(node)) {
+                        reached.set(node);
+                        if (passing.get(node)) {
+                            queue.add(node);
+                        }
+                    }
+                }
+            }
+        }
+
+        return reached;
+    }
+
+    /**
+     * @param formulas independent formulas
+     * @return the labels of the formulas, in parallel for large PetriNets
+     */
+    private List<BitSet> labelAll(final Formula... formulas) {
+        final var stream = Arrays.stream(formulas);
+        return (parallel ? stream.parallel() : stream)
+                .map(this::label)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param type {@link Place} or {@link Transition}
+     * @return all nodes of the type
+     */
+    private BitSet ofType(final Class<? extends Node> type) {
+        return (BitSet) (Place.class.equals(type) ? places : transitions).clone();
+    }
+
+    /**
+     * @param node a node of the PetriNet
+     * @param filter condition on the following nodes
+     * @return the indices of the following nodes fulfilling the condition
+     */
+    private int[] toIndices(final Node node, final Predicate<Node> filter) {
+        return node.getSourceArcs().stream()
+                .map(Arc::getTarget)
+                .filter(filter)
+                .map(Node::getID)
+                .map(index::get)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * @param successors the successors of each node
+     * @return the predecessors of each node
+     */
+    private static int[][] invert(final int[][] successors) {
+        final var counts = new int[successors.length];
+        for (final var targets : successors) {
+            for (final var target : targets) {
+                counts[target]++;
+            }
+        }
+
+        final var predecessors = new int[successors.length][];
+        for (var i = 0; i < successors.length; i++) {
+            predecessors[i] = new int[counts[i]];
+        }
+        for (var i = 0; i < successors.length; i++) {
+            for (final var target : successors[i]) {
+                predecessors[target][--counts[target]] = i;
+            }
+        }
+        return predecessors;
+    }
+}
@@ -17,6 +17,7 @@ package io.dataspaceconnector.extension.petrinet.evaluation.formula;
 
 import io.dataspaceconnector.extension.petrinet.model.Node;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -31,6 +32,13 @@ public interface Formula {
      */
     boolean evaluate(Node node, List<List<Node>> paths);
 
+    /**
+     * Labels all nodes fulfilling the formula.
+     * @param evaluator The evaluator labelling the nodes of a PetriNet.
+     * @return The indices of the nodes fulfilling the formula.
+     */
+    BitSet label(FixpointEvaluator evaluator);
+
     /**
      * The representing symbol of the formula.
      * @return The symbol representing the formula.
@@ -19,6 +19,7 @@ import io.dataspaceconnector.extension.petrinet.evaluation.formula.state.StateFo
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionFormula;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -42,6 +43,14 @@ public class TrueOperator implements StateFormula, TransitionFormula {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.all();
+    }
+
     /**
      * {@inheritDoc}
      */
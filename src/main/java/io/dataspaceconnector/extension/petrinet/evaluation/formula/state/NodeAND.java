@@ -15,9 +15,11 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -53,6 +55,14 @@ public class NodeAND implements StateFormula {
         return parameter1.evaluate(node, paths) && parameter2.evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.and(parameter1, parameter2);
+    }
+
     /**
      * {@inheritDoc}
      */
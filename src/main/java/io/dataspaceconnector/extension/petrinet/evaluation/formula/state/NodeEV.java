@@ -15,9 +15,11 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.TrueOperator.trueOperator;
@@ -50,6 +52,14 @@ public class NodeEV implements StateFormula {
         return nodeFORALLUNTIL(trueOperator(), parameter).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return nodeFORALLUNTIL(trueOperator(), parameter).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
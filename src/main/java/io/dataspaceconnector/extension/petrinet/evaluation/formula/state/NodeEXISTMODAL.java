@@ -15,10 +15,12 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionFormula;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeAND.nodeAND;
@@ -62,6 +64,15 @@ public class NodeEXISTMODAL implements StateFormula {
                 nodeMODAL(parameter2))).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return transitionMODAL(nodeAND(parameter1,
+                nodeMODAL(parameter2))).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,9 +15,11 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeMODAL.nodeMODAL;
@@ -51,6 +53,14 @@ public class NodeEXISTNEXT implements StateFormula {
         return nodeMODAL(transitionMODAL(parameter)).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return nodeMODAL(transitionMODAL(parameter)).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,10 +15,12 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Place;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -92,6 +94,14 @@ public class NodeEXISTUNTIL implements StateFormula {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.existUntil(parameter1, parameter2, Place.class);
+    }
+
     /**
      * {@inheritDoc}
      */
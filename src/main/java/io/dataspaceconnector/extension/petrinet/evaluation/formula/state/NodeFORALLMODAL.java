@@ -15,12 +15,14 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionFormula;
 import io.dataspaceconnector.extension.petrinet.model.Arc;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Place;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -92,6 +94,14 @@ public class NodeFORALLMODAL implements StateFormula {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.forallModal(parameter1, parameter2, Place.class);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,9 +15,11 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeEXISTNEXT.nodeEXISTNEXT;
@@ -50,6 +52,14 @@ public class NodeFORALLNEXT implements StateFormula {
         return nodeNOT(nodeEXISTNEXT(nodeNOT(parameter))).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return nodeNOT(nodeEXISTNEXT(nodeNOT(parameter))).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,12 +15,14 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Place;
 import io.dataspaceconnector.extension.petrinet.simulator.PetriNetSimulator;
 import lombok.AllArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -113,6 +115,14 @@ public class NodeFORALLUNTIL implements StateFormula {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.forallUntil(parameter1, parameter2, Place.class);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,12 +15,14 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionFormula;
 import io.dataspaceconnector.extension.petrinet.model.Arc;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Place;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -58,6 +60,14 @@ public class NodeMODAL implements StateFormula {
                         .reduce(false, (a, b) -> a || b);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.modal(parameter, Place.class);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,10 +15,12 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.state;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Place;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -48,6 +50,14 @@ public class NodeNF implements StateFormula {
         return node instanceof Place && parameter.getSubExpression().evaluate((Place) node);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.places(parameter.getSubExpression());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,10 +15,12 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Transition;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -49,6 +51,14 @@ public class TransitionAF implements TransitionFormula {
                 && parameter.getSubExpression().evaluate((Transition) node);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.transitions(parameter.getSubExpression());
+    }
+
     /**
      * {@inheritDoc}
      */
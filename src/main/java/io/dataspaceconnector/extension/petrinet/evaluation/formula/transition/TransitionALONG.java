@@ -15,9 +15,11 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionEV.transitionEV;
@@ -50,6 +52,14 @@ public class TransitionALONG implements TransitionFormula {
         return transitionNOT(transitionEV(transitionNOT(parameter))).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return transitionNOT(transitionEV(transitionNOT(parameter))).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,9 +15,11 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.TrueOperator.trueOperator;
@@ -52,6 +54,14 @@ public class TransitionEV implements TransitionFormula {
         return transitionFORALLUNTIL(trueOperator(), parameter).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return transitionFORALLUNTIL(trueOperator(), parameter).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
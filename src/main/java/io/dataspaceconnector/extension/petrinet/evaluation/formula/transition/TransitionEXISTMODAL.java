@@ -15,10 +15,12 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.state.StateFormula;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeMODAL.nodeMODAL;
@@ -62,6 +64,15 @@ public class TransitionEXISTMODAL implements TransitionFormula {
                 transitionMODAL(parameter2))).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return nodeMODAL(transitionAND(parameter1,
+                transitionMODAL(parameter2))).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,12 +15,14 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.state.StateFormula;
 import io.dataspaceconnector.extension.petrinet.model.Arc;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Transition;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -90,6 +92,14 @@ public class TransitionFORALLMODAL implements TransitionFormula {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.forallModal(parameter1, parameter2, Transition.class);
+    }
+
     /**
      * {@inheritDoc}
      */
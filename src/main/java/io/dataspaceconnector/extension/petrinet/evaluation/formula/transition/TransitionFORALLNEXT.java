@@ -15,9 +15,11 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionEXISTNEXT.transitionEXISTNEXT;
@@ -50,6 +52,14 @@ public class TransitionFORALLNEXT implements TransitionFormula {
         return transitionNOT(transitionEXISTNEXT(transitionNOT(parameter))).evaluate(node, paths);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return transitionNOT(transitionEXISTNEXT(transitionNOT(parameter))).label(evaluator);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,6 +16,7 @@
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Transition;
 import io.dataspaceconnector.extension.petrinet.simulator.PetriNetSimulator;
@@ -23,6 +24,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -130,6 +132,14 @@ public class TransitionFORALLUNTIL implements TransitionFormula {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.forallUntil(parameter1, parameter2, Transition.class);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,12 +15,14 @@
  */
 package io.dataspaceconnector.extension.petrinet.evaluation.formula.transition;
 
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
 import io.dataspaceconnector.extension.petrinet.evaluation.formula.state.StateFormula;
 import io.dataspaceconnector.extension.petrinet.model.Arc;
 import io.dataspaceconnector.extension.petrinet.model.Node;
 import io.dataspaceconnector.extension.petrinet.model.Transition;
 import lombok.AllArgsConstructor;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -57,6 +59,14 @@ public class TransitionMODAL implements TransitionFormula {
                         .reduce(false, (a, b) -> a || b);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet label(final FixpointEvaluator evaluator) {
+        return evaluator.modal(parameter, Transition.class);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -19,6 +19,7 @@ import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 
 import java.net.URI;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +31,11 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @AllArgsConstructor
 public class PetriNetImpl implements PetriNet, HasId {
+    /**
+     * Multiplier spreading the markers of a place in the hash code (64-bit golden ratio).
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
     /**
      * The if of the PetriNet.
      */
@@ -116,19 +122,42 @@ public class PetriNetImpl implements PetriNet, HasId {
      */
     @Override
     public int hashCode() {
-        return id.hashCode();
+        // Steps of the same PetriNet only differ in their markers. The markers of each place are
+        // spread over all bits, so that markings of places with similar ids rarely collide.
+        var hash = id.hashCode();
+        for (final var node : nodes) {
+            if (node instanceof Place) {
+                final var place = 31L * node.getID().hashCode() + ((Place) node).getMarkers();
+                hash += Long.hashCode(place * HASH_MULTIPLIER);
+            }
+        }
+        return hash;
     }
 
     private boolean nodesEqual(final Set<Node> otherNodes) {
-        return nodes.stream().map(s -> otherNodes.stream()
-                    .filter(n -> n.getID().equals(s.getID()))
-                    .anyMatch(n -> n.equals(s)))
-                .reduce(true, (a, b) -> a && b);
+        if (nodes.size() != otherNodes.size()) {
+            return false;
+        }
+
+        // Node ids are unique, so matching every node by id makes the comparison symmetric.
+        final var otherById = new HashMap<URI, Node>();
+        for (final var node : otherNodes) {
+            otherById.put(node.getID(), node);
+        }
+        return nodes.stream().allMatch(node -> nodeEquals(node, otherById.get(node.getID())));
+    }
+
+    private static boolean nodeEquals(final Node node, final Node other) {
+        if (!node.equals(other)) {
+            return false;
+        }
+
+        // The hash code depends on the markers, so places with other markers never match.
+        return !(node instanceof Place)
+                || ((Place) node).getMarkers() == ((Place) other).getMarkers();
     }
 
     private boolean arcsEqual(final Set<Arc> otherArcs) {
-        return arcs.stream().map(s -> otherArcs.stream()
-                    .anyMatch(n -> n.equals(s)))
-                .reduce(true, (a, b) -> a && b);
+        return arcs.size() == otherArcs.size() && arcs.stream().allMatch(otherArcs::contains);
     }
 }
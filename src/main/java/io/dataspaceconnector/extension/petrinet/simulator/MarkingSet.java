@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.petrinet.simulator;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of markings with a fixed number of places. The markings are stored one
+ * after another in a single array and are identified by their insertion index.
+ */
+final class MarkingSet {
+
+    /**
+     * The initial number of slots of the hash table.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The number of places of a marking.
+     */
+    private final int width;
+
+    /**
+     * The markers of all markings, the marking with index i starts at i * width.
+     */
+    private int[] markings;
+
+    /**
+     * The hash of each marking, so that the table can be grown without rehashing.
+     */
+    private int[] hashes;
+
+    /**
+     * The hash table, holding the index of a marking plus one or 0 for empty slots.
+     */
+    private int[] table;
+
+    /**
+     * The number of markings.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param places The number of places of a marking.
+     */
+    MarkingSet(final int places) {
+        this.width = places;
+        this.markings = new int[INITIAL_CAPACITY * places];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.table = new int[2 * INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a marking, unless an equal marking is already contained. The marking is copied.
+     *
+     * @param marking The markers per place.
+     * @return The index of the marking. If it has been added, the index equals the previous size.
+     */
+    int add(final int[] marking) {
+        final var hash = hash(marking);
+        final var mask = table.length - 1;
+        var slot = hash & mask;
+        while (table[slot] != 0) {
+            final var index = table[slot] - 1;
+            if (hashes[index] == hash && matches(index, marking)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, 2 * size);
+            markings = Arrays.copyOf(markings, 2 * size * width);
+        }
+
+        System.arraycopy(marking, 0, markings, size * width, width);
+        hashes[size] = hash;
+        table[slot] = size + 1;
+        size++;
+
+        // Keep the load factor at most 0.5, so that probe sequences stay short.
+        if (2 * size > table.length) {
+            resize();
+        }
+
+        return size - 1;
+    }
+
+    /**
+     * Copies a marking into the given array.
+     *
+     * @param index  The index of the marking.
+     * @param target The array receiving the markers per place.
+     */
+    void copyTo(final int index, final int[] target) {
+        System.arraycopy(markings, index * width, target, 0, width);
+    }
+
+    /**
+     * Returns the markers of a place in a marking.
+     *
+     * @param index The index of the marking.
+     * @param place The index of the place.
+     * @return The number of markers.
+     */
+    int get(final int index, final int place) {
+        return markings[index * width + place];
+    }
+
+    /**
+     * Returns the number of markings.
+     *
+     * @return The number of markings.
+     */
+    int size() {
+        return size;
+    }
+
+    private boolean matches(final int index, final int[] marking) {
+        final var offset = index * width;
+        for (var place = 0; place < width; place++) {
+            if (markings[offset + place] != marking[place]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void resize() {
+        table = new int[2 * table.length];
+        final var mask = table.length - 1;
+        for (var index = 0; index < size; index++) {
+            var slot = hashes[index] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index + 1;
+        }
+    }
+
+    private int hash(final int[] marking) {
+        final var hash = Arrays.hashCode(marking);
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -114,101 +114,15 @@ public final class PetriNetSimulator {
     }
 
     /**
-     * For a given petriNet, find all transitions that can be taken.
-     * @param petriNet a given PetriNet
-     * @return List of Transition nodes, for which all previous nodes have markers
-     */
-    private static List<Node> getPossibleTransitions(final PetriNet petriNet) {
-        final var possible = new ArrayList<Node>();
-
-        for (final var node : petriNet.getNodes()) {
-            if (isPossible(node)) {
-                possible.add(node);
-            }
-        }
-
-        return possible;
-    }
-
-    /**
-     * Given a petri net and a (transition) node: do the transition.
-     * @param petriNet a given PetriNet
-     * @param node a given Node of the PetriNet
-     */
-    private static void doTransition(final PetriNet petriNet, final Node node) {
-        if (!isPossible(node)) {
-            return;
-        }
-
-        for (final var arc : node.getTargetArcs()) {
-            final var place = (PlaceImpl) arc.getSource();
-            place.setMarkers(place.getMarkers() - 1);
-        }
-
-        for (final var arc : node.getSourceArcs()) {
-            final var place = (PlaceImpl) arc.getTarget();
-            place.setMarkers(place.getMarkers() + 1);
-        }
-    }
-
-    /**
-     * Build a StepGraph with the given PetriNet as starting Point for executions.
+     * Build a StepGraph with the given PetriNet as starting Point for executions. The reachable
+     * markings are explored on a {@link ReachabilityGraph}, the PetriNet is only copied once
+     * for every reachable state.
      *
      * @param petriNet the initial PetriNet
      * @return the StepGraph with all reachable states of the given PetriNet
      */
     public static StepGraph buildStepGraph(final PetriNet petriNet) {
-        final var stepGraph = new StepGraph(petriNet);
-        stepGraph.getSteps().add(petriNet);
-
-        for (final var node : getPossibleTransitions(petriNet)) {
-            addStepToStepGraph(petriNet,
-                    petriNet.deepCopy(),
-                    node, stepGraph);
-        }
-
-        return stepGraph;
-    }
-
-    /**
-     * Execute a possible transition of the current PetriNet and add the result
-     * to the StepGraph.
-     *
-     * @param parent the current PetriNet
-     * @param copy a copy of the current PetriNet which will be modified
-     * @param transition the transition the PetriNet should execute
-     * @param stepGraph the stepgraph the resulting PetriNet will be added to
-     *                  (if it doesn't already contain an equal PetriNet)
-     */
-    private static void addStepToStepGraph(final PetriNet parent,
-                                           final PetriNet copy,
-                                           final Node transition,
-                                           final StepGraph stepGraph) {
-        Node transitionCopy = null;
-        for (final var node : copy.getNodes()) {
-            if (node.getID().equals(transition.getID())) {
-                transitionCopy = node;
-            }
-        }
-
-        doTransition(copy, transitionCopy);
-
-        for (final var net : stepGraph.getSteps()) {
-            if (net.equals(copy)) {
-                stepGraph.getArcs().add(
-                        new NetArc(parent, net, transition.getID()));
-                return;
-            }
-        }
-
-        stepGraph.getArcs().add(
-                new NetArc(parent, copy, transition.getID()));
-
-        stepGraph.getSteps().add(copy);
-
-        for (final var node : getPossibleTransitions(copy)) {
-            addStepToStepGraph(copy, copy.deepCopy(), node, stepGraph);
-        }
+        return ReachabilityGraph.explore(petriNet).toStepGraph();
     }
 
     /**
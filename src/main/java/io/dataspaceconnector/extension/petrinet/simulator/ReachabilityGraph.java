@@ -0,0 +1,315 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.petrinet.simulator;
+
+import io.dataspaceconnector.extension.petrinet.model.Arc;
+import io.dataspaceconnector.extension.petrinet.model.Node;
+import io.dataspaceconnector.extension.petrinet.model.PetriNet;
+import io.dataspaceconnector.extension.petrinet.model.Place;
+import io.dataspaceconnector.extension.petrinet.model.TransitionImpl;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * All markings reachable from the initial marking of a {@link PetriNet}, and the transitions
+ * leading from one marking to another. Markings are explored as vectors of markers per place,
+ * without copying the net. State 0 is the initial marking.
+ *
+ * (the exploration does not terminate, if the net has an infinite amount of reachable states)
+ */
+public final class ReachabilityGraph {
+
+    /**
+     * The initial capacity of the arc arrays.
+     */
+    private static final int INITIAL_ARCS = 64;
+
+    /**
+     * The initial PetriNet.
+     */
+    private final PetriNet initial;
+
+    /**
+     * The ids of the places, in the order of the markers of a marking.
+     */
+    private final List<URI> places;
+
+    /**
+     * The index of each place in a marking.
+     */
+    private final Map<URI, Integer> placeIndex;
+
+    /**
+     * The ids of the transitions.
+     */
+    private final List<URI> transitions;
+
+    /**
+     * The reachable markings.
+     */
+    private final MarkingSet states;
+
+    /**
+     * The source state of each arc.
+     */
+    private int[] arcSources;
+
+    /**
+     * The target state of each arc.
+     */
+    private int[] arcTargets;
+
+    /**
+     * The transition used by each arc.
+     */
+    private int[] arcTransitions;
+
+    /**
+     * The number of arcs.
+     */
+    private int arcCount;
+
+    private ReachabilityGraph(final PetriNet petriNet, final List<URI> placeIds,
+                              final Map<URI, Integer> indices, final List<URI> transitionIds) {
+        this.initial = petriNet;
+        this.places = placeIds;
+        this.placeIndex = indices;
+        this.transitions = transitionIds;
+        this.states = new MarkingSet(placeIds.size());
+        this.arcSources = new int[INITIAL_ARCS];
+        this.arcTargets = new int[INITIAL_ARCS];
+        this.arcTransitions = new int[INITIAL_ARCS];
+    }
+
+    /**
+     * Explore all markings reachable from the current marking of the given PetriNet. A transition
+     * can be taken if all previous places have markers.
+     *
+     * @param petriNet the initial PetriNet
+     * @return the reachability graph
+     */
+    public static ReachabilityGraph explore(final PetriNet petriNet) {
+        final var placeIds = new ArrayList<URI>();
+        final var placeIndex = new HashMap<URI, Integer>();
+        final var transitionNodes = new ArrayList<Node>();
+        for (final var node : petriNet.getNodes()) {
+            if (node instanceof Place) {
+                placeIndex.put(node.getID(), placeIds.size());
+                placeIds.add(node.getID());
+            } else if (node instanceof TransitionImpl) {
+                transitionNodes.add(node);
+            }
+        }
+
+        // Precompute the places losing and gaining a marker for each transition.
+        final var transitionIds = new ArrayList<URI>();
+        final var pre = new int[transitionNodes.size()][];
+        final var post = new int[transitionNodes.size()][];
+        for (final var node : transitionNodes) {
+            pre[transitionIds.size()] = toIndices(node.getTargetArcs(), Arc::getSource, placeIndex);
+            post[transitionIds.size()] = toIndices(node.getSourceArcs(), Arc::getTarget,
+                    placeIndex);
+            transitionIds.add(node.getID());
+        }
+
+        final var graph = new ReachabilityGraph(petriNet, placeIds, placeIndex, transitionIds);
+        final var current = new int[placeIds.size()];
+        for (final var node : petriNet.getNodes()) {
+            if (node instanceof Place) {
+                current[placeIndex.get(node.getID())] = ((Place) node).getMarkers();
+            }
+        }
+        graph.states.add(current);
+
+        // The markings are numbered in the order they are found, so they are processed in order.
+        final var next = new int[placeIds.size()];
+        for (var state = 0; state < graph.states.size(); state++) {
+            graph.states.copyTo(state, current);
+            for (var transition = 0; transition < pre.length; transition++) {
+                if (!isPossible(pre[transition], current)) {
+                    continue;
+                }
+
+                System.arraycopy(current, 0, next, 0, current.length);
+                for (final var place : pre[transition]) {
+                    next[place]--;
+                }
+                for (final var place : post[transition]) {
+                    next[place]++;
+                }
+
+                graph.addArc(state, graph.states.add(next), transition);
+            }
+        }
+
+        return graph;
+    }
+
+    /**
+     * Build a StepGraph, containing a copy of the initial PetriNet for every reachable marking.
+     *
+     * @return the StepGraph with all reachable states of the initial PetriNet
+     */
+    public StepGraph toStepGraph() {
+        final var steps = new PetriNet[states.size()];
+        steps[0] = initial;
+        for (var state = 1; state < steps.length; state++) {
+            final var step = initial.deepCopy();
+            for (final var node : step.getNodes()) {
+                if (node instanceof Place) {
+                    ((Place) node).setMarkers(getMarkers(state, placeIndex.get(node.getID())));
+                }
+            }
+            steps[state] = step;
+        }
+
+        final var stepGraph = new StepGraph(initial);
+        stepGraph.getSteps().addAll(Arrays.asList(steps));
+        for (var arc = 0; arc < arcCount; arc++) {
+            stepGraph.getArcs().add(new NetArc(steps[arcSources[arc]], steps[arcTargets[arc]],
+                    transitions.get(arcTransitions[arc])));
+        }
+
+        return stepGraph;
+    }
+
+    /**
+     * Returns the initial PetriNet.
+     *
+     * @return The initial PetriNet.
+     */
+    public PetriNet getInitial() {
+        return initial;
+    }
+
+    /**
+     * Returns the ids of the places, in the order of the markers of a marking.
+     *
+     * @return The place ids.
+     */
+    public List<URI> getPlaces() {
+        return List.copyOf(places);
+    }
+
+    /**
+     * Returns the ids of the transitions.
+     *
+     * @return The transition ids.
+     */
+    public List<URI> getTransitions() {
+        return List.copyOf(transitions);
+    }
+
+    /**
+     * Returns the number of reachable markings.
+     *
+     * @return The number of states.
+     */
+    public int getStateCount() {
+        return states.size();
+    }
+
+    /**
+     * Returns the markers of a place in a reachable marking.
+     *
+     * @param state The index of the state.
+     * @param place The index of the place.
+     * @return The number of markers.
+     */
+    public int getMarkers(final int state, final int place) {
+        return states.get(state, place);
+    }
+
+    /**
+     * Returns the number of arcs between the states.
+     *
+     * @return The number of arcs.
+     */
+    public int getArcCount() {
+        return arcCount;
+    }
+
+    /**
+     * Returns the state an arc starts at.
+     *
+     * @param arc The index of the arc.
+     * @return The index of the source state.
+     */
+    public int getArcSource(final int arc) {
+        return arcSources[arc];
+    }
+
+    /**
+     * Returns the state an arc leads to.
+     *
+     * @param arc The index of the arc.
+     * @return The index of the target state.
+     */
+    public int getArcTarget(final int arc) {
+        return arcTargets[arc];
+    }
+
+    /**
+     * Returns the transition taken by an arc.
+     *
+     * @param arc The index of the arc.
+     * @return The index of the transition.
+     */
+    public int getArcTransition(final int arc) {
+        return arcTransitions[arc];
+    }
+
+    private void addArc(final int source, final int target, final int transition) {
+        if (arcCount == arcSources.length) {
+            arcSources = Arrays.copyOf(arcSources, 2 * arcCount);
+            arcTargets = Arrays.copyOf(arcTargets, 2 * arcCount);
+            arcTransitions = Arrays.copyOf(arcTransitions, 2 * arcCount);
+        }
+
+        arcSources[arcCount] = source;
+        arcTargets[arcCount] = target;
+        arcTransitions[arcCount] = transition;
+        arcCount++;
+    }
+
+    private static boolean isPossible(final int[] pre, final int[] marking) {
+        for (final var place : pre) {
+            if (marking[place] <= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] toIndices(final Set<Arc> arcs, final Function<Arc, Node> end,
+                                   final Map<URI, Integer> placeIndex) {
+        return arcs.stream()
+                .map(end)
+                .map(Node::getID)
+                .map(placeIndex::get)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.agreement;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * A post duty of an agreement that requires the data of an artifact to be deleted. Derived from
+ * the agreement when it is stored, so that the due deletions can be queried without reading any
+ * agreement.
+ */
+@Entity
+@Table(name = "pending_data_removal")
+@Getter
+@Setter(AccessLevel.NONE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingDataRemoval implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The primary key of the removal.
+     */
+    @Id
+    @GeneratedValue
+    @SuppressWarnings("PMD.ShortVariable")
+    private Long id;
+
+    /**
+     * The agreement the post duty belongs to.
+     */
+    @Column(nullable = false)
+    private UUID agreementId;
+
+    /**
+     * The rule target, which is the remote id of the artifact.
+     */
+    @Column(length = URI_COLUMN_LENGTH, nullable = false)
+    private String target;
+
+    /**
+     * The date from which the data has to be deleted. Postponed if the artifact is unknown.
+     */
+    @Column(nullable = false)
+    private ZonedDateTime due;
+
+    /**
+     * Create a new removal.
+     *
+     * @param agreementId The agreement the post duty belongs to.
+     * @param target      The rule target.
+     * @param due         The date from which the data has to be deleted.
+     */
+    public PendingDataRemoval(final UUID agreementId, final String target,
+                              final ZonedDateTime due) {
+        this.agreementId = agreementId;
+        this.target = target;
+        this.due = due;
+    }
+}
@@ -74,8 +74,10 @@ public abstract class Artifact extends NamedEntity implements RemoteObject {
     private URI remoteAddress;
 
     /**
-     * The counter of how often the underlying data has been accessed.
+     * The counter of how often the underlying data has been accessed. It is only changed by
+     * atomic updates of the repository, saving the entity never overwrites it.
      */
+    @Column(updatable = false)
     private long numAccessed;
 
     /**
@@ -106,7 +108,8 @@ public abstract class Artifact extends NamedEntity implements RemoteObject {
     private List<Agreement> agreements;
 
     /**
-     * Increment the data access counter.
+     * Increment the data access counter of this instance. The persisted counter is incremented
+     * by the repository.
      */
     public void incrementAccessCounter() {
         assert numAccessed >= 0;
@@ -22,8 +22,13 @@ import lombok.Setter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Lob;
+import javax.persistence.Transient;
+import javax.sql.rowset.serial.SerialBlob;
+import java.sql.Blob;
+import java.sql.SQLException;
 
 /**
  * Simple wrapper for data stored in the internal database.
@@ -42,15 +47,45 @@ public class LocalData extends Data {
     private static final long serialVersionUID = 1L;
 
     /**
-     * The data.
+     * A value that has not been stored yet, e.g. from a description. It is not loaded from the
+     * database, stored data is read through
+     * {@link io.dataspaceconnector.repository.LocalDataStorage}.
      */
-    @Lob
+    @Transient
     private byte[] value;
 
     /**
-     * Get the data.
+     * The stored value. Mapped as a locator, so loading the entity does not load the data. It is
+     * only written on insert, later changes go through
+     * {@link io.dataspaceconnector.repository.LocalDataStorage}.
+     */
+    @Lob
+    @Column(name = "value", updatable = false)
+    @EqualsAndHashCode.Exclude
+    @Setter(AccessLevel.NONE)
+    private Blob stored;
+
+    /**
+     * Set a value that will be stored with this entity when it is inserted.
+     *
+     * @param data The data.
+     * @throws IllegalArgumentException if the data cannot be wrapped.
+     */
+    public void setValue(final byte[] data) {
+        try {
+            this.value = data == null ? null : data.clone();
+            this.stored = data == null ? null : new SerialBlob(data);
+        } catch (SQLException exception) {
+            throw new IllegalArgumentException("Invalid data.", exception);
+        }
+    }
+
+    /**
+     * Get a copy of the value that has not been stored yet. Stored data is not loaded with the
+     * entity and has to be read through
+     * {@link io.dataspaceconnector.repository.LocalDataStorage}.
      *
-     * @return The data.
+     * @return The data, null if there is no unsaved value.
      */
     public byte[] getValue() {
         return value == null ? null : value.clone();
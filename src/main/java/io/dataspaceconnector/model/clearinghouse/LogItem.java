@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.clearinghouse;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * An item waiting in the outbox to be logged at the clearing house.
+ */
+@Entity
+@Table(name = "clearing_house_log")
+@Getter
+@Setter(AccessLevel.NONE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LogItem implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The primary key of the item, which also defines the order of delivery.
+     */
+    @Id
+    @GeneratedValue
+    @SuppressWarnings("PMD.ShortVariable")
+    private Long id;
+
+    /**
+     * The clearing house endpoint the item is sent to.
+     */
+    @Column(length = URI_COLUMN_LENGTH, nullable = false)
+    private String recipient;
+
+    /**
+     * The logged content.
+     */
+    @Lob
+    private String payload;
+
+    /**
+     * The date the item has been queued.
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private ZonedDateTime created;
+
+    /**
+     * The number of failed delivery attempts.
+     */
+    private int attempts;
+
+    /**
+     * The earliest date of the next delivery attempt.
+     */
+    @Column(nullable = false)
+    private ZonedDateTime nextAttempt;
+
+    /**
+     * Create a new item that is due immediately.
+     *
+     * @param recipient The clearing house endpoint.
+     * @param payload   The logged content.
+     */
+    public LogItem(final String recipient, final String payload) {
+        this.recipient = recipient;
+        this.payload = payload;
+        this.nextAttempt = ZonedDateTime.now();
+    }
+
+    /**
+     * Record a failed delivery attempt.
+     *
+     * @param next The earliest date of the next attempt.
+     */
+    public void retryAt(final ZonedDateTime next) {
+        this.attempts++;
+        this.nextAttempt = next;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.subscription;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * An update of a subscription target that has not been delivered to its subscribers yet. Without
+ * a recipient, all subscribers of the target and its child elements are notified. With a
+ * recipient, only the delivery to that subscriber is retried.
+ */
+@Entity
+@Table(name = "pending_notification")
+@Getter
+@Setter(AccessLevel.NONE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingNotification implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The primary key of the notification, which also defines the order of delivery.
+     */
+    @Id
+    @GeneratedValue
+    @SuppressWarnings("PMD.ShortVariable")
+    private Long id;
+
+    /**
+     * The updated element.
+     */
+    @Column(length = URI_COLUMN_LENGTH, nullable = false)
+    private String target;
+
+    /**
+     * The subscriber location the delivery is retried for. Null for all subscribers.
+     */
+    @Column(length = URI_COLUMN_LENGTH)
+    private String recipient;
+
+    /**
+     * The date the notification has been queued.
+     */
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private ZonedDateTime created;
+
+    /**
+     * The number of failed delivery attempts.
+     */
+    private int attempts;
+
+    /**
+     * The earliest date of the next delivery attempt.
+     */
+    @Column(nullable = false)
+    private ZonedDateTime nextAttempt;
+
+    /**
+     * Create a new notification that is due immediately.
+     *
+     * @param target    The updated element.
+     * @param recipient The subscriber location, null for all subscribers.
+     */
+    public PendingNotification(final String target, final String recipient) {
+        this.target = target;
+        this.recipient = recipient;
+        this.nextAttempt = ZonedDateTime.now();
+    }
+
+    /**
+     * Record a failed delivery attempt.
+     *
+     * @param next The earliest date of the next attempt.
+     */
+    public void retryAt(final ZonedDateTime next) {
+        this.attempts++;
+        this.nextAttempt = next;
+    }
+}
@@ -92,6 +92,36 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND a.deleted = false")
     void setArtifactData(UUID artifactId, long checkSum, long size);
 
+    /**
+     * Get how often the artifacts data has been accessed, without loading the artifact.
+     *
+     * @param artifactId The artifact.
+     * @return The access counter, null if the artifact does not exist.
+     */
+    @Query("SELECT a.numAccessed "
+            + "FROM Artifact a "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    Long findNumAccessed(UUID artifactId);
+
+    /**
+     * Increment the access counter of an artifact if it is below the given limit. Check and
+     * increment are executed as a single statement, so concurrent accesses can neither lose an
+     * increment nor exceed the limit.
+     *
+     * @param artifactId The artifact.
+     * @param max        The maximum number of accesses.
+     * @return The number of updated artifacts, zero if the limit has been reached.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed + 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false "
+            + "AND a.numAccessed < :max")
+    int incrementAccessCounter(UUID artifactId, long max);
+
     /**
      * Finds all artifacts with a specific bootstrap ID.
      *
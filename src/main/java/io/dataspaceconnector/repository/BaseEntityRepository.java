@@ -27,5 +27,6 @@ import java.util.UUID;
  * @param <T> The entity type.
  */
 @NoRepositoryBean
-public interface BaseEntityRepository<T extends Entity> extends JpaRepository<T, UUID> {
+public interface BaseEntityRepository<T extends Entity> extends JpaRepository<T, UUID>,
+        RelationQueries {
 }
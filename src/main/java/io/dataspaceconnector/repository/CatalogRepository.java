@@ -18,9 +18,19 @@ package io.dataspaceconnector.repository;
 import io.dataspaceconnector.model.catalog.Catalog;
 import org.springframework.stereotype.Repository;
 
+import java.net.URI;
+
 /**
  * The repository containing all objects of type {@link Catalog}.
  */
 @Repository
 public interface CatalogRepository extends BaseEntityRepository<Catalog> {
+
+    /**
+     * Checks whether a catalog with a specific bootstrap ID exists.
+     *
+     * @param bootstrapId The bootstrap id of the catalog.
+     * @return true if a catalog has been bootstrapped with this id.
+     */
+    boolean existsByBootstrapId(URI bootstrapId);
 }
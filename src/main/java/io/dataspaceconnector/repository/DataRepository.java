@@ -26,19 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
  * The repository containing all objects of type {@link Data}.
  */
 @Repository
-public interface DataRepository extends JpaRepository<Data, Long> {
-    /**
-     * Set new local data for an entity.
-     *
-     * @param entityId The entity id.
-     * @param data     The new data.
-     */
-    @Transactional
-    @Modifying
-    @Query("UPDATE LocalData a "
-            + "SET a.value = :data "
-            + "WHERE a.id = :entityId")
-    void setLocalData(Long entityId, byte[] data);
+public interface DataRepository extends JpaRepository<Data, Long>, LocalDataStorage {
 
     /**
      * Removes a RemoteData object from the database.
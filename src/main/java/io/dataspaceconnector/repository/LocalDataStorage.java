@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams the value of {@link io.dataspaceconnector.model.artifact.LocalData} from and to the
+ * database in chunks, so that the payload never has to be held in memory as a whole.
+ */
+public interface LocalDataStorage {
+
+    /**
+     * Replace the value of local data by streaming it into the database.
+     *
+     * @param dataId The id of the local data.
+     * @param data   The new data.
+     * @param length The number of bytes that will be read from the stream.
+     * @throws IOException if the data cannot be stored.
+     */
+    @Transactional
+    void writeLocalData(Long dataId, InputStream data, long length) throws IOException;
+
+    /**
+     * Stream the value of local data out of the database.
+     *
+     * @param dataId The id of the local data.
+     * @param target The stream the data is written to.
+     * @return The number of bytes written.
+     * @throws IOException if the data cannot be read.
+     */
+    @Transactional(readOnly = true)
+    long readLocalData(Long dataId, OutputStream target) throws IOException;
+
+    /**
+     * Get the size of the value of local data without reading it.
+     *
+     * @param dataId The id of the local data.
+     * @return The number of bytes stored, 0 if there is no value.
+     * @throws IOException if the size cannot be determined.
+     */
+    @Transactional(readOnly = true)
+    long getLocalDataSize(Long dataId) throws IOException;
+}
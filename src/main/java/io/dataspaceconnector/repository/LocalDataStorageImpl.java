@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * JDBC based implementation of {@link LocalDataStorage}. The value is bound and read as
+ * {@link java.sql.Blob}, which maps to large objects on PostgreSQL and lets the driver transfer
+ * the data in chunks. On PostgreSQL the column only holds the oid of the large object, so the
+ * previous object is unlinked before it is replaced.
+ */
+public class LocalDataStorageImpl implements LocalDataStorage {
+
+    /**
+     * Update statement for the value of local data.
+     */
+    private static final String UPDATE_VALUE = "UPDATE data SET value = ? WHERE id = ?";
+
+    /**
+     * Statement unlinking the large object currently referenced by local data (PostgreSQL).
+     */
+    private static final String UNLINK_VALUE
+            = "SELECT lo_unlink(value) FROM data WHERE id = ? AND value IS NOT NULL";
+
+    /**
+     * The product name reported by PostgreSQL databases.
+     */
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    /**
+     * Select statement for the value of local data.
+     */
+    private static final String SELECT_VALUE = "SELECT value FROM data WHERE id = ?";
+
+    /**
+     * The size of the buffer used for copying data.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The entity manager providing the current connection.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void writeLocalData(final Long dataId, final InputStream data, final long length)
+            throws IOException {
+        try {
+            session().doWork(connection -> {
+                if (POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName())) {
+                    // Runs in the same transaction, a failed update keeps the old object.
+                    try (var statement = connection.prepareStatement(UNLINK_VALUE)) {
+                        statement.setLong(1, dataId);
+                        statement.executeQuery().close();
+                    }
+                }
+
+                try (var statement = connection.prepareStatement(UPDATE_VALUE)) {
+                    statement.setBlob(1, data, length);
+                    statement.setLong(2, dataId);
+                    statement.executeUpdate();
+                }
+            });
+        } catch (HibernateException exception) {
+            throw new IOException("Failed to store data.", exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long readLocalData(final Long dataId, final OutputStream target) throws IOException {
+        try {
+            return session().doReturningWork(connection -> {
+                try (var statement = connection.prepareStatement(SELECT_VALUE)) {
+                    statement.setLong(1, dataId);
+                    try (var result = statement.executeQuery()) {
+                        if (!result.next()) {
+                            return 0L;
+                        }
+
+                        final var blob = result.getBlob(1);
+                        if (blob == null) {
+                            return 0L;
+                        }
+
+                        try {
+                            return copy(blob, target);
+                        } finally {
+                            blob.free();
+                        }
+                    }
+                }
+            });
+        } catch (HibernateException exception) {
+            throw new IOException("Failed to read data.", exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getLocalDataSize(final Long dataId) throws IOException {
+        try {
+            return session().doReturningWork(connection -> {
+                try (var statement = connection.prepareStatement(SELECT_VALUE)) {
+                    statement.setLong(1, dataId);
+                    try (var result = statement.executeQuery()) {
+                        if (!result.next()) {
+                            return 0L;
+                        }
+
+                        final var blob = result.getBlob(1);
+                        if (blob == null) {
+                            return 0L;
+                        }
+
+                        try {
+                            return blob.length();
+                        } finally {
+                            blob.free();
+                        }
+                    }
+                }
+            });
+        } catch (HibernateException exception) {
+            throw new IOException("Failed to read data size.", exception);
+        }
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+
+    private static long copy(final Blob blob, final OutputStream target) throws SQLException {
+        try (var source = blob.getBinaryStream()) {
+            final var buffer = new byte[BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                target.write(buffer, 0, read);
+                total += read;
+            }
+
+            return total;
+        } catch (IOException exception) {
+            throw new SQLException("Failed to copy data.", exception);
+        }
+    }
+}
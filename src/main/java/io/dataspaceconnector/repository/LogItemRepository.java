@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.clearinghouse.LogItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * The repository containing all objects of type {@link LogItem}.
+ */
+@Repository
+public interface LogItemRepository extends JpaRepository<LogItem, Long> {
+
+    /**
+     * Finds the items that are due for delivery, oldest first.
+     *
+     * @param date     The current date.
+     * @param pageable The maximum number of items.
+     * @return The due items.
+     */
+    List<LogItem> findByNextAttemptLessThanEqualOrderByIdAsc(ZonedDateTime date,
+                                                             Pageable pageable);
+
+    /**
+     * Finds the creation date of the oldest item.
+     *
+     * @return The creation date or null if there are no items.
+     */
+    @Query("SELECT MIN(i.created) FROM LogItem i")
+    ZonedDateTime findOldestCreationDate();
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.agreement.PendingDataRemoval;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The repository containing all objects of type {@link PendingDataRemoval}.
+ */
+@Repository
+public interface PendingDataRemovalRepository extends JpaRepository<PendingDataRemoval, Long> {
+
+    /**
+     * Finds the removals that are due, earliest first.
+     *
+     * @param date     The current date.
+     * @param pageable The maximum number of removals.
+     * @return The due removals.
+     */
+    List<PendingDataRemoval> findByDueLessThanEqualOrderByDueAsc(ZonedDateTime date,
+                                                                 Pageable pageable);
+
+    /**
+     * Removes all removals of an agreement.
+     *
+     * @param agreementId The id of the agreement.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PendingDataRemoval r WHERE r.agreementId = :agreementId")
+    void deleteByAgreementId(UUID agreementId);
+
+    /**
+     * Removes the removals of an agreement for one rule target.
+     *
+     * @param agreementId The id of the agreement.
+     * @param target      The rule target.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PendingDataRemoval r "
+            + "WHERE r.agreementId = :agreementId AND r.target = :target")
+    void deleteByAgreementIdAndTarget(UUID agreementId, String target);
+
+    /**
+     * Checks if there are removals of an agreement.
+     *
+     * @param agreementId The id of the agreement.
+     * @return True if there is at least one removal.
+     */
+    boolean existsByAgreementId(UUID agreementId);
+
+    /**
+     * Postpones removals.
+     *
+     * @param ids The ids of the removals.
+     * @param due The new due date.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE PendingDataRemoval r SET r.due = :due WHERE r.id IN :ids")
+    void postpone(Collection<Long> ids, ZonedDateTime due);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.subscription.PendingNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * The repository containing all objects of type {@link PendingNotification}.
+ */
+@Repository
+public interface PendingNotificationRepository extends JpaRepository<PendingNotification, Long> {
+
+    /**
+     * Finds the notifications that are due for delivery, oldest first.
+     *
+     * @param date     The current date.
+     * @param pageable The maximum number of notifications.
+     * @return The due notifications.
+     */
+    List<PendingNotification> findByNextAttemptLessThanEqualOrderByIdAsc(ZonedDateTime date,
+                                                                         Pageable pageable);
+
+    /**
+     * Checks whether a notification of all subscribers of a target is queued.
+     *
+     * @param target The updated element.
+     * @return True if there is such a notification.
+     */
+    boolean existsByTargetAndRecipientIsNull(String target);
+
+    /**
+     * Checks whether the delivery to a subscriber is queued for a retry.
+     *
+     * @param target    The updated element.
+     * @param recipient The subscriber location.
+     * @return True if there is such a notification.
+     */
+    boolean existsByTargetAndRecipient(String target, String recipient);
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.base.Entity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queries on the relations between entities, executed by the database instead of loading the
+ * complete collection of an entity.
+ */
+public interface RelationQueries {
+
+    /**
+     * Finds a page of the entities linked to an owner. The entities are ordered by their
+     * creation date.
+     *
+     * @param owner    The owning entity.
+     * @param relation The name of the owner's attribute holding the linked entities.
+     * @param pageable The requested page. Sorting is ignored.
+     * @param <W>      The type of the linked entities.
+     * @return The page of linked entities.
+     * @throws IllegalArgumentException if the owner has no such attribute.
+     */
+    @Transactional(readOnly = true)
+    <W extends Entity> Page<W> findRelation(Entity owner, String relation, Pageable pageable);
+}
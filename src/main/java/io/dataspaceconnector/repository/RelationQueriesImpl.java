@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.base.Entity;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+/**
+ * JPQL based implementation of {@link RelationQueries}. Only the requested page and, if
+ * required, the number of linked entities are fetched.
+ */
+public class RelationQueriesImpl implements RelationQueries {
+
+    /**
+     * The entity manager running the queries.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public <W extends Entity> Page<W> findRelation(final Entity owner, final String relation,
+                                                   final Pageable pageable) {
+        final var ownerType = entityManager.getMetamodel().entity(Hibernate.getClass(owner));
+        // Fails for unknown attributes before the name is used in a query.
+        ownerType.getAttribute(relation);
+
+        final var from = " FROM " + ownerType.getName() + " o JOIN o." + relation
+                + " c WHERE o.id = :ownerId AND c.deleted = false";
+
+        final List<W> content = entityManager
+                .createQuery("SELECT c" + from + " ORDER BY c.creationDate, c.id")
+                .setParameter("ownerId", owner.getId())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> entityManager.createQuery("SELECT COUNT(c)" + from, Long.class)
+                        .setParameter("ownerId", owner.getId())
+                        .getSingleResult());
+    }
+}
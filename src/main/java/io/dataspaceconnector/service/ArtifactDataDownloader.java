@@ -19,17 +19,22 @@ import io.dataspaceconnector.common.exception.MessageException;
 import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.service.download.DownloadExecutor;
+import io.dataspaceconnector.service.download.DownloadListener;
 import io.dataspaceconnector.service.message.builder.type.ArtifactRequestService;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.binary.Base64InputStream;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.PersistenceException;
 import java.io.IOException;
 import java.net.URI;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -55,6 +60,11 @@ public class ArtifactDataDownloader {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Executes the artifact requests.
+     */
+    private final @NonNull DownloadExecutor executor;
+
     /**
      * Download artifact data.
      *
@@ -67,24 +77,52 @@ public class ArtifactDataDownloader {
      */
     public void download(final URI recipient, final List<URI> artifacts, final UUID agreementId)
             throws UnexpectedResponseException, MessageResponseException, MessageException {
-        // Iterate over list of resource ids to send artifact request messages for each.
-        for (final var artifact : artifacts) {
-            // Send and validate artifact request/response message.
-            final var response = artifactReqSvc.sendMessage(recipient, artifact,
-                    agreementService.get(agreementId).getRemoteId());
+        final var failures = download(recipient, artifacts, agreementId, DownloadListener.NONE);
+        for (final var failure : failures.values()) {
+            // Note: Ignore that the data saving failed. Another try can take place later.
+            if (!(failure instanceof PersistenceException)) {
+                DownloadExecutor.rethrow(failure);
+            }
+        }
+    }
+
+    /**
+     * Download artifact data. The artifacts are requested in parallel.
+     *
+     * @param recipient   The provider connector.
+     * @param artifacts   The artifact whose data should be downloaded.
+     * @param agreementId The agreement allowing the transfer.
+     * @param listener    Receives the progress.
+     * @return The artifacts whose data could not be downloaded or stored, with the reason.
+     */
+    public Map<URI, Exception> download(final URI recipient, final List<URI> artifacts,
+                                        final UUID agreementId,
+                                        final DownloadListener listener) {
+        if (artifacts.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
 
-            // Read and process the response message.
-            try {
-                persistenceSvc.saveData(response, artifact);
+        final var transferContract = agreementService.get(agreementId).getRemoteId();
+        return executor.run(recipient, artifacts, artifact -> {
+            // Send and validate artifact request/response message. The payload is left in the
+            // connection.
+            final var response = artifactReqSvc.sendStreaming(recipient, artifact,
+                    transferContract, null);
+
+            // Read and process the response message. The payload is decoded while it is stored,
+            // it is never held in memory as a whole. Closing the response releases the connection.
+            try (response) {
+                persistenceSvc.saveDataStream(artifact,
+                        new Base64InputStream(response.getPayload()));
             } catch (IOException | ResourceNotFoundException | MessageResponseException
                     | IllegalArgumentException e) {
-                // Note: Ignore that the data saving failed. Another try can take place later.
                 if (log.isWarnEnabled()) {
                     log.warn("Could not save data for artifact. [artifact=({}), "
                             + "exception=({})]", artifact, e.getMessage(), e);
                 }
+                throw new PersistenceException("Could not save data for artifact.", e);
             }
-        }
+        }, listener);
     }
 
     /**
@@ -17,19 +17,25 @@ package io.dataspaceconnector.service;
 
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
+import io.dataspaceconnector.common.file.DataSpool;
 import io.dataspaceconnector.common.net.ApiReferenceHelper;
 import io.dataspaceconnector.common.net.HttpAuthentication;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataRetriever;
 import io.dataspaceconnector.common.routing.dataretrieval.DataRetrievalService;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
+import io.dataspaceconnector.repository.DataRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -60,6 +66,17 @@ public class DataRetriever {
      */
     private final @NonNull ApiReferenceHelper apiReferenceHelper;
 
+    /**
+     * The repository streaming local data out of the database.
+     */
+    private final @NonNull DataRepository dataRepository;
+
+    /**
+     * The maximum number of bytes of local data held in memory.
+     */
+    @Value("${data.spool.threshold:1048576}")
+    private long spoolThreshold = DataSpool.DEFAULT_THRESHOLD;
+
     /**
      * Retrieves the data for an artifact using the specified query input.
      *
@@ -101,13 +118,23 @@ public class DataRetriever {
     }
 
     /**
-     * Get local data.
+     * Get local data. Stored data is streamed out of the database into a spool, so that it is
+     * not held as one array.
      *
      * @param data The data container.
      * @return The stored data.
+     * @throws IOException if the data cannot be read.
      */
-    private InputStream getData(final LocalData data) {
-        return toInputStream(data.getValue());
+    private InputStream getData(final LocalData data) throws IOException {
+        if (data.getId() == null) {
+            // Not stored yet, there is nothing to stream.
+            return toInputStream(data.getValue());
+        }
+
+        final var spool = DataSpool.ofWriter(
+                target -> dataRepository.readLocalData(data.getId(), target),
+                spoolThreshold);
+        return spool.toInputStream();
     }
 
     private InputStream toInputStream(final byte[] data) {
@@ -159,14 +186,44 @@ public class DataRetriever {
     private InputStream getData(final DataRetrievalService service, final URL target,
                                 final QueryInput queryInput)
             throws IOException, DataRetrievalException {
-        return service.get(target, queryInput).getData();
+        final var sample = MetricUtils.start();
+        var success = false;
+        try {
+            final var data = service.get(target, queryInput).getData();
+            success = true;
+            return data;
+        } finally {
+            stopTimer(sample, service, success);
+        }
     }
 
     private InputStream getData(final DataRetrievalService service, final URL target,
                                 final QueryInput queryInput,
                                 final List<? extends HttpAuthentication> authentications)
             throws IOException, DataRetrievalException {
-        return service.get(target, queryInput, authentications).getData();
+        final var sample = MetricUtils.start();
+        var success = false;
+        try {
+            final var data = service.get(target, queryInput, authentications).getData();
+            success = true;
+            return data;
+        } finally {
+            stopTimer(sample, service, success);
+        }
+    }
+
+    /**
+     * Records the time until the data source responded. The data itself is streamed
+     * afterwards and therefore not included.
+     *
+     * @param sample  The started sample.
+     * @param service The service used for retrieving the data.
+     * @param success True if the data source responded with data.
+     */
+    private static void stopTimer(final Timer.Sample sample, final DataRetrievalService service,
+                                  final boolean success) {
+        MetricUtils.stop(sample, MetricUtils.DATA_RETRIEVAL, success,
+                "service", ClassUtils.getUserClass(service).getSimpleName());
     }
 
 }
@@ -50,6 +50,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import javax.persistence.PersistenceException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -341,6 +342,20 @@ public class EntityPersistenceService {
     public void saveData(final Map<String, String> response, final URI remoteId)
             throws ResourceNotFoundException, IllegalArgumentException, IOException {
         final var base64Data = MessageUtils.extractPayloadFromMultipartMessage(response);
+        saveDataStream(remoteId, new ByteArrayInputStream(Base64.decode(base64Data)));
+    }
+
+    /**
+     * Save data that is read from a stream, e.g. the decoded payload of a streamed response. The
+     * data is passed on to the storage while it is read and never held in memory as a whole.
+     *
+     * @param remoteId The artifact id.
+     * @param data     The data. Not closed by this method.
+     * @throws ResourceNotFoundException if the artifact could not be found.
+     * @throws IOException               if the data could not be read or stored.
+     */
+    public void saveDataStream(final URI remoteId, final InputStream data)
+            throws ResourceNotFoundException, IOException {
         final var artifactId = artifactSvc.identifyByRemoteId(remoteId);
 
         if (artifactId.isEmpty()) {
@@ -348,7 +363,7 @@ public class EntityPersistenceService {
         }
 
         final var artifact = artifactSvc.get(artifactId.get());
-        artifactSvc.setData(artifact.getId(), new ByteArrayInputStream(Base64.decode(base64Data)));
+        artifactSvc.setData(artifact.getId(), data).close();
         if (log.isDebugEnabled()) {
             log.debug("Updated data from artifact. [target=({})]", artifactId);
         }
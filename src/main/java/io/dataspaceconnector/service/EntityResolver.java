@@ -33,7 +33,7 @@ import io.dataspaceconnector.model.resource.OfferedResourceDesc;
 import io.dataspaceconnector.model.resource.RequestedResource;
 import io.dataspaceconnector.model.resource.RequestedResourceDesc;
 import io.dataspaceconnector.model.rule.ContractRule;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.service.resource.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsContractBuilder;
@@ -146,9 +146,9 @@ public class EntityResolver {
     private final @NonNull ArtifactRetriever artifactReceiver;
 
     /**
-     * Service for deserialization.
+     * Cache of deserialized agreements and rules.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull PolicyCache policyCache;
 
     /**
      * Return any connector entity by its id.
@@ -269,9 +269,7 @@ public class EntityResolver {
         final var agreements = artifact.getAgreements();
         final var agreementList = new ArrayList<ContractAgreement>();
         for (final var agreement : agreements) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            agreementList.add(idsAgreement);
+            agreementList.add(policyCache.getContractAgreement(agreement));
         }
         return agreementList;
     }
@@ -19,6 +19,8 @@ import io.dataspaceconnector.common.exception.MessageException;
 import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.model.appstore.AppStore;
+import io.dataspaceconnector.service.download.DownloadExecutor;
+import io.dataspaceconnector.service.download.DownloadListener;
 import io.dataspaceconnector.service.message.builder.type.DescriptionRequestService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +31,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Downloads metadata via IDS.
@@ -47,6 +50,11 @@ public class MetadataDownloader {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Executes the description requests.
+     */
+    private final @NonNull DownloadExecutor executor;
+
     /**
      * Download metadata from another connector.
      *
@@ -63,11 +71,54 @@ public class MetadataDownloader {
                          final List<URI> artifacts, final boolean download)
             throws UnexpectedResponseException, PersistenceException, MessageResponseException,
             MessageException {
-        Map<String, String> response;
+        final var failures = download(recipient, resources, artifacts, download,
+                DownloadListener.NONE);
+        if (!failures.isEmpty()) {
+            DownloadExecutor.rethrow(failures.values().iterator().next());
+        }
+    }
+
+    /**
+     * Download metadata from another connector. The descriptions are requested in parallel and
+     * stored in the order of the resources, so that the result does not depend on the order
+     * the responses arrive in.
+     *
+     * @param recipient The recipient connector.
+     * @param resources The resources.
+     * @param artifacts The artifacts.
+     * @param download  If auto-downloading is enabled.
+     * @param listener  Receives the progress.
+     * @return The resources that could not be downloaded or stored, with the reason.
+     */
+    public Map<URI, Exception> download(final URI recipient, final List<URI> resources,
+                                        final List<URI> artifacts, final boolean download,
+                                        final DownloadListener listener) {
+        final var responses = new ConcurrentHashMap<URI, Map<String, String>>();
+        final var failures = executor.run(recipient, resources,
+                resource -> responses.put(resource, descReqSvc.sendMessage(recipient, resource)),
+                new DownloadListener() {
+                    @Override
+                    public void onFailed(final URI item, final Exception exception) {
+                        listener.onFailed(item, exception);
+                    }
+                });
+
         for (final var resource : resources) {
-            response = descReqSvc.sendMessage(recipient, resource);
-            persistenceSvc.saveMetadata(response, artifacts, download, recipient);
+            final var response = responses.get(resource);
+            if (response == null) {
+                continue;
+            }
+
+            try {
+                persistenceSvc.saveMetadata(response, artifacts, download, recipient);
+                listener.onCompleted(resource);
+            } catch (RuntimeException exception) {
+                failures.put(resource, exception);
+                listener.onFailed(resource, exception);
+            }
         }
+
+        return failures;
     }
 
     /**
@@ -17,7 +17,7 @@ package io.dataspaceconnector.service;
 
 import de.fraunhofer.iais.eis.RejectionReason;
 import io.dataspaceconnector.common.exception.ErrorMessage;
-import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.ids.message.StreamingMultipartMessage;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
@@ -27,14 +27,12 @@ import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.codec.binary.Base64InputStream;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -77,9 +75,9 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
             throws PolicyRestrictionException {
         final var artifact = artifactService.get(artifactId);
 
-        Map<String, String> response;
+        final StreamingMultipartMessage response;
         try {
-            response = artifactReqSvc.sendMessage(recipient,
+            response = artifactReqSvc.sendStreaming(recipient,
                     artifact.getRemoteId(), transferContract, queryInput);
         } catch (UnexpectedResponseException exception) {
             final var content = exception.getContent();
@@ -97,8 +95,8 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
             throw new DataRetrievalException(content.toString());
         }
 
-        final var data = MessageUtils.extractPayloadFromMultipartMessage(response);
-
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        // The payload is decoded while it is read, it is never held in memory as a whole.
+        // Closing the stream releases the connection.
+        return new Base64InputStream(response.getPayload());
     }
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.MessageException;
+import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs downloads from other connectors in parallel. The total number of concurrent requests and
+ * the number of concurrent requests per recipient are bounded, so that a large contract does not
+ * flood the provider connector.
+ */
+@Log4j2
+@Component
+public class DownloadExecutor {
+
+    /**
+     * The maximum number of requests running at the same time.
+     */
+    @Value("${ids.download.parallelism:8}")
+    private int parallelism = 8;
+
+    /**
+     * The maximum number of requests sent to the same recipient at the same time.
+     */
+    @Value("${ids.download.recipient.parallelism:4}")
+    private int recipientParallelism = 4;
+
+    /**
+     * The concurrency limits by recipient. Shared by all downloads to the same recipient and
+     * removed once no download to the recipient is running anymore.
+     */
+    private final Map<URI, RecipientLimit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the requests. Created on first use.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Stops the download threads.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Download all items from a recipient and wait for the downloads to finish. A failing item
+     * does not stop the others.
+     *
+     * @param recipient The recipient connector.
+     * @param items     The items to download.
+     * @param task      Downloads a single item.
+     * @param listener  Receives the progress.
+     * @return The failed items with the reason, in the order of the items.
+     */
+    public Map<URI, Exception> run(final URI recipient, final Collection<URI> items,
+                                   final DownloadTask task, final DownloadListener listener) {
+        final var limit = acquireLimit(recipient);
+        try {
+            return run(recipient, items, task, listener, limit.getSemaphore());
+        } finally {
+            releaseLimit(recipient);
+        }
+    }
+
+    private Map<URI, Exception> run(final URI recipient, final Collection<URI> items,
+                                    final DownloadTask task, final DownloadListener listener,
+                                    final Semaphore limit) {
+        // Wait for a free slot before submitting, so that the workers never block on the limit.
+        final var pending = new LinkedHashMap<URI, Future<Void>>();
+        try {
+            for (final var item : items) {
+                limit.acquire();
+                try {
+                    pending.put(item, getExecutor().submit(() -> {
+                        try {
+                            task.download(item);
+                            listener.onCompleted(item);
+                            return null;
+                        } catch (UnexpectedResponseException | RuntimeException exception) {
+                            listener.onFailed(item, exception);
+                            throw exception;
+                        } finally {
+                            limit.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException exception) {
+                    limit.release();
+                    throw exception;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        final var failures = new LinkedHashMap<URI, Exception>();
+        for (final var item : items) {
+            final var future = pending.get(item);
+            if (future == null) {
+                // Not submitted since the caller has been interrupted.
+                failures.put(item, new InterruptedException("Download interrupted."));
+                listener.onFailed(item, failures.get(item));
+                continue;
+            }
+
+            try {
+                future.get();
+            } catch (ExecutionException exception) {
+                failures.put(item, toException(exception.getCause()));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                failures.put(item, exception);
+                listener.onFailed(item, exception);
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Finished download. [recipient=({}), items=({}), failed=({})]", recipient,
+                    items.size(), failures.size());
+        }
+
+        return failures;
+    }
+
+    /**
+     * Rethrows the reason of a failed download to callers that expect the exceptions of a
+     * single request.
+     *
+     * @param exception The reason.
+     * @throws UnexpectedResponseException if the response type was not as expected.
+     */
+    public static void rethrow(final Exception exception) throws UnexpectedResponseException {
+        if (exception instanceof UnexpectedResponseException) {
+            throw (UnexpectedResponseException) exception;
+        } else if (exception instanceof RuntimeException) {
+            throw (RuntimeException) exception;
+        }
+
+        throw new MessageException(ErrorMessage.MESSAGE_HANDLING_FAILED, exception);
+    }
+
+    private RecipientLimit acquireLimit(final URI recipient) {
+        return limits.compute(recipient, (key, value) -> {
+            final var limit = value == null
+                    ? new RecipientLimit(new Semaphore(Math.max(1, recipientParallelism)))
+                    : value;
+            limit.users++;
+            return limit;
+        });
+    }
+
+    private void releaseLimit(final URI recipient) {
+        limits.computeIfPresent(recipient, (key, value) -> --value.users == 0 ? null : value);
+    }
+
+    /**
+     * @return The number of recipients with running downloads.
+     */
+    int getRecipientCount() {
+        return limits.size();
+    }
+
+    /**
+     * The concurrency limit of a recipient and the number of downloads sharing it. Only
+     * modified inside the atomic map operations.
+     */
+    @RequiredArgsConstructor
+    private static final class RecipientLimit {
+        /**
+         * Bounds the requests to the recipient.
+         */
+        @Getter
+        private final Semaphore semaphore;
+
+        /**
+         * The number of downloads using the limit.
+         */
+        private int users;
+    }
+
+    private static Exception toException(final Throwable cause) {
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        return new IllegalStateException(cause);
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final var counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+                final var thread = new Thread(runnable,
+                        "ids-download-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+}
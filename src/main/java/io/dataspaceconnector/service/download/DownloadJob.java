@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The metadata and data download following a contract negotiation, run in the background.
+ * Items that have been downloaded are remembered, so that a retry only requests the failed
+ * ones.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DownloadJob implements DownloadListener {
+
+    /**
+     * The state of a job.
+     */
+    public enum State {
+        /**
+         * The job is running.
+         */
+        RUNNING,
+
+        /**
+         * All items have been downloaded.
+         */
+        COMPLETED,
+
+        /**
+         * At least one item could not be downloaded. The job can be retried.
+         */
+        FAILED
+    }
+
+    /**
+     * The id of the job.
+     */
+    private final UUID id;
+
+    /**
+     * The provider connector.
+     */
+    private final URI recipient;
+
+    /**
+     * The negotiated agreement.
+     */
+    private final UUID agreementId;
+
+    /**
+     * The requested resources.
+     */
+    private final List<URI> resources;
+
+    /**
+     * The requested artifacts.
+     */
+    private final List<URI> artifacts;
+
+    /**
+     * Whether the data of the artifacts should be downloaded.
+     */
+    private final boolean download;
+
+    /**
+     * The creation date.
+     */
+    private final ZonedDateTime creationDate = ZonedDateTime.now();
+
+    /**
+     * The items that have been downloaded.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Set<URI> completed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The items that failed in the last run, with the reason.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<URI, String> failed = new ConcurrentHashMap<>();
+
+    /**
+     * The state of the job.
+     */
+    private volatile State state = State.RUNNING;
+
+    /**
+     * The time the last run finished. Null while running.
+     */
+    private volatile ZonedDateTime finishDate;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCompleted(final URI item) {
+        failed.remove(item);
+        completed.add(item);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onFailed(final URI item, final Exception exception) {
+        failed.put(item, String.valueOf(exception.getMessage()));
+    }
+
+    /**
+     * Checks whether an item has been downloaded.
+     *
+     * @param item The item.
+     * @return True if the item does not have to be downloaded again.
+     */
+    public boolean isCompleted(final URI item) {
+        return completed.contains(item);
+    }
+
+    /**
+     * Get the number of items the job consists of.
+     *
+     * @return The number of resources and, if data is downloaded, artifacts.
+     */
+    public int getTotal() {
+        return resources.size() + (download ? artifacts.size() : 0);
+    }
+
+    /**
+     * Get the number of items that have been downloaded.
+     *
+     * @return The number of items.
+     */
+    public int getDone() {
+        return completed.size();
+    }
+
+    /**
+     * Get the items that failed in the last run.
+     *
+     * @return The reason by item.
+     */
+    public Map<URI, String> getFailed() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(failed));
+    }
+
+    /**
+     * Marks the job as running again.
+     */
+    void restart() {
+        state = State.RUNNING;
+        finishDate = null;
+    }
+
+    /**
+     * Marks the end of a run.
+     */
+    void finish() {
+        finishDate = ZonedDateTime.now();
+        state = failed.isEmpty() ? State.COMPLETED : State.FAILED;
+    }
+}
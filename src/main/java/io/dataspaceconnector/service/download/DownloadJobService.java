@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.util.UUIDUtils;
+import io.dataspaceconnector.service.ArtifactDataDownloader;
+import io.dataspaceconnector.service.EntityUpdateService;
+import io.dataspaceconnector.service.MetadataDownloader;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the metadata and data download following a contract negotiation in the background, so
+ * that the negotiation request does not block until all artifacts have been transferred.
+ * Finished jobs are kept in memory until the configured number of jobs is exceeded.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class DownloadJobService {
+
+    /**
+     * Downloads metadata.
+     */
+    private final @NonNull MetadataDownloader metadataDownloader;
+
+    /**
+     * Downloads artifact's data.
+     */
+    private final @NonNull ArtifactDataDownloader artifactDataDownloader;
+
+    /**
+     * Service for updating database entities.
+     */
+    private final @NonNull EntityUpdateService updateService;
+
+    /**
+     * Runs the database changes of a job. Jobs run outside of any request, so there is no
+     * session that lazy relations could be loaded from otherwise.
+     */
+    private final @NonNull TransactionTemplate transactionTemplate;
+
+    /**
+     * The maximum number of jobs kept in memory.
+     */
+    @Value("${ids.download.jobs.capacity:100}")
+    private int capacity = 100;
+
+    /**
+     * The maximum number of jobs running at the same time.
+     */
+    @Value("${ids.download.jobs.parallelism:2}")
+    private int parallelism = 2;
+
+    /**
+     * The jobs by id.
+     */
+    private final Map<UUID, DownloadJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the jobs. Created on first use.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Stops the job threads.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Start downloading the metadata and, if requested, the data of a negotiated contract.
+     *
+     * @param recipient   The provider connector.
+     * @param resources   The requested resources.
+     * @param artifacts   The requested artifacts.
+     * @param download    Whether the data of the artifacts should be downloaded.
+     * @param agreementId The negotiated agreement.
+     * @return The started job.
+     */
+    public DownloadJob start(final URI recipient, final List<URI> resources,
+                             final List<URI> artifacts, final boolean download,
+                             final UUID agreementId) {
+        evict();
+
+        final var job = new DownloadJob(UUIDUtils.createUUID(jobs::containsKey), recipient,
+                agreementId, List.copyOf(resources), List.copyOf(artifacts), download);
+        jobs.put(job.getId(), job);
+        getExecutor().execute(() -> execute(job));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Started download job. [id=({}), recipient=({}), items=({})]",
+                    job.getId(), recipient, job.getTotal());
+        }
+
+        return job;
+    }
+
+    /**
+     * Get a job.
+     *
+     * @param jobId The id of the job.
+     * @return The job.
+     * @throws ResourceNotFoundException if the job does not exist (anymore).
+     */
+    public DownloadJob get(final UUID jobId) {
+        final var job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException(jobId.toString());
+        }
+        return job;
+    }
+
+    /**
+     * Retry the items of a job that have not been downloaded yet.
+     *
+     * @param jobId The id of the job.
+     * @return False if the job is still running.
+     * @throws ResourceNotFoundException if the job does not exist (anymore).
+     */
+    public boolean retry(final UUID jobId) {
+        final var job = get(jobId);
+        synchronized (job) {
+            if (job.getState() == DownloadJob.State.RUNNING) {
+                return false;
+            }
+            job.restart();
+        }
+
+        getExecutor().execute(() -> execute(job));
+        return true;
+    }
+
+    /**
+     * Runs a job. Metadata is downloaded first since the artifacts are created from it. The
+     * artifacts are linked to the agreement in a transaction of their own, so that no remote
+     * request holds a database connection.
+     *
+     * @param job The job.
+     */
+    void execute(final DownloadJob job) {
+        try {
+            final var resources = getPending(job, job.getResources());
+            if (!resources.isEmpty()) {
+                metadataDownloader.download(job.getRecipient(), resources, job.getArtifacts(),
+                        job.isDownload(), job);
+            }
+
+            if (!job.getFailed().isEmpty()) {
+                // Without the metadata, there are no artifacts to link or download.
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> updateService
+                    .linkArtifactToAgreement(job.getArtifacts(), job.getAgreementId()));
+            if (job.isDownload()) {
+                artifactDataDownloader.download(job.getRecipient(),
+                        getPending(job, job.getArtifacts()), job.getAgreementId(), job);
+            }
+        } catch (RuntimeException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Download job failed. [id=({}), exception=({})]", job.getId(),
+                        exception.getMessage(), exception);
+            }
+            getPending(job, job.getArtifacts()).forEach(x -> job.onFailed(x, exception));
+        } finally {
+            job.finish();
+            if (log.isInfoEnabled()) {
+                log.info("Finished download job. [id=({}), state=({}), done=({}), total=({})]",
+                        job.getId(), job.getState(), job.getDone(), job.getTotal());
+            }
+        }
+    }
+
+    private static List<URI> getPending(final DownloadJob job, final List<URI> items) {
+        return items.stream().filter(x -> !job.isCompleted(x)).collect(Collectors.toList());
+    }
+
+    private void evict() {
+        final var excess = jobs.size() - Math.max(1, capacity) + 1;
+        if (excess > 0) {
+            jobs.values().stream()
+                    .filter(x -> x.getState() != DownloadJob.State.RUNNING)
+                    .sorted(Comparator.comparing(DownloadJob::getFinishDate,
+                            Comparator.nullsLast(Comparator.naturalOrder())))
+                    .limit(excess)
+                    .forEach(x -> jobs.remove(x.getId()));
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final var counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+                final var thread = new Thread(runnable,
+                        "ids-download-job-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import java.net.URI;
+
+/**
+ * Receives the progress of a download. Called from the download threads.
+ */
+public interface DownloadListener {
+
+    /**
+     * Listener that ignores all events.
+     */
+    DownloadListener NONE = new DownloadListener() { };
+
+    /**
+     * Called when an item has been downloaded and stored.
+     *
+     * @param item The item.
+     */
+    default void onCompleted(final URI item) {
+    }
+
+    /**
+     * Called when an item could not be downloaded or stored.
+     *
+     * @param item      The item.
+     * @param exception The reason.
+     */
+    default void onFailed(final URI item, final Exception exception) {
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+
+import java.net.URI;
+
+/**
+ * Downloads a single item, e.g. the description of a resource or the data of an artifact.
+ */
+@FunctionalInterface
+public interface DownloadTask {
+
+    /**
+     * Download and store the item.
+     *
+     * @param item The id of the item at the remote connector.
+     * @throws UnexpectedResponseException if the response type is not as expected.
+     */
+    void download(URI item) throws UnexpectedResponseException;
+}
@@ -32,10 +32,12 @@ import de.fraunhofer.ids.messaging.requests.MessageContainer;
 import de.fraunhofer.ids.messaging.requests.exceptions.NoTemplateProvidedException;
 import de.fraunhofer.ids.messaging.requests.exceptions.RejectionException;
 import de.fraunhofer.ids.messaging.requests.exceptions.UnexpectedPayloadException;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.controller.util.ResponseUtils;
 import io.dataspaceconnector.model.base.RegistrationStatus;
 import io.dataspaceconnector.service.message.builder.type.NotificationService;
 import io.dataspaceconnector.service.resource.type.BrokerService;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -103,7 +105,13 @@ public class GlobalMessageService {
             RejectionException, UnknownResponseException {
         // Check if input was a broker id or an url.
         final var address = brokerCommunication.checkInput(input);
-        final var response = brokerSvc.updateSelfDescriptionAtBroker(address);
+        final var sample = MetricUtils.start();
+        MessageContainer<?> response = null;
+        try {
+            response = brokerSvc.updateSelfDescriptionAtBroker(address);
+        } finally {
+            stopTimer(sample, "update_connector", response);
+        }
 
         // Validate response.
         final var result = checkResponse(Optional.ofNullable(response));
@@ -142,7 +150,13 @@ public class GlobalMessageService {
             RejectionException, UnknownResponseException {
         // Check if input was a broker id or an url.
         final var address = brokerCommunication.checkInput(input);
-        final var response = brokerSvc.unregisterAtBroker(address);
+        final var sample = MetricUtils.start();
+        MessageContainer<?> response = null;
+        try {
+            response = brokerSvc.unregisterAtBroker(address);
+        } finally {
+            stopTimer(sample, "unregister_connector", response);
+        }
 
         // Validate response.
         final var result = checkResponse(Optional.ofNullable(response));
@@ -180,23 +194,69 @@ public class GlobalMessageService {
             NoTemplateProvidedException, ShaclValidatorException, SendMessageException,
             UnexpectedPayloadException, SerializeException, DeserializeException,
             RejectionException, UnknownResponseException {
+        final var response = sendResourceUpdateMessageWithoutLink(input, resource);
+        if (checkResponse(response)) {
+            linkResourceToBroker(input, resource);
+        }
+        return response;
+    }
+
+    /**
+     * Send resource update message without linking the resource to the broker. Does not access
+     * the database apart from resolving a broker id, so it can be called from any thread. The
+     * caller links the resource afterwards with {@link #linkResourceToBroker(URI, Resource)}.
+     *
+     * @param input    The recipient or a broker id.
+     * @param resource The ids resource that should be updated.
+     * @return Optional of message container providing the received ids response.
+     * @throws MultipartParseException     if response could not be parsed to header and payload.
+     * @throws ClaimsException             if an errors occur while validating a DAT from response.
+     * @throws DapsTokenManagerException   if the DAT for building the message cannot be acquired.
+     * @throws IOException                 if any other problem in establishing a connection occurs.
+     * @throws ShaclValidatorException     if received header did not pass SHACL validation.
+     * @throws SerializeException          if serializing an outgoing message fails.
+     * @throws RejectionException          if the response is a rejection message.
+     * @throws UnknownResponseException    if response header cannot be cast to known message type.
+     * @throws SendMessageException        if recipient could not be reached.
+     * @throws NoTemplateProvidedException if not matching template for message building was found.
+     * @throws UnexpectedPayloadException  if payload could not be processed.
+     * @throws DeserializeException        if serializing an incoming response message fails.
+     */
+    public Optional<MessageContainer<?>> sendResourceUpdateMessageWithoutLink(
+            final URI input, final Resource resource)
+            throws MultipartParseException, ClaimsException, DapsTokenManagerException, IOException,
+            NoTemplateProvidedException, ShaclValidatorException, SendMessageException,
+            UnexpectedPayloadException, SerializeException, DeserializeException,
+            RejectionException, UnknownResponseException {
         // Check if input was a broker id or an url.
         final var address = brokerCommunication.checkInput(input);
-        final var response = brokerSvc.updateResourceAtBroker(address, resource);
-
-        // Validate response.
-        final var result = checkResponse(Optional.ofNullable(response));
-        if (result) {
-            if (log.isInfoEnabled()) {
-                log.info("Successfully updated resource. [resourceId=({}}), url=({}})]",
-                        resource.getId(), input);
-            }
+        final var sample = MetricUtils.start();
+        MessageContainer<?> response = null;
+        try {
+            response = brokerSvc.updateResourceAtBroker(address, resource);
+        } finally {
+            stopTimer(sample, "update_resource", response);
+        }
 
-            brokerCommunication.updateOfferedResourceBrokerList(address, resource);
+        if (checkResponse(Optional.ofNullable(response)) && log.isInfoEnabled()) {
+            log.info("Successfully updated resource. [resourceId=({}}), url=({}})]",
+                    resource.getId(), input);
         }
         return Optional.ofNullable(response);
     }
 
+    /**
+     * Link an offered resource to the broker it has been registered at. Must run inside a
+     * transaction, as the broker's offered resources are loaded lazily.
+     *
+     * @param input    The recipient or a broker id.
+     * @param resource The ids resource that has been updated.
+     */
+    public void linkResourceToBroker(final URI input, final Resource resource) {
+        brokerCommunication.updateOfferedResourceBrokerList(
+                brokerCommunication.checkInput(input), resource);
+    }
+
     /**
      * Send resource unavailable message and validate received response.
      *
@@ -224,7 +284,13 @@ public class GlobalMessageService {
             RejectionException, UnknownResponseException {
         // Check if input was a broker id or an url.
         final var address = brokerCommunication.checkInput(input);
-        final var response = brokerSvc.removeResourceFromBroker(address, resource);
+        final var sample = MetricUtils.start();
+        MessageContainer<?> response = null;
+        try {
+            response = brokerSvc.removeResourceFromBroker(address, resource);
+        } finally {
+            stopTimer(sample, "remove_resource", response);
+        }
 
         // Validate response.
         final var result = checkResponse(Optional.ofNullable(response));
@@ -264,8 +330,14 @@ public class GlobalMessageService {
             RejectionException, UnknownResponseException {
         // Check if input was a broker id or an url.
         final var address = brokerCommunication.checkInput(input);
-        final var response = brokerSvc.queryBroker(address, query,
-                QueryLanguage.SPARQL, QueryScope.ALL, QueryTarget.BROKER);
+        final var sample = MetricUtils.start();
+        MessageContainer<?> response = null;
+        try {
+            response = brokerSvc.queryBroker(address, query,
+                    QueryLanguage.SPARQL, QueryScope.ALL, QueryTarget.BROKER);
+        } finally {
+            stopTimer(sample, "query", response);
+        }
 
 
         return Optional.of(response);
@@ -300,8 +372,14 @@ public class GlobalMessageService {
             RejectionException, UnknownResponseException {
         // Check if input was a broker id or an url.
         final var address = brokerCommunication.checkInput(input);
-        final var response = brokerSvc.fullTextSearchBroker(address, term,
-                QueryScope.ALL, QueryTarget.BROKER, limit, offset);
+        final var sample = MetricUtils.start();
+        MessageContainer<?> response = null;
+        try {
+            response = brokerSvc.fullTextSearchBroker(address, term,
+                    QueryScope.ALL, QueryTarget.BROKER, limit, offset);
+        } finally {
+            stopTimer(sample, "full_text_search", response);
+        }
         return Optional.of(response);
     }
 
@@ -334,6 +412,19 @@ public class GlobalMessageService {
         return ResponseUtils.respondWithContent(content);
     }
 
+    /**
+     * Records the duration of a broker request.
+     *
+     * @param sample    The started sample.
+     * @param operation The requested operation.
+     * @param response  The response container, null if the request failed.
+     */
+    private void stopTimer(final Timer.Sample sample, final String operation,
+                           final MessageContainer<?> response) {
+        MetricUtils.stop(sample, MetricUtils.BROKER, response != null && !response.isRejection(),
+                "operation", operation);
+    }
+
     /**
      * @param response The response container.
      * @return true, if response is successful.
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import io.dataspaceconnector.common.net.SelfLinkHelper;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.model.resource.Resource;
+import io.dataspaceconnector.model.subscription.PendingNotification;
+import io.dataspaceconnector.repository.PendingNotificationRepository;
+import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.resource.type.SubscriptionService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Persistent queue of subscriber notifications. Updates are queued on the request path and
+ * delivered by a background task, so that the latency of an update does not depend on the
+ * number of subscribers. Repeated updates of the same element are coalesced while they wait
+ * for delivery. Failed deliveries are retried per subscriber with exponential backoff.
+ */
+@EnableScheduling
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class SubscriberNotificationDispatcher {
+
+    /**
+     * The upper bound of the delay between two delivery attempts.
+     */
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    /**
+     * The queued notifications.
+     */
+    private final @NonNull PendingNotificationRepository repository;
+
+    /**
+     * Delivers the notifications.
+     */
+    private final @NonNull SubscriberNotificationSender sender;
+
+    /**
+     * Service for handling subscriptions.
+     */
+    private final @NonNull SubscriptionService subscriptionSvc;
+
+    /**
+     * Service for resolving the updated elements.
+     */
+    private final @NonNull EntityResolver entityResolver;
+
+    /**
+     * Helper for creating self links.
+     */
+    private final @NonNull SelfLinkHelper selfLinkHelper;
+
+    /**
+     * Reads the updated elements and their relations outside of a request.
+     */
+    private final @NonNull TransactionTemplate transactionTemplate;
+
+    /**
+     * The maximum number of notifications processed per run.
+     */
+    @Value("${subscription.notification.batch.size:100}")
+    private int batchSize = 100;
+
+    /**
+     * The delay before the first retry of a failed delivery in milliseconds.
+     */
+    @Value("${subscription.notification.backoff:5000}")
+    private long backoff = 5000;
+
+    /**
+     * The number of delivery attempts before a notification is dropped.
+     */
+    @Value("${subscription.notification.max.attempts:10}")
+    private int maxAttempts = 10;
+
+    /**
+     * The elements whose notification is being delivered. Updates of these elements are queued
+     * again instead of being coalesced, since their delivery may have read the old state.
+     */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The number of queued notifications. Counted once on start, then maintained by enqueue and
+     * drain.
+     */
+    private final AtomicLong depth = new AtomicLong();
+
+    /**
+     * Count the notifications left from a previous run.
+     */
+    @PostConstruct
+    public void init() {
+        depth.set(repository.count());
+    }
+
+    /**
+     * Queue the notification of all subscribers of an element and its child elements. Does
+     * nothing if the element is already waiting for delivery.
+     *
+     * @param target The updated element.
+     */
+    public void enqueue(final URI target) {
+        enqueue(target.toString(), null);
+    }
+
+    private void enqueue(final String target, final String recipient) {
+        final var queued = recipient == null
+                ? repository.existsByTargetAndRecipientIsNull(target)
+                : repository.existsByTargetAndRecipient(target, recipient);
+        if (queued && !inFlight.contains(target)) {
+            return;
+        }
+
+        repository.saveAndFlush(new PendingNotification(target, recipient));
+        depth.incrementAndGet();
+    }
+
+    /**
+     * Periodically delivers the due notifications.
+     */
+    @Scheduled(fixedDelayString = "${subscription.notification.delay:1000}")
+    public void schedule() {
+        if (depth.get() == 0) {
+            // Nothing queued since the last run.
+            return;
+        }
+
+        try {
+            drain();
+        } catch (RuntimeException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to deliver subscriber notifications. [exception=({})]",
+                        exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delivers one batch of due notifications. The notifications of the same element are
+     * delivered together. Removed notifications are subtracted from the depth instead of
+     * counting the queue again, so that notifications queued in the meantime are not lost.
+     */
+    void drain() {
+        final var now = ZonedDateTime.now();
+        final var due = repository.findByNextAttemptLessThanEqualOrderByIdAsc(now,
+                PageRequest.of(0, batchSize));
+
+        final var byTarget = due.stream().collect(Collectors.groupingBy(
+                PendingNotification::getTarget, LinkedHashMap::new, Collectors.toList()));
+        for (final var entry : byTarget.entrySet()) {
+            inFlight.add(entry.getKey());
+            try {
+                deliver(URI.create(entry.getKey()), entry.getValue(), now);
+            } catch (RuntimeException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to notify subscribers. [target=({}), exception=({})]",
+                            entry.getKey(), exception.getMessage());
+                }
+                entry.getValue().forEach(item -> retry(item, now));
+            } finally {
+                inFlight.remove(entry.getKey());
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Delivered subscriber notifications. [due=({}), targets=({})]",
+                    due.size(), byTarget.size());
+        }
+    }
+
+    private void deliver(final URI target, final List<PendingNotification> items,
+                         final ZonedDateTime now) {
+        final var all = items.stream().anyMatch(item -> item.getRecipient() == null);
+        final var retries = items.stream()
+                .filter(item -> item.getRecipient() != null)
+                .collect(Collectors.toMap(PendingNotification::getRecipient, item -> item,
+                        (x, y) -> x, LinkedHashMap::new));
+
+        final var notification = transactionTemplate.execute(status -> {
+            final var entity = entityResolver.getEntityById(target);
+            if (entity.isEmpty()) {
+                return null;
+            }
+
+            if (all) {
+                getChildren(entity.get()).forEach(this::enqueue);
+            }
+
+            final var subscriptions = subscriptionSvc.getByTarget(target).stream()
+                    .filter(x -> all || retries.containsKey(x.getLocation().toString()))
+                    .collect(Collectors.toList());
+            return sender.prepare(target, entity.get(), subscriptions);
+        });
+
+        final Set<URI> failed;
+        if (notification == null) {
+            // The element has been deleted.
+            failed = Set.of();
+        } else {
+            try (notification) {
+                failed = sender.send(notification);
+            }
+        }
+
+        final var done = new ArrayList<PendingNotification>();
+        for (final var item : items) {
+            if (item.getRecipient() == null || !failed.contains(
+                    URI.create(item.getRecipient()))) {
+                done.add(item);
+            }
+        }
+        repository.deleteAllInBatch(done);
+        depth.addAndGet(-done.size());
+
+        for (final var recipient : failed) {
+            final var item = retries.get(recipient.toString());
+            retry(item == null ? new PendingNotification(target.toString(),
+                    recipient.toString()) : item, now);
+        }
+    }
+
+    private List<URI> getChildren(final Entity entity) {
+        final var children = new ArrayList<URI>();
+        if (entity instanceof Resource) {
+            for (final var representation : ((Resource) entity).getRepresentations()) {
+                children.add(selfLinkHelper.getSelfLink(representation));
+            }
+        } else if (entity instanceof Representation) {
+            for (final var artifact : ((Representation) entity).getArtifacts()) {
+                children.add(selfLinkHelper.getSelfLink(artifact));
+            }
+        }
+        return children;
+    }
+
+    private void retry(final PendingNotification item, final ZonedDateTime now) {
+        if (item.getAttempts() + 1 >= maxAttempts) {
+            if (log.isWarnEnabled()) {
+                log.warn("Dropping subscriber notification after {} attempts. "
+                        + "[target=({}), recipient=({})]", maxAttempts, item.getTarget(),
+                        item.getRecipient());
+            }
+            if (item.getId() != null) {
+                repository.delete(item);
+                depth.decrementAndGet();
+            }
+        } else {
+            final var queued = item.getId() != null;
+            item.retryAt(now.plus(getBackoff(item.getAttempts())));
+            repository.saveAndFlush(item);
+            if (!queued) {
+                depth.incrementAndGet();
+            }
+        }
+    }
+
+    private Duration getBackoff(final int attempts) {
+        // Doubles with every attempt, the shift is capped to prevent an overflow.
+        final var delay = Duration.ofMillis(backoff).multipliedBy(1L << Math.min(attempts, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
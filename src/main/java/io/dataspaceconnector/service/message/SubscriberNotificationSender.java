@@ -0,0 +1,567 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import de.fraunhofer.iais.eis.Resource;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.common.exception.DataDispatchException;
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.file.DataSpool;
+import io.dataspaceconnector.common.net.ApiReferenceHelper;
+import io.dataspaceconnector.common.net.HttpService;
+import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.common.routing.ParameterUtils;
+import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.subscription.Subscription;
+import io.dataspaceconnector.service.ArtifactRetriever;
+import io.dataspaceconnector.service.message.handler.dto.Response;
+import io.dataspaceconnector.service.message.util.Event;
+import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.ExchangeBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers update notifications to the subscribers of an element. The subscribers are notified
+ * in parallel. The number of concurrent deliveries to the same subscriber is bounded.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Component
+public class SubscriberNotificationSender {
+
+    /**
+     * Service for sending ids messages.
+     */
+    private final @NonNull GlobalMessageService messageSvc;
+
+    /**
+     * The service managing artifacts.
+     */
+    private final @NonNull ArtifactService artifactSvc;
+
+    /**
+     * The receiver for getting data from a remote source.
+     */
+    private final @NonNull ArtifactRetriever dataReceiver;
+
+    /**
+     * The verifier for the data access.
+     */
+    private final @NonNull DataAccessVerifier accessVerifier;
+
+    /**
+     * Service for mapping dsc resource to ids resource.
+     */
+    private final @NonNull IdsResourceBuilder<OfferedResource> resourceBuilder;
+
+    /**
+     * Service for executing http requests.
+     */
+    private final @NonNull HttpService httpService;
+
+    /**
+     * Service for the current connector configuration.
+     */
+    private final @NonNull ConnectorConfig connectorConfig;
+
+    /**
+     * Template for triggering Camel routes.
+     */
+    private final @NonNull ProducerTemplate template;
+
+    /**
+     * The CamelContext required for constructing the {@link ProducerTemplate}.
+     */
+    private final @NonNull CamelContext context;
+
+    /**
+     * Dispatches data via Camel routes.
+     */
+    private final @NonNull RouteDataDispatcher routeDataDispatcher;
+
+    /**
+     * Helper class for managing API endpoint references.
+     */
+    private final @NonNull ApiReferenceHelper apiReferenceHelper;
+
+    /**
+     * The maximum number of deliveries running at the same time.
+     */
+    @Value("${subscription.notification.parallelism:8}")
+    private int parallelism = 8;
+
+    /**
+     * The maximum number of bytes of a data snapshot that are buffered in memory before
+     * spilling the data to disk.
+     */
+    @Value("${data.spool.threshold:1048576}")
+    private long spoolThreshold = DataSpool.DEFAULT_THRESHOLD;
+
+    /**
+     * Runs the deliveries. Created on first use.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Stops the delivery threads.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Collects everything required to notify the subscribers of an element. Has to be called
+     * while the relations of the entity can be loaded. The data of an artifact is not read here,
+     * as it may have to be downloaded, but once by {@link #send(Notification)}.
+     *
+     * @param target        The updated element.
+     * @param entity        The updated entity.
+     * @param subscriptions The subscriptions that should be notified.
+     * @return The notification. Has to be closed to release the data snapshot.
+     */
+    public Notification prepare(final URI target, final Entity entity,
+                                final List<Subscription> subscriptions) {
+        // Get list of non-ids subscribers.
+        final var recipients = getLocations(subscriptions,
+                subscription -> !subscription.isIdsProtocol() && !subscription.isPushData());
+
+        // Get list of non-ids subscribers with isPushData == true.
+        final var recipientsWithData = getLocations(subscriptions,
+                subscription -> !subscription.isIdsProtocol() && subscription.isPushData());
+
+        final var idsRecipients = getLocations(subscriptions, Subscription::isIdsProtocol);
+
+        final var resources = idsRecipients.isEmpty()
+                ? List.<Resource>of() : getIdsResourcesFromEntity(entity);
+
+        // Only send data if entity is of type artifact.
+        final var artifactId = !recipientsWithData.isEmpty() && entity instanceof Artifact
+                ? entity.getId() : null;
+
+        return new Notification(target, recipients, recipientsWithData, idsRecipients,
+                resources, artifactId);
+    }
+
+    /**
+     * Delivers a notification to all its subscribers and waits for the deliveries to finish. A
+     * failing delivery does not stop the others. The data of an artifact is read once and shared
+     * by all subscribers that requested it. Should not be called within a transaction.
+     *
+     * @param notification The notification.
+     * @return The locations of the subscribers that could not be notified.
+     */
+    public Set<URI> send(final Notification notification) {
+        if (notification.getArtifactId() != null) {
+            retrieveDataByArtifact(notification);
+        }
+
+        final var headers = new LinkedHashMap<String, String>();
+        headers.put("ids-target", notification.getTarget().toString());
+        headers.put("ids-event", Event.UPDATED.toString());
+
+        final var deliveries = new LinkedHashMap<URI, Delivery>();
+        for (final var recipient : notification.getRecipients()) {
+            deliveries.put(recipient, () -> sendNotification(recipient, headers,
+                    InputStream.nullInputStream()));
+        }
+        for (final var recipient : notification.getRecipientsWithData()) {
+            deliveries.put(recipient, () -> sendData(recipient, headers, notification));
+        }
+        for (final var recipient : notification.getIdsRecipients()) {
+            deliveries.put(recipient, () -> sendResourceUpdates(recipient,
+                    notification.getResources()));
+        }
+
+        final var failed = run(deliveries);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Notified subscribers. [target=({}), subscribers=({}), failed=({})]",
+                    notification.getTarget(), deliveries.size(), failed.size());
+        }
+
+        return failed;
+    }
+
+    private Set<URI> run(final Map<URI, Delivery> deliveries) {
+        // Notifications are sent one after another and each has one delivery per subscriber,
+        // so a subscriber never receives more than one request at a time.
+        final var pending = new LinkedHashMap<URI, Future<Boolean>>();
+        for (final var entry : deliveries.entrySet()) {
+            pending.put(entry.getKey(), getExecutor().submit(() -> entry.getValue().deliver()));
+        }
+
+        final var failed = new LinkedHashSet<URI>();
+        for (final var entry : pending.entrySet()) {
+            if (!isDelivered(entry.getKey(), entry.getValue())) {
+                failed.add(entry.getKey());
+            }
+        }
+
+        return failed;
+    }
+
+    private boolean isDelivered(final URI recipient, final Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not notify subscriber. [url=({}), exception=({})]",
+                        recipient, exception.getCause().getMessage());
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        return false;
+    }
+
+    @SuppressFBWarnings(
+            value = "REC_CATCH_EXCEPTION",
+            justification = "caught exceptions are unchecked"
+    )
+    private boolean sendResourceUpdates(final URI recipient, final List<Resource> resources) {
+        var delivered = true;
+
+        // Send update message for every found resource.
+        for (final var resource : resources) {
+            try {
+                if (connectorConfig.isIdscpEnabled()) {
+                    final var result = template.send("direct:resourceUpdateSender",
+                            ExchangeBuilder.anExchange(context)
+                                    .withProperty(ParameterUtils.RECIPIENT_PARAM, recipient)
+                                    .withProperty(ParameterUtils.RESOURCE_ID_PARAM,
+                                            resource.getId())
+                                    .build());
+                    final var response = result.getIn().getBody(Response.class);
+                    delivered &= logUpdateResult(recipient, response != null);
+                } else {
+                    final var response = messageSvc.sendResourceUpdateMessage(recipient, resource);
+                    delivered &= logUpdateResult(recipient, response.isPresent());
+                }
+            } catch (Exception e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("{} [url=({}), exception=({})]",
+                            ErrorMessage.UPDATE_MESSAGE_FAILED, recipient, e.getMessage());
+                }
+                delivered = false;
+            }
+        }
+
+        return delivered;
+    }
+
+    private static boolean logUpdateResult(final URI recipient, final boolean success) {
+        if (log.isDebugEnabled()) {
+            if (success) {
+                log.debug("Successfully sent update message. [url=({})]", recipient);
+            } else {
+                log.debug("{} [url=({})]", ErrorMessage.UPDATE_MESSAGE_FAILED, recipient);
+            }
+        }
+        return success;
+    }
+
+    private List<Resource> getIdsResourcesFromEntity(final Entity entity) {
+        var updatedResources = new ArrayList<Resource>();
+        if (entity instanceof OfferedResource) {
+            updatedResources.add(resourceBuilder.create((OfferedResource) entity));
+        } else if (entity instanceof Representation) {
+            // Get all resources linked to given representation.
+            final var resources = ((Representation) entity).getResources();
+            for (final var resource : resources) {
+                // Don't add requested resources to that list as ids participants should only know
+                // about offered resources.
+                if (resource instanceof OfferedResource) {
+                    updatedResources.add(resourceBuilder.create((OfferedResource) resource));
+                }
+            }
+        } else if (entity instanceof Artifact) {
+            // Get all representations linked to given representation.
+            final var representations = ((Artifact) entity).getRepresentations();
+            for (final var representation : representations) {
+                final var resources = representation.getResources();
+                for (final var resource : resources) {
+                    // Don't add requested resources to that list as ids participants should only
+                    // know about offered resources.
+                    if (resource instanceof OfferedResource) {
+                        updatedResources.add(resourceBuilder.create((OfferedResource) resource));
+                    }
+                }
+            }
+        }
+        return updatedResources;
+    }
+
+    /**
+     * Retrieve the data of the notified artifact and keep a snapshot of it. If access to the
+     * data is denied, the subscribers are notified without data. If the data cannot be read, the
+     * notification is marked for retry.
+     *
+     * @param notification The notification.
+     */
+    private void retrieveDataByArtifact(final Notification notification) {
+        final var id = notification.getArtifactId();
+        try {
+            notification.setData(DataSpool.of(artifactSvc.getData(accessVerifier, dataReceiver,
+                    id, new QueryInput(), null), spoolThreshold));
+        } catch (PolicyRestrictionException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Data access denied, notifying without data. [artifactId=({}), "
+                        + "exception=({})]", id, exception.getMessage());
+            }
+        } catch (IOException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to retrieve data. [exception=({})]", exception.getMessage());
+            }
+            notification.setDataMissing(true);
+        }
+    }
+
+    private boolean sendData(final URI recipient, final Map<String, String> notification,
+                             final Notification data) {
+        if (data.isDataMissing()) {
+            // Retried once the data can be read again.
+            return false;
+        }
+
+        try {
+            return sendNotification(recipient, notification, data.openData());
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not read data snapshot. [url=({}), exception=({})]",
+                        recipient, exception.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private boolean sendNotification(final URI recipient, final Map<String, String> notification,
+                                     final InputStream data) {
+        try (data) {
+            if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
+                return sendNotificationViaCamel(recipient, notification, data);
+            } else {
+                return sendNotificationViaHttp(recipient, notification, data);
+            }
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not notify subscriber. [url=({})]",
+                        recipient);
+            }
+            return false;
+        }
+    }
+
+    private boolean sendNotificationViaCamel(final URI recipient,
+                                             final Map<String, String> notification,
+                                             final InputStream data) {
+        try {
+            final var queryInput = new QueryInput();
+            queryInput.setHeaders(notification);
+            routeDataDispatcher.send(recipient, data, queryInput);
+            return true;
+        } catch (DataDispatchException | IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not notify subscriber. [url=({}), exception=({})]",
+                        recipient, exception.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private boolean sendNotificationViaHttp(final URI recipient,
+                                            final Map<String, String> notification,
+                                            final InputStream data) {
+        final var args = new HttpService.HttpArgs();
+        args.setHeaders(notification);
+        try {
+            httpService.post(recipient.toURL(), args, data);
+            return true;
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not notify subscriber. [url=({})]", recipient);
+            }
+            return false;
+        }
+    }
+
+    private static List<URI> getLocations(final List<Subscription> subscriptions,
+                                          final Predicate<Subscription> filter) {
+        return subscriptions.stream()
+                .filter(filter)
+                .map(Subscription::getLocation)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final var counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+                final var thread = new Thread(runnable,
+                        "subscriber-notification-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Delivers a notification to a single subscriber.
+     */
+    @FunctionalInterface
+    private interface Delivery {
+        /**
+         * Deliver the notification.
+         *
+         * @return True if the subscriber has been notified.
+         */
+        boolean deliver();
+    }
+
+    /**
+     * An update of an element together with the subscribers to notify.
+     */
+    @Getter
+    public static final class Notification implements Closeable {
+
+        /**
+         * The updated element.
+         */
+        private final URI target;
+
+        /**
+         * The non-ids subscribers.
+         */
+        private final List<URI> recipients;
+
+        /**
+         * The non-ids subscribers that receive the data.
+         */
+        private final List<URI> recipientsWithData;
+
+        /**
+         * The ids subscribers.
+         */
+        private final List<URI> idsRecipients;
+
+        /**
+         * The ids resources sent to ids subscribers.
+         */
+        private final List<Resource> resources;
+
+        /**
+         * The artifact whose data is sent. Null if no data is sent.
+         */
+        private final UUID artifactId;
+
+        /**
+         * True if the data of the artifact could not be read.
+         */
+        @Setter(AccessLevel.PACKAGE)
+        private boolean dataMissing;
+
+        /**
+         * The snapshot of the artifact data. Null if no data is sent.
+         */
+        @Getter(AccessLevel.NONE)
+        @Setter(AccessLevel.PACKAGE)
+        private DataSpool data;
+
+        /**
+         * Constructs a Notification.
+         *
+         * @param target             The updated element.
+         * @param recipients         The non-ids subscribers.
+         * @param recipientsWithData The non-ids subscribers that receive the data.
+         * @param idsRecipients      The ids subscribers.
+         * @param resources          The ids resources.
+         * @param artifactId         The artifact whose data is sent, if any.
+         */
+        Notification(final URI target, final List<URI> recipients,
+                     final List<URI> recipientsWithData, final List<URI> idsRecipients,
+                     final List<Resource> resources, final UUID artifactId) {
+            this.target = target;
+            this.recipients = Collections.unmodifiableList(recipients);
+            this.recipientsWithData = Collections.unmodifiableList(recipientsWithData);
+            this.idsRecipients = Collections.unmodifiableList(idsRecipients);
+            this.resources = Collections.unmodifiableList(resources);
+            this.artifactId = artifactId;
+        }
+
+        /**
+         * Open a stream on the data snapshot.
+         *
+         * @return The data, empty if there is none.
+         * @throws IOException if the snapshot cannot be read.
+         */
+        InputStream openData() throws IOException {
+            return data == null ? InputStream.nullInputStream() : data.openStream();
+        }
+
+        /**
+         * Releases the data snapshot.
+         */
+        @Override
+        public void close() {
+            if (data != null) {
+                data.close();
+            }
+        }
+    }
+}
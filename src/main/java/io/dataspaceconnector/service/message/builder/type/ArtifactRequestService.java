@@ -22,6 +22,9 @@ import de.fraunhofer.iais.eis.ArtifactResponseMessageImpl;
 import de.fraunhofer.iais.eis.Message;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
 import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.core.daps.ClaimsException;
+import de.fraunhofer.ids.messaging.core.daps.DapsValidator;
+import de.fraunhofer.ids.messaging.protocol.http.HttpService;
 import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.MessageException;
@@ -30,15 +33,20 @@ import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.ids.message.StreamingMultipartMessage;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.util.Utils;
+import io.dataspaceconnector.model.configuration.DeployMode;
 import io.dataspaceconnector.model.message.ArtifactRequestMessageDesc;
 import io.dataspaceconnector.service.message.builder.type.base.AbstractMessageService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import okhttp3.MultipartBody;
+import okhttp3.Request;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
 
@@ -61,6 +69,16 @@ public final class ArtifactRequestService
      */
     private final @NonNull ClearingHouseService clearingHouseService;
 
+    /**
+     * Plain http client of the messaging services, used where the response is streamed.
+     */
+    private final @NonNull HttpService httpService;
+
+    /**
+     * Service for validating DATs of streamed responses.
+     */
+    private final @NonNull DapsValidator dapsValidator;
+
     /**
      * @throws IllegalArgumentException     if desc is null.
      * @throws ConstraintViolationException if security tokes is null or another error appears
@@ -136,20 +154,8 @@ public final class ArtifactRequestService
     public Map<String, String> sendMessage(final URI recipient, final URI elementId,
                                            final URI agreementId, final QueryInput queryInput)
             throws MessageException, MessageResponseException, UnexpectedResponseException {
-        String payload = "";
-        if (queryInput != null) {
-            try {
-                payload = new ObjectMapper().writeValueAsString(queryInput);
-            } catch (JsonProcessingException e) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Failed to parse query. Loading everything. "
-                            + "[exception=({})]", e.getMessage(), e);
-                }
-            }
-        }
-
         final var desc = new ArtifactRequestMessageDesc(recipient, elementId, agreementId);
-        final var response = send(desc, payload);
+        final var response = send(desc, getPayload(queryInput));
 
         try {
             if (!validateResponse(response)) {
@@ -175,6 +181,122 @@ public final class ArtifactRequestService
         return response;
     }
 
+    /**
+     * Send artifact request message and validate the response header. Unlike
+     * {@link #sendMessage(URI, URI, URI, QueryInput)}, the payload of the response is not read
+     * into memory but handed out as a stream.
+     *
+     * @param recipient   The recipient.
+     * @param elementId   The requested artifact.
+     * @param agreementId The transfer contract.
+     * @param queryInput  The query input.
+     * @return The response. Has to be closed by the caller.
+     * @throws MessageException            if message handling failed.
+     * @throws MessageResponseException    if the response could not be processed.
+     * @throws UnexpectedResponseException if the response is not as expected.
+     */
+    public StreamingMultipartMessage sendStreaming(final URI recipient, final URI elementId,
+                                                   final URI agreementId,
+                                                   final QueryInput queryInput)
+            throws MessageException, MessageResponseException, UnexpectedResponseException {
+        final var desc = new ArtifactRequestMessageDesc(recipient, elementId, agreementId);
+        final var response = send(desc, getPayload(queryInput), this::sendAndStream);
+
+        try {
+            final var idsMessage = deserializer.getMessage(response.getHeader());
+            if (!getResponseMessageType().equals(idsMessage.getClass())) {
+                // Rejections are small, read them completely to report their content.
+                final var content = getResponseContent(idsMessage, response.readPayload());
+                if (log.isDebugEnabled()) {
+                    log.debug("Data could not be loaded. [content=({})]", content);
+                }
+                throw new UnexpectedResponseException(content);
+            }
+
+            // Log response header in the Clearing House
+            clearingHouseService.logIdsMessage(idsMessage);
+            return response;
+        } catch (IOException e) {
+            close(response);
+            throw new MessageResponseException(ErrorMessage.INVALID_MESSAGE, e);
+        } catch (UnexpectedResponseException | RuntimeException e) {
+            close(response);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the message and reads only the header of the response. The payload is left in the
+     * connection.
+     *
+     * @param body      The multipart message.
+     * @param recipient The recipient.
+     * @return The response. Has to be closed by the caller.
+     * @throws IOException     if the message could not be sent or the recipient did not answer
+     *                         with a success status.
+     * @throws ClaimsException if the DAT of the response is invalid.
+     */
+    private StreamingMultipartMessage sendAndStream(final MultipartBody body, final URI recipient)
+            throws IOException, ClaimsException {
+        final var request = new Request.Builder().url(recipient.toString()).post(body).build();
+        final var httpResponse = httpService.send(request);
+        if (!httpResponse.isSuccessful()) {
+            // Never hand out an error body as artifact data.
+            final var code = httpResponse.code();
+            httpResponse.close();
+            throw new IOException("Received unexpected response. [code=(" + code + ")]");
+        }
+
+        final var response = StreamingMultipartMessage.read(httpResponse);
+        try {
+            checkDat(response.getHeader());
+            return response;
+        } catch (ClaimsException | RuntimeException e) {
+            close(response);
+            throw e;
+        }
+    }
+
+    /**
+     * Validates the DAT of a response, unless the connector runs in test mode.
+     *
+     * @param header The header of the response.
+     * @throws ClaimsException                     if the DAT is not valid.
+     * @throws io.jsonwebtoken.ExpiredJwtException if the DAT has expired.
+     */
+    private void checkDat(final String header) throws ClaimsException {
+        if (getConnectorService().getDeployMethod() == DeployMode.TEST) {
+            return;
+        }
+
+        dapsValidator.getClaims(deserializer.getMessage(header).getSecurityToken());
+    }
+
+    private static String getPayload(final QueryInput queryInput) {
+        if (queryInput != null) {
+            try {
+                return new ObjectMapper().writeValueAsString(queryInput);
+            } catch (JsonProcessingException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to parse query. Loading everything. "
+                            + "[exception=({})]", e.getMessage(), e);
+                }
+            }
+        }
+
+        return "";
+    }
+
+    private static void close(final StreamingMultipartMessage response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to release response. [exception=({})]", e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Check if the response message is of type artifact response.
      *
@@ -32,6 +32,7 @@ import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.model.message.MessageDesc;
+import io.jsonwebtoken.ExpiredJwtException;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -42,6 +43,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import javax.net.ssl.SSLHandshakeException;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -114,6 +116,23 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
      */
     public Map<String, String> send(final D desc, final Object payload) throws MessageException,
             MessageResponseException {
+        return send(desc, payload, idsHttpService::sendAndCheckDat);
+    }
+
+    /**
+     * Build and sent a multipart message with header and payload, using the given transport for
+     * sending it and reading the response.
+     *
+     * @param desc      Type-specific message parameter.
+     * @param payload   The message's payload.
+     * @param transport Sends the message and reads the response.
+     * @param <T>       The type of the response.
+     * @return The response.
+     * @throws MessageException         if message building, sending, or processing failed.
+     * @throws MessageResponseException if response processing failed.
+     */
+    protected <T> T send(final D desc, final Object payload, final Transport<T> transport)
+            throws MessageException, MessageResponseException {
         try {
             final var recipient = desc.getRecipient();
             final var header = buildMessage(desc);
@@ -123,7 +142,7 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
                 log.debug("Built request message. [header=({}), payload=({})]", header, payload);
             }
 
-            return idsHttpService.sendAndCheckDat(body, recipient);
+            return transport.send(body, recipient);
         } catch (SerializeException | ConstraintViolationException | IllegalArgumentException e) {
             final var msg = ErrorMessage.MESSAGE_BUILDING_FAILED;
             if (log.isWarnEnabled()) {
@@ -142,7 +161,7 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
                 log.debug(msg + " [exception=({})]", e.getMessage(), e);
             }
             throw new MessageException(msg, e);
-        } catch (ClaimsException e) {
+        } catch (ClaimsException | ExpiredJwtException e) {
             final var msg = ErrorMessage.INVALID_DAT;
             if (log.isDebugEnabled()) {
                 log.debug(msg + " [exception=({})]", e.getMessage(), e);
@@ -163,6 +182,29 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
         }
     }
 
+    /**
+     * Sends a multipart message and reads the response.
+     *
+     * @param <T> The type of the response.
+     */
+    @FunctionalInterface
+    protected interface Transport<T> {
+        /**
+         * Send the message.
+         *
+         * @param body      The multipart message.
+         * @param recipient The recipient.
+         * @return The response.
+         * @throws IOException              if the message could not be sent.
+         * @throws ClaimsException          if the DAT of the response is invalid.
+         * @throws MultipartParseException  if the response could not be parsed.
+         * @throws DeserializeException     if the response header could not be read.
+         * @throws ShaclValidatorException  if the response header is invalid.
+         */
+        T send(MultipartBody body, URI recipient) throws IOException, ClaimsException,
+                MultipartParseException, DeserializeException, ShaclValidatorException;
+    }
+
     /**
      * Checks if the response message is of the right type.
      *
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler.dto;
+
+import de.fraunhofer.iais.eis.Message;
+import de.fraunhofer.iais.eis.ids.jsonld.Serializer;
+import de.fraunhofer.ids.messaging.response.MessageResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Multipart response whose payload part is written from a stream. Unlike
+ * {@link de.fraunhofer.ids.messaging.response.BodyResponse}, the payload is never materialized
+ * as a string.
+ */
+@RequiredArgsConstructor
+public class StreamingBodyResponse implements MessageResponse {
+
+    /**
+     * The name of the header part.
+     */
+    private static final String HEADER = "header";
+
+    /**
+     * The name of the payload part.
+     */
+    private static final String PAYLOAD = "payload";
+
+    /**
+     * The response header.
+     */
+    private final @NonNull Message header;
+
+    /**
+     * The encoded payload.
+     */
+    private final @NonNull InputStream payload;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> createMultipartMap(final Serializer serializer)
+            throws IOException {
+        final var headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+
+        final var multiMap = new LinkedHashMap<String, Object>();
+        multiMap.put(HEADER, serializer.serialize(header));
+        multiMap.put(PAYLOAD, new HttpEntity<>(new InputStreamResource(payload), headers));
+        return multiMap;
+    }
+}
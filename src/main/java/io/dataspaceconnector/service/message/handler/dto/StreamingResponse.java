@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler.dto;
+
+import de.fraunhofer.iais.eis.Message;
+import lombok.NonNull;
+import org.apache.commons.codec.binary.Base64InputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link Response} carrying artifact data as a stream. The data is Base64 encoded while it is
+ * read, so neither the data nor its encoding has to be held in memory. The stream can be consumed
+ * once, either through {@link #getEncodedStream()} or, for consumers requiring the payload as a
+ * string, through {@link #getBody()}.
+ */
+public class StreamingResponse extends Response {
+
+    /**
+     * The raw data.
+     */
+    private final @NonNull InputStream data;
+
+    /**
+     * True if the data has been handed out.
+     */
+    private boolean consumed;
+
+    /**
+     * The encoded payload, once it has been requested as a string.
+     */
+    private String encoded;
+
+    /**
+     * Constructs a StreamingResponse.
+     *
+     * @param header The header.
+     * @param data   The raw data.
+     */
+    public StreamingResponse(final @NonNull Message header, final @NonNull InputStream data) {
+        super(header, "");
+        this.data = data;
+    }
+
+    /**
+     * Get the Base64 encoded data as a stream. The data is encoded without line breaks, equal to
+     * {@link #getBody()}.
+     *
+     * @return The encoded data.
+     * @throws IllegalStateException if the data has already been consumed.
+     */
+    public synchronized InputStream getEncodedStream() {
+        if (consumed) {
+            throw new IllegalStateException("The data has already been consumed.");
+        }
+
+        consumed = true;
+        return new Base64InputStream(data, true, 0, null);
+    }
+
+    /**
+     * Get the Base64 encoded data as a string. Reads the complete data into memory and should
+     * only be used where the payload cannot be streamed.
+     *
+     * @return The encoded data.
+     * @throws UncheckedIOException if the data cannot be read.
+     */
+    @Override
+    public synchronized String getBody() {
+        if (encoded == null) {
+            try (var stream = getEncodedStream()) {
+                encoded = new String(stream.readAllBytes(), StandardCharsets.US_ASCII);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        return encoded;
+    }
+
+    /**
+     * Compares by identity, since the content can only be read once.
+     *
+     * @param other The other object.
+     * @return True if both are the same instance.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return this == other;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    /**
+     * Does not include the body to not consume the data.
+     *
+     * @return The string representation.
+     */
+    @Override
+    public String toString() {
+        return "StreamingResponse(header=" + getHeader().getId() + ")";
+    }
+}
@@ -21,11 +21,13 @@ import de.fraunhofer.ids.messaging.handler.message.MessagePayload;
 import io.dataspaceconnector.common.exception.InvalidInputException;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.model.message.ArtifactResponseMessageDesc;
 import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.service.message.builder.type.ArtifactResponseService;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
+import io.dataspaceconnector.service.message.handler.dto.StreamingResponse;
 import io.dataspaceconnector.service.message.handler.processor.base.IdsProcessor;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
@@ -33,7 +35,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
 /**
  * Fetches the data of an artifact as the response to an ArtifactRequestMessage.
@@ -60,6 +61,7 @@ class DataRequestProcessor extends IdsProcessor<
      *
      * @param msg the incoming message.
      * @return a Response object with an ArtifactResponseMessage as header and the data as payload.
+     * The data is encoded while the response is written.
      * @throws Exception if the {@link QueryInput} given in the request's payload is invalid or
      *                   there is an error fetching the data or an error occurs building the
      *                   response.
@@ -78,7 +80,8 @@ class DataRequestProcessor extends IdsProcessor<
         final var desc = new ArtifactResponseMessageDesc(issuer, messageId, transferContract);
         final var responseHeader = messageService.buildMessage(desc);
 
-        return new Response(responseHeader, Base64Utils.encodeToString(data.readAllBytes()));
+        return new StreamingResponse(responseHeader,
+                MetricUtils.countTransfer(data, MetricUtils.SERVED));
     }
 
     /**
@@ -19,7 +19,6 @@ import de.fraunhofer.iais.eis.DescriptionRequestMessageImpl;
 import de.fraunhofer.ids.messaging.handler.message.MessagePayload;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
-import io.dataspaceconnector.common.ids.mapping.RdfConverter;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
 import io.dataspaceconnector.service.message.builder.type.DescriptionResponseService;
 import io.dataspaceconnector.service.message.handler.dto.Response;
@@ -64,13 +63,13 @@ class SelfDescriptionProcessor extends IdsProcessor<
             MessagePayload> msg, final Jws<Claims> claims) throws Exception {
         final var issuer = MessageUtils.extractIssuerConnector(msg.getHeader());
         final var messageId = MessageUtils.extractMessageId(msg.getHeader());
-        final var connector = connectorService.getConnectorWithOfferedResources();
+        final var description = connectorService.getSelfDescription();
 
         // Build ids response message.
         final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
         final var header = messageService.buildMessage(desc);
 
         // Send ids response message.
-        return new Response(header, RdfConverter.toRdf(connector));
+        return new Response(header, description.getRdf());
     }
 }
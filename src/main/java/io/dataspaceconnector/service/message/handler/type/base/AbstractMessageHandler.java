@@ -23,8 +23,11 @@ import de.fraunhofer.ids.messaging.response.BodyResponse;
 import de.fraunhofer.ids.messaging.response.ErrorResponse;
 import de.fraunhofer.ids.messaging.response.MessageResponse;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.service.message.handler.dto.Request;
 import io.dataspaceconnector.service.message.handler.dto.Response;
+import io.dataspaceconnector.service.message.handler.dto.StreamingBodyResponse;
+import io.dataspaceconnector.service.message.handler.dto.StreamingResponse;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import lombok.AccessLevel;
@@ -76,13 +79,19 @@ public abstract class AbstractMessageHandler<T extends Message>
                                          final MessagePayload payload,
                                          final Optional<Jws<Claims>> claims)
             throws RuntimeException {
+        final var sample = MetricUtils.start();
         final var result = template.send(getHandlerRouteDirect(),
                 ExchangeBuilder.anExchange(context)
                         .withBody(new Request<>(message, payload, claims))
                         .build());
 
         final var response = result.getIn().getBody(Response.class);
-        if (response != null) {
+        MetricUtils.stop(sample, MetricUtils.MESSAGE_HANDLING, response != null,
+                "route", getHandlerRouteDirect());
+        if (response instanceof StreamingResponse) {
+            return new StreamingBodyResponse(response.getHeader(),
+                    ((StreamingResponse) response).getEncodedStream());
+        } else if (response != null) {
             return BodyResponse.create(response.getHeader(), response.getBody());
         } else {
             final var errorResponse = result.getIn().getBody(ErrorResponse.class);
@@ -87,15 +87,27 @@ public abstract class AbstractRelationService<K extends Entity, W extends Entity
     protected abstract List<W> getInternal(K owner);
 
     /**
-     * Receives a page of children assigned to the entity.
+     * Receives the name of the owner's attribute holding the children.
+     *
+     * @return The name of the attribute.
+     */
+    protected abstract String getRelationName();
+
+    /**
+     * Receives a page of children assigned to the entity. Paged requests are answered by the
+     * database, so that only the requested children are loaded.
      *
      * @param owner    The entity whose children should be received.
      * @param pageable The children assigned to the entity.
      * @return The page of the children entities.
      */
     protected Page<W> getInternal(final K owner, final Pageable pageable) {
-        final var entities = getInternal(owner);
-        return Utils.toPage(entities, pageable);
+        if (pageable.isUnpaged()) {
+            // All children are requested anyway.
+            return Utils.toPage(getInternal(owner), pageable);
+        }
+
+        return oneService.getRepository().findRelation(owner, getRelationName(), pageable);
     }
 
     /**
@@ -30,7 +30,9 @@ import lombok.Setter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The base service implements base logic for persistent entities.
@@ -53,6 +55,21 @@ public class BaseEntityService<T extends Entity, D extends Description>
      **/
     private final @NonNull AbstractFactory<T, D> factory;
 
+    /**
+     * Listeners notified about persisted and deleted entities.
+     **/
+    @Getter(AccessLevel.NONE)
+    private final List<EntityChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Register a listener that is notified about persisted and deleted entities.
+     *
+     * @param listener The listener.
+     */
+    public void addChangeListener(final EntityChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
     /**
      * Creates a new persistent entity.
      *
@@ -148,6 +165,7 @@ public class BaseEntityService<T extends Entity, D extends Description>
     public void delete(final UUID entityId) {
         Utils.requireNonNull(entityId, ErrorMessage.ENTITYID_NULL);
         repository.deleteById(entityId);
+        notifyDeleted(entityId);
     }
 
     /**
@@ -157,6 +175,33 @@ public class BaseEntityService<T extends Entity, D extends Description>
      * @return The persisted entity.
      */
     protected T persist(final T entity) {
-        return repository.saveAndFlush(entity);
+        final var persisted = repository.saveAndFlush(entity);
+        notifyPersisted(persisted);
+
+        return persisted;
+    }
+
+    /**
+     * Notifies the listeners about a changed entity. Only required by services that update
+     * entities without {@link #persist(Entity)}.
+     *
+     * @param entity The changed entity.
+     */
+    protected void notifyPersisted(final T entity) {
+        for (final var listener : changeListeners) {
+            listener.onPersisted(entity);
+        }
+    }
+
+    /**
+     * Notifies the listeners about a deleted entity. Only required by services that do not
+     * delete through {@link #delete(UUID)}.
+     *
+     * @param entityId The id of the deleted entity.
+     */
+    protected void notifyDeleted(final UUID entityId) {
+        for (final var listener : changeListeners) {
+            listener.onDeleted(entityId);
+        }
     }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource.base;
+
+import io.dataspaceconnector.model.base.Entity;
+
+import java.util.UUID;
+
+/**
+ * Listener for changes made through an entity service.
+ */
+public interface EntityChangeListener {
+    /**
+     * Called after an entity has been created or updated.
+     *
+     * @param entity The persisted entity.
+     */
+    void onPersisted(Entity entity);
+
+    /**
+     * Called after an entity has been deleted.
+     *
+     * @param entityId The id of the deleted entity.
+     */
+    void onDeleted(UUID entityId);
+}
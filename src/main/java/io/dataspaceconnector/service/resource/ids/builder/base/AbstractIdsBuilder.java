@@ -111,7 +111,9 @@ public abstract class AbstractIdsBuilder<T extends Entity, X extends ModelClass>
 
     /**
      * Batch call of create. Use this call for building an object's dependencies. This function
-     * increments the currentDepth.
+     * increments the currentDepth. The relations of the entities are initialized in batches
+     * (see hibernate.default_batch_fetch_size), so a level of the object graph costs one query
+     * per relation and batch instead of one per entity.
      *
      * @param builder      The builder applied to all objects.
      * @param entityList   The entities that need to be converted.
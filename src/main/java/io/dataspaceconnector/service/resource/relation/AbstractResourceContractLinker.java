@@ -42,4 +42,9 @@ public abstract class AbstractResourceContractLinker<T extends Resource>
     protected List<Contract> getInternal(final Resource owner) {
         return owner.getContracts();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "contracts";
+    }
 }
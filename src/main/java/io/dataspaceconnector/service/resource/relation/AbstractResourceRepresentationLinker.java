@@ -43,4 +43,9 @@ public abstract class AbstractResourceRepresentationLinker<T extends Resource>
     protected List<Representation> getInternal(final Resource owner) {
         return owner.getRepresentations();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "representations";
+    }
 }
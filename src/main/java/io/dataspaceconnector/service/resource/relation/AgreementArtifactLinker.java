@@ -37,4 +37,9 @@ public class AgreementArtifactLinker extends OwningRelationService<Agreement, Ar
     protected final List<Artifact> getInternal(final Agreement owner) {
         return owner.getArtifacts();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "artifacts";
+    }
 }
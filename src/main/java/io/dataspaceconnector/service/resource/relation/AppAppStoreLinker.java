@@ -38,4 +38,9 @@ public class AppAppStoreLinker extends NonOwningRelationService<App, AppStore,
     protected final List<AppStore> getInternal(final App owner) {
         return owner.getAppStore() == null ? new ArrayList<>() : List.of(owner.getAppStore());
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "appStore";
+    }
 }
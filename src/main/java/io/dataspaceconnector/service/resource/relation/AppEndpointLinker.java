@@ -37,4 +37,9 @@ public class AppEndpointLinker extends OwningRelationService<App, AppEndpointImp
     public final List<AppEndpointImpl> getInternal(final App owner) {
         return owner.getEndpoints();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "endpoints";
+    }
 }
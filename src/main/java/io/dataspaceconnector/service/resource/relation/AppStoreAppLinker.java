@@ -37,4 +37,9 @@ public class AppStoreAppLinker extends OwningRelationService<AppStore, App, AppS
     protected final List<App> getInternal(final AppStore owner) {
         return owner.getApps();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "apps";
+    }
 }
@@ -37,4 +37,9 @@ public class ArtifactAgreementLinker extends NonOwningRelationService<Artifact,
     protected final List<Agreement> getInternal(final Artifact owner) {
         return owner.getAgreements();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "agreements";
+    }
 }
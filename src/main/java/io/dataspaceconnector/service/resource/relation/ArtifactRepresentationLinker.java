@@ -37,4 +37,9 @@ public class ArtifactRepresentationLinker extends NonOwningRelationService<Artif
     protected final List<Representation> getInternal(final Artifact owner) {
         return owner.getRepresentations();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "representations";
+    }
 }
@@ -37,4 +37,9 @@ public class ArtifactSubscriptionLinker extends OwningRelationService<Artifact,
     protected final List<Subscription> getInternal(final Artifact owner) {
         return owner.getSubscriptions();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "subscriptions";
+    }
 }
@@ -37,4 +37,9 @@ public class BrokerOfferedResourceLinker extends OwningRelationService<Broker, O
     protected final List<OfferedResource> getInternal(final Broker owner) {
         return owner.getOfferedResources();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "offeredResources";
+    }
 }
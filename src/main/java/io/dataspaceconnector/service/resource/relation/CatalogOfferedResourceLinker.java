@@ -34,4 +34,9 @@ public final class CatalogOfferedResourceLinker
     protected List<OfferedResource> getInternal(final Catalog owner) {
         return owner.getOfferedResources();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "offeredResources";
+    }
 }
@@ -34,4 +34,9 @@ public final class CatalogRequestedResourceLinker
     protected List<RequestedResource> getInternal(final Catalog owner) {
         return owner.getRequestedResources();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "requestedResources";
+    }
 }
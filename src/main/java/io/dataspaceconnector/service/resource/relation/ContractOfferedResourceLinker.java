@@ -38,4 +38,9 @@ public class ContractOfferedResourceLinker extends NonOwningRelationService<Cont
     protected final List<OfferedResource> getInternal(final Contract owner) {
         return (List<OfferedResource>) (List<?>) owner.getResources();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "resources";
+    }
 }
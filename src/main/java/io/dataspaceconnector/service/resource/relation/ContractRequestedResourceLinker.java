@@ -38,4 +38,9 @@ public class ContractRequestedResourceLinker extends NonOwningRelationService<Co
     protected final List<RequestedResource> getInternal(final Contract owner) {
         return (List<RequestedResource>) (List<?>) owner.getResources();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "resources";
+    }
 }
@@ -42,4 +42,9 @@ public class ContractRuleLinker extends OwningRelationService<Contract, Contract
     protected List<ContractRule> getInternal(final Contract owner) {
         return owner.getRules();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "rules";
+    }
 }
@@ -37,4 +37,9 @@ public class OfferedResourceBrokerLinker extends OwningRelationService<OfferedRe
     protected final List<Broker> getInternal(final OfferedResource owner) {
         return owner.getBrokers();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "brokers";
+    }
 }
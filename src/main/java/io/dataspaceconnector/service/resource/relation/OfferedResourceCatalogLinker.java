@@ -37,4 +37,9 @@ public class OfferedResourceCatalogLinker extends NonOwningRelationService<Offer
     protected final List<Catalog> getInternal(final OfferedResource owner) {
         return owner.getCatalogs();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "catalogs";
+    }
 }
@@ -43,4 +43,9 @@ public class OfferedResourceSubscriptionLinker extends OwningRelationService<Off
     protected List<Subscription> getInternal(final OfferedResource owner) {
         return owner.getSubscriptions();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "subscriptions";
+    }
 }
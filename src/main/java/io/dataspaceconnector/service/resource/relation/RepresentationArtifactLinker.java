@@ -43,4 +43,9 @@ public class RepresentationArtifactLinker extends OwningRelationService<Represen
     protected List<Artifact> getInternal(final Representation owner) {
         return owner.getArtifacts();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "artifacts";
+    }
 }
@@ -38,4 +38,9 @@ public class RepresentationOfferedResourceLinker extends NonOwningRelationServic
     protected final List<OfferedResource> getInternal(final Representation owner) {
         return (List<OfferedResource>) (List<?>) owner.getResources();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "resources";
+    }
 }
@@ -38,4 +38,9 @@ public class RepresentationRequestedResourceLinker extends NonOwningRelationServ
     protected final List<RequestedResource> getInternal(final Representation owner) {
         return (List<RequestedResource>) (List<?>) owner.getResources();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "resources";
+    }
 }
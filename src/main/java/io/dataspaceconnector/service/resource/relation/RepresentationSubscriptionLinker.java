@@ -37,4 +37,9 @@ public class RepresentationSubscriptionLinker extends OwningRelationService<Repr
     protected final List<Subscription> getInternal(final Representation owner) {
         return owner.getSubscriptions();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "subscriptions";
+    }
 }
@@ -37,4 +37,9 @@ public class RequestedResourceCatalogLinker extends NonOwningRelationService<Req
     protected final List<Catalog> getInternal(final RequestedResource owner) {
         return owner.getCatalogs();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "catalogs";
+    }
 }
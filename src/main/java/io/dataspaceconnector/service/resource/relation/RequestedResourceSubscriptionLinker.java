@@ -43,4 +43,9 @@ public class RequestedResourceSubscriptionLinker extends OwningRelationService<R
     protected List<Subscription> getInternal(final RequestedResource owner) {
         return owner.getSubscriptions();
     }
+
+    @Override
+    protected String getRelationName() {
+        return "subscriptions";
+    }
 }
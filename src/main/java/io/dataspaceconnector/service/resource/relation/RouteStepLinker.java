@@ -35,4 +35,9 @@ public class RouteStepLinker extends OwningRelationService<Route, Route, RouteSe
     public final List<Route> getInternal(final Route owner) {
         return owner.getSteps();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "steps";
+    }
 }
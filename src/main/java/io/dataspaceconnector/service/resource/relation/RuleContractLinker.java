@@ -37,4 +37,9 @@ public class RuleContractLinker extends NonOwningRelationService<ContractRule, C
     protected final List<Contract> getInternal(final ContractRule owner) {
         return owner.getContracts();
     }
+
+    @Override
+    protected final String getRelationName() {
+        return "contracts";
+    }
 }
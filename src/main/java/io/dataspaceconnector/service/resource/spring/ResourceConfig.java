@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.resource.spring;
 
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.agreement.AgreementFactory;
@@ -79,6 +80,7 @@ import io.dataspaceconnector.service.resource.type.SubscriptionService;
 import io.dataspaceconnector.service.routing.BeanManager;
 import io.dataspaceconnector.service.routing.RouteHelper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -91,13 +93,17 @@ public class ResourceConfig {
     /**
      * Create an agreement service bean.
      *
-     * @param repo The agreement repo.
+     * @param repo        The agreement repo.
+     * @param policyCache The cache of deserialized policies.
      * @return The agreement service.
      */
     @Bean("agreementService")
     public AgreementService createAgreementService(
-            @Qualifier("agreementRepository") final AgreementRepository repo) {
-        return new AgreementService(repo, new AgreementFactory());
+            @Qualifier("agreementRepository") final AgreementRepository repo,
+            final PolicyCache policyCache) {
+        final var service = new AgreementService(repo, new AgreementFactory());
+        service.setPolicyCache(policyCache);
+        return service;
     }
 
     /**
@@ -109,6 +115,7 @@ public class ResourceConfig {
      * @param artifactRouteSvc The artifact-route-relation service.
      * @param retriever        The data retriever.
      * @param dispatcher       The route data dispatcher.
+     * @param spoolThreshold   The bytes per transfer that are buffered in memory.
      * @return The artifact service bean.
      */
     @Bean("artifactService")
@@ -118,9 +125,12 @@ public class ResourceConfig {
             final AuthenticationRepository authRepo,
             final ArtifactRouteService artifactRouteSvc,
             final DataRetriever retriever,
-            final RouteDataDispatcher dispatcher) {
-        return new ArtifactService(repository, new ArtifactFactory(),
+            final RouteDataDispatcher dispatcher,
+            @Value("${data.spool.threshold:1048576}") final long spoolThreshold) {
+        final var service = new ArtifactService(repository, new ArtifactFactory(),
                 dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher);
+        service.setSpoolThreshold(spoolThreshold);
+        return service;
     }
 
     /**
@@ -296,12 +306,16 @@ public class ResourceConfig {
     /**
      * Create a rule service bean.
      *
-     * @param repo The rule repository.
+     * @param repo        The rule repository.
+     * @param policyCache The cache of deserialized policies.
      * @return The rule service bean.
      */
     @Bean("ruleService")
-    public RuleService createRuleService(final RuleRepository repo) {
-        return new RuleService(repo, new ContractRuleFactory());
+    public RuleService createRuleService(final RuleRepository repo,
+                                         final PolicyCache policyCache) {
+        final var service = new RuleService(repo, new ContractRuleFactory());
+        service.setPolicyCache(policyCache);
+        return service;
     }
 
     /**
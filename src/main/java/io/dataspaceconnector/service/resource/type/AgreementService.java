@@ -15,18 +15,28 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.model.agreement.AgreementDesc;
 import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.repository.AgreementRepository;
 import io.dataspaceconnector.repository.BaseEntityRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
 
 /**
  * Handles the basic logic for contracts.
  */
 public class AgreementService extends BaseEntityService<Agreement, AgreementDesc> {
 
+    /**
+     * Cache of deserialized policies. Optional.
+     */
+    private PolicyCache policyCache;
+
     /**
      * Constructor.
      *
@@ -39,6 +49,54 @@ public class AgreementService extends BaseEntityService<Agreement, AgreementDesc
         super(repository, factory);
     }
 
+    /**
+     * Set the cache holding deserialized policies, which is invalidated on every change.
+     *
+     * @param cache The policy cache.
+     */
+    public void setPolicyCache(final PolicyCache cache) {
+        this.policyCache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Agreement persist(final Agreement entity) {
+        // Also covers linking and unlinking artifacts, which persists the agreement.
+        final var persisted = super.persist(entity);
+        evict(persisted.getId());
+        return persisted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(final UUID entityId) {
+        super.delete(entityId);
+        evict(entityId);
+    }
+
+    private void evict(final UUID entityId) {
+        if (policyCache == null) {
+            return;
+        }
+
+        policyCache.evict(entityId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Reads running before the commit may have cached the old agreement again.
+            final var cache = policyCache;
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            cache.evict(entityId);
+                        }
+                    });
+        }
+    }
+
     /**
      * Compares the agreement with the persisted one. If they are equal the agreement will be
      * confirmed.
@@ -17,6 +17,7 @@ package io.dataspaceconnector.service.resource.type;
 
 import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
+import io.dataspaceconnector.common.file.DataSpool;
 import io.dataspaceconnector.model.app.App;
 import io.dataspaceconnector.model.app.AppDesc;
 import io.dataspaceconnector.model.app.AppFactory;
@@ -128,9 +129,10 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
                                 final LocalData localData) throws IOException {
         try {
             // Update the internal database and return the new data.
-            final var bytes = data.readAllBytes();
-            data.close();
-            dataRepo.setLocalData(localData.getId(), bytes);
+            try (var spool = DataSpool.of(data, DataSpool.DEFAULT_THRESHOLD);
+                 var value = spool.openStream()) {
+                dataRepo.writeLocalData(localData.getId(), value, spool.getSize());
+            }
         } catch (IOException e) {
             if (log.isErrorEnabled()) {
                 log.error("Failed to store data. [artifactId=({}), exception=({})]",
@@ -146,8 +148,9 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
      *
      * @param app The app.
      * @return The data as input stream.
+     * @throws IOException if the data cannot be read.
      */
-    public InputStream getDataFromInternalDB(final AppImpl app) {
+    public InputStream getDataFromInternalDB(final AppImpl app) throws IOException {
         final var data = app.getData();
 
         InputStream rawData;
@@ -160,12 +163,15 @@ public class AppService extends BaseEntityService<App, AppDesc> implements Remot
         return rawData;
     }
 
-    private InputStream getData(final LocalData data) {
-        return toInputStream(data.getValue());
-    }
+    private InputStream getData(final LocalData data) throws IOException {
+        if (data.getId() == null) {
+            return new ByteArrayInputStream(data.getValue());
+        }
 
-    private InputStream toInputStream(final byte[] data) {
-        return new ByteArrayInputStream(data);
+        final var spool = DataSpool.ofWriter(
+                target -> dataRepo.readLocalData(data.getId(), target),
+                DataSpool.DEFAULT_THRESHOLD);
+        return spool.toInputStream();
     }
 
     /**
@@ -15,7 +15,6 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -28,12 +27,15 @@ import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.InvalidEntityException;
 import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.file.DataSpool;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
 import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
 import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
@@ -95,6 +97,12 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      */
     private final @NonNull RouteDataDispatcher routeDispatcher;
 
+    /**
+     * The maximum number of bytes per transfer that are buffered in memory before spilling the
+     * data to disk.
+     */
+    private long spoolThreshold = DataSpool.DEFAULT_THRESHOLD;
+
     /**
      * Constructor for ArtifactService.
      *
@@ -121,6 +129,15 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         this.routeDispatcher = routeDataDispatcher;
     }
 
+    /**
+     * Set the maximum number of bytes per transfer that are buffered in memory.
+     *
+     * @param threshold The threshold in bytes.
+     */
+    public void setSpoolThreshold(final long threshold) {
+        this.spoolThreshold = threshold;
+    }
+
     /**
      * Creates a new artifact and the corresponding data. If it references a route, the route link
      * is also created and the route is deployed in Camel.
@@ -143,12 +160,10 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                 var data = (RemoteData) tmp.getData();
                 data.getAuthentication().forEach(authRepo::saveAndFlush);
             }
+            // Size and checksum of local data have been set by the factory.
             final var persistedData = dataRepo.saveAndFlush(tmp.getData());
 
-            if (tmp.getData() instanceof LocalData) {
-                final var factory = (ArtifactFactory) getFactory();
-                factory.updateByteSize(artifact, ((LocalData) tmp.getData()).getValue());
-            } else if (tmp.getData() instanceof RemoteData) {
+            if (tmp.getData() instanceof RemoteData) {
                 final var url = ((RemoteData) tmp.getData()).getAccessUrl();
                 artifactRouteSvc.ensureSingleArtifactPerRoute(url, artifact.getId());
                 artifactRouteSvc.checkForValidRoute(url);
@@ -206,8 +221,6 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             }
 
             if (tmp.getData() instanceof LocalData) {
-                final var factory = (ArtifactFactory) getFactory();
-                factory.updateByteSize(artifact, ((LocalData) tmp.getData()).getValue());
                 artifact = persist(artifact);
             } else if (tmp.getData() instanceof RemoteData) {
                 final var url = ((RemoteData) tmp.getData()).getAccessUrl();
@@ -265,7 +278,20 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         // The artifact is not assigned to any requested resources. It must be offered if it exists.
         final var artifact = get(artifactId);
         var data = dataRetriever.retrieveData((ArtifactImpl) artifact, queryInput);
-        return returnData(artifact, data, routeIds);
+        return returnData(artifact, data, routeIds, null);
+    }
+
+    /**
+     * Checks whether a data request without agreement is answered from the local storage as is,
+     * without verifying an agreement or downloading the data first. This is the case for
+     * artifacts that are not linked to the agreement of a requested resource.
+     *
+     * @param artifactId The id of the artifact.
+     * @return True if the stored data is returned.
+     */
+    public boolean isServedFromStorage(final UUID artifactId) {
+        return ((ArtifactRepository) getRepository()).findRemoteOriginAgreements(artifactId)
+                .isEmpty();
     }
 
     private InputStream tryToAccessDataByUsingAnyAgreement(
@@ -311,16 +337,19 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * Increases the access counter before returning data. If a list of route IDs for dispatching
      * the data is specified, the data is dispatched via all referenced routes before returning it.
      *
-     * @param artifact The artifact.
-     * @param data     The data.
-     * @param routeIds The route IDs for dispatching data.
+     * @param artifact  The artifact.
+     * @param data      The data.
+     * @param routeIds  The route IDs for dispatching data.
+     * @param maxAccess The maximum number of accesses, null if unlimited.
      * @return The data.
-     * @throws IOException if the data cannot be read or there is a failure in one of the
-     *                     routes.
+     * @throws PolicyRestrictionException if the access number has been reached.
+     * @throws IOException                if the data cannot be read or there is a failure in one
+     *                                    of the routes.
      */
     private InputStream returnData(final Artifact artifact, final InputStream data,
-                                   final List<URI> routeIds) throws IOException {
-        incrementAccessCounter(artifact);
+                                   final List<URI> routeIds, final Integer maxAccess)
+            throws IOException {
+        incrementAccessCounter(artifact, maxAccess, data);
         return new DataDispatcher(routeIds, data).dispatch();
     }
 
@@ -348,21 +377,22 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             throws PolicyRestrictionException, IOException {
         // Check the artifact exists and access is granted.
         final var artifact = get(artifactId);
-        verifyDataAccess(accessVerifier,
-                new AccessVerificationInput(information.getTransferContract(), artifact));
+        final var verificationInput =
+                new AccessVerificationInput(information.getTransferContract(), artifact);
+        verifyDataAccess(accessVerifier, verificationInput);
 
         // Make sure the data exists and is up to date.
         if (shouldDownload(artifact, information)) {
             final var data = downloadAndUpdateData(retriever, artifactId, information, artifact,
                     routeIds);
-            incrementAccessCounter(artifact);
+            incrementAccessCounter(artifact, verificationInput.getMaxAccess(), data);
             return data;
         }
 
         // Artifact exists, access granted, data exists and data up to date.
         var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
                 information.getQueryInput());
-        return returnData(artifact, data, routeIds);
+        return returnData(artifact, data, routeIds, verificationInput.getMaxAccess());
     }
 
     private void verifyDataAccess(final PolicyVerifier<AccessVerificationInput> accessVerifier,
@@ -394,9 +424,50 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         }
     }
 
-    private void incrementAccessCounter(final Artifact artifact) {
+    /**
+     * Counts an access to the artifacts data. Check and increment are a single atomic update, so
+     * concurrent accesses can neither lose an increment nor exceed the limit.
+     *
+     * @param artifact  The artifact.
+     * @param maxAccess The maximum number of accesses, null if unlimited.
+     * @param data      The data, closed if the access is rejected.
+     * @throws PolicyRestrictionException if the access number has been reached.
+     * @throws IOException                if the data cannot be closed.
+     */
+    private void incrementAccessCounter(final Artifact artifact, final Integer maxAccess,
+                                        final InputStream data) throws IOException {
+        final long max = maxAccess == null ? Long.MAX_VALUE : maxAccess;
+        final var updated = ((ArtifactRepository) getRepository())
+                .incrementAccessCounter(artifact.getId(), max);
+        if (updated == 0 && maxAccess != null) {
+            data.close();
+            if (log.isDebugEnabled()) {
+                log.debug("Access number reached. [artifactId=({})]", artifact.getId());
+            }
+            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_NUMBER_REACHED);
+        }
+
+        // Keep the loaded instance in sync, the counter is not written when saving it.
         artifact.incrementAccessCounter();
-        persist(artifact);
+    }
+
+    /**
+     * Get how often the artifacts data has been accessed. Reads only the counter instead of the
+     * whole artifact.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The access counter.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    public long getAccessCount(final UUID artifactId) {
+        Utils.requireNonNull(artifactId, ErrorMessage.ENTITYID_NULL);
+        final var count = ((ArtifactRepository) getRepository()).findNumAccessed(artifactId);
+        if (count == null) {
+            throw new ResourceNotFoundException(
+                    this.getClass().getSimpleName() + ": " + artifactId);
+        }
+
+        return count;
     }
 
     private boolean shouldDownload(final Artifact artifact,
@@ -459,23 +530,32 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     }
 
     @NonNull
-    private ByteArrayInputStream setLocalData(final UUID artifactId,
-                                              final InputStream data,
-                                              final Artifact artifact,
-                                              final LocalData localData)
+    private InputStream setLocalData(final UUID artifactId,
+                                     final InputStream data,
+                                     final Artifact artifact,
+                                     final LocalData localData)
             throws IOException {
         try {
             // Update the internal database and return the new data.
-            final var bytes = data.readAllBytes();
-            data.close();
-            dataRepo.setLocalData(localData.getId(), bytes);
-            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, bytes)) {
+            final var spool = DataSpool.of(data, spoolThreshold);
+            try (var value = spool.openStream()) {
+                dataRepo.writeLocalData(localData.getId(), value, spool.getSize());
+            } catch (IOException e) {
+                spool.close();
+                throw e;
+            }
+            MetricUtils.recordTransfer(MetricUtils.STORED, spool.getSize());
+
+            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, spool.getSize(),
+                    spool.getCheckSum())) {
                 ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
                         artifact.getCheckSum(),
                         artifact.getByteSize());
+                // Size and checksum are part of the self-description.
+                notifyPersisted(artifact);
             }
 
-            return new ByteArrayInputStream(bytes);
+            return spool.toInputStream();
         } catch (IOException e) {
             if (log.isErrorEnabled()) {
                 log.error("Failed to store data. [artifactId=({}), exception=({})]",
@@ -501,6 +581,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         artifactRouteSvc.removeRouteLink(artifact);
 
         getRepository().deleteById(artifactId);
+        notifyDeleted(artifactId);
     }
 
     /**
@@ -521,13 +602,13 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      *
      * @param artifactId The artifact uuid.
      * @return True if artifact data null, else false.
+     * @throws IOException if the size of the stored data cannot be determined.
      */
-    public boolean isDataDeleted(final UUID artifactId) {
+    public boolean isDataDeleted(final UUID artifactId) throws IOException {
         final var artifact = get(artifactId);
         final var currentData = ((ArtifactImpl) artifact).getData();
         if (currentData instanceof LocalData) {
-            final var value = ((LocalData) currentData).getValue();
-            return (value == null || !(value.length > 0));
+            return dataRepo.getLocalDataSize(currentData.getId()) == 0;
         } else {
             // Only local data deletion supported.
             return false;
@@ -554,19 +635,22 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
          * Dispatches the data via all specified routes.
          *
          * @return the data.
-         * @throws IOException if the data cannot be read or there is a failure in one of the
-         *                     routes.
+         * @throws IOException if the data cannot be read or a route fails and the dispatch
+         *                     policy is fail-fast.
          */
         public InputStream dispatch() throws IOException {
             if (routeIds != null && !routeIds.isEmpty()) {
+                final var spool = DataSpool.of(dataStream, spoolThreshold);
                 try {
-                    final var data = dataStream.readAllBytes();
-                    dataStream.close();
-                    for (var routeId: routeIds) {
-                        routeDispatcher.send(routeId, data);
+                    // All routes read the same spool in parallel.
+                    final var report = routeDispatcher.send(routeIds, spool);
+                    if (report.hasFailures() && log.isWarnEnabled()) {
+                        log.warn("Could not send data via all routes. [failed=({})]",
+                                report.getFailed());
                     }
-                    return new ByteArrayInputStream(data);
+                    return spool.toInputStream();
                 } catch (IOException | DataDispatchException exception) {
+                    spool.close();
                     if (log.isWarnEnabled()) {
                         log.warn("Could not send data via route. [exception=({})]",
                                 exception.getMessage(), exception);
@@ -19,8 +19,11 @@ import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.catalog.CatalogDesc;
 import io.dataspaceconnector.repository.BaseEntityRepository;
+import io.dataspaceconnector.repository.CatalogRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 
+import java.net.URI;
+
 /**
  * Handles the basic logic for catalogs.
  */
@@ -36,4 +39,14 @@ public class CatalogService extends BaseEntityService<Catalog, CatalogDesc> {
                           final AbstractFactory<Catalog, CatalogDesc> factory) {
         super(repository, factory);
     }
+
+    /**
+     * Checks whether a catalog has already been bootstrapped.
+     *
+     * @param bootstrapId The bootstrap id of the catalog.
+     * @return true if a catalog with this bootstrap id exists.
+     */
+    public boolean existsByBootstrapId(final URI bootstrapId) {
+        return ((CatalogRepository) getRepository()).existsByBootstrapId(bootstrapId);
+    }
 }
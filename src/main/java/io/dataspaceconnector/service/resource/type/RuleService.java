@@ -16,6 +16,7 @@
 package io.dataspaceconnector.service.resource.type;
 
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.model.rule.ContractRule;
@@ -32,6 +33,11 @@ import java.util.UUID;
  */
 public class RuleService extends BaseEntityService<ContractRule, ContractRuleDesc> {
 
+    /**
+     * Cache of deserialized policies. Optional.
+     */
+    private PolicyCache policyCache;
+
     /**
      * Constructor.
      *
@@ -43,6 +49,40 @@ public class RuleService extends BaseEntityService<ContractRule, ContractRuleDes
         super(repository, factory);
     }
 
+    /**
+     * Set the cache holding deserialized policies, which is invalidated on every change.
+     *
+     * @param cache The policy cache.
+     */
+    public void setPolicyCache(final PolicyCache cache) {
+        this.policyCache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ContractRule update(final UUID entityId, final ContractRuleDesc desc) {
+        final var entity = super.update(entityId, desc);
+        evict(entityId);
+        return entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delete(final UUID entityId) {
+        super.delete(entityId);
+        evict(entityId);
+    }
+
+    private void evict(final UUID entityId) {
+        if (policyCache != null) {
+            policyCache.evict(entityId);
+        }
+    }
+
     /**
      * Finds all rules in a specific contract.
      *
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.routing.processor;
+
+import io.dataspaceconnector.common.file.DataSpool;
+import io.dataspaceconnector.common.routing.ParameterUtils;
+import io.dataspaceconnector.common.routing.SpooledStreamCache;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Processor;
+import org.apache.camel.support.SynchronizationAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+
+/**
+ * Buffers the message body in a {@link DataSpool} and replaces it with a
+ * {@link SpooledStreamCache}, so that the payload is passed on as a stream and never decoded.
+ * Adds the size and checksum of the payload as exchange properties for logging. Spools created
+ * here are released when the exchange is done, unless the caller retains the final body.
+ */
+@Component("payloadSpoolProcessor")
+public class PayloadSpoolProcessor implements Processor {
+
+    /**
+     * The maximum number of bytes held in memory.
+     */
+    @Value("${data.spool.threshold:1048576}")
+    private long threshold = DataSpool.DEFAULT_THRESHOLD;
+
+    /**
+     * Spools the body, unless it is spooled already, and sets the payload properties.
+     *
+     * @param exchange The exchange.
+     * @throws Exception if the body cannot be read.
+     */
+    @Override
+    public void process(final Exchange exchange) throws Exception {
+        final var message = exchange.getMessage();
+        final var body = message.getBody();
+
+        final SpooledStreamCache cache;
+        if (body instanceof SpooledStreamCache) {
+            cache = (SpooledStreamCache) body;
+            cache.reset();
+        } else {
+            final var data = body == null
+                    ? InputStream.nullInputStream() : message.getMandatoryBody(InputStream.class);
+            cache = new SpooledStreamCache(DataSpool.of(data, threshold));
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new Release(cache));
+            message.setBody(cache);
+        }
+
+        exchange.setProperty(ParameterUtils.PAYLOAD_SIZE_PARAM, cache.length());
+        exchange.setProperty(ParameterUtils.PAYLOAD_CHECKSUM_PARAM,
+                Long.toHexString(cache.getSpool().getCheckSum()));
+    }
+
+    /**
+     * Closes a spool once the exchange is done.
+     */
+    private static final class Release extends SynchronizationAdapter {
+
+        /**
+         * The spooled payload.
+         */
+        private final SpooledStreamCache cache;
+
+        private Release(final SpooledStreamCache spooled) {
+            this.cache = spooled;
+        }
+
+        @Override
+        public void onDone(final Exchange exchange) {
+            final var retained = exchange.getProperty(ParameterUtils.RETAIN_PAYLOAD_PARAM,
+                    false, Boolean.class)
+                    && exchange.getException() == null
+                    && exchange.getProperty(Exchange.EXCEPTION_CAUGHT) == null
+                    && exchange.getMessage().getBody() == cache;
+            if (!retained) {
+                cache.getSpool().close();
+            }
+        }
+    }
+}
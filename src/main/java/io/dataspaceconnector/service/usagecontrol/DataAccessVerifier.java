@@ -15,15 +15,12 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
-import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.artifact.Artifact;
-import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
 import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
@@ -33,9 +30,9 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * A {@link PolicyVerifier} implementation that checks whether data access should be allowed.
@@ -45,6 +42,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public final class DataAccessVerifier implements PolicyVerifier<AccessVerificationInput> {
 
+    /**
+     * The patterns enforced on data access.
+     */
+    private static final Set<PolicyPattern> PATTERNS_TO_CHECK = Collections.unmodifiableSet(
+            EnumSet.of(PolicyPattern.PROVIDE_ACCESS,
+                    PolicyPattern.USAGE_DURING_INTERVAL,
+                    PolicyPattern.USAGE_UNTIL_DELETION,
+                    PolicyPattern.DURATION_USAGE,
+                    PolicyPattern.USAGE_LOGGING,
+                    PolicyPattern.N_TIMES_USAGE,
+                    PolicyPattern.USAGE_NOTIFICATION));
+
     /**
      * The policy execution point.
      */
@@ -56,9 +65,9 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
     private final @NonNull ConnectorConfig connectorConfig;
 
     /**
-     * Service for resolving entities.
+     * Provider of the compiled policies of an artifact.
      */
-    private final @NonNull EntityResolver entityResolver;
+    private final @NonNull PolicyDecisionPlanner planner;
 
     /**
      * Helper for creating self links.
@@ -70,57 +79,54 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      *
      * @param target      The requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return The maximum number of accesses, null if unlimited.
      * @throws PolicyRestrictionException If a policy restriction has been detected.
      */
-    public void checkPolicy(final Artifact target, final URI agreementId) throws
+    public Integer checkPolicy(final Artifact target, final URI agreementId) throws
             PolicyRestrictionException {
-        final var patternsToCheck = Arrays.asList(
-                PolicyPattern.PROVIDE_ACCESS,
-                PolicyPattern.USAGE_DURING_INTERVAL,
-                PolicyPattern.USAGE_UNTIL_DELETION,
-                PolicyPattern.DURATION_USAGE,
-                PolicyPattern.USAGE_LOGGING,
-                PolicyPattern.N_TIMES_USAGE,
-                PolicyPattern.USAGE_NOTIFICATION);
-
         try {
             final var artifactId = selfLinkHelper.getSelfLink(target);
-            checkForAccess(patternsToCheck, artifactId, target.getRemoteId(), agreementId);
+            return checkForAccess(PATTERNS_TO_CHECK, target, artifactId, agreementId);
         } catch (PolicyRestrictionException exception) {
             // Unknown patterns cause an exception. Ignore if unsupported patterns are allowed.
             if (!connectorConfig.isAllowUnsupported()) {
                 throw exception;
             }
+            return null;
         }
     }
 
     /**
      * Checks the contract content for data access (on consumer side).
      *
-     * @param patterns    List of patterns that should be enforced.
-     * @param artifactId  The requested artifact.
-     * @param remoteId    The remote id of the requested artifact.
+     * @param patterns    Set of patterns that should be enforced.
+     * @param target      The requested artifact.
+     * @param artifactId  The self link of the requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return The lowest access limit of the enforced decisions, null if unlimited.
      * @throws io.dataspaceconnector.common.exception.UnsupportedPatternException if no suitable
      * pattern could be found.
      */
-    public void checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
-                               final URI remoteId, final URI agreementId) {
-        // Get the contract agreement's rules for the target.
-        final var agreements = entityResolver.getContractAgreementsByTarget(artifactId);
-        for (final var agreement : agreements) {
-            final var rules = ContractUtils.getRulesForTargetId(agreement, remoteId);
+    public Integer checkForAccess(final Set<PolicyPattern> patterns, final Artifact target,
+                                  final URI artifactId, final URI agreementId) {
+        // The rules of all agreements, compiled once per artifact.
+        final var plan = planner.getPlan(target, artifactId);
+        Integer maxAccess = null;
+        for (final var decision : plan.getDecisions()) {
+            // Enforce only a set of patterns.
+            if (patterns.contains(decision.getPattern())) {
+                ruleValidator.validateDecision(decision, artifactId, agreementId);
 
-            // Check the policy of each rule.
-            for (final var rule : rules) {
-                final var pattern = RuleUtils.getPatternByRule(rule);
-                // Enforce only a set of patterns.
-                if (patterns.contains(pattern)) {
-                    ruleValidator.validatePolicy(pattern, rule, artifactId, null,
-                            Optional.empty(), agreementId);
+                // The check above is not atomic, the limit is enforced again when counting.
+                final var max = decision.getMaxAccess();
+                if (decision.getPattern() == PolicyPattern.N_TIMES_USAGE && max != null
+                        && (maxAccess == null || max < maxAccess)) {
+                    maxAccess = max;
                 }
             }
         }
+
+        return maxAccess;
     }
 
     /**
@@ -129,7 +135,7 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
     @Override
     public VerificationResult verify(final AccessVerificationInput input) {
         try {
-            this.checkPolicy(input.getArtifact(), input.getAgreementId());
+            input.setMaxAccess(this.checkPolicy(input.getArtifact(), input.getAgreementId()));
             return VerificationResult.ALLOWED;
         } catch (PolicyRestrictionException exception) {
             if (log.isDebugEnabled()) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * The rules of all agreements of an artifact, compiled into a list of decisions. Each decision
+ * holds the recognized pattern together with the constants parsed from the rule, so that no
+ * rule has to be inspected during evaluation.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PolicyDecisionPlan {
+
+    /**
+     * The remote id of the artifact the rules have been selected for.
+     */
+    private final URI remoteId;
+
+    /**
+     * The generation of the policy cache the plan has been compiled at.
+     */
+    private final long generation;
+
+    /**
+     * The decisions in order of the agreements and their rules.
+     */
+    private final @NonNull List<Decision> decisions;
+
+    /**
+     * Checks whether the plan has been compiled for the given state.
+     *
+     * @param currentRemoteId   The remote id of the artifact.
+     * @param currentGeneration The generation of the policy cache.
+     * @return True if the plan can be used.
+     */
+    boolean isValidFor(final URI currentRemoteId, final long currentGeneration) {
+        return generation == currentGeneration
+                && (remoteId == null ? currentRemoteId == null : remoteId.equals(currentRemoteId));
+    }
+
+    /**
+     * A single compiled rule.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    public static final class Decision {
+
+        /**
+         * The recognized policy pattern.
+         */
+        private final @NonNull PolicyPattern pattern;
+
+        /**
+         * The ids rule. Only required for side effects (e.g. notifications).
+         */
+        private final @NonNull Rule rule;
+
+        /**
+         * The start of the allowed interval. Null if not applicable.
+         */
+        private final ZonedDateTime start;
+
+        /**
+         * The end of the allowed interval or the expiration date of the usage duration. Null if
+         * not applicable.
+         */
+        private final ZonedDateTime end;
+
+        /**
+         * The maximum number of accesses. Null if not applicable.
+         */
+        private final Integer maxAccess;
+
+        /**
+         * True if the rule's constants could not be read.
+         */
+        private final boolean invalid;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.usagecontrol.PolicyDecisionPlan.Decision;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles the agreements of an artifact into a {@link PolicyDecisionPlan} and keeps the plan
+ * until an agreement or rule changes.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class PolicyDecisionPlanner {
+
+    /**
+     * Service for resolving entities.
+     */
+    private final @NonNull EntityResolver entityResolver;
+
+    /**
+     * Cache of deserialized agreements and rules. Its generation invalidates the plans.
+     */
+    private final @NonNull PolicyCache policyCache;
+
+    /**
+     * The compiled plans by artifact id.
+     */
+    private final Map<UUID, PolicyDecisionPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * The policy cache generation the stored plans belong to.
+     */
+    private volatile long generation;
+
+    /**
+     * Get the decision plan of an artifact. The plan is compiled if there is none or the
+     * agreements have changed since it was compiled.
+     *
+     * @param artifact   The artifact.
+     * @param artifactId The self link of the artifact.
+     * @return The decision plan.
+     */
+    public PolicyDecisionPlan getPlan(final Artifact artifact, final URI artifactId) {
+        final var current = policyCache.getGeneration();
+        if (current != generation) {
+            // All plans are outdated, drop them instead of replacing them one by one.
+            plans.clear();
+            generation = current;
+        }
+
+        final var key = artifact.getId();
+        if (key != null) {
+            final var plan = plans.get(key);
+            if (plan != null && plan.isValidFor(artifact.getRemoteId(), current)) {
+                return plan;
+            }
+        }
+
+        final var plan = compile(artifact, artifactId, current);
+        if (key != null) {
+            plans.put(key, plan);
+        }
+
+        return plan;
+    }
+
+    private PolicyDecisionPlan compile(final Artifact artifact, final URI artifactId,
+                                       final long planGeneration) {
+        final var decisions = new ArrayList<Decision>();
+        final var remoteId = artifact.getRemoteId();
+        for (final var agreement : entityResolver.getContractAgreementsByTarget(artifactId)) {
+            for (final var rule : ContractUtils.getRulesForTargetId(agreement, remoteId)) {
+                final var pattern = RuleUtils.getPatternByRule(rule);
+                if (pattern != null) {
+                    decisions.add(compile(pattern, rule, artifact));
+                }
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compiled policy decision plan. [artifactId=({}), decisions=({})]",
+                    artifactId, decisions.size());
+        }
+
+        return new PolicyDecisionPlan(remoteId, planGeneration,
+                Collections.unmodifiableList(decisions));
+    }
+
+    private Decision compile(final PolicyPattern pattern, final Rule rule,
+                             final Artifact artifact) {
+        try {
+            switch (pattern) {
+                case USAGE_DURING_INTERVAL:
+                case USAGE_UNTIL_DELETION:
+                    final var interval = RuleUtils.getTimeInterval(rule);
+                    if (interval.getStart() == null || interval.getEnd() == null) {
+                        return invalid(pattern, rule);
+                    }
+                    return new Decision(pattern, rule, interval.getStart(), interval.getEnd(),
+                            null, false);
+                case DURATION_USAGE:
+                    final Duration duration = RuleUtils.getDuration(rule);
+                    final var created = artifact.getCreationDate();
+                    if (duration == null || created == null) {
+                        return invalid(pattern, rule);
+                    }
+                    return new Decision(pattern, rule, null,
+                            RuleUtils.getCalculatedDate(created, duration), null, false);
+                case N_TIMES_USAGE:
+                    return new Decision(pattern, rule, null, null, RuleUtils.getMaxAccess(rule),
+                            false);
+                default:
+                    return new Decision(pattern, rule, null, null, null, false);
+            }
+        } catch (DateTimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not read policy constants. [pattern=({}), exception=({})]",
+                        pattern, e.getMessage());
+            }
+            return invalid(pattern, rule);
+        }
+    }
+
+    private static Decision invalid(final PolicyPattern pattern, final Rule rule) {
+        return new Decision(pattern, rule, null, null, null, true);
+    }
+}
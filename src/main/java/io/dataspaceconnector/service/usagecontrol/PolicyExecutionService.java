@@ -101,7 +101,7 @@ public class PolicyExecutionService {
     }
 
     /**
-     * Send a message to the clearing house. Allow the access only if that operation was successful.
+     * Queue a log message for the clearing house. The message is delivered asynchronously.
      *
      * @param target      The target object.
      * @param agreementId The agreement id.
@@ -19,13 +19,14 @@ import de.fraunhofer.iais.eis.Rule;
 import de.fraunhofer.iais.eis.SecurityProfile;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.time.TimeInterval;
+import io.dataspaceconnector.common.util.MetricUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.contract.Contract;
 import io.dataspaceconnector.model.rule.ContractRule;
-import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.EntityDependencyResolver;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ import org.springframework.stereotype.Service;
 
 import java.net.URI;
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
@@ -66,9 +68,9 @@ public class RuleValidator {
     private final @NonNull EntityDependencyResolver dependencyResolver;
 
     /**
-     * Service for deserialization.
+     * Cache of deserialized agreements and rules.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull PolicyCache policyCache;
 
     /**
      * Validates the data access for a given rule.
@@ -84,6 +86,42 @@ public class RuleValidator {
     public void validatePolicy(final PolicyPattern pattern, final Rule rule, final URI target,
                                final URI issuerConnector, final Optional<SecurityProfile> profile,
                                final URI agreementId) throws PolicyRestrictionException {
+        final var sample = MetricUtils.start();
+        var success = false;
+        try {
+            checkPolicy(pattern, rule, target, issuerConnector, profile, agreementId);
+            success = true;
+        } finally {
+            MetricUtils.stop(sample, MetricUtils.POLICY_VALIDATION, success,
+                    "pattern", pattern.name());
+        }
+    }
+
+    /**
+     * Validates the data access for a precompiled decision. Patterns whose constants have been
+     * compiled into the decision are evaluated without reading the rule.
+     *
+     * @param decision    The compiled decision.
+     * @param target      The accessed element.
+     * @param agreementId The id of the transfer contract (agreement).
+     * @throws PolicyRestrictionException If a policy restriction was detected.
+     */
+    public void validateDecision(final PolicyDecisionPlan.Decision decision, final URI target,
+                                 final URI agreementId) throws PolicyRestrictionException {
+        final var sample = MetricUtils.start();
+        var success = false;
+        try {
+            checkDecision(decision, target, agreementId);
+            success = true;
+        } finally {
+            MetricUtils.stop(sample, MetricUtils.POLICY_VALIDATION, success,
+                    "pattern", decision.getPattern().name());
+        }
+    }
+
+    private void checkPolicy(final PolicyPattern pattern, final Rule rule, final URI target,
+                             final URI issuerConnector, final Optional<SecurityProfile> profile,
+                             final URI agreementId) throws PolicyRestrictionException {
         switch (pattern) {
             case PROVIDE_ACCESS:
                 break;
@@ -119,6 +157,27 @@ public class RuleValidator {
         }
     }
 
+    private void checkDecision(final PolicyDecisionPlan.Decision decision, final URI target,
+                               final URI agreementId) throws PolicyRestrictionException {
+        switch (decision.getPattern()) {
+            case USAGE_DURING_INTERVAL:
+            case USAGE_UNTIL_DELETION:
+                throwIfInvalid(decision);
+                validateInterval(decision.getStart(), decision.getEnd());
+                break;
+            case DURATION_USAGE:
+                throwIfInvalid(decision);
+                validateExpiration(decision.getEnd(), target);
+                break;
+            case N_TIMES_USAGE:
+                validateAccessNumber(decision.getMaxAccess(), target);
+                break;
+            default:
+                checkPolicy(decision.getPattern(), decision.getRule(), target, null,
+                        Optional.empty(), agreementId);
+        }
+    }
+
     /**
      * Compare content of rule offer and request with each other.
      *
@@ -156,7 +215,7 @@ public class RuleValidator {
                                                  final List<Rule> requestRules) {
         final var idsRuleList = new ArrayList<Rule>();
         for (final var rule : offerRules) {
-            idsRuleList.add(deserializationService.getRule(rule.getValue()));
+            idsRuleList.add(policyCache.getRule(rule));
         }
 
         if (!RuleUtils.compareRules(idsRuleList, requestRules)) {
@@ -188,10 +247,22 @@ public class RuleValidator {
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, e);
         }
 
+        validateInterval(timeInterval.getStart(), timeInterval.getEnd());
+    }
+
+    /**
+     * Checks if the current date is in the allowed time interval.
+     *
+     * @param start The start of the interval.
+     * @param end   The end of the interval.
+     * @throws PolicyRestrictionException If the current date is outside of the interval.
+     */
+    private void validateInterval(final ZonedDateTime start, final ZonedDateTime end)
+            throws PolicyRestrictionException {
         final var current = RuleUtils.getCurrentDate();
-        if (!current.isAfter(timeInterval.getStart()) || !current.isBefore(timeInterval.getEnd())) {
+        if (!current.isAfter(start) || !current.isBefore(end)) {
             if (log.isWarnEnabled()) {
-                log.warn("Invalid time interval. [timeInterval=({})]", timeInterval);
+                log.warn("Invalid time interval. [start=({}), end=({})]", start, end);
             }
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
@@ -227,7 +298,19 @@ public class RuleValidator {
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
 
-        if (RuleUtils.isExpired(RuleUtils.getCalculatedDate(created, duration))) {
+        validateExpiration(RuleUtils.getCalculatedDate(created, duration), target);
+    }
+
+    /**
+     * Checks if the usage duration has already been exceeded.
+     *
+     * @param expiration The end of the usage duration.
+     * @param target     The accessed element.
+     * @throws PolicyRestrictionException If the duration has been exceeded.
+     */
+    private void validateExpiration(final ZonedDateTime expiration, final URI target)
+            throws PolicyRestrictionException {
+        if (RuleUtils.isExpired(expiration)) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid date time. [target=({})]", target);
             }
@@ -244,7 +327,18 @@ public class RuleValidator {
      */
     private void validateAccessNumber(final Rule rule, final URI target)
             throws PolicyRestrictionException {
-        final var max = RuleUtils.getMaxAccess(rule);
+        validateAccessNumber(RuleUtils.getMaxAccess(rule), target);
+    }
+
+    /**
+     * Checks whether the maximum number of accesses has already been reached.
+     *
+     * @param max    The maximum number of accesses.
+     * @param target The accessed element.
+     * @throws PolicyRestrictionException If the access number has been reached.
+     */
+    private void validateAccessNumber(final int max, final URI target)
+            throws PolicyRestrictionException {
         final var accessed = informationService.getAccessNumber(target);
         if (accessed >= max) {
             if (log.isDebugEnabled()) {
@@ -254,6 +348,19 @@ public class RuleValidator {
         }
     }
 
+    /**
+     * Rejects a decision whose constants could not be read.
+     *
+     * @param decision The compiled decision.
+     * @throws PolicyRestrictionException If the decision is invalid.
+     */
+    private void throwIfInvalid(final PolicyDecisionPlan.Decision decision)
+            throws PolicyRestrictionException {
+        if (decision.isInvalid()) {
+            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
+        }
+    }
+
     /**
      * Checks whether the requesting connector corresponds to the allowed connector.
      *
@@ -15,40 +15,72 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
-import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
 import io.dataspaceconnector.config.ConnectorConfig;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.agreement.PendingDataRemoval;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.repository.PendingDataRemovalRepository;
+import io.dataspaceconnector.service.resource.base.EntityChangeListener;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * This class implements automated policy check.
+ * Deletes the data of artifacts whose agreements contain a deletion post duty. The post duties
+ * are extracted when an agreement is stored, so a run only reads the removals that are due. A
+ * removal is deleted once it has been processed. If the data of an artifact is downloaded again,
+ * the removals of its agreements are registered again.
  */
 @EnableScheduling
 @Log4j2
 @RequiredArgsConstructor
 @Service
-public class ScheduledDataRemoval {
+public class ScheduledDataRemoval implements EntityChangeListener {
+
+    /**
+     * The agreement id of the removal that marks the restore of all agreements as done.
+     */
+    private static final UUID RESTORED_MARKER = new UUID(0, 0);
 
     /**
-     * The delay of the scheduler.
+     * The due date of the restore marker, which is never reached.
      */
-    private static final int FIXED_DELAY = 60_000;
+    private static final ZonedDateTime NEVER = ZonedDateTime.of(9999, 12, 31, 0, 0, 0, 0,
+            ZoneOffset.UTC);
 
     /**
      * Service for configuring policy settings.
@@ -56,9 +88,9 @@ public class ScheduledDataRemoval {
     private final @NonNull ConnectorConfig connectorConfig;
 
     /**
-     * Service for ids deserialization.
+     * Cache of deserialized agreements and rules.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull PolicyCache policyCache;
 
     /**
      * Service for ids deserialization.
@@ -71,18 +103,90 @@ public class ScheduledDataRemoval {
     private final @NonNull ArtifactService artifactService;
 
     /**
-     * Periodically checks agreements for data deletion.
+     * The pending removals.
+     */
+    private final @NonNull PendingDataRemovalRepository repository;
+
+    /**
+     * Creates the transactions in which removals are registered.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * The maximum number of removals processed at once.
+     */
+    @Value("${policy.removal.batch.size:100}")
+    private int batchSize = 100;
+
+    /**
+     * The number of removals processed in parallel.
      */
-    @Scheduled(fixedDelay = FIXED_DELAY)
+    @Value("${policy.removal.parallelism:4}")
+    private int parallelism = 4;
+
+    /**
+     * The delay in milliseconds before a removal is checked again, because its artifact is
+     * unknown.
+     */
+    @Value("${policy.removal.retry:3600000}")
+    private long retry = 3_600_000;
+
+    /**
+     * The threads processing the removals. Created on first use.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * True once the removals of agreements stored before the removal table existed have been
+     * restored.
+     */
+    private volatile boolean restored;
+
+    /**
+     * Registers for agreement changes and for downloaded data.
+     */
+    @PostConstruct
+    public void init() {
+        agreementService.addChangeListener(this);
+        artifactService.addChangeListener(new EntityChangeListener() {
+            @Override
+            public void onPersisted(final Entity entity) {
+                if (entity instanceof Artifact && ((Artifact) entity).getByteSize() > 0) {
+                    final var artifactId = entity.getId();
+                    afterCommit(() -> registerSafely(artifactId));
+                }
+            }
+
+            @Override
+            public void onDeleted(final UUID entityId) {
+                // The removals belong to the agreements.
+            }
+        });
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Periodically deletes the data whose removal is due.
+     */
+    @Scheduled(fixedDelayString = "${policy.removal.delay:60000}")
     public void schedule() {
         try {
             if (connectorConfig.getUcFramework() == UsageControlFramework.INTERNAL) {
-                if (log.isInfoEnabled()) {
-                    log.info("Scanning agreements...");
+                if (!restored) {
+                    restore();
                 }
-                scanAgreements();
+                sweep();
             }
-        } catch (IllegalArgumentException | DateTimeParseException | ResourceNotFoundException e) {
+        } catch (RuntimeException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to check policy. [exception=({})]", e.getMessage());
             }
@@ -90,54 +194,242 @@ public class ScheduledDataRemoval {
     }
 
     /**
-     * Checks all known agreements for artifacts that have to be deleted.
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPersisted(final Entity entity) {
+        if (entity instanceof Agreement) {
+            final var agreement = (Agreement) entity;
+            afterCommit(() -> registerSafely(agreement));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDeleted(final UUID entityId) {
+        repository.deleteByAgreementId(entityId);
+    }
+
+    /**
+     * Runs a task after the current transaction has been committed, or at once without one.
+     * Registering must neither delay nor roll back storing the entity.
      *
-     * @throws DateTimeParseException    If a date from a policy cannot be parsed.
-     * @throws IllegalArgumentException  If the rule could not be deserialized.
-     * @throws ResourceNotFoundException If the data could not be deleted.
-     */
-    private void scanAgreements() throws DateTimeParseException, IllegalArgumentException,
-            ResourceNotFoundException {
-        for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
-                if (RuleUtils.checkRuleForPostDuties(rule)) {
-                    final var artifactId = artifactService.identifyByRemoteId(rule.getTarget());
-                    if (artifactId.isPresent() && !isDataDeleted(artifactId.get())) {
-                        removeDataFromArtifact(artifactId.get());
-                    }
+     * @param task The task.
+     */
+    private static void afterCommit(final Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            task.run();
+                        }
+                    });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Registers the removals of an agreement in a transaction of its own. Failures are logged.
+     *
+     * @param agreement The agreement.
+     */
+    private void registerSafely(final Agreement agreement) {
+        try {
+            newTransaction().executeWithoutResult(status -> register(agreement, null));
+        } catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to register data removals of agreement. [id=({}), "
+                        + "exception=({})]", agreement.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Registers the removals of an artifact whose data has been stored, in a transaction of its
+     * own. Failures are logged.
+     *
+     * @param artifactId The id of the artifact.
+     */
+    private void registerSafely(final UUID artifactId) {
+        try {
+            newTransaction().executeWithoutResult(status -> {
+                final var artifact = artifactService.get(artifactId);
+                if (artifact.getRemoteId() != null) {
+                    final var target = artifact.getRemoteId().toString();
+                    artifact.getAgreements().forEach(x -> register(x, target));
                 }
+            });
+        } catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to register data removals of artifact. [id=({}), "
+                        + "exception=({})]", artifactId, e.getMessage());
             }
         }
     }
 
+    private TransactionTemplate newTransaction() {
+        final var template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
     /**
-     * Check if an artifact already has the status deleted.
+     * Replaces the removals of an agreement with the deletion post duties of its rules.
      *
-     * @param artifactId The artifact uuid.
-     * @return True if the artifact data is deleted, false otherwise.
+     * @param agreement The agreement.
+     * @param target    The only rule target to replace, null for all.
      */
-    private boolean isDataDeleted(final UUID artifactId) {
-        return artifactService.isDataDeleted(artifactId);
+    private void register(final Agreement agreement, final String target) {
+        if (target == null) {
+            repository.deleteByAgreementId(agreement.getId());
+        } else {
+            repository.deleteByAgreementIdAndTarget(agreement.getId(), target);
+        }
+
+        final var removals = new ArrayList<PendingDataRemoval>();
+        try {
+            final var idsAgreement = policyCache.getContractAgreement(agreement);
+            for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
+                final var due = RuleUtils.getPostDutyDeletionDate(rule);
+                if (due != null && rule.getTarget() != null
+                        && (target == null || target.equals(rule.getTarget().toString()))) {
+                    removals.add(new PendingDataRemoval(agreement.getId(),
+                            rule.getTarget().toString(), due));
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Agreements are stored empty before their content is known.
+            if (log.isDebugEnabled()) {
+                log.debug("Could not read post duties of agreement. [id=({}), exception=({})]",
+                        agreement.getId(), e.getMessage());
+            }
+            return;
+        }
+
+        if (!removals.isEmpty()) {
+            repository.saveAll(removals);
+        }
     }
 
     /**
-     * Delete data by artifact id.
+     * Registers the removals of all agreements once, after an upgrade from a version without the
+     * removal table. A marker removal that is never due records that this has been done.
+     */
+    private void restore() {
+        if (!repository.existsByAgreementId(RESTORED_MARKER)) {
+            var page = agreementService.getAll(PageRequest.of(0, batchSize));
+            while (page.hasContent()) {
+                page.forEach(this::registerSafely);
+                if (!page.hasNext()) {
+                    break;
+                }
+                page = agreementService.getAll(page.nextPageable());
+            }
+
+            if (log.isInfoEnabled()) {
+                log.info("Restored pending data removals. [agreements=({})]",
+                        page.getTotalElements());
+            }
+
+            repository.save(new PendingDataRemoval(RESTORED_MARKER, "restored", NEVER));
+        }
+        restored = true;
+    }
+
+    /**
+     * Processes the due removals in batches. Every processed removal is deleted or postponed and
+     * leaves the due set, so the first page is read until it is not full anymore.
+     */
+    void sweep() {
+        List<PendingDataRemoval> due;
+        do {
+            final var now = ZonedDateTime.now();
+            due = repository.findByDueLessThanEqualOrderByDueAsc(now,
+                    PageRequest.of(0, batchSize));
+            if (due.isEmpty()) {
+                return;
+            }
+
+            final var done = new ConcurrentLinkedQueue<Long>();
+            final var postponed = new ConcurrentLinkedQueue<Long>();
+            process(due, done, postponed);
+
+            if (!done.isEmpty()) {
+                // Registered again if the data is downloaded again.
+                repository.deleteAllByIdInBatch(new ArrayList<>(done));
+            }
+            if (!postponed.isEmpty()) {
+                repository.postpone(new ArrayList<>(postponed), now.plus(Duration.ofMillis(retry)));
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Processed due data removals. [due=({}), done=({}), postponed=({})]",
+                        due.size(), done.size(), postponed.size());
+            }
+
+            if (done.isEmpty() && postponed.isEmpty()) {
+                // Every removal failed, retry on the next run.
+                return;
+            }
+        } while (due.size() == batchSize);
+    }
+
+    private void process(final List<PendingDataRemoval> removals,
+                         final ConcurrentLinkedQueue<Long> done,
+                         final ConcurrentLinkedQueue<Long> postponed) {
+        try {
+            getPool().submit(() -> removals.parallelStream().forEach(removal -> {
+                final var artifactId = artifactService.identifyByRemoteId(
+                        URI.create(removal.getTarget()));
+                if (artifactId.isEmpty()) {
+                    // The data may not have been requested yet.
+                    postponed.add(removal.getId());
+                } else if (removeData(artifactId.get())) {
+                    done.add(removal.getId());
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to process data removals. [exception=({})]",
+                        e.getCause().getMessage());
+            }
+        }
+    }
+
+    private synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(Math.max(1, parallelism));
+        }
+        return pool;
+    }
+
+    /**
+     * Delete data by artifact id, unless it has been deleted already.
      *
      * @param artifactId The artifact uuid.
+     * @return True if the data has been deleted.
      */
-    private void removeDataFromArtifact(final UUID artifactId) {
+    private boolean removeData(final UUID artifactId) {
         try {
-            artifactService.setData(artifactId, InputStream.nullInputStream());
-            if (log.isDebugEnabled()) {
-                log.debug("Removed data from artifact. [id=({})]", artifactId);
+            if (!artifactService.isDataDeleted(artifactId)) {
+                artifactService.setData(artifactId, InputStream.nullInputStream());
+                if (log.isDebugEnabled()) {
+                    log.debug("Removed data from artifact. [id=({})]", artifactId);
+                }
             }
+            return true;
         } catch (IOException | ResourceNotFoundException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to remove data from artifact. [id=({}), exception=({})]",
                         artifactId, e.getMessage());
             }
+            return false;
         }
     }
 }
@@ -0,0 +1,14 @@
+CREATE TABLE public.clearing_house_log (
+    id bigint NOT NULL,
+    recipient character varying(2048) NOT NULL,
+    payload text,
+    created timestamp without time zone NOT NULL,
+    attempts integer NOT NULL,
+    next_attempt timestamp without time zone NOT NULL
+);
+
+ALTER TABLE ONLY public.clearing_house_log
+    ADD CONSTRAINT clearing_house_log_pkey PRIMARY KEY (id);
+
+CREATE INDEX clearing_house_log_next_attempt_idx
+    ON public.clearing_house_log USING btree (next_attempt, id);
@@ -0,0 +1,15 @@
+CREATE TABLE public.pending_data_removal (
+    id bigint NOT NULL,
+    agreement_id uuid NOT NULL,
+    target character varying(2048) NOT NULL,
+    due timestamp without time zone NOT NULL
+);
+
+ALTER TABLE ONLY public.pending_data_removal
+    ADD CONSTRAINT pending_data_removal_pkey PRIMARY KEY (id);
+
+CREATE INDEX pending_data_removal_due_idx
+    ON public.pending_data_removal USING btree (due);
+
+CREATE INDEX pending_data_removal_agreement_idx
+    ON public.pending_data_removal USING btree (agreement_id);
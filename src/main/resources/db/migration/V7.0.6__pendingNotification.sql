@@ -0,0 +1,17 @@
+CREATE TABLE public.pending_notification (
+    id bigint NOT NULL,
+    target character varying(2048) NOT NULL,
+    recipient character varying(2048),
+    created timestamp without time zone NOT NULL,
+    attempts integer NOT NULL,
+    next_attempt timestamp without time zone NOT NULL
+);
+
+ALTER TABLE ONLY public.pending_notification
+    ADD CONSTRAINT pending_notification_pkey PRIMARY KEY (id);
+
+CREATE INDEX pending_notification_next_attempt_idx
+    ON public.pending_notification USING btree (next_attempt, id);
+
+CREATE INDEX pending_notification_target_idx
+    ON public.pending_notification USING btree (target, recipient);
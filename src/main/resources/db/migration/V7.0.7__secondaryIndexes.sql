@@ -0,0 +1,65 @@
+-- Lookups by remote id. Only entities that have not been deleted are queried, partial indexes
+-- keep soft deleted rows out of the index.
+CREATE INDEX app_remote_id_idx
+    ON public.app USING btree (remote_id) WHERE deleted = false;
+
+CREATE INDEX artifact_remote_id_idx
+    ON public.artifact USING btree (remote_id) WHERE deleted = false;
+
+CREATE INDEX representation_remote_id_idx
+    ON public.representation USING btree (remote_id) WHERE deleted = false;
+
+CREATE INDEX resource_remote_id_idx
+    ON public.resource USING btree (remote_id) WHERE deleted = false;
+
+-- Lookups by bootstrap id.
+CREATE INDEX artifact_bootstrap_id_idx
+    ON public.artifact USING btree (bootstrap_id) WHERE deleted = false;
+
+-- Lookups of subscriptions by target and subscriber.
+CREATE INDEX subscription_target_idx
+    ON public.subscription USING btree (target, subscriber) WHERE deleted = false;
+
+CREATE INDEX subscription_subscriber_idx
+    ON public.subscription USING btree (subscriber) WHERE deleted = false;
+
+-- Lookups by location.
+CREATE INDEX broker_location_idx
+    ON public.broker USING btree (location) WHERE deleted = false;
+
+-- Join tables have no primary key, so neither side of a relation is indexed.
+CREATE INDEX agreement_artifacts_agreements_id_idx
+    ON public.agreement_artifacts USING btree (agreements_id);
+
+CREATE INDEX agreement_artifacts_artifacts_id_idx
+    ON public.agreement_artifacts USING btree (artifacts_id);
+
+CREATE INDEX catalog_offered_resources_catalogs_id_idx
+    ON public.catalog_offered_resources USING btree (catalogs_id);
+
+CREATE INDEX catalog_offered_resources_offered_resources_id_idx
+    ON public.catalog_offered_resources USING btree (offered_resources_id);
+
+CREATE INDEX resource_representations_resources_id_idx
+    ON public.resource_representations USING btree (resources_id);
+
+CREATE INDEX resource_representations_representations_id_idx
+    ON public.resource_representations USING btree (representations_id);
+
+CREATE INDEX resource_contracts_resources_id_idx
+    ON public.resource_contracts USING btree (resources_id);
+
+CREATE INDEX resource_contracts_contracts_id_idx
+    ON public.resource_contracts USING btree (contracts_id);
+
+CREATE INDEX representation_artifacts_representations_id_idx
+    ON public.representation_artifacts USING btree (representations_id);
+
+CREATE INDEX representation_artifacts_artifacts_id_idx
+    ON public.representation_artifacts USING btree (artifacts_id);
+
+CREATE INDEX contract_rules_contracts_id_idx
+    ON public.contract_rules USING btree (contracts_id);
+
+CREATE INDEX contract_rules_rules_id_idx
+    ON public.contract_rules USING btree (rules_id);
@@ -0,0 +1,3 @@
+-- Lookup of bootstrapped catalogs when checking for already registered catalog files.
+CREATE INDEX catalog_bootstrap_id_idx
+    ON public.catalog USING btree (bootstrap_id) WHERE deleted = false;
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.CRC32C;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataSpoolTest {
+
+    @Test
+    @SneakyThrows
+    public void of_belowThreshold_keepInMemory() {
+        /* ARRANGE */
+        final var bytes = "data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        final var spool = DataSpool.of(new ByteArrayInputStream(bytes), 16);
+
+        /* ASSERT */
+        assertTrue(spool.isInMemory());
+        assertEquals(bytes.length, spool.getSize());
+        assertEquals(checksum(bytes), spool.getCheckSum());
+        assertArrayEquals(bytes, spool.openStream().readAllBytes());
+        assertArrayEquals(bytes, spool.openStream().readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    public void of_aboveThreshold_spillToDisk() {
+        /* ARRANGE */
+        final var bytes = new byte[3 * DataSpool.BUFFER_SIZE + 7];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        /* ACT */
+        final var spool = DataSpool.of(new ByteArrayInputStream(bytes), 16);
+
+        /* ASSERT */
+        assertFalse(spool.isInMemory());
+        assertNotNull(spool.getFile());
+        assertEquals(bytes.length, spool.getSize());
+        assertEquals(checksum(bytes), spool.getCheckSum());
+        assertArrayEquals(bytes, spool.openStream().readAllBytes());
+        spool.close();
+    }
+
+    @Test
+    @SneakyThrows
+    public void toInputStream_close_removeFile() {
+        /* ARRANGE */
+        final var bytes = new byte[64];
+        final var spool = DataSpool.of(new ByteArrayInputStream(bytes), 16);
+        final var file = spool.getFile();
+
+        /* ACT */
+        final var stream = spool.toInputStream();
+        assertArrayEquals(bytes, stream.readAllBytes());
+        stream.close();
+
+        /* ASSERT */
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void of_null_throwNullPointerException() {
+        /* ACT && ASSERT */
+        assertThrows(NullPointerException.class, () -> DataSpool.of(null, 16));
+    }
+
+    @Test
+    @SneakyThrows
+    public void ofWriter_belowThreshold_keepInMemory() {
+        /* ARRANGE */
+        final var bytes = "data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        final var spool = DataSpool.ofWriter(target -> target.write(bytes), 16);
+
+        /* ASSERT */
+        assertTrue(spool.isInMemory());
+        assertEquals(bytes.length, spool.getSize());
+        assertEquals(checksum(bytes), spool.getCheckSum());
+        assertArrayEquals(bytes, spool.openStream().readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    public void ofWriter_aboveThreshold_spillToDisk() {
+        /* ARRANGE */
+        final var bytes = new byte[3 * DataSpool.BUFFER_SIZE + 7];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        /* ACT */
+        final var spool = DataSpool.ofWriter(target -> {
+            target.write(bytes, 0, 10);
+            target.write(bytes[10]);
+            target.write(bytes, 11, bytes.length - 11);
+        }, 16);
+
+        /* ASSERT */
+        assertFalse(spool.isInMemory());
+        assertEquals(bytes.length, spool.getSize());
+        assertEquals(checksum(bytes), spool.getCheckSum());
+        assertArrayEquals(bytes, spool.openStream().readAllBytes());
+        spool.close();
+    }
+
+    @Test
+    public void ofWriter_writerFails_throwIOException() {
+        /* ACT && ASSERT */
+        assertThrows(IOException.class, () -> DataSpool.ofWriter(target -> {
+            target.write(new byte[64]);
+            throw new IOException("Failed.");
+        }, 16));
+    }
+
+    private long checksum(final byte[] bytes) {
+        final var checksum = new CRC32C();
+        checksum.update(bytes, 0, bytes.length);
+        return checksum.getValue();
+    }
+}
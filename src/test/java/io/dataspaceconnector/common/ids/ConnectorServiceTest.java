@@ -48,6 +48,7 @@ import io.dataspaceconnector.service.resource.type.OfferedResourceService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -73,11 +74,14 @@ public class ConnectorServiceTest {
     private IdsResourceBuilder<OfferedResource> resourceBuilder = Mockito.mock(IdsResourceBuilder.class);
     private OfferedResourceService offeredResourceService = Mockito.mock(OfferedResourceService.class);
 
+    @SuppressWarnings("unchecked")
+    private SelfDescriptionCache selfDescriptionCache = new SelfDescriptionCache(catalogService,
+            catalogBuilder, Mockito.mock(ObjectProvider.class));
+
     private ConnectorService connectorService = new ConnectorService(
             configContainer,
             Mockito.mock(DapsTokenProvider.class),
-            catalogService,
-            catalogBuilder,
+            selfDescriptionCache,
             resourceBuilder,
             offeredResourceService
     );
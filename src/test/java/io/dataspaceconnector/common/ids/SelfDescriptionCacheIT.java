@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids;
+
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class SelfDescriptionCacheIT {
+
+    @SpyBean
+    private SelfDescriptionCache selfDescriptionCache;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Test
+    public void setData_newData_invalidateWithNewChecksum() throws IOException {
+        /* ARRANGE */
+        final var desc = new ArtifactDesc();
+        desc.setValue("first");
+        final var artifact = artifactService.create(desc);
+
+        final var data = "second value".getBytes(StandardCharsets.UTF_8);
+        final var crc = new CRC32C();
+        crc.update(data);
+
+        /* ACT */
+        artifactService.setData(artifact.getId(), new ByteArrayInputStream(data)).close();
+
+        /* ASSERT */
+        verify(selfDescriptionCache, atLeastOnce()).onPersisted(argThat(x ->
+                x instanceof Artifact && x.getId().equals(artifact.getId())
+                        && ((Artifact) x).getCheckSum() == crc.getValue()
+                        && ((Artifact) x).getByteSize() == data.length));
+        assertEquals(crc.getValue(), artifactService.get(artifact.getId()).getCheckSum());
+    }
+}
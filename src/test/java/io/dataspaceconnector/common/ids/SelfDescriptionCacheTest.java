@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ArtifactBuilder;
+import de.fraunhofer.iais.eis.BaseConnectorBuilder;
+import de.fraunhofer.iais.eis.BaseConnectorImpl;
+import de.fraunhofer.iais.eis.ConnectorEndpointBuilder;
+import de.fraunhofer.iais.eis.RepresentationBuilder;
+import de.fraunhofer.iais.eis.ResourceBuilder;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
+import de.fraunhofer.iais.eis.SecurityProfile;
+import de.fraunhofer.iais.eis.util.Util;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SelfDescriptionCacheTest {
+
+    private final CatalogService catalogService = Mockito.mock(CatalogService.class);
+
+    private final IdsCatalogBuilder catalogBuilder = Mockito.mock(IdsCatalogBuilder.class);
+
+    @SuppressWarnings("unchecked")
+    private final SelfDescriptionCache cache = new SelfDescriptionCache(catalogService,
+            catalogBuilder, Mockito.mock(ObjectProvider.class));
+
+    private final UUID resourceId = UUID.randomUUID();
+
+    private Catalog first;
+
+    private Catalog second;
+
+    @BeforeEach
+    public void init() {
+        first = getCatalog();
+        second = getCatalog();
+
+        when(catalogService.getAll(Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(first, second)));
+        when(catalogBuilder.create(eq(first), eq(0))).thenReturn(getIdsCatalog(resourceId));
+        when(catalogBuilder.create(eq(second), eq(0))).thenReturn(getIdsCatalog(UUID.randomUUID()));
+    }
+
+    @Test
+    public void getSelfDescription_nothingChanged_buildOnce() {
+        /* ARRANGE */
+        final var connector = getConnector();
+
+        /* ACT */
+        final var before = cache.getSelfDescription(connector);
+        final var after = cache.getSelfDescription(connector);
+
+        /* ASSERT */
+        assertSame(before, after);
+        verify(catalogService, times(1)).getAll(Pageable.unpaged());
+        verify(catalogBuilder, times(1)).create(eq(first), eq(0));
+    }
+
+    @Test
+    public void getSelfDescription_resourceChanged_rebuildAffectedCatalog() {
+        /* ARRANGE */
+        final var connector = getConnector();
+        final var before = cache.getSelfDescription(connector);
+
+        /* ACT */
+        cache.onPersisted(getOfferedResource(resourceId));
+        final var after = cache.getSelfDescription(connector);
+
+        /* ASSERT */
+        assertNotSame(before, after);
+        verify(catalogBuilder, times(2)).create(eq(first), eq(0));
+        verify(catalogBuilder, times(1)).create(eq(second), eq(0));
+    }
+
+    @Test
+    public void getSelfDescription_catalogDeleted_rebuildDescriptionOnly() {
+        /* ARRANGE */
+        final var connector = getConnector();
+        cache.getSelfDescription(connector);
+
+        /* ACT */
+        cache.onDeleted(second.getId());
+        when(catalogService.getAll(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(first)));
+        final var catalogs = cache.getCatalogs(connector);
+
+        /* ASSERT */
+        assertEquals(1, catalogs.size());
+        verify(catalogBuilder, times(1)).create(eq(first), eq(0));
+    }
+
+    @Test
+    public void getSelfDescription_unrelatedEntityChanged_keepDescription() {
+        /* ARRANGE */
+        final var connector = getConnector();
+        final var before = cache.getSelfDescription(connector);
+
+        /* ACT */
+        cache.onPersisted(getOfferedResource(UUID.randomUUID()));
+        final var after = cache.getSelfDescription(connector);
+
+        /* ASSERT */
+        assertSame(before, after);
+    }
+
+    @Test
+    public void getSelfDescription_artifactChanged_rebuildAffectedCatalog() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        when(catalogBuilder.create(eq(first), eq(0))).thenReturn(new ResourceCatalogBuilder()
+                ._offeredResource_(Util.asList(new ResourceBuilder(
+                        URI.create("https://localhost/api/offers/" + resourceId))
+                        ._representation_(Util.asList(new RepresentationBuilder(
+                                URI.create("https://localhost/api/representations/"
+                                        + UUID.randomUUID()))
+                                ._instance_(Util.asList(new ArtifactBuilder(
+                                        URI.create("https://localhost/api/artifacts/"
+                                                + artifactId)).build()))
+                                .build()))
+                        .build()))
+                .build());
+        final var connector = getConnector();
+        final var before = cache.getSelfDescription(connector);
+
+        /* ACT */
+        cache.onPersisted(getArtifact(artifactId));
+        final var after = cache.getSelfDescription(connector);
+
+        /* ASSERT */
+        assertNotSame(before, after);
+        verify(catalogBuilder, times(2)).create(eq(first), eq(0));
+        verify(catalogBuilder, times(1)).create(eq(second), eq(0));
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private BaseConnectorImpl getConnector() {
+        return (BaseConnectorImpl) new BaseConnectorBuilder(URI.create("https://connector-id.com"))
+                ._maintainer_(URI.create("https://example.com"))
+                ._curator_(URI.create("https://example.com"))
+                ._securityProfile_(SecurityProfile.BASE_SECURITY_PROFILE)
+                ._outboundModelVersion_("4.0.0")
+                ._inboundModelVersion_(Util.asList("4.0.0"))
+                ._hasDefaultEndpoint_(new ConnectorEndpointBuilder()
+                        ._accessURL_(URI.create("/api/ids/data"))
+                        .build())
+                .build();
+    }
+
+    private Catalog getCatalog() {
+        final var catalog = new Catalog();
+        ReflectionTestUtils.setField(catalog, "id", UUID.randomUUID());
+        return catalog;
+    }
+
+    private ResourceCatalog getIdsCatalog(final UUID offerId) {
+        return new ResourceCatalogBuilder()
+                ._offeredResource_(Util.asList(new ResourceBuilder(
+                        URI.create("https://localhost/api/offers/" + offerId)).build()))
+                .build();
+    }
+
+    private ArtifactImpl getArtifact(final UUID id) {
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", id);
+        return artifact;
+    }
+
+    @SneakyThrows
+    private OfferedResource getOfferedResource(final UUID id) {
+        final var resourceConstructor = OfferedResource.class.getDeclaredConstructor();
+        resourceConstructor.setAccessible(true);
+
+        final var resource = resourceConstructor.newInstance();
+        ReflectionTestUtils.setField(resource, "id", id);
+        return resource;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.dataspaceconnector.common.exception.PolicyExecutionException;
+import io.dataspaceconnector.model.clearinghouse.LogItem;
+import io.dataspaceconnector.repository.LogItemRepository;
+import io.dataspaceconnector.service.message.builder.type.LogMessageService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ClearingHouseOutbox.class})
+class ClearingHouseOutboxTest {
+
+    @MockBean
+    private LogItemRepository repository;
+
+    @MockBean
+    private LogMessageService logMessageService;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClearingHouseOutbox outbox;
+
+    private final URI recipient = URI.create("https://ch.com/messages/log/1");
+
+    @Test
+    public void enqueue_validInput_persistItem() {
+        /* ACT */
+        outbox.enqueue(recipient, "payload");
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(LogItem.class);
+        verify(repository).saveAndFlush(captor.capture());
+        assertEquals(recipient.toString(), captor.getValue().getRecipient());
+        assertEquals("payload", captor.getValue().getPayload());
+        verify(logMessageService, never()).sendMessage(any(), any());
+    }
+
+    @Test
+    public void enqueue_validInput_persistInNewTransaction() {
+        /* ACT */
+        outbox.enqueue(recipient, "payload");
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(captor.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW,
+                captor.getValue().getPropagationBehavior());
+    }
+
+    @Test
+    public void schedule_itemQueuedDuringDrain_deliverOnNextRun() {
+        /* ARRANGE */
+        final var first = getItem(1L, "first");
+        final var second = getItem(2L, "second");
+        outbox.init();
+        outbox.enqueue(recipient, "first");
+        when(repository.findByNextAttemptLessThanEqualOrderByIdAsc(any(), any()))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of(second));
+        doAnswer(invocation -> {
+            // Queued while the first item is delivered.
+            outbox.enqueue(recipient, "second");
+            return null;
+        }).when(logMessageService).sendMessage(recipient, "first");
+
+        /* ACT */
+        outbox.schedule();
+        outbox.schedule();
+
+        /* ASSERT */
+        verify(logMessageService).sendMessage(recipient, "second");
+        verify(repository, times(2)).deleteAllByIdInBatch(any());
+        assertEquals(0, outbox.getDepth());
+    }
+
+    @Test
+    public void drain_deliverySucceeds_deleteDeliveredItems() {
+        /* ARRANGE */
+        final var first = getItem(1L, "first");
+        final var second = getItem(2L, "second");
+        when(repository.findByNextAttemptLessThanEqualOrderByIdAsc(any(), any()))
+                .thenReturn(List.of(first, second));
+
+        /* ACT */
+        outbox.drain();
+
+        /* ASSERT */
+        verify(logMessageService).sendMessage(recipient, "first");
+        verify(logMessageService).sendMessage(recipient, "second");
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    public void drain_deliveryFails_scheduleRetryAndStop() {
+        /* ARRANGE */
+        final var first = getItem(1L, "first");
+        final var second = getItem(2L, "second");
+        when(repository.findByNextAttemptLessThanEqualOrderByIdAsc(any(), any()))
+                .thenReturn(List.of(first, second));
+        doThrow(new PolicyExecutionException("unavailable"))
+                .when(logMessageService).sendMessage(any(), eq("first"));
+        final var before = ZonedDateTime.now();
+
+        /* ACT */
+        outbox.drain();
+
+        /* ASSERT */
+        assertEquals(1, first.getAttempts());
+        assertTrue(first.getNextAttempt().isAfter(before));
+        verify(repository).saveAndFlush(first);
+        verify(logMessageService, never()).sendMessage(any(), eq("second"));
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private LogItem getItem(final Long id, final String payload) {
+        final var item = new LogItem(recipient.toString(), payload);
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.message;
+
+import io.dataspaceconnector.common.exception.MessageResponseException;
+import lombok.SneakyThrows;
+import okhttp3.MultipartBody;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingMultipartMessageTest {
+
+    @Test
+    @SneakyThrows
+    public void read_headerAndPayload_returnHeaderAndPayloadStream() {
+        /* ARRANGE */
+        final var body = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart("header", "HEADER")
+                .addFormDataPart("payload", "PAYLOAD")
+                .build();
+
+        /* ACT */
+        try (var message = StreamingMultipartMessage.read(getResponse(body))) {
+            /* ASSERT */
+            assertEquals("HEADER", message.getHeader());
+            assertEquals("PAYLOAD", new String(message.getPayload().readAllBytes(),
+                    StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_headerOnly_returnEmptyPayload() {
+        /* ARRANGE */
+        final var body = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart("header", "HEADER")
+                .build();
+
+        /* ACT */
+        final var message = StreamingMultipartMessage.read(getResponse(body));
+
+        /* ASSERT */
+        assertEquals("HEADER", message.getHeader());
+        assertEquals("", message.readPayload());
+    }
+
+    @Test
+    public void read_payloadWithoutHeader_throwMessageResponseException() {
+        /* ARRANGE */
+        final var body = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart("payload", "PAYLOAD")
+                .build();
+
+        /* ACT && ASSERT */
+        assertThrows(MessageResponseException.class,
+                () -> StreamingMultipartMessage.read(getResponse(body)));
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    @SneakyThrows
+    private Response getResponse(final MultipartBody body) {
+        final var buffer = new Buffer();
+        body.writeTo(buffer);
+
+        return new Response.Builder()
+                .request(new Request.Builder().url("https://recipient.com").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(buffer.readByteString(), body.contentType()))
+                .build();
+    }
+}
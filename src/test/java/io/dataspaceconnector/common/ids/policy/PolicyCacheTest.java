@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.ids.policy;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PolicyCacheTest {
+
+    private final DeserializationService deserializationService =
+            Mockito.mock(DeserializationService.class);
+
+    private final PolicyCache cache = new PolicyCache(deserializationService);
+
+    @Test
+    public void getContractAgreement_sameEntity_deserializeOnce() {
+        /* ARRANGE */
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+        final var idsAgreement = new ContractAgreementBuilder(URI.create("https://agreement"))
+                .build();
+        when(deserializationService.getContractAgreement(any())).thenReturn(idsAgreement);
+
+        /* ACT */
+        final var first = cache.getContractAgreement(agreement);
+        final var second = cache.getContractAgreement(agreement);
+
+        /* ASSERT */
+        assertSame(idsAgreement, first);
+        assertSame(idsAgreement, second);
+        verify(deserializationService, times(1)).getContractAgreement(any());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void getContractAgreement_modifiedEntity_deserializeAgain() {
+        /* ARRANGE */
+        final var id = UUID.randomUUID();
+        final var date = ZonedDateTime.now();
+        when(deserializationService.getContractAgreement(any())).thenReturn(
+                new ContractAgreementBuilder(URI.create("https://agreement")).build());
+
+        /* ACT */
+        cache.getContractAgreement(getAgreement(id, date));
+        cache.getContractAgreement(getAgreement(id, date.plusSeconds(1)));
+
+        /* ASSERT */
+        verify(deserializationService, times(2)).getContractAgreement(any());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void evict_cachedEntity_deserializeAgain() {
+        /* ARRANGE */
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+        when(deserializationService.getContractAgreement(any())).thenReturn(
+                new ContractAgreementBuilder(URI.create("https://agreement")).build());
+        cache.getContractAgreement(agreement);
+
+        /* ACT */
+        cache.evict(agreement.getId());
+        cache.getContractAgreement(agreement);
+
+        /* ASSERT */
+        verify(deserializationService, times(2)).getContractAgreement(any());
+    }
+
+    @Test
+    public void getContractAgreement_unpersistedEntity_doNotCache() {
+        /* ARRANGE */
+        final var agreement = getAgreement(null, null);
+        when(deserializationService.getContractAgreement(any())).thenReturn(
+                new ContractAgreementBuilder(URI.create("https://agreement")).build());
+
+        /* ACT */
+        cache.getContractAgreement(agreement);
+
+        /* ASSERT */
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void bindTo_registry_exposeHitsAndMisses() {
+        /* ARRANGE */
+        final var registry = new SimpleMeterRegistry();
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+        when(deserializationService.getContractAgreement(any())).thenReturn(
+                new ContractAgreementBuilder(URI.create("https://agreement")).build());
+
+        /* ACT */
+        cache.bindTo(registry);
+        cache.getContractAgreement(agreement);
+        cache.getContractAgreement(agreement);
+
+        /* ASSERT */
+        assertEquals(1, registry.get("dsc.policy.cache.hits").functionCounter().count());
+        assertEquals(1, registry.get("dsc.policy.cache.misses").functionCounter().count());
+        assertEquals(1, registry.get("dsc.policy.cache.size").gauge().value());
+    }
+
+    @Test
+    public void getContractAgreement_sizeExceeded_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        final var smallCache = new PolicyCache(deserializationService, 1);
+        when(deserializationService.getContractAgreement(any())).thenReturn(
+                new ContractAgreementBuilder(URI.create("https://agreement")).build());
+
+        /* ACT */
+        smallCache.getContractAgreement(getAgreement(UUID.randomUUID(), ZonedDateTime.now()));
+        smallCache.getContractAgreement(getAgreement(UUID.randomUUID(), ZonedDateTime.now()));
+
+        /* ASSERT */
+        assertEquals(1, smallCache.getSize());
+    }
+
+    private Agreement getAgreement(final UUID id, final ZonedDateTime modified) {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", id);
+        ReflectionTestUtils.setField(agreement, "modificationDate", modified);
+        ReflectionTestUtils.setField(agreement, "value", "AGREEMENT");
+        return agreement;
+    }
+}
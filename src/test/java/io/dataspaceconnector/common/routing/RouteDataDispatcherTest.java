@@ -15,11 +15,18 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.dataspaceconnector.common.exception.DataDispatchException;
+import io.dataspaceconnector.common.file.DataSpool;
+import io.dataspaceconnector.common.util.UUIDUtils;
+import lombok.SneakyThrows;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
@@ -29,11 +36,17 @@ import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {RouteDataDispatcher.class})
@@ -80,4 +93,88 @@ class RouteDataDispatcherTest {
         assertThrows(DataDispatchException.class, () -> dispatcher.send(routeId, data));
     }
 
+    @Test
+    @SneakyThrows
+    void send_severalRoutes_reportAllSucceeded() {
+        /* ARRANGE */
+        final var otherRouteId = URI.create("https://" + UUID.randomUUID());
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getException()).thenReturn(null);
+
+        /* ACT */
+        final var report = dispatcher.send(List.of(routeId, otherRouteId), getSpool());
+
+        /* ASSERT */
+        assertFalse(report.hasFailures());
+        assertEquals(2, report.getSucceeded().size());
+    }
+
+    @Test
+    @SneakyThrows
+    void send_routeFailsBestEffort_reportFailedRoute() {
+        /* ARRANGE */
+        final var failingRouteId = URI.create("https://" + UUID.randomUUID());
+        final var failed = mock(Exchange.class);
+        when(failed.getException()).thenReturn(new IllegalArgumentException());
+        when(producerTemplate.send(eq("direct:" + UUIDUtils.uuidFromUri(routeId)),
+                any(Exchange.class))).thenReturn(exchange);
+        when(producerTemplate.send(eq("direct:" + UUIDUtils.uuidFromUri(failingRouteId)),
+                any(Exchange.class))).thenReturn(failed);
+        ReflectionTestUtils.setField(dispatcher, "policy", DispatchPolicy.BEST_EFFORT);
+
+        /* ACT */
+        final var report = dispatcher.send(List.of(routeId, failingRouteId), getSpool());
+
+        /* ASSERT */
+        assertEquals(List.of(routeId), report.getSucceeded());
+        assertEquals("Failed to dispatch data. IllegalArgumentException",
+                report.getFailed().get(failingRouteId));
+        ReflectionTestUtils.setField(dispatcher, "policy", DispatchPolicy.FAIL_FAST);
+    }
+
+    @Test
+    @SneakyThrows
+    void send_routeFailsFailFast_throwDataDispatchException() {
+        /* ARRANGE */
+        final var spool = getSpool();
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getException()).thenReturn(new IllegalArgumentException());
+
+        /* ACT && ASSERT */
+        assertThrows(DataDispatchException.class,
+                () -> dispatcher.send(List.of(routeId), spool));
+    }
+
+    @Test
+    @SneakyThrows
+    void send_routeTimesOut_returnAfterRouteStopped() {
+        /* ARRANGE */
+        final var spool = getSpool();
+        final var stopped = new AtomicBoolean();
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenAnswer(invocation -> {
+            // Ignores the interrupt, like a route blocked in I/O.
+            final var end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            stopped.set(true);
+            return exchange;
+        });
+        ReflectionTestUtils.setField(dispatcher, "timeout", 50L);
+
+        /* ACT */
+        final var exception = assertThrows(DataDispatchException.class,
+                () -> dispatcher.send(List.of(routeId), spool));
+
+        /* ASSERT */
+        assertTrue(stopped.get());
+        assertTrue(exception.getMessage().contains("Timed out"));
+        ReflectionTestUtils.setField(dispatcher, "timeout", 60_000L);
+    }
+
+    @SneakyThrows
+    private DataSpool getSpool() {
+        return DataSpool.of(new ByteArrayInputStream(data), 16);
+    }
+
 }
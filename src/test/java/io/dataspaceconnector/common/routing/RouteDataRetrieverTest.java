@@ -15,12 +15,16 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.UUID;
 
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.NotImplemented;
+import io.dataspaceconnector.common.file.DataSpool;
 import lombok.SneakyThrows;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
@@ -32,6 +36,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -66,7 +71,8 @@ class RouteDataRetrieverTest {
         when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
         when(exchange.getIn()).thenReturn(in);
         when(exchange.getException()).thenReturn(null);
-        when(in.getBody(String.class)).thenReturn(response);
+        when(in.getBody(InputStream.class)).thenReturn(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
 
         /* ACT */
         final var result = routeDataRetriever.get(url, null);
@@ -75,6 +81,26 @@ class RouteDataRetrieverTest {
         assertEquals(response, new String(result.getData().readAllBytes()));
     }
 
+    @Test
+    @SneakyThrows
+    void get_spooledBody_returnSpoolWithoutCopy() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var bytes = new byte[]{0, (byte) 0xFF, (byte) 0xC3, 0x28};
+        final var spool = DataSpool.of(new ByteArrayInputStream(bytes), 16);
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody()).thenReturn(new SpooledStreamCache(spool));
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertArrayEquals(bytes, result.getData().readAllBytes());
+    }
+
     @Test
     @SneakyThrows
     void get_exceptionInRoute_throwDataRetrievalException() {
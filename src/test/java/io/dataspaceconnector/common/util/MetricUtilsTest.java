@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.util;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MetricUtilsTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        Metrics.removeRegistry(registry);
+        registry.close();
+    }
+
+    @Test
+    public void stop_failedOperation_recordTimerWithOutcomeAndTags() {
+        /* ARRANGE */
+        final var sample = MetricUtils.start();
+
+        /* ACT */
+        MetricUtils.stop(sample, MetricUtils.BROKER, false, "operation", "query");
+
+        /* ASSERT */
+        final var timer = registry.get(MetricUtils.BROKER)
+                .tag("operation", "query")
+                .tag("outcome", "failure")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void countTransfer_streamClosedTwice_recordBytesReadOnce() throws IOException {
+        /* ARRANGE */
+        final var stream = MetricUtils.countTransfer(
+                new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), MetricUtils.SERVED);
+
+        /* ACT */
+        stream.readNBytes(3);
+        stream.close();
+        stream.close();
+
+        /* ASSERT */
+        final var summary = registry.get(MetricUtils.DATA_TRANSFER)
+                .tag("direction", MetricUtils.SERVED)
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+    }
+}
@@ -24,12 +24,14 @@ import de.fraunhofer.iais.eis.BaseConnectorBuilder;
 import de.fraunhofer.iais.eis.ConnectorEndpointBuilder;
 import de.fraunhofer.iais.eis.SecurityProfile;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.SelfDescription;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -102,7 +104,8 @@ public class MainControllerTest {
                         ._accessURL_(URI.create("https://accessUrl"))
                         .build())
                 .build();
-        Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doReturn(new SelfDescription(connector.toRdf(), "\"1\""))
+                .when(connectorService).getSelfDescription();
 
         /* ACT */
         final var result =
@@ -110,6 +113,23 @@ public class MainControllerTest {
 
         /* ASSERT */
         assertEquals(connector.toRdf(), result.getResponse().getContentAsString());
+        assertEquals("\"1\"", result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getPrivateSelfDescription_eTagMatches_notModified() throws Exception {
+        /* ARRANGE */
+        Mockito.doReturn(new SelfDescription("{}", "\"1\""))
+                .when(connectorService).getSelfDescription();
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/connector")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isNotModified()).andReturn();
+
+        /* ASSERT */
+        assertEquals("", result.getResponse().getContentAsString());
     }
 
 
@@ -117,7 +137,7 @@ public class MainControllerTest {
     @WithMockUser("ADMIN")
     public void getPrivateSelfDescription_serviceFails_InternalServerError() throws Exception {
         /* ARRANGE */
-        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getSelfDescription();
 
         /* ACT */
         final var result = mockMvc.perform(get("/api/connector"))
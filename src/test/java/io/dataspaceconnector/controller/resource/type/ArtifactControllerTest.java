@@ -22,6 +22,8 @@ import io.dataspaceconnector.controller.resource.view.artifact.ArtifactViewAssem
 import io.dataspaceconnector.controller.resource.view.route.RouteViewAssembler;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
@@ -38,14 +40,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -106,17 +122,37 @@ class ArtifactControllerTest {
         final var artifactId = UUID.randomUUID();
         final byte[] data = {0 , 1, 2, 3};
 
-        Mockito.doReturn(null).when(service).setData(eq(artifactId), any());
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .setData(eq(artifactId), any());
         Mockito.doReturn(null).when(service).get(any());
         Mockito.doNothing().when(subscriberNotificationService).notifyOnUpdate(any());
 
         /* ACT */
-        final var result = controller.putData(artifactId, data);
+        final var result = controller.putData(artifactId,
+                new InputStreamResource(new ByteArrayInputStream(data)));
 
         /* ASSERT */
         assertEquals(HttpStatus.NO_CONTENT.value(), result.getStatusCode().value());
     }
 
+    @Test
+    public void putData_newData_streamBodyToService() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var body = new ByteArrayInputStream(new byte[]{0, 1, 2, 3});
+        final var stored = Mockito.spy(new ByteArrayInputStream(new byte[0]));
+
+        Mockito.doReturn(stored).when(service).setData(eq(artifactId), any());
+        Mockito.doReturn(null).when(service).get(any());
+
+        /* ACT */
+        controller.putData(artifactId, new InputStreamResource(body));
+
+        /* ASSERT */
+        Mockito.verify(service).setData(eq(artifactId), Mockito.same(body));
+        Mockito.verify(stored).close();
+    }
+
     @Test
     public void getData_validIdAndQuery_returnTheData() throws
             IOException,
@@ -138,6 +174,162 @@ class ArtifactControllerTest {
         assertEquals(HttpStatus.OK.value(), result.getStatusCode().value());
     }
 
+    @Test
+    public void getData_localData_returnLengthAndETag() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var queryInput = new QueryInput();
+        final byte[] data = {0, 1, 2, 3};
+
+        Mockito.doReturn(getLocalArtifact(data)).when(service).get(eq(artifactId));
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .getData(any(), any(), eq(artifactId), eq(queryInput), any());
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, queryInput);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(4, result.getHeaders().getContentLength());
+        assertEquals("bytes", result.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertNotNull(result.getHeaders().getETag());
+        assertArrayEquals(data, readBody(result));
+    }
+
+    @Test
+    public void getData_singleRange_returnPartialContent() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final byte[] data = {0, 1, 2, 3};
+        final var headers = new HashMap<String, String>();
+        headers.put("range", "bytes=1-2");
+
+        Mockito.doReturn(getLocalArtifact(data)).when(service).get(eq(artifactId));
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                headers, getRequest(artifactId));
+
+        /* ASSERT */
+        assertEquals(HttpStatus.PARTIAL_CONTENT, result.getStatusCode());
+        assertEquals("bytes 1-2/4", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(2, result.getHeaders().getContentLength());
+        assertArrayEquals(new byte[]{1, 2}, readBody(result));
+        assertFalse(headers.containsKey("range"));
+    }
+
+    @Test
+    public void getData_rangeBeyondData_returnRangeNotSatisfiable() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final byte[] data = {0, 1, 2, 3};
+        final var headers = new HashMap<String, String>();
+        headers.put("Range", "bytes=10-");
+
+        Mockito.doReturn(getLocalArtifact(data)).when(service).get(eq(artifactId));
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                headers, getRequest(artifactId));
+
+        /* ASSERT */
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, result.getStatusCode());
+        assertEquals("bytes */4", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        Mockito.verify(service, Mockito.never())
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+    }
+
+    @Test
+    public void getData_matchingETag_returnNotModified() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final byte[] data = {0, 1, 2, 3};
+        final var artifact = getLocalArtifact(data);
+
+        Mockito.doReturn(artifact).when(service).get(eq(artifactId));
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+
+        final var etag = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                new HashMap<>(), getRequest(artifactId)).getHeaders().getETag();
+        final var headers = new HashMap<String, String>();
+        headers.put("if-none-match", etag);
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                headers, getRequest(artifactId));
+
+        /* ASSERT */
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertNull(result.getBody());
+        // Only the first request has read the data.
+        Mockito.verify(service, Mockito.times(1))
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+    }
+
+    @Test
+    public void getData_matchingETagOfRequestedArtifact_checkAccessBeforeNotModified()
+            throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final byte[] data = {0, 1, 2, 3};
+        final var artifact = getLocalArtifact(data);
+
+        Mockito.doReturn(artifact).when(service).get(eq(artifactId));
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+        Mockito.when(artifactRepo.findRemoteOriginAgreements(artifactId))
+                .thenReturn(List.of(URI.create("https://agreement")));
+
+        final var etag = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                new HashMap<>(), getRequest(artifactId)).getHeaders().getETag();
+        final var headers = new HashMap<String, String>();
+        headers.put("if-none-match", etag);
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, new HashMap<>(),
+                headers, getRequest(artifactId));
+
+        /* ASSERT */
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        // The data of requested artifacts is only served after the agreements have been checked.
+        Mockito.verify(service, Mockito.times(2))
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private Artifact getLocalArtifact(final byte[] value) {
+        final var localData = new LocalData();
+        localData.setValue(value);
+
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "data", localData);
+        ReflectionTestUtils.setField(artifact, "byteSize", (long) value.length);
+        ReflectionTestUtils.setField(artifact, "checkSum", 42L);
+        return artifact;
+    }
+
+    private MockHttpServletRequest getRequest(final UUID artifactId) {
+        return new MockHttpServletRequest("GET", "/api/artifacts/" + artifactId + "/data/**");
+    }
+
+    private byte[] readBody(final ResponseEntity<StreamingResponseBody> response)
+            throws IOException {
+        final var output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        return output.toByteArray();
+    }
+
     //    @Test
 //    public void getData_null_throwIllegalArgumentException() {
 //        /* ARRANGE */
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
 import de.fraunhofer.iais.eis.MessageProcessedNotificationMessageBuilder;
@@ -44,8 +45,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @SpringBootTest
 public class BootstrapperTest {
@@ -105,6 +108,54 @@ public class BootstrapperTest {
         assertEquals(2, catalogService.getAll(Pageable.unpaged()).getSize());
     }
 
+    @SneakyThrows
+    @Test
+    public void bootstrap_brokerAcceptsResources_linkResourcesInTransaction() {
+        /* ARRANGE */
+        final var linkedOutsideTransaction = new AtomicBoolean(false);
+        Mockito.doReturn(true).when(messageService).checkResponse(Mockito.any());
+        Mockito.doReturn(getResponse()).when(messageService).sendConnectorUpdateMessage(Mockito.any());
+        Mockito.doReturn(getResponse()).when(messageService)
+               .sendResourceUpdateMessageWithoutLink(Mockito.any(), Mockito.any());
+        Mockito.doAnswer(x -> {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                linkedOutsideTransaction.set(true);
+            }
+            return null;
+        }).when(messageService).linkResourceToBroker(Mockito.any(), Mockito.any());
+
+        Mockito.doAnswer(x -> Utils.toPage(catalogList, Pageable.unpaged()))
+               .when(catalogService)
+               .getAll(Mockito.any());
+
+        Mockito.doAnswer(x -> createCatalog(x.getArgument(0)))
+               .when(templateBuilder)
+               .build(Mockito.any(CatalogTemplate.class));
+
+        /* ACT */
+        bootstrapper.bootstrap();
+
+        /* ASSERT */
+        Mockito.verify(messageService, Mockito.atLeastOnce())
+               .linkResourceToBroker(Mockito.any(), Mockito.any());
+        Mockito.verify(messageService, Mockito.never())
+               .sendResourceUpdateMessage(Mockito.any(), Mockito.any());
+        assertFalse(linkedOutsideTransaction.get());
+    }
+
+    @SneakyThrows
+    @Test
+    public void bootstrap_catalogsAlreadyRegistered_skipCatalogs() {
+        /* ARRANGE */
+        Mockito.doReturn(true).when(catalogService).existsByBootstrapId(Mockito.any());
+
+        /* ACT */
+        bootstrapper.bootstrap();
+
+        /* ASSERT */
+        Mockito.verify(templateBuilder, Mockito.never()).build(Mockito.any(CatalogTemplate.class));
+    }
+
 
     @SneakyThrows
     private Catalog getCatalogOne() {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpTraceBufferTest {
+
+    @Test
+    public void getTraces_empty_returnEmptyList() {
+        /* ARRANGE */
+        final var buffer = new HttpTraceBuffer(3);
+
+        /* ACT && ASSERT */
+        assertTrue(buffer.getTraces().isEmpty());
+    }
+
+    @Test
+    public void getTraces_moreTracesThanCapacity_returnNewestInOrder() {
+        /* ARRANGE */
+        final var buffer = new HttpTraceBuffer(3);
+        final var traces = List.of(getTrace("1"), getTrace("2"), getTrace("3"), getTrace("4"),
+                getTrace("5"));
+
+        /* ACT */
+        traces.forEach(buffer::add);
+
+        /* ASSERT */
+        assertEquals(traces.subList(2, 5), buffer.getTraces());
+    }
+
+    private HttpTrace getTrace(final String url) {
+        final var trace = new HttpTrace();
+        trace.setUrl(url);
+        return trace;
+    }
+}
@@ -22,7 +22,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationEventPublisher;
 
-@SpringBootTest(classes = {HttpTraceEventHandler.class})
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {HttpTraceEventHandler.class, HttpTraceBuffer.class})
 public class HttpTraceEventHandlerTest {
 
     @MockBean
@@ -31,6 +33,9 @@ public class HttpTraceEventHandlerTest {
     @Autowired
     private HttpTraceEventHandler handler;
 
+    @Autowired
+    private HttpTraceBuffer buffer;
+
     @Test
     public void sendHttpTraceEvent_validTrace_publishHttpTraceEvent() {
         /* ARRANGE */
@@ -64,5 +69,6 @@ public class HttpTraceEventHandlerTest {
         handler.handleHttpTraceEvent(trace);
 
         /* ASSERT */
+        assertTrue(buffer.getTraces().contains(trace));
     }
 }
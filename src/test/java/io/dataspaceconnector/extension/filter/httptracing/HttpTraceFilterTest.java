@@ -15,12 +15,13 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.HashMap;
 
-import io.dataspaceconnector.extension.filter.httptracing.internal.RequestWrapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -29,9 +30,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.mock.web.DelegatingServletInputStream;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -79,15 +88,17 @@ public class HttpTraceFilterTest {
         final var parameterNames = Collections.enumeration(params.keySet());
         Mockito.doReturn(parameterNames).when(request).getParameterNames();
 
-        final var customServletIS =
-                RequestWrapper.class.getDeclaredClasses()[0].getDeclaredConstructor(byte[].class);
-        customServletIS.setAccessible(true);
-        final var requestBody =
-                customServletIS.newInstance("BODY".getBytes(StandardCharsets.UTF_8));
+        final var requestBody = new DelegatingServletInputStream(
+                new ByteArrayInputStream("BODY".getBytes(StandardCharsets.UTF_8)));
 
         Mockito.doReturn(requestBody).when(request).getInputStream();
         Mockito.doReturn(StandardCharsets.UTF_8.name()).when(request).getCharacterEncoding();
 
+        // The application reads the request body.
+        Mockito.doAnswer(invocation -> ((ServletRequest) invocation.getArgument(0))
+                .getInputStream().readAllBytes()).when(filterChain).doFilter(Mockito.any(),
+                Mockito.any());
+
         /* ACT */
         filter.doFilter(request, response, filterChain);
 
@@ -103,6 +114,8 @@ public class HttpTraceFilterTest {
         assertEquals("/URI", requestTrace.getUrl());
         assertEquals("METHOD", requestTrace.getMethod());
         assertEquals("CLIENT", requestTrace.getClient());
+        assertEquals("BODY", requestTrace.getBody());
+        assertEquals(4L, requestTrace.getBodySize());
 
         final var responseTrace = traces.get(1);
         assertEquals(responseTrace.getTraceId(), requestTrace.getTraceId());
@@ -115,4 +128,52 @@ public class HttpTraceFilterTest {
         assertNull(responseTrace.getClient());
         assertNull(responseTrace.getParameterMap());
     }
+
+    @Test
+    public void doFilterInternal_notSampled_passRequestUnchanged() throws Exception {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(filter, "samplingRate", 0.0);
+
+        /* ACT */
+        filter.doFilter(request, response, filterChain);
+
+        /* ASSERT */
+        Mockito.verify(filterChain).doFilter(request, response);
+        Mockito.verify(eventHandler, Mockito.never()).sendHttpTraceEvent(Mockito.any());
+    }
+
+    @Test
+    public void doFilterInternal_credentialHeaders_redactHeaderValues() throws Exception {
+        /* ARRANGE */
+        final var realRequest = new MockHttpServletRequest("GET", "/URI");
+        realRequest.addHeader("Authorization", "Basic c2VjcmV0");
+        realRequest.addHeader("Cookie", "SESSION=secret");
+        realRequest.addHeader("Accept", "application/json");
+
+        final var realResponse = new MockHttpServletResponse();
+        final var realChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse res)
+                    throws IOException {
+                res.addHeader("Set-Cookie", "SESSION=secret");
+                res.addHeader("X-Trace", "VALUE");
+                res.getWriter().write("BODY");
+            }
+        });
+
+        /* ACT */
+        filter.doFilter(realRequest, realResponse, realChain);
+
+        /* ASSERT */
+        Mockito.verify(eventHandler, Mockito.times(2)).sendHttpTraceEvent(traceCaptor.capture());
+        final var requestHeaders = traceCaptor.getAllValues().get(0).getHeaders();
+        assertEquals(HttpTraceFilter.REDACTED, requestHeaders.get("Authorization"));
+        assertEquals(HttpTraceFilter.REDACTED, requestHeaders.get("Cookie"));
+        assertEquals("application/json", requestHeaders.get("Accept"));
+
+        final var responseHeaders = traceCaptor.getAllValues().get(1).getHeaders();
+        assertEquals(HttpTraceFilter.REDACTED, responseHeaders.get("Set-Cookie"));
+        assertEquals("VALUE", responseHeaders.get("X-Trace"));
+        assertEquals("SESSION=secret", realResponse.getHeader("Set-Cookie"));
+    }
 }
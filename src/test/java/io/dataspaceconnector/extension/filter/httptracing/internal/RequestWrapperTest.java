@@ -27,24 +27,46 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RequestWrapperTest {
 
     @Test
-    public void getRequestBody_copyBody_returnContent() throws IOException {
+    public void getRequestBody_bodyRead_returnContent() throws IOException {
         /* ARRANGE */
         final var request = new MockHttpServletRequest();
         request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
         request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
 
-        final var wrapper = new RequestWrapper(request);
+        final var wrapper = new RequestWrapper(request, 1024);
+        wrapper.getInputStream().readAllBytes();
 
         /* ACT */
         final var result = wrapper.getRequestBody();
 
         /* ASSERT */
         assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8), result));
+        assertFalse(wrapper.getCapture().isTruncated());
+    }
+
+    @Test
+    public void getRequestBody_bodyLargerThanLimit_keepPrefixAndSize() throws IOException {
+        /* ARRANGE */
+        final var request = new MockHttpServletRequest();
+        request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
+
+        final var wrapper = new RequestWrapper(request, 2);
+
+        /* ACT */
+        final var read = wrapper.getInputStream().readAllBytes();
+
+        /* ASSERT */
+        assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8), read));
+        assertTrue(Arrays.equals("HE".getBytes(StandardCharsets.UTF_8),
+                wrapper.getRequestBody()));
+        assertEquals(5, wrapper.getCapture().getSize());
+        assertTrue(wrapper.getCapture().isTruncated());
     }
 
     @Test
@@ -53,7 +75,7 @@ public class RequestWrapperTest {
         final var request = new MockHttpServletRequest();
         request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
         request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
-        final var wrapper = new RequestWrapper(request);
+        final var wrapper = new RequestWrapper(request, 1024);
 
         /* ACT */
         final var result = wrapper.getInputStream();
@@ -70,8 +92,7 @@ public class RequestWrapperTest {
         final var request = new MockHttpServletRequest();
         request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
         request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
-        final var wrapper = new RequestWrapper(request);
-        wrapper.getRequestBody();
+        final var wrapper = new RequestWrapper(request, 1024);
 
         final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(
                 "HELLO".getBytes(StandardCharsets.UTF_8))));
@@ -87,5 +108,7 @@ public class RequestWrapperTest {
                 break;
             }
         }
+        assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8),
+                wrapper.getRequestBody()));
     }
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.petrinet;
+
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.CTLEvaluator;
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.FixpointEvaluator;
+import io.dataspaceconnector.extension.petrinet.evaluation.formula.Formula;
+import io.dataspaceconnector.extension.petrinet.model.Arc;
+import io.dataspaceconnector.extension.petrinet.model.ArcImpl;
+import io.dataspaceconnector.extension.petrinet.model.Node;
+import io.dataspaceconnector.extension.petrinet.model.PetriNetImpl;
+import io.dataspaceconnector.extension.petrinet.model.PlaceImpl;
+import io.dataspaceconnector.extension.petrinet.model.TransitionImpl;
+import io.dataspaceconnector.extension.petrinet.simulator.PetriNetSimulator;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.FalseOperator.falseOperator;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.TrueOperator.trueOperator;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeAND.nodeAND;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeEV.nodeEV;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeEXISTUNTIL.nodeEXISTUNTIL;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeExpression.nodeExpression;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeFORALLMODAL.nodeFORALLMODAL;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeFORALLUNTIL.nodeFORALLUNTIL;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeINV.nodeINV;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeMODAL.nodeMODAL;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeNF.nodeNF;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeNOT.nodeNOT;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodeOR.nodeOR;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.state.NodePOS.nodePOS;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.ArcExpression.arcExpression;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionAF.transitionAF;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionAND.transitionAND;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionEV.transitionEV;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionEXISTUNTIL.transitionEXISTUNTIL;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionNOT.transitionNOT;
+import static io.dataspaceconnector.extension.petrinet.evaluation.formula.transition.TransitionPOS.transitionPOS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixpointEvaluatorTest {
+
+    @Test
+    void evaluate_sequence_sameResultAsPaths() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var p1 = place("p1", 1, nodes);
+        final var p2 = place("p2", 0, nodes);
+        final var p3 = place("p3", 0, nodes);
+        final var p4 = place("p4", 0, nodes);
+        final var t1 = transition("t1", nodes);
+        final var t2 = transition("t2", nodes);
+        final var t3 = transition("t3", nodes);
+        arcs.add(new ArcImpl(p1, t1));
+        arcs.add(new ArcImpl(t1, p2));
+        arcs.add(new ArcImpl(p2, t2));
+        arcs.add(new ArcImpl(t2, p3));
+        arcs.add(new ArcImpl(p3, t3));
+        arcs.add(new ArcImpl(t3, p4));
+        final var stepGraph = PetriNetSimulator.buildStepGraph(net(nodes, arcs));
+        final var paths = PetriNetSimulator.getAllPaths(stepGraph);
+
+        final var isP3 = nodeNF(nodeExpression(place -> place.getID().equals(p3.getID()), "p3"));
+        final var isT2 = transitionAF(arcExpression(t -> t.getID().equals(t2.getID()), "t2"));
+        final List<Formula> formulas = List.of(
+                nodeEV(isP3),
+                nodePOS(isP3),
+                nodeINV(nodeNOT(isP3)),
+                nodeFORALLUNTIL(trueOperator(), nodeMODAL(isT2)),
+                transitionEV(isT2),
+                transitionPOS(transitionAND(isT2, transitionNOT(isT2))),
+                transitionEXISTUNTIL(transitionNOT(isT2), isT2));
+
+        /* ACT */
+        final var evaluator = new FixpointEvaluator(stepGraph);
+
+        /* ASSERT */
+        for (final var formula : formulas) {
+            for (final var node : stepGraph.getInitial().getNodes()) {
+                assertEquals(CTLEvaluator.evaluate(formula, node, paths),
+                        evaluator.evaluate(formula, node), formula.writeFormula());
+            }
+        }
+    }
+
+    @Test
+    void evaluate_choice_reachedOnlyOnOnePath() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var start = place("start", 1, nodes);
+        final var left = place("left", 0, nodes);
+        final var right = place("right", 0, nodes);
+        final var toLeft = transition("toLeft", nodes);
+        final var toRight = transition("toRight", nodes);
+        arcs.add(new ArcImpl(start, toLeft));
+        arcs.add(new ArcImpl(toLeft, left));
+        arcs.add(new ArcImpl(start, toRight));
+        arcs.add(new ArcImpl(toRight, right));
+        final var stepGraph = PetriNetSimulator.buildStepGraph(net(nodes, arcs));
+        final var isLeft = nodeNF(nodeExpression(place -> place.getID().equals(left.getID()),
+                "left"));
+
+        /* ACT */
+        final var evaluator = new FixpointEvaluator(stepGraph);
+
+        /* ASSERT */
+        assertTrue(evaluator.evaluate(nodePOS(isLeft), start));
+        assertFalse(evaluator.evaluate(nodeEV(isLeft), start));
+        assertFalse(evaluator.evaluate(nodePOS(isLeft), toLeft));
+    }
+
+    @Test
+    void evaluate_cycle_forallUntilChecksNodeClosingCycle() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var p1 = place("p1", 1, nodes);
+        final var p2 = place("p2", 0, nodes);
+        cycle(p1, p2, nodes, arcs);
+        final var stepGraph = PetriNetSimulator.buildStepGraph(net(nodes, arcs));
+        final var isP1 = nodeNF(nodeExpression(place -> place.getID().equals(p1.getID()), "p1"));
+        final var isP2 = nodeNF(nodeExpression(place -> place.getID().equals(p2.getID()), "p2"));
+
+        /* ACT */
+        final var evaluator = new FixpointEvaluator(stepGraph);
+
+        /* ASSERT */
+        // The path-based evaluation does not check the node closing the cycle and accepts these.
+        assertFalse(evaluator.evaluate(nodeFORALLUNTIL(isP2, falseOperator()), p1));
+        assertFalse(evaluator.evaluate(nodeFORALLUNTIL(isP1, falseOperator()), p2));
+        assertTrue(evaluator.evaluate(nodeFORALLUNTIL(trueOperator(), falseOperator()), p1));
+        assertTrue(evaluator.evaluate(nodeFORALLUNTIL(isP2, isP1), p1));
+    }
+
+    @Test
+    void evaluate_cycle_forallModalChecksAllSuccessors() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var p1 = place("p1", 1, nodes);
+        final var p2 = place("p2", 0, nodes);
+        final var transitions = cycle(p1, p2, nodes, arcs);
+        final var stepGraph = PetriNetSimulator.buildStepGraph(net(nodes, arcs));
+        final var isP2 = nodeNF(nodeExpression(place -> place.getID().equals(p2.getID()), "p2"));
+        final var isT1 = transitionAF(arcExpression(
+                t -> t.getID().equals(transitions.get(0).getID()), "t1"));
+
+        /* ACT */
+        final var evaluator = new FixpointEvaluator(stepGraph);
+
+        /* ASSERT */
+        // The path-based evaluation only sees paths of length two and accepts all of these.
+        assertTrue(evaluator.evaluate(nodeFORALLMODAL(isP2, isT1), p1));
+        assertFalse(evaluator.evaluate(nodeFORALLMODAL(isP2, isT1), p2));
+        assertFalse(evaluator.evaluate(nodeFORALLMODAL(nodeNOT(isP2), trueOperator()), p1));
+        assertFalse(evaluator.evaluate(nodeFORALLMODAL(isP2, transitionNOT(isT1)), p1));
+    }
+
+    @Test
+    void evaluate_parallelThreshold_sameResultAsSequential() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var p1 = place("p1", 1, nodes);
+        final var p2 = place("p2", 0, nodes);
+        cycle(p1, p2, nodes, arcs);
+        place("unused", 0, nodes);
+        final var stepGraph = PetriNetSimulator.buildStepGraph(net(nodes, arcs));
+
+        final var isP2 = nodeNF(nodeExpression(place -> place.getID().equals(p2.getID()), "p2"));
+        final List<Formula> formulas = List.of(
+                nodeEV(isP2),
+                nodeINV(nodeOR(isP2, nodeMODAL(trueOperator()))),
+                nodeFORALLUNTIL(trueOperator(), isP2),
+                nodeFORALLUNTIL(nodeNOT(isP2), falseOperator()),
+                nodeFORALLMODAL(nodeNOT(isP2), trueOperator()),
+                nodeEXISTUNTIL(nodeNOT(isP2), nodeAND(isP2, nodePOS(isP2))));
+
+        /* ACT */
+        final var sequential = new FixpointEvaluator(stepGraph, Integer.MAX_VALUE);
+        final var parallel = new FixpointEvaluator(stepGraph, 0);
+
+        /* ASSERT */
+        for (final var formula : formulas) {
+            for (final var node : stepGraph.getInitial().getNodes()) {
+                assertEquals(sequential.evaluate(formula, node),
+                        parallel.evaluate(formula, node), formula.writeFormula());
+            }
+        }
+        final var unused = stepGraph.getInitial().getNodes().stream()
+                .filter(node -> node.getID().toString().contains("unused"))
+                .findAny().orElseThrow();
+        assertFalse(parallel.evaluate(nodePOS(isP2), unused));
+    }
+
+    @Test
+    void evaluate_unknownNode_throwIllegalArgumentException() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var p1 = place("p1", 1, nodes);
+        final var t1 = transition("t1", nodes);
+        arcs.add(new ArcImpl(p1, t1));
+        final var evaluator = new FixpointEvaluator(
+                PetriNetSimulator.buildStepGraph(net(nodes, arcs)));
+
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluator.evaluate(trueOperator(), place("p2", 0, new HashSet<>())));
+    }
+
+    private PlaceImpl place(final String name, final int markers, final Set<Node> nodes) {
+        final var place = new PlaceImpl(URI.create("https://place/" + name));
+        place.setMarkers(markers);
+        nodes.add(place);
+        return place;
+    }
+
+    private TransitionImpl transition(final String name, final Set<Node> nodes) {
+        final var transition = new TransitionImpl(URI.create("https://transition/" + name));
+        nodes.add(transition);
+        return transition;
+    }
+
+    private List<TransitionImpl> cycle(final PlaceImpl p1, final PlaceImpl p2,
+                                       final Set<Node> nodes, final Set<Arc> arcs) {
+        final var t1 = transition("t1", nodes);
+        final var t2 = transition("t2", nodes);
+        arcs.add(new ArcImpl(p1, t1));
+        arcs.add(new ArcImpl(t1, p2));
+        arcs.add(new ArcImpl(p2, t2));
+        arcs.add(new ArcImpl(t2, p1));
+        return List.of(t1, t2);
+    }
+
+    private PetriNetImpl net(final Set<Node> nodes, final Set<Arc> arcs) {
+        return new PetriNetImpl(URI.create("https://net"), nodes, arcs);
+    }
+}
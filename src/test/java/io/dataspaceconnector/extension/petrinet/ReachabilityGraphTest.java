@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.petrinet;
+
+import io.dataspaceconnector.extension.petrinet.model.Arc;
+import io.dataspaceconnector.extension.petrinet.model.ArcImpl;
+import io.dataspaceconnector.extension.petrinet.model.Node;
+import io.dataspaceconnector.extension.petrinet.model.PetriNetImpl;
+import io.dataspaceconnector.extension.petrinet.model.PlaceImpl;
+import io.dataspaceconnector.extension.petrinet.model.TransitionImpl;
+import io.dataspaceconnector.extension.petrinet.simulator.PetriNetSimulator;
+import io.dataspaceconnector.extension.petrinet.simulator.ReachabilityGraph;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ReachabilityGraphTest {
+
+    @Test
+    void explore_cycle_returnTwoStates() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var p1 = place("p1", 1, nodes);
+        final var p2 = place("p2", 0, nodes);
+        final var t1 = transition("t1", nodes);
+        final var t2 = transition("t2", nodes);
+        arcs.add(new ArcImpl(p1, t1));
+        arcs.add(new ArcImpl(t1, p2));
+        arcs.add(new ArcImpl(p2, t2));
+        arcs.add(new ArcImpl(t2, p1));
+
+        /* ACT */
+        final var graph = ReachabilityGraph.explore(net(nodes, arcs));
+
+        /* ASSERT */
+        assertEquals(2, graph.getStateCount());
+        assertEquals(2, graph.getArcCount());
+        final var p2Index = graph.getPlaces().indexOf(p2.getID());
+        assertEquals(0, graph.getMarkers(0, p2Index));
+        assertEquals(1, graph.getMarkers(1, p2Index));
+        assertEquals(0, graph.getArcTarget(1));
+    }
+
+    @Test
+    void buildStepGraph_parallelTransitions_mergeEqualSteps() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        final var arcs = new HashSet<Arc>();
+        final var start = place("start", 1, nodes);
+        final var left = place("left", 0, nodes);
+        final var right = place("right", 0, nodes);
+        final var leftEnd = place("leftEnd", 0, nodes);
+        final var rightEnd = place("rightEnd", 0, nodes);
+        final var fork = transition("fork", nodes);
+        final var leftTransition = transition("leftTransition", nodes);
+        final var rightTransition = transition("rightTransition", nodes);
+        arcs.add(new ArcImpl(start, fork));
+        arcs.add(new ArcImpl(fork, left));
+        arcs.add(new ArcImpl(fork, right));
+        arcs.add(new ArcImpl(left, leftTransition));
+        arcs.add(new ArcImpl(leftTransition, leftEnd));
+        arcs.add(new ArcImpl(right, rightTransition));
+        arcs.add(new ArcImpl(rightTransition, rightEnd));
+        final var petriNet = net(nodes, arcs);
+
+        /* ACT */
+        final var stepGraph = PetriNetSimulator.buildStepGraph(petriNet);
+
+        /* ASSERT */
+        assertEquals(petriNet, stepGraph.getInitial());
+        assertEquals(5, stepGraph.getSteps().size());
+        assertEquals(5, stepGraph.getArcs().size());
+        assertEquals(1, stepGraph.getSteps().stream()
+                .filter(step -> step.getNodes().stream()
+                        .filter(node -> node instanceof PlaceImpl)
+                        .filter(node -> ((PlaceImpl) node).getMarkers() > 0)
+                        .map(Node::getID)
+                        .allMatch(id -> Set.of(leftEnd.getID(), rightEnd.getID()).contains(id)))
+                .count());
+    }
+
+    @Test
+    void equals_otherMarkers_returnFalse() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        place("p1", 1, nodes);
+        final var petriNet = net(nodes, new HashSet<>());
+        final var copy = petriNet.deepCopy();
+        final var other = petriNet.deepCopy();
+        ((PlaceImpl) other.getNodes().iterator().next()).setMarkers(2);
+
+        /* ACT && ASSERT */
+        assertEquals(petriNet, copy);
+        assertEquals(petriNet.hashCode(), copy.hashCode());
+        assertNotEquals(petriNet, other);
+        assertNotEquals(other, petriNet);
+    }
+
+    @Test
+    void equals_additionalNode_returnFalseInBothDirections() {
+        /* ARRANGE */
+        final var nodes = new HashSet<Node>();
+        place("p1", 1, nodes);
+        final var petriNet = net(nodes, new HashSet<>());
+        final var larger = petriNet.deepCopy();
+        larger.getNodes().add(new TransitionImpl(URI.create("https://transition/t1")));
+
+        /* ACT && ASSERT */
+        assertNotEquals(petriNet, larger);
+        assertNotEquals(larger, petriNet);
+    }
+
+    private PlaceImpl place(final String name, final int markers, final Set<Node> nodes) {
+        final var place = new PlaceImpl(URI.create("https://place/" + name));
+        place.setMarkers(markers);
+        nodes.add(place);
+        return place;
+    }
+
+    private TransitionImpl transition(final String name, final Set<Node> nodes) {
+        final var transition = new TransitionImpl(URI.create("https://transition/" + name));
+        nodes.add(transition);
+        return transition;
+    }
+
+    private PetriNetImpl net(final Set<Node> nodes, final Set<Arc> arcs) {
+        return new PetriNetImpl(URI.create("https://net"), nodes, arcs);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class DataRepositoryIT {
+
+    @Autowired
+    private DataRepository repository;
+
+    @Test
+    @SneakyThrows
+    public void writeLocalData_largeValue_readSameValue() {
+        /* ARRANGE */
+        final var data = repository.saveAndFlush(new LocalData());
+        final var bytes = new byte[4 * 1024 * 1024 + 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 251);
+        }
+
+        /* ACT */
+        repository.writeLocalData(data.getId(), new ByteArrayInputStream(bytes), bytes.length);
+        final var target = new ByteArrayOutputStream();
+        final var read = repository.readLocalData(data.getId(), target);
+
+        /* ASSERT */
+        assertEquals(bytes.length, read);
+        assertArrayEquals(bytes, target.toByteArray());
+    }
+
+    @Test
+    @SneakyThrows
+    public void saveAndFlush_valueSet_readValueFromStorage() {
+        /* ARRANGE */
+        final var bytes = "data".getBytes(StandardCharsets.UTF_8);
+        final var data = new LocalData();
+        data.setValue(bytes);
+
+        /* ACT */
+        final var id = repository.saveAndFlush(data).getId();
+        final var target = new ByteArrayOutputStream();
+        final var read = repository.readLocalData(id, target);
+
+        /* ASSERT */
+        assertEquals(bytes.length, read);
+        assertArrayEquals(bytes, target.toByteArray());
+    }
+
+    @Test
+    @SneakyThrows
+    public void readLocalData_noValue_readNothing() {
+        /* ARRANGE */
+        final var data = repository.saveAndFlush(new LocalData());
+        final var target = new ByteArrayOutputStream();
+
+        /* ACT */
+        final var read = repository.readLocalData(data.getId(), target);
+
+        /* ASSERT */
+        assertEquals(0, read);
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    @SneakyThrows
+    public void getLocalDataSize_storedValue_returnLength() {
+        /* ARRANGE */
+        final var data = repository.saveAndFlush(new LocalData());
+        final var bytes = "data".getBytes(StandardCharsets.UTF_8);
+        repository.writeLocalData(data.getId(), new ByteArrayInputStream(bytes), bytes.length);
+
+        /* ACT */
+        final var size = repository.getLocalDataSize(data.getId());
+
+        /* ASSERT */
+        assertEquals(bytes.length, size);
+    }
+
+    @Test
+    @SneakyThrows
+    public void getLocalDataSize_noValue_returnZero() {
+        /* ARRANGE */
+        final var data = repository.saveAndFlush(new LocalData());
+
+        /* ACT */
+        final var size = repository.getLocalDataSize(data.getId());
+
+        /* ASSERT */
+        assertEquals(0, size);
+    }
+}
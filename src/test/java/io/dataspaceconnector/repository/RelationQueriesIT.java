@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.resource.OfferedResourceDesc;
+import io.dataspaceconnector.service.resource.relation.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import io.dataspaceconnector.service.resource.type.OfferedResourceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class RelationQueriesIT {
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker linker;
+
+    @Test
+    public void get_pagedRequest_returnOnlyRequestedPage() {
+        /* ARRANGE */
+        final var catalog = catalogService.create(new CatalogDesc());
+        final var resources = Set.of(
+                resourceService.create(new OfferedResourceDesc()).getId(),
+                resourceService.create(new OfferedResourceDesc()).getId(),
+                resourceService.create(new OfferedResourceDesc()).getId());
+        linker.add(catalog.getId(), resources);
+
+        /* ACT */
+        final var first = linker.get(catalog.getId(), PageRequest.of(0, 2));
+        final var second = linker.get(catalog.getId(), PageRequest.of(1, 2));
+        final var all = linker.get(catalog.getId(), Pageable.unpaged());
+
+        /* ASSERT */
+        assertEquals(2, first.getContent().size());
+        assertEquals(1, second.getContent().size());
+        assertEquals(3, first.getTotalElements());
+        assertEquals(3, all.getTotalElements());
+
+        final var paged = first.getContent().stream().map(x -> x.getId())
+                .collect(Collectors.toSet());
+        paged.add(second.getContent().get(0).getId());
+        assertEquals(resources, paged);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import lombok.SneakyThrows;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies the Flyway migrations to PostgreSQL and checks that the repository lookups can use the
+ * secondary indexes. Sequential scans are disabled, as the planner prefers them for empty tables.
+ * Skipped if Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SecondaryIndexesIT {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:13-alpine");
+
+    private static final String NIL_UUID = "'00000000-0000-0000-0000-000000000000'";
+
+    private Connection connection;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    @SneakyThrows
+    void connect() {
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword());
+        try (var statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterEach
+    @SneakyThrows
+    void close() {
+        connection.close();
+    }
+
+    @Test
+    public void identifyByRemoteId_artifact_useRemoteIdIndex() {
+        /* ACT && ASSERT */
+        assertUsesIndex("SELECT a.id FROM artifact a "
+                + "WHERE a.remote_id = 'https://remote' AND a.deleted = false",
+                "artifact_remote_id_idx");
+    }
+
+    @Test
+    public void findByBootstrapId_artifact_useBootstrapIdIndex() {
+        /* ACT && ASSERT */
+        assertUsesIndex("SELECT a.id FROM artifact a "
+                + "WHERE a.bootstrap_id = 'https://bootstrap' AND a.deleted = false",
+                "artifact_bootstrap_id_idx");
+    }
+
+    @Test
+    public void existsByBootstrapId_catalog_useBootstrapIdIndex() {
+        /* ACT && ASSERT */
+        assertUsesIndex("SELECT c.id FROM catalog c "
+                + "WHERE c.bootstrap_id = 'https://bootstrap' AND c.deleted = false",
+                "catalog_bootstrap_id_idx");
+    }
+
+    @Test
+    public void findAllByAgreement_artifacts_useJoinTableIndex() {
+        /* ACT && ASSERT */
+        assertUsesIndex("SELECT a.id FROM artifact a INNER JOIN agreement_artifacts aa "
+                + "ON aa.artifacts_id = a.id WHERE aa.agreements_id = " + NIL_UUID
+                + " AND a.deleted = false", "agreement_artifacts_agreements_id_idx");
+    }
+
+    @Test
+    public void getByTarget_subscription_useTargetIndex() {
+        /* ACT && ASSERT */
+        assertUsesIndex("SELECT s.id FROM subscription s "
+                + "WHERE s.target = 'https://target' AND s.deleted = false",
+                "subscription_target_idx");
+    }
+
+    @Test
+    public void findByLocation_broker_useLocationIndex() {
+        /* ACT && ASSERT */
+        assertUsesIndex("SELECT b.id FROM broker b "
+                + "WHERE b.location = 'https://broker' AND b.deleted = false",
+                "broker_location_idx");
+    }
+
+    private void assertUsesIndex(final String query, final String index) {
+        final var plan = explain(query);
+        assertTrue(plan.contains(index), "Expected " + index + " in plan:\n" + plan);
+    }
+
+    private String explain(final String query) {
+        try (var statement = connection.createStatement();
+             var result = statement.executeQuery("EXPLAIN " + query)) {
+            final var plan = new StringBuilder();
+            while (result.next()) {
+                plan.append(result.getString(1)).append('\n');
+            }
+            return plan.toString();
+        } catch (SQLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -16,26 +16,34 @@
 package io.dataspaceconnector.service;
 
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.common.ids.message.StreamingMultipartMessage;
+import io.dataspaceconnector.service.download.DownloadExecutor;
 import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.service.message.builder.type.ArtifactRequestService;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
-@SpringBootTest(classes = { ArtifactDataDownloader.class })
+@SpringBootTest(classes = { ArtifactDataDownloader.class, DownloadExecutor.class })
 class ArtifactDataDownloaderTest {
     @MockBean
     private ArtifactRequestService artifactReqSvc;
@@ -56,20 +64,22 @@ class ArtifactDataDownloaderTest {
         final var artifacts = Arrays.asList(URI.create("https://artifact1"));
         final var agreementId = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
 
-        final var response = new HashMap<String, String>();
-        response.put("Hi", "Bye");
+        final var response = getResponse("SGk=");
 
         final var agreement = new Agreement();
         ReflectionTestUtils.setField(agreement, "remoteId", URI.create("https//remoteId"));
 
         Mockito.when(agreementService.get(eq(agreementId))).thenReturn(agreement);
-        Mockito.when(artifactReqSvc.sendMessage(eq(recipient), eq(artifacts.get(0)), eq(agreement.getRemoteId()))).thenReturn(response);
+        Mockito.when(artifactReqSvc.sendStreaming(eq(recipient), eq(artifacts.get(0)), eq(agreement.getRemoteId()), isNull())).thenReturn(response);
 
         /* ACT */
         downloader.download(recipient, artifacts, agreementId);
 
         /* ASSERT */
-        Mockito.verify(persistenceSvc, Mockito.atLeastOnce()).saveData(eq(response), eq(artifacts.get(0)));
+        final var data = ArgumentCaptor.forClass(InputStream.class);
+        Mockito.verify(persistenceSvc, Mockito.atLeastOnce()).saveDataStream(eq(artifacts.get(0)), data.capture());
+        assertEquals("Hi", new String(data.getValue().readAllBytes(), StandardCharsets.UTF_8));
+        Mockito.verify(response).close();
     }
 
     @Test
@@ -79,17 +89,24 @@ class ArtifactDataDownloaderTest {
         final var artifacts = Arrays.asList(URI.create("https://artifact1"));
         final var agreementId = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
 
-        final var response = new HashMap<String, String>();
-        response.put("Hi", "Bye");
+        final var response = getResponse("SGk=");
 
         final var agreement = new Agreement();
         ReflectionTestUtils.setField(agreement, "remoteId", URI.create("https//remoteId"));
 
         Mockito.when(agreementService.get(eq(agreementId))).thenReturn(agreement);
-        Mockito.when(artifactReqSvc.sendMessage(eq(recipient), eq(artifacts.get(0)), eq(agreement.getRemoteId()))).thenReturn(response);
-        Mockito.doThrow(IOException.class).when(persistenceSvc).saveData(eq(response), eq(artifacts.get(0)));
+        Mockito.when(artifactReqSvc.sendStreaming(eq(recipient), eq(artifacts.get(0)), eq(agreement.getRemoteId()), isNull())).thenReturn(response);
+        Mockito.doThrow(IOException.class).when(persistenceSvc).saveDataStream(eq(artifacts.get(0)), any());
 
         /* ACT && ASSERT */
         assertDoesNotThrow(() -> downloader.download(recipient, artifacts, agreementId));
+        Mockito.verify(response).close();
+    }
+
+    private StreamingMultipartMessage getResponse(final String payload) {
+        final var response = Mockito.mock(StreamingMultipartMessage.class);
+        Mockito.when(response.getPayload()).thenReturn(new ByteArrayInputStream(
+                payload.getBytes(StandardCharsets.UTF_8)));
+        return response;
     }
 }
@@ -17,6 +17,7 @@ package io.dataspaceconnector.service;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +34,7 @@ import io.dataspaceconnector.model.artifact.Data;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
 import io.dataspaceconnector.model.auth.Authentication;
+import io.dataspaceconnector.repository.DataRepository;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +46,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {DataRetriever.class})
@@ -58,6 +62,9 @@ class DataRetrieverTest {
     @MockBean
     private ApiReferenceHelper apiReferenceHelper;
 
+    @MockBean
+    private DataRepository dataRepository;
+
     @Autowired
     private DataRetriever retriever;
 
@@ -67,6 +74,10 @@ class DataRetrieverTest {
         /* ARRANGE */
         final var data = getLocalData();
         final var artifact = getArtifact(data);
+        when(dataRepository.readLocalData(eq(1L), any())).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(data.getValue());
+            return (long) data.getValue().length;
+        });
 
         /* ACT */
         final var result = retriever.retrieveData(artifact, null);
@@ -74,6 +85,7 @@ class DataRetrieverTest {
         /* ASSERT */
         assertNotNull(result);
         assertArrayEquals(data.getValue(), result.readAllBytes());
+        verify(dataRepository).readLocalData(eq(1L), any());
     }
 
     @Test
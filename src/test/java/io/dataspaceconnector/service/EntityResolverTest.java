@@ -41,6 +41,7 @@ import io.dataspaceconnector.model.resource.RequestedResource;
 import io.dataspaceconnector.model.resource.RequestedResourceDesc;
 import io.dataspaceconnector.model.rule.ContractRule;
 import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.service.resource.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsContractBuilder;
@@ -78,7 +79,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {EntityResolver.class})
+@SpringBootTest(classes = {EntityResolver.class, PolicyCache.class})
 public class EntityResolverTest {
 
     @MockBean
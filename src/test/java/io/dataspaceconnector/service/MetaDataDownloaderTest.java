@@ -16,6 +16,7 @@
 package io.dataspaceconnector.service;
 
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.service.download.DownloadExecutor;
 import io.dataspaceconnector.service.message.builder.type.DescriptionRequestService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -29,7 +30,7 @@ import java.util.HashMap;
 
 import static org.mockito.ArgumentMatchers.eq;
 
-@SpringBootTest(classes = { MetadataDownloader.class })
+@SpringBootTest(classes = { MetadataDownloader.class, DownloadExecutor.class })
 class MetaDataDownloaderTest {
 
     @MockBean
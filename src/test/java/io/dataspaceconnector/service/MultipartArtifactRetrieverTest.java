@@ -18,6 +18,7 @@ package io.dataspaceconnector.service;
 import de.fraunhofer.iais.eis.RejectionReason;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.common.ids.message.StreamingMultipartMessage;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -33,13 +34,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.Base64Utils;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {MultipartArtifactRetriever.class})
@@ -87,13 +91,13 @@ public class MultipartArtifactRetrieverTest {
         final var artifact = getArtifact();
 
         final var data = "DATA";
-        final var response = new HashMap<String, String>();
-        response.put("payload", data);
+        final var response = mock(StreamingMultipartMessage.class);
+        when(response.getPayload()).thenReturn(new ByteArrayInputStream(
+                data.getBytes(StandardCharsets.UTF_8)));
 
         when(artifactService.get(artifactId)).thenReturn(artifact);
-        when(messageService.sendMessage(recipient, artifact.getRemoteId(), transferContract,
+        when(messageService.sendStreaming(recipient, artifact.getRemoteId(), transferContract,
                 null)).thenReturn(response);
-        when(messageService.validateResponse(response)).thenReturn(true);
 
         /* ACT */
         final var result = multipartArtifactRetriever.retrieve(
@@ -113,19 +117,13 @@ public class MultipartArtifactRetrieverTest {
 
         final var artifact = getArtifact();
 
-        final var data = "DATA";
-        final var response = new HashMap<String, String>();
-        response.put("payload", data);
-
         final var exception = new UnexpectedResponseException(new HashMap<>() {{
             put("reason", RejectionReason.BAD_PARAMETERS);
         }});
 
         when(artifactService.get(artifactId)).thenReturn(artifact);
-        when(messageService.sendMessage(recipient, artifact.getRemoteId(), transferContract,
+        when(messageService.sendStreaming(recipient, artifact.getRemoteId(), transferContract,
                 null)).thenThrow(exception);
-        when(messageService.validateResponse(response)).thenReturn(false);
-        when(messageService.getResponseContent(response)).thenReturn(new HashMap<>());
 
         /* ACT && ASSERT */
         assertThrows(DataRetrievalException.class, () -> multipartArtifactRetriever
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownloadExecutorTest {
+
+    private final DownloadExecutor executor = new DownloadExecutor();
+
+    private final URI recipient = URI.create("https://provider.com/api/ids/data");
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void run_manyItems_limitRequestsPerRecipient() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(executor, "recipientParallelism", 2);
+        final var items = List.of(URI.create("https://a1"), URI.create("https://a2"),
+                URI.create("https://a3"), URI.create("https://a4"), URI.create("https://a5"));
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final Set<URI> completed = ConcurrentHashMap.newKeySet();
+
+        /* ACT */
+        final var failures = executor.run(recipient, items, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        }, new DownloadListener() {
+            @Override
+            public void onCompleted(final URI item) {
+                completed.add(item);
+            }
+        });
+
+        /* ASSERT */
+        assertTrue(failures.isEmpty());
+        assertEquals(Set.copyOf(items), completed);
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void run_failingItem_continueWithOthers() {
+        /* ARRANGE */
+        final var failing = URI.create("https://a2");
+        final var items = List.of(URI.create("https://a1"), failing, URI.create("https://a3"));
+        final var done = new AtomicInteger();
+
+        /* ACT */
+        final var failures = executor.run(recipient, items, item -> {
+            if (failing.equals(item)) {
+                throw new IllegalStateException("Unavailable.");
+            }
+            done.incrementAndGet();
+        }, DownloadListener.NONE);
+
+        /* ASSERT */
+        assertEquals(2, done.get());
+        assertEquals(Set.of(failing), failures.keySet());
+        assertTrue(failures.get(failing) instanceof IllegalStateException);
+    }
+
+    @Test
+    public void run_finishedForManyRecipients_removeRecipientLimits() {
+        /* ARRANGE */
+        final var items = List.of(URI.create("https://a1"), URI.create("https://a2"));
+
+        /* ACT */
+        for (var i = 0; i < 10; i++) {
+            executor.run(URI.create("https://provider" + i + ".com/api/ids/data"), items,
+                    item -> { }, DownloadListener.NONE);
+        }
+
+        /* ASSERT */
+        assertEquals(0, executor.getRecipientCount());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import io.dataspaceconnector.model.agreement.AgreementDesc;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.service.ArtifactDataDownloader;
+import io.dataspaceconnector.service.MetadataDownloader;
+import io.dataspaceconnector.service.resource.relation.AgreementArtifactLinker;
+import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class DownloadJobServiceIT {
+
+    @MockBean
+    private MetadataDownloader metadataDownloader;
+
+    @MockBean
+    private ArtifactDataDownloader artifactDataDownloader;
+
+    @Autowired
+    private DownloadJobService downloadJobService;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private AgreementService agreementService;
+
+    @Autowired
+    private AgreementArtifactLinker agreementArtifactLinker;
+
+    @Test
+    public void start_asyncJob_linkArtifactsToAgreementOutsideOfRequest()
+            throws InterruptedException {
+        /* ARRANGE */
+        final var remoteId = URI.create("https://provider.com/api/artifacts/" + System.nanoTime());
+        final var artifactDesc = new ArtifactDesc();
+        artifactDesc.setRemoteId(remoteId);
+        final var artifact = artifactService.create(artifactDesc);
+        final var agreement = agreementService.create(new AgreementDesc());
+
+        /* ACT */
+        final var job = downloadJobService.start(URI.create("https://provider.com/api/ids/data"),
+                List.of(), List.of(remoteId), false, agreement.getId());
+        for (var i = 0; i < 100 && job.getState() == DownloadJob.State.RUNNING; i++) {
+            Thread.sleep(50);
+        }
+
+        /* ASSERT */
+        assertEquals(DownloadJob.State.COMPLETED, job.getState(), job.getFailed().toString());
+        final var linked = agreementArtifactLinker.get(agreement.getId(), Pageable.unpaged());
+        assertEquals(1, linked.getTotalElements());
+        assertTrue(linked.getContent().stream().anyMatch(x -> x.getId().equals(artifact.getId())));
+    }
+}
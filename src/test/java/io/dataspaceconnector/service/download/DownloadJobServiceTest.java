@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.download;
+
+import io.dataspaceconnector.service.ArtifactDataDownloader;
+import io.dataspaceconnector.service.EntityUpdateService;
+import io.dataspaceconnector.service.MetadataDownloader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DownloadJobServiceTest {
+
+    @Mock
+    private MetadataDownloader metadataDownloader;
+
+    @Mock
+    private ArtifactDataDownloader artifactDataDownloader;
+
+    @Mock
+    private EntityUpdateService updateService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private DownloadJobService downloadJobService;
+
+    private final URI recipient = URI.create("https://provider.com/api/ids/data");
+
+    private final URI resource = URI.create("https://provider.com/api/offers/1");
+
+    private final URI artifact1 = URI.create("https://provider.com/api/artifacts/1");
+
+    private final URI artifact2 = URI.create("https://provider.com/api/artifacts/2");
+
+    private final UUID agreementId = UUID.randomUUID();
+
+    @Test
+    public void execute_artifactFails_retryOnlyFailedArtifact() {
+        /* ARRANGE */
+        final var job = new DownloadJob(UUID.randomUUID(), recipient, agreementId,
+                List.of(resource), List.of(artifact1, artifact2), true);
+
+        when(metadataDownloader.download(eq(recipient), eq(List.of(resource)), any(),
+                anyBoolean(), eq(job))).thenAnswer(invocation -> {
+                    job.onCompleted(resource);
+                    return new HashMap<>();
+                });
+        when(artifactDataDownloader.download(eq(recipient), any(), eq(agreementId), eq(job)))
+                .thenAnswer(invocation -> {
+                    final List<URI> artifacts = invocation.getArgument(1);
+                    if (artifacts.contains(artifact1)) {
+                        job.onCompleted(artifact1);
+                    }
+                    job.onFailed(artifact2, new IllegalStateException("Unavailable."));
+                    return new HashMap<>();
+                });
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        /* ACT */
+        downloadJobService.execute(job);
+        final var stateAfterFirstRun = job.getState();
+        job.restart();
+        downloadJobService.execute(job);
+
+        /* ASSERT */
+        assertEquals(DownloadJob.State.FAILED, stateAfterFirstRun);
+        assertEquals(2, job.getDone());
+        assertEquals(Set.of(artifact2), job.getFailed().keySet());
+        verify(metadataDownloader).download(any(), any(), any(), anyBoolean(), any());
+        verify(artifactDataDownloader).download(eq(recipient), eq(List.of(artifact2)),
+                eq(agreementId), eq(job));
+    }
+
+    @Test
+    public void execute_metadataFails_doNotDownloadData() {
+        /* ARRANGE */
+        final var job = new DownloadJob(UUID.randomUUID(), recipient, agreementId,
+                List.of(resource), List.of(artifact1), true);
+
+        when(metadataDownloader.download(eq(recipient), eq(List.of(resource)), any(),
+                anyBoolean(), eq(job))).thenAnswer(invocation -> {
+                    job.onFailed(resource, new IllegalStateException("Unavailable."));
+                    return new HashMap<>();
+                });
+
+        /* ACT */
+        downloadJobService.execute(job);
+
+        /* ASSERT */
+        assertEquals(DownloadJob.State.FAILED, job.getState());
+        assertFalse(job.isCompleted(resource));
+        verify(updateService, never()).linkArtifactToAgreement(any(), any());
+        verify(artifactDataDownloader, never()).download(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import io.dataspaceconnector.common.net.SelfLinkHelper;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.subscription.PendingNotification;
+import io.dataspaceconnector.model.subscription.Subscription;
+import io.dataspaceconnector.repository.PendingNotificationRepository;
+import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.message.SubscriberNotificationSender.Notification;
+import io.dataspaceconnector.service.resource.type.SubscriptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {SubscriberNotificationDispatcher.class})
+class SubscriberNotificationDispatcherTest {
+
+    @MockBean
+    private PendingNotificationRepository repository;
+
+    @MockBean
+    private SubscriberNotificationSender sender;
+
+    @MockBean
+    private SubscriptionService subscriptionSvc;
+
+    @MockBean
+    private EntityResolver entityResolver;
+
+    @MockBean
+    private SelfLinkHelper selfLinkHelper;
+
+    @MockBean
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SubscriberNotificationDispatcher dispatcher;
+
+    private final URI target = URI.create("https://localhost/api/artifacts/1");
+
+    private final URI first = URI.create("https://first.com");
+
+    private final URI second = URI.create("https://second.com");
+
+    @BeforeEach
+    void init() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    public void enqueue_targetAlreadyQueued_coalesceUpdates() {
+        /* ARRANGE */
+        when(repository.existsByTargetAndRecipientIsNull(target.toString())).thenReturn(true);
+
+        /* ACT */
+        dispatcher.enqueue(target);
+
+        /* ASSERT */
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void enqueue_targetNotQueued_persistNotification() {
+        /* ACT */
+        dispatcher.enqueue(target);
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(PendingNotification.class);
+        verify(repository).saveAndFlush(captor.capture());
+        assertEquals(target.toString(), captor.getValue().getTarget());
+        assertNull(captor.getValue().getRecipient());
+    }
+
+    @Test
+    public void drain_deliveryToOneSubscriberFails_retryOnlyThatSubscriber() {
+        /* ARRANGE */
+        final var item = getItem(1L, null);
+        final var notification = new Notification(target, List.of(first, second), List.of(),
+                List.of(), List.of(), null);
+        when(repository.findByNextAttemptLessThanEqualOrderByIdAsc(any(), any()))
+                .thenReturn(List.of(item));
+        when(entityResolver.getEntityById(target)).thenReturn(Optional.of(getArtifact()));
+        when(subscriptionSvc.getByTarget(target))
+                .thenReturn(List.of(getSubscription(first), getSubscription(second)));
+        when(sender.prepare(eq(target), any(), any())).thenReturn(notification);
+        when(sender.send(notification)).thenReturn(Set.of(second));
+
+        /* ACT */
+        dispatcher.drain();
+
+        /* ASSERT */
+        verify(repository).deleteAllInBatch(List.of(item));
+        final var captor = ArgumentCaptor.forClass(PendingNotification.class);
+        verify(repository).saveAndFlush(captor.capture());
+        assertEquals(second.toString(), captor.getValue().getRecipient());
+        assertEquals(1, captor.getValue().getAttempts());
+    }
+
+    @Test
+    public void drain_retriedSubscriberNotified_notifyOnlyThatSubscriber() {
+        /* ARRANGE */
+        final var item = getItem(2L, second.toString());
+        final var notification = new Notification(target, List.of(second), List.of(),
+                List.of(), List.of(), null);
+        when(repository.findByNextAttemptLessThanEqualOrderByIdAsc(any(), any()))
+                .thenReturn(List.of(item));
+        when(entityResolver.getEntityById(target)).thenReturn(Optional.of(getArtifact()));
+        when(subscriptionSvc.getByTarget(target))
+                .thenReturn(List.of(getSubscription(first), getSubscription(second)));
+        when(sender.prepare(eq(target), any(), eq(List.of(getSubscription(second)))))
+                .thenReturn(notification);
+        when(sender.send(notification)).thenReturn(Set.of());
+
+        /* ACT */
+        dispatcher.drain();
+
+        /* ASSERT */
+        verify(repository).deleteAllInBatch(List.of(item));
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void schedule_targetQueuedDuringDelivery_deliverOnNextRun() {
+        /* ARRANGE */
+        final var notification = new Notification(target, List.of(first), List.of(),
+                List.of(), List.of(), null);
+        dispatcher.init();
+        dispatcher.enqueue(target);
+        when(repository.findByNextAttemptLessThanEqualOrderByIdAsc(any(), any()))
+                .thenReturn(List.of(getItem(1L, null)))
+                .thenReturn(List.of(getItem(2L, null)));
+        when(entityResolver.getEntityById(target)).thenReturn(Optional.of(getArtifact()));
+        when(subscriptionSvc.getByTarget(target)).thenReturn(List.of(getSubscription(first)));
+        when(sender.prepare(eq(target), any(), any())).thenReturn(notification);
+        when(sender.send(notification)).thenAnswer(invocation -> {
+            // Updated again while the first notification is delivered.
+            dispatcher.enqueue(target);
+            return Set.of();
+        }).thenReturn(Set.of());
+
+        /* ACT */
+        dispatcher.schedule();
+        dispatcher.schedule();
+
+        /* ASSERT */
+        verify(sender, times(2)).send(notification);
+    }
+
+    private PendingNotification getItem(final Long id, final String recipient) {
+        final var item = new PendingNotification(target.toString(), recipient);
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
+
+    private Subscription getSubscription(final URI location) {
+        final var subscription = new Subscription();
+        ReflectionTestUtils.setField(subscription, "target", target);
+        ReflectionTestUtils.setField(subscription, "location", location);
+        return subscription;
+    }
+
+    private ArtifactImpl getArtifact() {
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
+        return artifact;
+    }
+}
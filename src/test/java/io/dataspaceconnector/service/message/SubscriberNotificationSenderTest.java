@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.net.ApiReferenceHelper;
+import io.dataspaceconnector.common.net.HttpService;
+import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.common.routing.RouteDataDispatcher;
+import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.service.ArtifactRetriever;
+import io.dataspaceconnector.service.message.SubscriberNotificationSender.Notification;
+import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
+import lombok.SneakyThrows;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriberNotificationSenderTest {
+
+    @Mock
+    private GlobalMessageService messageSvc;
+
+    @Mock
+    private ArtifactService artifactSvc;
+
+    @Mock
+    private ArtifactRetriever dataReceiver;
+
+    @Mock
+    private DataAccessVerifier accessVerifier;
+
+    @Mock
+    private IdsResourceBuilder<OfferedResource> resourceBuilder;
+
+    @Mock
+    private HttpService httpService;
+
+    @Mock
+    private ConnectorConfig connectorConfig;
+
+    @Mock
+    private ProducerTemplate template;
+
+    @Mock
+    private CamelContext context;
+
+    @Mock
+    private RouteDataDispatcher routeDataDispatcher;
+
+    @Mock
+    private ApiReferenceHelper apiReferenceHelper;
+
+    @InjectMocks
+    private SubscriberNotificationSender sender;
+
+    private final URI target = URI.create("https://localhost:8080/api/artifacts/1");
+
+    private final URI recipient = URI.create("https://subscriber");
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    @AfterEach
+    public void shutdown() {
+        sender.shutdown();
+    }
+
+    @Test
+    @SneakyThrows
+    public void send_dataAccessDenied_notifyWithoutData() {
+        /* ARRANGE */
+        final var notification = new Notification(target, List.of(), List.of(recipient),
+                List.of(), List.of(), artifactId);
+        when(artifactSvc.getData(any(), any(), eq(artifactId), any(QueryInput.class), any()))
+                .thenThrow(new PolicyRestrictionException("Denied."));
+        when(apiReferenceHelper.isRouteReference(any())).thenReturn(false);
+
+        /* ACT */
+        final Set<URI> failed;
+        try (notification) {
+            failed = sender.send(notification);
+        }
+
+        /* ASSERT */
+        assertTrue(failed.isEmpty());
+        verify(httpService).post(any(), any(), any(InputStream.class));
+    }
+
+    @Test
+    @SneakyThrows
+    public void send_dataUnreadable_retrySubscriber() {
+        /* ARRANGE */
+        final var notification = new Notification(target, List.of(), List.of(recipient),
+                List.of(), List.of(), artifactId);
+        when(artifactSvc.getData(any(), any(), eq(artifactId), any(QueryInput.class), any()))
+                .thenThrow(new IOException("Unavailable."));
+
+        /* ACT */
+        final Set<URI> failed;
+        try (notification) {
+            failed = sender.send(notification);
+        }
+
+        /* ASSERT */
+        assertEquals(Set.of(recipient), failed);
+        verify(httpService, never()).post(any(), any(), any(InputStream.class));
+    }
+}
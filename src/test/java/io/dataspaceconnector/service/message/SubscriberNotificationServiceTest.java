@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.message;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -123,7 +124,7 @@ class SubscriberNotificationServiceTest {
         subscriberNotificationSvc.notifyAll(subscriptions, target, artifact);
 
         /* ASSERT */
-        verify(routeDataDispatcher, times(1)).send(any(), any(), any());
+        verify(routeDataDispatcher, times(1)).send(any(), any(InputStream.class), any());
         verify(httpService, times(1)).post(any(), any(), any());
     }
 
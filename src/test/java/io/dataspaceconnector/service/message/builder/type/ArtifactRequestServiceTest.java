@@ -27,15 +27,24 @@ import de.fraunhofer.iais.eis.ArtifactResponseMessageBuilder;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
 import de.fraunhofer.iais.eis.TokenFormat;
 import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.core.daps.DapsValidator;
+import de.fraunhofer.ids.messaging.protocol.http.HttpService;
 import de.fraunhofer.ids.messaging.protocol.http.IdsHttpService;
+import io.dataspaceconnector.common.exception.MessageException;
 import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.message.ClearingHouseOutbox;
 import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.message.ArtifactRequestMessageDesc;
 import io.dataspaceconnector.service.message.handler.ClearingHouseLoggingProcessor;
 import lombok.SneakyThrows;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -58,9 +67,18 @@ class ArtifactRequestServiceTest {
     @MockBean
     private IdsHttpService idsHttpService;
 
+    @MockBean
+    private HttpService httpService;
+
+    @MockBean
+    private DapsValidator dapsValidator;
+
     @MockBean
     private LogMessageService logMessageService;
 
+    @MockBean
+    private ClearingHouseOutbox clearingHouseOutbox;
+
     @MockBean
     private DeserializationService deserializationService;
 
@@ -119,6 +137,34 @@ class ArtifactRequestServiceTest {
         assertThrows(MessageResponseException.class, () -> requestService.validateResponse(map));
     }
 
+    @Test
+    @SneakyThrows
+    public void sendStreaming_errorStatus_throwMessageExceptionWithoutReadingBody() {
+        /* ARRANGE */
+        final var recipient = URI.create("https://recipient");
+        final var token = new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.OTHER)._tokenValue_("").build();
+        Mockito.when(connectorService.getConnectorId()).thenReturn(URI.create("https://connector"));
+        Mockito.when(connectorService.getOutboundModelVersion()).thenReturn("4.0.0");
+        Mockito.when(connectorService.getCurrentDat()).thenReturn(token);
+        Mockito.when(httpService.send(Mockito.any(Request.class))).thenAnswer(invocation ->
+                new Response.Builder()
+                        .request(invocation.getArgument(0))
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(500)
+                        .message("Internal Server Error")
+                        .body(ResponseBody.create("error", MediaType.parse("text/plain")))
+                        .build());
+
+        /* ACT & ASSERT */
+        assertThrows(MessageException.class, () -> requestService.sendStreaming(recipient,
+                URI.create("https://artifact/550e8400-e29b-11d4-a716-446655440000"),
+                URI.create("https://transferContract/550e8400-e29b-11d4-a716-446655449999"),
+                null));
+        Mockito.verifyNoInteractions(dapsValidator);
+        Mockito.verify(deserializationService, Mockito.never()).getMessage(Mockito.anyString());
+    }
+
     @SneakyThrows
     public ArtifactResponseMessage getResponseMessage() {
         final var calendar = new GregorianCalendar();
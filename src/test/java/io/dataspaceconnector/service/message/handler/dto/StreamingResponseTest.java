@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler.dto;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import de.fraunhofer.iais.eis.ArtifactResponseMessageBuilder;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.Message;
+import de.fraunhofer.iais.eis.TokenFormat;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.Base64Utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingResponseTest {
+
+    private final byte[] data = "some data to be streamed".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @SneakyThrows
+    public void getEncodedStream_data_encodeWithoutLineBreaks() {
+        /* ARRANGE */
+        final var bytes = new byte[1024];
+        final var response = new StreamingResponse(getHeader(), new ByteArrayInputStream(bytes));
+
+        /* ACT */
+        final var result = new String(response.getEncodedStream().readAllBytes(),
+                StandardCharsets.US_ASCII);
+
+        /* ASSERT */
+        assertEquals(Base64Utils.encodeToString(bytes), result);
+    }
+
+    @Test
+    public void getBody_data_returnEncodedString() {
+        /* ARRANGE */
+        final var response = new StreamingResponse(getHeader(), new ByteArrayInputStream(data));
+
+        /* ACT */
+        final var first = response.getBody();
+        final var second = response.getBody();
+
+        /* ASSERT */
+        assertEquals(Base64Utils.encodeToString(data), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void getEncodedStream_alreadyConsumed_throwIllegalStateException() {
+        /* ARRANGE */
+        final var response = new StreamingResponse(getHeader(), new ByteArrayInputStream(data));
+        response.getEncodedStream();
+
+        /* ACT && ASSERT */
+        assertThrows(IllegalStateException.class, response::getEncodedStream);
+    }
+
+    private Message getHeader() {
+        final var uri = URI.create("https://connector");
+        return new ArtifactResponseMessageBuilder()
+                ._securityToken_(new DynamicAttributeTokenBuilder()
+                        ._tokenFormat_(TokenFormat.JWT)
+                        ._tokenValue_("token")
+                        .build())
+                ._correlationMessage_(uri)
+                ._issued_(IdsMessageUtils.getGregorianNow())
+                ._issuerConnector_(uri)
+                ._modelVersion_("4.0.0")
+                ._senderAgent_(uri)
+                ._recipientConnector_(Util.asList(uri))
+                ._transferContract_(uri)
+                .build();
+    }
+}
@@ -31,6 +31,7 @@ import de.fraunhofer.ids.messaging.response.ErrorResponse;
 import de.fraunhofer.ids.messaging.response.MessageResponse;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.SelfDescription;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
@@ -111,6 +112,8 @@ import static org.mockito.Mockito.when;
                 .build();
 
         Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doReturn(new SelfDescription(connector.toRdf(), "\"1\""))
+                .when(connectorService).getSelfDescription();
 
          /* ACT */
          final var result =
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource.ids.builder;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.contract.ContractDesc;
+import io.dataspaceconnector.model.representation.RepresentationDesc;
+import io.dataspaceconnector.model.resource.OfferedResourceDesc;
+import io.dataspaceconnector.model.rule.ContractRuleDesc;
+import io.dataspaceconnector.service.resource.relation.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.service.resource.relation.ContractRuleLinker;
+import io.dataspaceconnector.service.resource.relation.OfferedResourceContractLinker;
+import io.dataspaceconnector.service.resource.relation.OfferedResourceRepresentationLinker;
+import io.dataspaceconnector.service.resource.relation.RepresentationArtifactLinker;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import io.dataspaceconnector.service.resource.type.ContractService;
+import io.dataspaceconnector.service.resource.type.OfferedResourceService;
+import io.dataspaceconnector.service.resource.type.RepresentationService;
+import io.dataspaceconnector.service.resource.type.RuleService;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class IdsCatalogBuilderIT {
+
+    @Autowired
+    private IdsCatalogBuilder idsCatalogBuilder;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private RepresentationService representationService;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private RuleService ruleService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker catalogResourceLinker;
+
+    @Autowired
+    private OfferedResourceRepresentationLinker resourceRepresentationLinker;
+
+    @Autowired
+    private RepresentationArtifactLinker representationArtifactLinker;
+
+    @Autowired
+    private OfferedResourceContractLinker resourceContractLinker;
+
+    @Autowired
+    private ContractRuleLinker contractRuleLinker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void create_largerCatalog_executeSameNumberOfStatements() {
+        /* ARRANGE */
+        final var small = createCatalog(2, 2, 2);
+        final var large = createCatalog(5, 3, 4);
+
+        /* ACT */
+        final var smallStatements = buildAndCountStatements(small, 2, 2, 2);
+        final var largeStatements = buildAndCountStatements(large, 5, 3, 4);
+
+        /* ASSERT */
+        assertEquals(smallStatements, largeStatements);
+    }
+
+    /***********************************************************************************************
+     * Utilities.
+     **********************************************************************************************/
+
+    private long buildAndCountStatements(final UUID catalogId, final int resources,
+                                         final int representations, final int artifacts) {
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            statistics.clear();
+            final var catalog = idsCatalogBuilder.create(catalogService.get(catalogId));
+            final var count = statistics.getPrepareStatementCount();
+
+            assertEquals(resources, catalog.getOfferedResource().size());
+            for (final var resource : catalog.getOfferedResource()) {
+                assertEquals(1, resource.getContractOffer().size());
+                assertEquals(representations, resource.getRepresentation().size());
+                for (final var representation : resource.getRepresentation()) {
+                    assertEquals(artifacts, representation.getInstance().size());
+                }
+            }
+
+            return count;
+        });
+    }
+
+    private UUID createCatalog(final int resources, final int representations,
+                               final int artifacts) {
+        final var catalog = catalogService.create(new CatalogDesc()).getId();
+        final var resourceIds = new HashSet<UUID>();
+        for (int i = 0; i < resources; i++) {
+            final var resource = resourceService.create(getResourceDesc()).getId();
+            resourceContractLinker.add(resource, Set.of(createContract()));
+
+            final var representationIds = new HashSet<UUID>();
+            for (int j = 0; j < representations; j++) {
+                final var representation =
+                        representationService.create(getRepresentationDesc()).getId();
+                final var artifactIds = new HashSet<UUID>();
+                for (int k = 0; k < artifacts; k++) {
+                    artifactIds.add(artifactService.create(getArtifactDesc()).getId());
+                }
+                representationArtifactLinker.add(representation, artifactIds);
+                representationIds.add(representation);
+            }
+            resourceRepresentationLinker.add(resource, representationIds);
+            resourceIds.add(resource);
+        }
+        catalogResourceLinker.add(catalog, resourceIds);
+
+        return catalog;
+    }
+
+    private UUID createContract() {
+        final var contractDesc = new ContractDesc();
+        contractDesc.setProvider(URI.create("http://provider.com"));
+        contractDesc.setConsumer(URI.create("http://consumer.com"));
+        final var contract = contractService.create(contractDesc).getId();
+
+        final var ruleDesc = new ContractRuleDesc();
+        ruleDesc.setValue("{\n"
+                + "    \"@type\" : \"ids:Permission\",\n"
+                + "    \"@id\" : \"https://w3id.org/idsa/autogen/permission/ae138d4f-f01d-4358"
+                + "-89a7-73e7c560f3de\",\n"
+                + "    \"ids:action\" : [ {\n"
+                + "      \"@id\" : \"idsc:USE\"\n"
+                + "    } ]\n"
+                + "  }");
+        contractRuleLinker.add(contract, Set.of(ruleService.create(ruleDesc).getId()));
+
+        return contract;
+    }
+
+    private OfferedResourceDesc getResourceDesc() {
+        final var desc = new OfferedResourceDesc();
+        desc.setLanguage("EN");
+        desc.setTitle("title");
+        return desc;
+    }
+
+    private RepresentationDesc getRepresentationDesc() {
+        final var desc = new RepresentationDesc();
+        desc.setLanguage("EN");
+        desc.setMediaType("plain/text");
+        desc.setStandard("http://standard.com");
+        return desc;
+    }
+
+    private ArtifactDesc getArtifactDesc() {
+        final var desc = new ArtifactDesc();
+        desc.setTitle("title");
+        desc.setValue("value");
+        return desc;
+    }
+}
@@ -18,14 +18,18 @@ package io.dataspaceconnector.service.resource.type;
 import java.util.Optional;
 import java.util.UUID;
 
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.model.agreement.AgreementFactory;
 import io.dataspaceconnector.repository.AgreementRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -85,6 +89,29 @@ public class AgreementServiceTest {
         verify(agreementRepository, never()).confirmAgreement(agreement.getId());
     }
 
+    @Test
+    public void delete_insideTransaction_evictAgainAfterCommit() {
+        /* ARRANGE */
+        final var policyCache = Mockito.mock(PolicyCache.class);
+        final var agreementId = UUID.randomUUID();
+        agreementService.setPolicyCache(policyCache);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            /* ACT */
+            agreementService.delete(agreementId);
+            verify(policyCache, times(1)).evict(agreementId);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            /* ASSERT */
+            verify(policyCache, times(2)).evict(agreementId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            agreementService.setPolicyCache(null);
+        }
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
@@ -17,13 +17,15 @@ package io.dataspaceconnector.service.resource.type;
 
 import io.dataspaceconnector.common.exception.InvalidEntityException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
 import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
-import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
+import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -48,17 +50,19 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -328,17 +332,40 @@ class ArtifactServiceTest {
         when(dataRetriever.retrieveData(eq(localArtifact), any()))
                 .thenReturn(new ByteArrayInputStream(getLocalData().getValue()));
 
+        when(artifactRepository.incrementAccessCounter(localArtifact.getId(), Long.MAX_VALUE))
+                .thenReturn(1);
+
         final var before = localArtifact.getNumAccessed();
 
         /* ACT */
         service.getData(null, null, localArtifact.getId(), (QueryInput) null, null);
 
         /* ASSERT */
-        Field numAccessedField = Artifact.class.getDeclaredField("numAccessed");
-        numAccessedField.setAccessible(true);
-        numAccessedField.set(localArtifact, before + 1);
+        assertEquals(before + 1, localArtifact.getNumAccessed());
+        verify(artifactRepository, times(1))
+                .incrementAccessCounter(localArtifact.getId(), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void getData_accessNumberReached_throwPolicyRestrictionExceptionAndCloseData()
+            throws IOException {
+        /* ARRANGE */
+        final var localArtifact = getLocalArtifact();
+        ReflectionTestUtils.setField(localArtifact, "additional", Map.of("ids:byteSize", "0"));
+        final var data = Mockito.mock(InputStream.class);
+        final var information =
+                new RetrievalInformation(URI.create("https://agreement"), null, null);
+
+        when(artifactRepository.findById(any())).thenReturn(Optional.of(localArtifact));
+        when(dataRetriever.retrieveData(eq(localArtifact), any())).thenReturn(data);
+        when(artifactRepository.incrementAccessCounter(localArtifact.getId(), 5)).thenReturn(0);
 
-        verify(artifactRepository, times(1)).saveAndFlush(localArtifact);
+        /* ACT && ASSERT */
+        assertThrows(PolicyRestrictionException.class, () -> service.getData(input -> {
+            input.setMaxAccess(5);
+            return VerificationResult.ALLOWED;
+        }, null, localArtifact.getId(), information, null));
+        verify(data).close();
     }
 
     @SneakyThrows
@@ -500,6 +527,37 @@ class ArtifactServiceTest {
         assertEquals(uuid, result.get());
     }
 
+    @Test
+    @SneakyThrows
+    public void isDataDeleted_emptyLocalData_returnTrue() {
+        /* ARRANGE */
+        final var artifact = getLocalArtifact();
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(dataRepository.getLocalDataSize(1L)).thenReturn(0L);
+
+        /* ACT */
+        final var result = service.isDataDeleted(artifact.getId());
+
+        /* ASSERT */
+        assertTrue(result);
+    }
+
+    @Test
+    @SneakyThrows
+    public void isDataDeleted_storedLocalData_returnFalse() {
+        /* ARRANGE */
+        final var artifact = getLocalArtifact();
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(dataRepository.getLocalDataSize(1L)).thenReturn(4L);
+
+        /* ACT */
+        final var result = service.isDataDeleted(artifact.getId());
+
+        /* ASSERT */
+        assertFalse(result);
+        verify(dataRepository, never()).readLocalData(any(), any());
+    }
+
     /**************************************************************************
      * Utilities.
      *************************************************************************/
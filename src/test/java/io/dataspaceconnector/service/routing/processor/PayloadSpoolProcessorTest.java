@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.routing.processor;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.CRC32C;
+
+import io.dataspaceconnector.common.file.DataSpool;
+import io.dataspaceconnector.common.routing.ParameterUtils;
+import io.dataspaceconnector.common.routing.SpooledStreamCache;
+import lombok.SneakyThrows;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadSpoolProcessorTest {
+
+    private final PayloadSpoolProcessor processor = new PayloadSpoolProcessor();
+
+    @Test
+    @SneakyThrows
+    void process_binaryBody_spoolWithoutDecoding() {
+        /* ARRANGE */
+        final var bytes = new byte[]{0, (byte) 0xFF, (byte) 0xC3, 0x28};
+        final var exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getMessage().setBody(bytes);
+
+        /* ACT */
+        processor.process(exchange);
+
+        /* ASSERT */
+        final var body = exchange.getMessage().getBody();
+        assertTrue(body instanceof SpooledStreamCache);
+        assertArrayEquals(bytes, ((SpooledStreamCache) body).readAllBytes());
+        assertEquals(4L, exchange.getProperty(ParameterUtils.PAYLOAD_SIZE_PARAM));
+        final var checksum = new CRC32C();
+        checksum.update(bytes, 0, bytes.length);
+        assertEquals(Long.toHexString(checksum.getValue()),
+                exchange.getProperty(ParameterUtils.PAYLOAD_CHECKSUM_PARAM));
+    }
+
+    @Test
+    @SneakyThrows
+    void process_spooledBody_reuseSpool() {
+        /* ARRANGE */
+        final var cache = new SpooledStreamCache(
+                DataSpool.of(new ByteArrayInputStream(new byte[]{1, 2, 3}), 16));
+        cache.read();
+        final var exchange = new DefaultExchange(new DefaultCamelContext());
+        exchange.getMessage().setBody(cache);
+
+        /* ACT */
+        processor.process(exchange);
+
+        /* ASSERT */
+        assertSame(cache, exchange.getMessage().getBody());
+        assertArrayEquals(new byte[]{1, 2, 3}, cache.readAllBytes());
+    }
+}
@@ -28,6 +28,7 @@ import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.artifact.Artifact;
@@ -51,7 +52,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {DataAccessVerifier.class})
+@SpringBootTest(classes = {DataAccessVerifier.class, PolicyDecisionPlanner.class})
 public class DataAccessVerifierTest {
 
     @MockBean
@@ -66,6 +67,9 @@ public class DataAccessVerifierTest {
     @MockBean
     private SelfLinkHelper selfLinkHelper;
 
+    @MockBean
+    private PolicyCache policyCache;
+
     @Autowired
     private DataAccessVerifier verifier;
 
@@ -81,7 +85,7 @@ public class DataAccessVerifierTest {
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
         when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
-        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+        doNothing().when(ruleValidator).validateDecision(any(), any(), any());
 
         /* ACT */
         final var result = verifier.verify(input);
@@ -99,7 +103,7 @@ public class DataAccessVerifierTest {
 
         when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
         doThrow(PolicyRestrictionException.class)
-                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+                .when(ruleValidator).validateDecision(any(), any(), any());
         when(connectorConfig.isAllowUnsupported()).thenReturn(false);
 
         /* ACT */
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.Permission;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.service.EntityResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {PolicyDecisionPlanner.class})
+class PolicyDecisionPlannerTest {
+
+    @MockBean
+    private EntityResolver entityResolver;
+
+    @MockBean
+    private PolicyCache policyCache;
+
+    @Autowired
+    private PolicyDecisionPlanner planner;
+
+    private final URI remoteId = URI.create("https://target.com");
+
+    private final URI artifactId = URI.create("https://localhost/api/artifacts/1");
+
+    @Test
+    public void getPlan_intervalRule_compileConstants() {
+        /* ARRANGE */
+        when(entityResolver.getContractAgreementsByTarget(any()))
+                .thenReturn(List.of(getContractAgreement()));
+
+        /* ACT */
+        final var plan = planner.getPlan(getArtifact(), artifactId);
+
+        /* ASSERT */
+        assertEquals(1, plan.getDecisions().size());
+        final var decision = plan.getDecisions().get(0);
+        assertEquals(PolicyPattern.USAGE_DURING_INTERVAL, decision.getPattern());
+        assertEquals(ZonedDateTime.parse("2020-07-11T00:00:00Z").toInstant(),
+                decision.getStart().toInstant());
+        assertEquals(ZonedDateTime.parse("2020-07-12T00:00:00Z").toInstant(),
+                decision.getEnd().toInstant());
+        assertFalse(decision.isInvalid());
+    }
+
+    @Test
+    public void getPlan_sameGeneration_compileOnce() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        when(entityResolver.getContractAgreementsByTarget(any()))
+                .thenReturn(List.of(getContractAgreement()));
+        when(policyCache.getGeneration()).thenReturn(3L);
+
+        /* ACT */
+        final var first = planner.getPlan(artifact, artifactId);
+        final var second = planner.getPlan(artifact, artifactId);
+
+        /* ASSERT */
+        assertSame(first, second);
+        verify(entityResolver, times(1)).getContractAgreementsByTarget(any());
+    }
+
+    @Test
+    public void getPlan_agreementsChanged_recompile() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        when(entityResolver.getContractAgreementsByTarget(any()))
+                .thenReturn(List.of(getContractAgreement()));
+        when(policyCache.getGeneration()).thenReturn(5L, 6L);
+
+        /* ACT */
+        final var first = planner.getPlan(artifact, artifactId);
+        final var second = planner.getPlan(artifact, artifactId);
+
+        /* ASSERT */
+        assertNotSame(first, second);
+        verify(entityResolver, times(2)).getContractAgreementsByTarget(any());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private ContractAgreement getContractAgreement() {
+        return new ContractAgreementBuilder(URI.create("https://agreement.com"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._contractEnd_(IdsMessageUtils.getGregorianNow())
+                ._permission_(Util.asList(getPermission()))
+                .build();
+    }
+
+    private Permission getPermission() {
+        return new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                        ._operator_(BinaryOperator.AFTER)
+                        ._rightOperand_(new RdfResource("2020-07-11T00:00:00Z",
+                                URI.create("xsd:dateTimeStamp")))
+                        .build(), new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                        ._operator_(BinaryOperator.BEFORE)
+                        ._rightOperand_(new RdfResource("2020-07-12T00:00:00Z",
+                                URI.create("xsd:dateTimeStamp")))
+                        .build()))
+                ._target_(remoteId)
+                .build();
+    }
+
+    private Artifact getArtifact() {
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(artifact, "remoteId", remoteId);
+        return artifact;
+    }
+}
@@ -36,6 +36,7 @@ import de.fraunhofer.ids.messaging.core.config.util.ConnectorFingerprintProvider
 import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+import io.dataspaceconnector.common.ids.message.ClearingHouseOutbox;
 import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.service.message.builder.type.LogMessageService;
@@ -77,6 +78,9 @@ public class PolicyExecutionServiceTest {
     @MockBean
     private ProcessCreationRequestService requestService;
 
+    @MockBean
+    private ClearingHouseOutbox outbox;
+
     @Autowired
     private PolicyExecutionService policyExecutionService;
 
@@ -103,7 +107,7 @@ public class PolicyExecutionServiceTest {
         policyExecutionService.sendAgreement(null, null);
 
         /* ASSERT */
-        verify(logMessageService, never()).sendMessage(any(), any());
+        verify(outbox, never()).enqueue(any(), any());
     }
 
     @SneakyThrows
@@ -127,8 +131,8 @@ public class PolicyExecutionServiceTest {
         policyExecutionService.sendAgreement(agreement, claimsJws);
 
         /* ASSERT */
-        verify(logMessageService, times(1))
-                .sendMessage(new URI(chUri + "/" + chLogPath + "/" + agreementID), RdfConverter.toRdf(agreement));
+        verify(outbox, times(1))
+                .enqueue(new URI(chUri + "/" + chLogPath + "/" + agreementID), RdfConverter.toRdf(agreement));
     }
 
     @Test
@@ -145,8 +149,8 @@ public class PolicyExecutionServiceTest {
         policyExecutionService.logDataAccess(target, URI.create("https://agreement.com/api/agreements/" + agreementID));
 
         /* ASSERT */
-        verify(logMessageService, times(1))
-                .sendMessage(eq(URI.create(chUri + "/" + chLogPath + "/" + agreementID)), any());
+        verify(outbox, times(1))
+                .enqueue(eq(URI.create(chUri + "/" + chLogPath + "/" + agreementID)), any());
     }
 
     @Test
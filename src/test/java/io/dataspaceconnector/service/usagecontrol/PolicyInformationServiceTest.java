@@ -66,7 +66,7 @@ public class PolicyInformationServiceTest {
         final var artifact = getArtifact();
         final var targetUri = URI.create("https://localhost:8080/api/artifacts" + artifact.getId());
 
-        when(artifactService.get(artifact.getId())).thenReturn(artifact);
+        when(artifactService.getAccessCount(artifact.getId())).thenReturn(numAccessed);
 
         /* ACT */
         final var result = policyInformationService.getAccessNumber(targetUri);
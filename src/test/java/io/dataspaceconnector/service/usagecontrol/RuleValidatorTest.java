@@ -24,6 +24,7 @@ import de.fraunhofer.iais.eis.SecurityProfile;
 import de.fraunhofer.iais.eis.util.RdfResource;
 import de.fraunhofer.iais.eis.util.Util;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
 import io.dataspaceconnector.controller.policy.util.PatternUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
@@ -47,7 +48,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 
 
-@SpringBootTest(classes = { RuleValidator.class })
+@SpringBootTest(classes = { RuleValidator.class, PolicyCache.class })
 class RuleValidatorTest {
 
     @MockBean
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.DutyBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.ids.policy.PolicyCache;
+import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
+import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.agreement.PendingDataRemoval;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.repository.PendingDataRemovalRepository;
+import io.dataspaceconnector.service.resource.base.EntityChangeListener;
+import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ScheduledDataRemoval.class})
+class ScheduledDataRemovalTest {
+
+    @MockBean
+    private ConnectorConfig connectorConfig;
+
+    @MockBean
+    private PolicyCache policyCache;
+
+    @MockBean
+    private AgreementService agreementService;
+
+    @MockBean
+    private ArtifactService artifactService;
+
+    @MockBean
+    private PendingDataRemovalRepository repository;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ScheduledDataRemoval scheduledDataRemoval;
+
+    private final URI target = URI.create("https://provider.com/api/artifacts/1");
+
+    @Test
+    public void onPersisted_deletionDuty_registerRemoval() {
+        /* ARRANGE */
+        final var agreement = new Agreement();
+        final var agreementId = UUID.randomUUID();
+        ReflectionTestUtils.setField(agreement, "id", agreementId);
+        when(policyCache.getContractAgreement(agreement)).thenReturn(getContractAgreement());
+
+        /* ACT */
+        scheduledDataRemoval.onPersisted(agreement);
+
+        /* ASSERT */
+        verify(repository).deleteByAgreementId(agreementId);
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<PendingDataRemoval>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        final var removal = captor.getValue().get(0);
+        assertEquals(agreementId, removal.getAgreementId());
+        assertEquals(target.toString(), removal.getTarget());
+        assertEquals(ZonedDateTime.parse("2020-07-11T00:00:00Z").toInstant(),
+                removal.getDue().toInstant());
+    }
+
+    @Test
+    public void onPersisted_registrationFails_doNotThrow() {
+        /* ARRANGE */
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", UUID.randomUUID());
+        when(policyCache.getContractAgreement(agreement)).thenReturn(getContractAgreement());
+        when(repository.saveAll(any())).thenThrow(new IllegalStateException("Unavailable."));
+
+        /* ACT && ASSERT */
+        assertDoesNotThrow(() -> scheduledDataRemoval.onPersisted(agreement));
+    }
+
+    @Test
+    public void onPersisted_artifactDataStored_registerRemovalOfArtifact() {
+        /* ARRANGE */
+        final var agreement = new Agreement();
+        final var agreementId = UUID.randomUUID();
+        ReflectionTestUtils.setField(agreement, "id", agreementId);
+        final var artifactId = UUID.randomUUID();
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", artifactId);
+        ReflectionTestUtils.setField(artifact, "remoteId", target);
+        ReflectionTestUtils.setField(artifact, "byteSize", 4L);
+        ReflectionTestUtils.setField(artifact, "agreements", List.of(agreement));
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(policyCache.getContractAgreement(agreement)).thenReturn(getContractAgreement());
+
+        scheduledDataRemoval.init();
+        final var listener = ArgumentCaptor.forClass(EntityChangeListener.class);
+        verify(artifactService, atLeastOnce()).addChangeListener(listener.capture());
+
+        /* ACT */
+        listener.getValue().onPersisted(artifact);
+
+        /* ASSERT */
+        verify(repository).deleteByAgreementIdAndTarget(agreementId, target.toString());
+        verify(repository, never()).deleteByAgreementId(any());
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<PendingDataRemoval>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(agreementId, captor.getValue().get(0).getAgreementId());
+    }
+
+    @Test
+    public void onPersisted_artifactDataRemoved_doNotRegister() {
+        /* ARRANGE */
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(artifact, "remoteId", target);
+
+        scheduledDataRemoval.init();
+        final var listener = ArgumentCaptor.forClass(EntityChangeListener.class);
+        verify(artifactService, atLeastOnce()).addChangeListener(listener.capture());
+
+        /* ACT */
+        listener.getValue().onPersisted(artifact);
+
+        /* ASSERT */
+        verify(artifactService, never()).get(any());
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    public void schedule_notRestored_registerAllAgreementsAndMarkRestored() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(scheduledDataRemoval, "restored", false);
+        when(connectorConfig.getUcFramework()).thenReturn(UsageControlFramework.INTERNAL);
+        when(agreementService.getAll(any())).thenReturn(Page.empty());
+
+        /* ACT */
+        scheduledDataRemoval.schedule();
+
+        /* ASSERT */
+        verify(agreementService).getAll(any());
+        final var captor = ArgumentCaptor.forClass(PendingDataRemoval.class);
+        verify(repository).save(captor.capture());
+        assertEquals(new UUID(0, 0), captor.getValue().getAgreementId());
+        assertTrue(captor.getValue().getDue().isAfter(ZonedDateTime.now().plusYears(100)));
+    }
+
+    @Test
+    public void schedule_restoredBefore_doNotScanAgreements() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(scheduledDataRemoval, "restored", false);
+        when(connectorConfig.getUcFramework()).thenReturn(UsageControlFramework.INTERNAL);
+        when(repository.existsByAgreementId(new UUID(0, 0))).thenReturn(true);
+
+        /* ACT */
+        scheduledDataRemoval.schedule();
+
+        /* ASSERT */
+        verify(agreementService, never()).getAll(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void sweep_artifactKnown_removeDataAndDeleteRemoval() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        when(repository.findByDueLessThanEqualOrderByDueAsc(any(), any()))
+                .thenReturn(List.of(getRemoval(1L)));
+        when(artifactService.identifyByRemoteId(target)).thenReturn(Optional.of(artifactId));
+        when(artifactService.isDataDeleted(artifactId)).thenReturn(false);
+
+        /* ACT */
+        scheduledDataRemoval.sweep();
+
+        /* ASSERT */
+        verify(artifactService).setData(eq(artifactId), any());
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        verify(repository, never()).postpone(any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void sweep_artifactUnknown_postponeRemoval() {
+        /* ARRANGE */
+        when(repository.findByDueLessThanEqualOrderByDueAsc(any(), any()))
+                .thenReturn(List.of(getRemoval(1L)));
+        when(artifactService.identifyByRemoteId(target)).thenReturn(Optional.empty());
+
+        /* ACT */
+        scheduledDataRemoval.sweep();
+
+        /* ASSERT */
+        verify(artifactService, never()).setData(any(), any());
+        verify(repository).postpone(eq(List.of(1L)), any());
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private ContractAgreement getContractAgreement() {
+        return new ContractAgreementBuilder(URI.create("https://agreement.com"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._contractEnd_(IdsMessageUtils.getGregorianNow())
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._action_(Util.asList(Action.USE))
+                        ._postDuty_(Util.asList(new DutyBuilder()
+                                ._action_(Util.asList(Action.DELETE))
+                                ._constraint_(Util.asList(new ConstraintBuilder()
+                                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                        ._operator_(BinaryOperator.TEMPORAL_EQUALS)
+                                        ._rightOperand_(new RdfResource("2020-07-11T00:00:00Z",
+                                                URI.create("xsd:dateTimeStamp")))
+                                        .build()))
+                                .build()))
+                        ._target_(target)
+                        .build()))
+                .build();
+    }
+
+    private PendingDataRemoval getRemoval(final Long id) {
+        final var removal = new PendingDataRemoval(UUID.randomUUID(), target.toString(),
+                ZonedDateTime.now().minusDays(1));
+        ReflectionTestUtils.setField(removal, "id", id);
+        return removal;
+    }
+}
@@ -10,8 +10,8 @@
         </#if>
         <to uri="$startUrl"/>
 
-        <convertBodyTo type="java.lang.String"/>
-        <log message="Sending data: ${r"${body}"}"/>
+        <process ref="payloadSpoolProcessor"/>
+        <log message="Sending data. [size=(${r"${exchangeProperty.payloadSize}"}), checksum=(${r"${exchangeProperty.payloadChecksum}"})]"/>
 
         <#list routeStepEndpoints as endpoint>
             <setHeader name="CamelHttpMethod"><constant>${endpoint.getHttpMethod().toString()}</constant></setHeader>
@@ -10,8 +10,8 @@
         </#if>
         <to uri="${startUrl}"/>
 
-        <convertBodyTo type="java.lang.String"/>
-        <log message="Fetched data: ${r"${body}"}"/>
+        <process ref="payloadSpoolProcessor"/>
+        <log message="Fetched data. [size=(${r"${exchangeProperty.payloadSize}"}), checksum=(${r"${exchangeProperty.payloadChecksum}"})]"/>
 
         <#list routeStepEndpoints as endpoint>
             <setHeader name="CamelHttpMethod"><constant>${endpoint.getHttpMethod().toString()}</constant></setHeader>
@@ -24,6 +24,8 @@
             <to uri="${endUrl}"/>
         </#if>
 
+        <process ref="payloadSpoolProcessor"/>
+
     </route>
 
 </routes>